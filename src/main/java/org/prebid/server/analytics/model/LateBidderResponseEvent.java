@@ -0,0 +1,20 @@
+package org.prebid.server.analytics.model;
+
+import lombok.Builder;
+import lombok.Value;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.settings.model.Account;
+
+/**
+ * Represents a bidder response received after the auction was completed without it.
+ */
+@Builder
+@Value
+public class LateBidderResponseEvent {
+
+    String requestId;
+
+    Account account;
+
+    BidderResponse bidderResponse;
+}
@@ -7,6 +7,7 @@ import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.AmpEvent;
 import org.prebid.server.analytics.model.AuctionEvent;
 import org.prebid.server.analytics.model.CookieSyncEvent;
+import org.prebid.server.analytics.model.LateBidderResponseEvent;
 import org.prebid.server.analytics.model.NotificationEvent;
 import org.prebid.server.analytics.model.SetuidEvent;
 import org.prebid.server.analytics.model.VideoEvent;
@@ -38,6 +39,8 @@ public class LogAnalyticsReporter implements AnalyticsReporter {
             logEvent = LogEvent.of("/openrtb2/auction", auctionEvent.getBidResponse());
         } else if (event instanceof CookieSyncEvent cookieSyncEvent) {
             logEvent = LogEvent.of("/cookie_sync", cookieSyncEvent.getBidderStatus());
+        } else if (event instanceof LateBidderResponseEvent lateBidderResponseEvent) {
+            logEvent = LogEvent.of("late_bidder_response", lateBidderResponseEvent.getBidderResponse().getBidder());
         } else if (event instanceof NotificationEvent notificationEvent) {
             logEvent = LogEvent.of("/event", notificationEvent.getType() + notificationEvent.getBidId());
         } else if (event instanceof SetuidEvent setuidEvent) {
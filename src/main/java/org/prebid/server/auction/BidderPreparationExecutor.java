@@ -0,0 +1,93 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs CPU-heavy per-bidder preparation of the auction in parallel on a dedicated worker pool.
+ * <p>
+ * Each bidder is prepared by a separate task, results are joined in the original order and delivered back
+ * on the calling context. Auctions with fewer bidders than the configured threshold are prepared on the calling
+ * thread, since handing them over to the pool costs more than it saves.
+ * <p>
+ * Wait for the pool is bounded: if the pool already has too many tasks waiting to be started, the auction is
+ * prepared on the calling thread, and task started after the auction timeout expired fails without preparing.
+ */
+public class BidderPreparationExecutor {
+
+    private final WorkerExecutor workerExecutor;
+    private final int minBidders;
+    private final int maxQueuedTasks;
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    public BidderPreparationExecutor(WorkerExecutor workerExecutor, int minBidders, int maxQueuedTasks) {
+        if (minBidders < 1) {
+            throw new IllegalArgumentException("Min bidders for parallel preparation must be positive");
+        }
+        if (maxQueuedTasks < 1) {
+            throw new IllegalArgumentException("Max queued bidder preparation tasks must be positive");
+        }
+
+        this.workerExecutor = Objects.requireNonNull(workerExecutor);
+        this.minBidders = minBidders;
+        this.maxQueuedTasks = maxQueuedTasks;
+    }
+
+    /**
+     * Returns true if preparation of the given number of bidders should be run in parallel.
+     */
+    public boolean isParallel(int bidders) {
+        return bidders >= minBidders;
+    }
+
+    /**
+     * Applies the given preparer to each element on the worker pool and returns results in the same order.
+     * <p>
+     * Preparer must not change state shared between bidders, since it is invoked concurrently.
+     */
+    public <T, R> Future<List<R>> execute(List<T> elements, Function<T, R> preparer, Timeout timeout) {
+        final int tasks = elements.size();
+        if (queuedTasks.addAndGet(tasks) > maxQueuedTasks) {
+            queuedTasks.addAndGet(-tasks);
+            return prepareInline(elements, preparer);
+        }
+
+        final List<Future> preparedFutures = elements.stream()
+                .map(element -> prepare(element, preparer, timeout))
+                .map(Future.class::cast)
+                .toList();
+
+        return CompositeFuture.all(preparedFutures).map(CompositeFuture::list);
+    }
+
+    private static <T, R> Future<List<R>> prepareInline(List<T> elements, Function<T, R> preparer) {
+        try {
+            return Future.succeededFuture(elements.stream().map(preparer).toList());
+        } catch (RuntimeException e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private <T, R> Future<R> prepare(T element, Function<T, R> preparer, Timeout timeout) {
+        final Promise<R> promise = Promise.promise();
+        workerExecutor.<R>executeBlocking(taskPromise -> {
+            queuedTasks.decrementAndGet();
+            if (timeout.remaining() <= 0) {
+                taskPromise.fail(new PreBidException("Timeout has been exceeded while waiting for bidder preparation"));
+                return;
+            }
+            taskPromise.complete(preparer.apply(element));
+        }, false, promise);
+        return promise.future();
+    }
+}
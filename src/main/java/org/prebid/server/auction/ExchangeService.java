@@ -19,15 +19,19 @@ import com.iab.openrtb.request.User;
 import com.iab.openrtb.response.Bid;
 import com.iab.openrtb.response.BidResponse;
 import com.iab.openrtb.response.SeatBid;
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.analytics.model.LateBidderResponseEvent;
+import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
+import org.prebid.server.auction.biddertimeout.BidderTimeoutResolver;
+import org.prebid.server.auction.completion.AuctionCompletionPolicy;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.model.AuctionContext;
@@ -37,9 +41,12 @@ import org.prebid.server.auction.model.BidderPrivacyResult;
 import org.prebid.server.auction.model.BidderRequest;
 import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.MultiBidConfig;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.auction.model.StoredResponseResult;
 import org.prebid.server.auction.model.Tuple2;
+import org.prebid.server.auction.trafficshaping.TrafficShaper;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.auction.versionconverter.ConvertedParts;
 import org.prebid.server.auction.versionconverter.OrtbVersion;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
@@ -73,11 +80,14 @@ import org.prebid.server.hooks.v1.analytics.Tags;
 import org.prebid.server.hooks.v1.bidder.BidderRequestPayload;
 import org.prebid.server.hooks.v1.bidder.BidderResponsePayload;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.SharedFragments;
 import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
+import org.prebid.server.privacy.gdpr.model.TcfContext;
+import org.prebid.server.privacy.model.PrivacyContext;
 import org.prebid.server.proto.openrtb.ext.ExtPrebidBidders;
 import org.prebid.server.proto.openrtb.ext.request.ExtApp;
 import org.prebid.server.proto.openrtb.ext.request.ExtBidderConfigOrtb;
@@ -116,6 +126,7 @@ import org.prebid.server.util.DealUtil;
 import org.prebid.server.util.LineItemUtil;
 import org.prebid.server.util.ObjectUtil;
 import org.prebid.server.util.StreamUtil;
+import org.prebid.server.validation.BidValidationContext;
 import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.model.ValidationResult;
 
@@ -166,10 +177,15 @@ public class ExchangeService {
     private final MediaTypeProcessor mediaTypeProcessor;
     private final BidRequestOrtbVersionConversionManager ortbVersionConversionManager;
     private final HttpBidderRequester httpBidderRequester;
+    private final BidderTimeoutResolver bidderTimeoutResolver;
+    private final TrafficShaper trafficShaper;
+    private final AuctionCompletionPolicy auctionCompletionPolicy;
+    private final AnalyticsReporterDelegator analyticsDelegator;
     private final ResponseBidValidator responseBidValidator;
     private final CurrencyConversionService currencyService;
     private final BidResponseCreator bidResponseCreator;
     private final ApplicationEventService applicationEventService;
+    private final BidderPreparationExecutor bidderPreparationExecutor;
     private final BidResponsePostProcessor bidResponsePostProcessor;
     private final HookStageExecutor hookStageExecutor;
     private final HttpInteractionLogger httpInteractionLogger;
@@ -192,12 +208,17 @@ public class ExchangeService {
                            MediaTypeProcessor mediaTypeProcessor,
                            BidRequestOrtbVersionConversionManager ortbVersionConversionManager,
                            HttpBidderRequester httpBidderRequester,
+                           BidderTimeoutResolver bidderTimeoutResolver,
+                           TrafficShaper trafficShaper,
+                           AuctionCompletionPolicy auctionCompletionPolicy,
+                           AnalyticsReporterDelegator analyticsDelegator,
                            ResponseBidValidator responseBidValidator,
                            CurrencyConversionService currencyService,
                            BidResponseCreator bidResponseCreator,
                            BidResponsePostProcessor bidResponsePostProcessor,
                            HookStageExecutor hookStageExecutor,
                            ApplicationEventService applicationEventService,
+                           BidderPreparationExecutor bidderPreparationExecutor,
                            HttpInteractionLogger httpInteractionLogger,
                            PriceFloorAdjuster priceFloorAdjuster,
                            PriceFloorEnforcer priceFloorEnforcer,
@@ -221,12 +242,17 @@ public class ExchangeService {
         this.mediaTypeProcessor = Objects.requireNonNull(mediaTypeProcessor);
         this.ortbVersionConversionManager = Objects.requireNonNull(ortbVersionConversionManager);
         this.httpBidderRequester = Objects.requireNonNull(httpBidderRequester);
+        this.bidderTimeoutResolver = Objects.requireNonNull(bidderTimeoutResolver);
+        this.trafficShaper = Objects.requireNonNull(trafficShaper);
+        this.auctionCompletionPolicy = Objects.requireNonNull(auctionCompletionPolicy);
+        this.analyticsDelegator = Objects.requireNonNull(analyticsDelegator);
         this.responseBidValidator = Objects.requireNonNull(responseBidValidator);
         this.currencyService = Objects.requireNonNull(currencyService);
         this.bidResponseCreator = Objects.requireNonNull(bidResponseCreator);
         this.bidResponsePostProcessor = Objects.requireNonNull(bidResponsePostProcessor);
         this.hookStageExecutor = Objects.requireNonNull(hookStageExecutor);
         this.applicationEventService = applicationEventService;
+        this.bidderPreparationExecutor = bidderPreparationExecutor;
         this.httpInteractionLogger = Objects.requireNonNull(httpInteractionLogger);
         this.priceFloorAdjuster = Objects.requireNonNull(priceFloorAdjuster);
         this.priceFloorEnforcer = Objects.requireNonNull(priceFloorEnforcer);
@@ -279,17 +305,12 @@ public class ExchangeService {
 
                 .map(auctionParticipation -> updateRequestMetric(
                         auctionParticipation, uidsCookie, aliases, account, requestTypeMetric))
-                .compose(auctionParticipations -> CompositeFuture.join(
-                        auctionParticipations.stream()
-                                .map(auctionParticipation -> invokeHooksAndRequestBids(
-                                        receivedContext,
-                                        auctionParticipation.getBidderRequest(),
-                                        auctionTimeout(timeout, cacheInfo.isDoCaching()),
-                                        aliases)
-                                        .map(auctionParticipation::with))
-                                .collect(Collectors.toCollection(ArrayList::new))))
                 // send all the requests to the bidders and gathers results
-                .map(CompositeFuture::<AuctionParticipation>list)
+                .compose(auctionParticipations -> collectBidderResponses(
+                        auctionParticipations,
+                        receivedContext,
+                        auctionTimeout(timeout, cacheInfo.isDoCaching()),
+                        aliases))
 
                 .map(storedResponseProcessor::updateStoredBidResponse)
                 .map(auctionParticipations -> storedResponseProcessor.mergeWithBidderResponses(
@@ -297,6 +318,7 @@ public class ExchangeService {
                 .map(auctionParticipations -> dropZeroNonDealBids(auctionParticipations, debugWarnings))
                 .map(auctionParticipations -> validateAndAdjustBids(auctionParticipations, receivedContext, aliases))
                 .map(auctionParticipations -> updateMetricsFromResponses(auctionParticipations, account, aliases))
+                .map(auctionParticipations -> updateTrafficShaping(auctionParticipations, receivedContext))
 
                 .map(receivedContext::with)
                 // produce response from bidder results
@@ -504,7 +526,12 @@ public class ExchangeService {
         final Map<String, Map<String, String>> impBidderToStoredBidResponse =
                 storedResponseResult.getImpBidderToStoredBidResponse();
 
-        return makeAuctionParticipation(bidders, context, aliases, impBidderToStoredBidResponse,
+        // stored bid responses are used for testing, so all the bidders should participate
+        final List<String> shapedBidders = MapUtils.isEmpty(impBidderToStoredBidResponse)
+                ? trafficShaper.shape(context, bidders, imps)
+                : bidders;
+
+        return makeAuctionParticipation(shapedBidders, context, aliases, impBidderToStoredBidResponse,
                 imps, bidderToMultiBid);
     }
 
@@ -557,7 +584,7 @@ public class ExchangeService {
 
         return privacyEnforcementService
                 .mask(context, bidderToUser, bidders, aliases)
-                .map(bidderToPrivacyResult ->
+                .compose(bidderToPrivacyResult ->
                         getAuctionParticipation(bidderToPrivacyResult, bidRequest, impBidderToStoredResponse, imps,
                                 bidderToMultiBid, biddersToConfigs, aliases, context));
     }
@@ -756,8 +783,11 @@ public class ExchangeService {
 
     /**
      * Returns shuffled list of {@link AuctionParticipation} with {@link BidRequest}.
+     * <p>
+     * Bidders are prepared in parallel by {@link BidderPreparationExecutor} if it is configured and there are enough
+     * of them, otherwise sequentially on the calling thread.
      */
-    private List<AuctionParticipation> getAuctionParticipation(
+    private Future<List<AuctionParticipation>> getAuctionParticipation(
             List<BidderPrivacyResult> bidderPrivacyResults,
             BidRequest bidRequest,
             Map<String, Map<String, String>> impBidderToStoredBidResponse,
@@ -769,11 +799,18 @@ public class ExchangeService {
 
         final Map<String, JsonNode> bidderToPrebidBidders = bidderToPrebidBidders(bidRequest);
 
-        final List<AuctionParticipation> bidderRequests = bidderPrivacyResults.stream()
-                // for each bidder create a new request that is a copy of original request except buyerid, imp
-                // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
-                // Also, check whether to pass user.ext.data, app.ext.data and site.ext.data or not.
-                .map(bidderPrivacyResult -> createAuctionParticipation(
+        final boolean parallel = bidderPreparationExecutor != null
+                && bidderPreparationExecutor.isParallel(bidderPrivacyResults.size());
+        // debug warnings of the context are not thread-safe, so parallel preparation collects them separately
+        final List<String> debugWarnings = parallel
+                ? Collections.synchronizedList(new ArrayList<>())
+                : context.getDebugWarnings();
+
+        // for each bidder create a new request that is a copy of original request except buyerid, imp
+        // extensions, ext.prebid.data.bidders and ext.prebid.bidders.
+        // Also, check whether to pass user.ext.data, app.ext.data and site.ext.data or not.
+        final Function<BidderPrivacyResult, AuctionParticipation> preparer =
+                bidderPrivacyResult -> createAuctionParticipationWithMetrics(
                         bidderPrivacyResult,
                         impBidderToStoredBidResponse,
                         imps,
@@ -781,7 +818,23 @@ public class ExchangeService {
                         biddersToConfigs,
                         bidderToPrebidBidders,
                         aliases,
-                        context))
+                        context,
+                        debugWarnings);
+
+        if (!parallel) {
+            return Future.succeededFuture(
+                    shuffledParticipations(bidderPrivacyResults.stream().map(preparer).toList()));
+        }
+
+        return bidderPreparationExecutor.execute(bidderPrivacyResults, preparer, context.getTimeout())
+                .map(auctionParticipations -> {
+                    context.getDebugWarnings().addAll(debugWarnings);
+                    return shuffledParticipations(auctionParticipations);
+                });
+    }
+
+    private static List<AuctionParticipation> shuffledParticipations(List<AuctionParticipation> participations) {
+        final List<AuctionParticipation> bidderRequests = participations.stream()
                 // Can't be removed after we prepare workflow to filter blocked
                 .filter(auctionParticipation -> !auctionParticipation.isRequestBlocked())
                 .collect(Collectors.toCollection(ArrayList::new));
@@ -811,6 +864,37 @@ public class ExchangeService {
         return bidderToPrebidParameters;
     }
 
+    private AuctionParticipation createAuctionParticipationWithMetrics(
+            BidderPrivacyResult bidderPrivacyResult,
+            Map<String, Map<String, String>> impBidderToStoredBidResponse,
+            List<Imp> imps,
+            Map<String, MultiBidConfig> bidderToMultiBid,
+            Map<String, ExtBidderConfigOrtb> biddersToConfigs,
+            Map<String, JsonNode> bidderToPrebidBidders,
+            BidderAliases bidderAliases,
+            AuctionContext context,
+            List<String> debugWarnings) {
+
+        final long startTime = clock.millis();
+        final AuctionParticipation auctionParticipation = createAuctionParticipation(
+                bidderPrivacyResult,
+                impBidderToStoredBidResponse,
+                imps,
+                bidderToMultiBid,
+                biddersToConfigs,
+                bidderToPrebidBidders,
+                bidderAliases,
+                context,
+                debugWarnings);
+
+        if (!auctionParticipation.isRequestBlocked()) {
+            metrics.updateAdapterPreparationTime(
+                    bidderAliases.resolveBidder(auctionParticipation.getBidder()), clock.millis() - startTime);
+        }
+
+        return auctionParticipation;
+    }
+
     /**
      * Returns {@link AuctionParticipation} for the given bidder.
      */
@@ -822,7 +906,8 @@ public class ExchangeService {
             Map<String, ExtBidderConfigOrtb> biddersToConfigs,
             Map<String, JsonNode> bidderToPrebidBidders,
             BidderAliases bidderAliases,
-            AuctionContext context) {
+            AuctionContext context,
+            List<String> debugWarnings) {
 
         final BidRequest bidRequest = context.getBidRequest();
         final boolean blockedRequestByTcf = bidderPrivacyResult.isBlockedRequestByTcf();
@@ -857,7 +942,7 @@ public class ExchangeService {
         final App preparedApp = prepareApp(app, fpdApp, useFirstPartyData);
         final Site preparedSite = prepareSite(site, fpdSite, useFirstPartyData);
         if (preparedApp != null && preparedSite != null) {
-            context.getDebugWarnings().add("BidRequest contains app and site. Removed site object");
+            debugWarnings.add("BidRequest contains app and site. Removed site object");
         }
 
         final BidRequest modifiedBidRequest = bidRequest.toBuilder()
@@ -1218,14 +1303,69 @@ public class ExchangeService {
         return auctionParticipations;
     }
 
+    private Future<List<AuctionParticipation>> collectBidderResponses(
+            List<AuctionParticipation> auctionParticipations,
+            AuctionContext auctionContext,
+            Timeout timeout,
+            BidderAliases aliases) {
+
+        final ConvertedParts convertedParts = new ConvertedParts();
+        final SharedFragments sharedFragments = new SharedFragments();
+        final List<Future<AuctionParticipation>> respondedParticipations = auctionParticipations.stream()
+                .map(auctionParticipation -> invokeHooksAndRequestBids(
+                        auctionContext,
+                        auctionParticipation.getBidderRequest(),
+                        timeout,
+                        aliases,
+                        convertedParts,
+                        sharedFragments)
+                        .map(auctionParticipation::with))
+                .toList();
+
+        return auctionCompletionPolicy.complete(
+                auctionParticipations,
+                respondedParticipations,
+                timeout,
+                lateParticipation -> processLateParticipation(lateParticipation, auctionContext, aliases));
+    }
+
+    private void processLateParticipation(AuctionParticipation auctionParticipation,
+                                          AuctionContext auctionContext,
+                                          BidderAliases aliases) {
+
+        final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+        final String bidder = aliases.resolveBidder(bidderResponse.getBidder());
+        final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
+
+        metrics.updateAdapterLateResponseMetrics(bidder, CollectionUtils.size(bidderBids));
+
+        final LateBidderResponseEvent event = LateBidderResponseEvent.builder()
+                .requestId(auctionContext.getBidRequest().getId())
+                .account(auctionContext.getAccount())
+                .bidderResponse(bidderResponse)
+                .build();
+        final PrivacyContext privacyContext = auctionContext.getPrivacyContext();
+        final TcfContext tcfContext = privacyContext != null ? privacyContext.getTcfContext() : TcfContext.empty();
+
+        analyticsDelegator.processEvent(event, tcfContext);
+    }
+
     private Future<BidderResponse> invokeHooksAndRequestBids(AuctionContext auctionContext,
                                                              BidderRequest bidderRequest,
                                                              Timeout timeout,
-                                                             BidderAliases aliases) {
+                                                             BidderAliases aliases,
+                                                             ConvertedParts convertedParts,
+                                                             SharedFragments sharedFragments) {
 
         return hookStageExecutor.executeBidderRequestStage(bidderRequest, auctionContext)
                 .compose(stageResult -> requestBidsOrRejectBidder(
-                        stageResult, bidderRequest, auctionContext, timeout, aliases))
+                        stageResult,
+                        bidderRequest,
+                        auctionContext,
+                        timeout,
+                        aliases,
+                        convertedParts,
+                        sharedFragments))
 
                 .compose(bidderResponse -> hookStageExecutor.executeRawBidderResponseStage(
                                 bidderResponse, auctionContext)
@@ -1237,7 +1377,9 @@ public class ExchangeService {
             BidderRequest bidderRequest,
             AuctionContext auctionContext,
             Timeout timeout,
-            BidderAliases aliases) {
+            BidderAliases aliases,
+            ConvertedParts convertedParts,
+            SharedFragments sharedFragments) {
 
         httpInteractionLogger.maybeLogBidderRequest(auctionContext, bidderRequest);
         if (hookStageResult.isShouldReject()) {
@@ -1245,17 +1387,25 @@ public class ExchangeService {
         }
 
         final BidderRequest enrichedBidderRequest = bidderRequest.with(hookStageResult.getPayload().bidRequest());
-        return requestBids(enrichedBidderRequest, auctionContext, timeout, aliases);
+        return requestBids(
+                enrichedBidderRequest, auctionContext, timeout, aliases, convertedParts, sharedFragments);
     }
 
     /**
      * Passes the request to a corresponding bidder and wraps response in {@link BidderResponse} which also holds
      * recorded response time.
+     * <p>
+     * Request parts shared with other bidders of the auction are converted to bidder's OpenRTB version only once
+     * with the given {@link ConvertedParts}. Bidder encodes its HTTP requests synchronously, so request
+     * sub-objects shared with other bidders of the auction are serialized only once with the given
+     * {@link SharedFragments}.
      */
     private Future<BidderResponse> requestBids(BidderRequest bidderRequest,
                                                AuctionContext auctionContext,
                                                Timeout timeout,
-                                               BidderAliases aliases) {
+                                               BidderAliases aliases,
+                                               ConvertedParts convertedParts,
+                                               SharedFragments sharedFragments) {
 
         final CaseInsensitiveMultiMap requestHeaders = auctionContext.getHttpRequest().getHeaders();
 
@@ -1281,18 +1431,30 @@ public class ExchangeService {
         }
 
         final BidRequest convertedBidRequest = ortbVersionConversionManager.convertFromAuctionSupportedVersion(
-                mediaTypeProcessingResult.getBidRequest(), bidderRequest.getOrtbVersion());
+                mediaTypeProcessingResult.getBidRequest(), bidderRequest.getOrtbVersion(), convertedParts);
 
         final BidderRequest modifiedBidderRequest = bidderRequest.with(convertedBidRequest);
+        final Timeout bidderTimeout = bidderTimeoutResolver.resolve(resolvedBidderName, timeout);
 
-        return httpBidderRequester
-                .requestBids(bidder, modifiedBidderRequest, timeout, requestHeaders, debugEnabledForBidder)
+        return sharedFragments.encodeWithin(() -> httpBidderRequester.requestBids(
+                        bidder, modifiedBidderRequest, bidderTimeout, requestHeaders, debugEnabledForBidder))
                 .map(seatBid -> BidderSeatBid.of(
                         seatBid.getBids(),
                         seatBid.getHttpCalls(),
                         seatBid.getErrors(),
                         ListUtils.union(mediaTypeProcessingResult.getErrors(), seatBid.getWarnings())))
-                .map(seatBid -> BidderResponse.of(bidderName, seatBid, responseTime(startTime)));
+                .map(seatBid -> toBidderResponse(bidderName, resolvedBidderName, seatBid, startTime));
+    }
+
+    private BidderResponse toBidderResponse(String bidderName,
+                                            String resolvedBidderName,
+                                            BidderSeatBid seatBid,
+                                            long startTime) {
+
+        final int responseTime = responseTime(startTime);
+        bidderTimeoutResolver.updateResponseTime(resolvedBidderName, responseTime);
+
+        return BidderResponse.of(bidderName, seatBid, responseTime);
     }
 
     private BidderResponse rejectBidderResponseOrProceed(HookStageExecutionResult<BidderResponsePayload> stageResult,
@@ -1346,9 +1508,16 @@ public class ExchangeService {
                                                              AuctionContext auctionContext,
                                                              BidderAliases aliases) {
 
-        return auctionParticipations.stream()
-                .map(auctionParticipation -> validBidderResponse(auctionParticipation, auctionContext, aliases))
-                .map(auctionParticipation -> applyBidPriceChanges(auctionParticipation, auctionContext.getBidRequest()))
+        final long startTime = clock.millis();
+        final BidValidationContext validationContext = responseBidValidator.createContext(auctionContext);
+        final List<AuctionParticipation> validParticipations = auctionParticipations.stream()
+                .map(auctionParticipation -> validBidderResponse(
+                        auctionParticipation, auctionContext, validationContext, aliases))
+                .toList();
+        metrics.updateBidValidationTime(clock.millis() - startTime);
+
+        return validParticipations.stream()
+                .map(auctionParticipation -> applyBidPriceChanges(auctionParticipation, auctionContext))
                 .map(auctionParticipation -> priceFloorEnforcer.enforce(
                         auctionContext.getBidRequest(),
                         auctionParticipation,
@@ -1365,6 +1534,7 @@ public class ExchangeService {
      */
     private AuctionParticipation validBidderResponse(AuctionParticipation auctionParticipation,
                                                      AuctionContext auctionContext,
+                                                     BidValidationContext validationContext,
                                                      BidderAliases aliases) {
         if (auctionParticipation.isRequestBlocked()) {
             return auctionParticipation;
@@ -1393,7 +1563,7 @@ public class ExchangeService {
             maybeRecordInTxnLog(lineItemId, () -> txnLog.lineItemsReceivedFromBidder().get(bidder));
 
             final ValidationResult validationResult =
-                    responseBidValidator.validate(bid, bidderResponse.getBidder(), auctionContext, aliases);
+                    responseBidValidator.validate(bid, bidderResponse.getBidder(), validationContext, aliases);
 
             if (validationResult.hasWarnings() || validationResult.hasErrors()) {
                 errors.add(makeValidationBidderError(bid.getBid(), validationResult));
@@ -1446,7 +1616,7 @@ public class ExchangeService {
      * {@link Bid#getPrice()} is not empty.
      */
     private AuctionParticipation applyBidPriceChanges(AuctionParticipation auctionParticipation,
-                                                      BidRequest bidRequest) {
+                                                      AuctionContext auctionContext) {
         if (auctionParticipation.isRequestBlocked()) {
             return auctionParticipation;
         }
@@ -1462,12 +1632,14 @@ public class ExchangeService {
         final List<BidderBid> updatedBidderBids = new ArrayList<>(bidderBids.size());
         final List<BidderError> errors = new ArrayList<>(seatBid.getErrors());
 
+        final BidRequest bidRequest = auctionContext.getBidRequest();
+        final RequestAttributes requestAttributes = auctionContext.getRequestAttributes();
         final String adServerCurrency = bidRequest.getCur().get(0);
 
         for (final BidderBid bidderBid : bidderBids) {
             try {
-                final BidderBid updatedBidderBid =
-                        updateBidderBidWithBidPriceChanges(bidderBid, bidderResponse, bidRequest, adServerCurrency);
+                final BidderBid updatedBidderBid = updateBidderBidWithBidPriceChanges(
+                        bidderBid, bidderResponse, bidRequest, requestAttributes, adServerCurrency);
                 updatedBidderBids.add(updatedBidderBid);
             } catch (PreBidException e) {
                 errors.add(BidderError.generic(e.getMessage()));
@@ -1482,6 +1654,7 @@ public class ExchangeService {
     private BidderBid updateBidderBidWithBidPriceChanges(BidderBid bidderBid,
                                                          BidderResponse bidderResponse,
                                                          BidRequest bidRequest,
+                                                         RequestAttributes requestAttributes,
                                                          String adServerCurrency) {
         final Bid bid = bidderBid.getBid();
         final String bidCurrency = bidderBid.getBidCurrency();
@@ -1491,7 +1664,7 @@ public class ExchangeService {
                 price, bidRequest, StringUtils.stripToNull(bidCurrency), adServerCurrency);
 
         final BigDecimal priceAdjustmentFactor =
-                bidAdjustmentForBidder(bidderResponse.getBidder(), bidRequest, bidderBid);
+                bidAdjustmentForBidder(bidderResponse.getBidder(), bidRequest, requestAttributes, bidderBid);
         final BigDecimal adjustedPrice = adjustPrice(priceAdjustmentFactor, priceInAdServerCurrency);
 
         final ObjectNode bidExt = bid.getExt();
@@ -1511,13 +1684,17 @@ public class ExchangeService {
         return bidderBid.toBuilder().bid(bidBuilder.build()).build();
     }
 
-    private BigDecimal bidAdjustmentForBidder(String bidder, BidRequest bidRequest, BidderBid bidderBid) {
+    private BigDecimal bidAdjustmentForBidder(String bidder,
+                                              BidRequest bidRequest,
+                                              RequestAttributes requestAttributes,
+                                              BidderBid bidderBid) {
+
         final ExtRequestBidAdjustmentFactors adjustmentFactors = extBidAdjustmentFactors(bidRequest);
         if (adjustmentFactors == null) {
             return null;
         }
         final ImpMediaType mediaType = ImpMediaTypeResolver.resolve(
-                bidderBid.getBid().getImpid(), bidRequest.getImp(), bidderBid.getType());
+                bidderBid.getBid().getImpid(), bidRequest.getImp(), bidderBid.getType(), requestAttributes);
 
         return bidAdjustmentFactorResolver.resolve(mediaType, adjustmentFactors, bidder);
     }
@@ -1583,6 +1760,10 @@ public class ExchangeService {
             metrics.updateAdapterResponseTime(bidder, account, bidderResponse.getResponseTime());
 
             final List<BidderBid> bidderBids = bidderResponse.getSeatBid().getBids();
+            bidderTimeoutResolver.updateBidValue(bidder, CollectionUtils.emptyIfNull(bidderBids).stream()
+                    .map(bidderBid -> bidderBid.getBid().getPrice())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+
             if (CollectionUtils.isEmpty(bidderBids)) {
                 metrics.updateAdapterRequestNobidMetrics(bidder, account);
             } else {
@@ -1610,6 +1791,13 @@ public class ExchangeService {
         return auctionParticipations;
     }
 
+    private List<AuctionParticipation> updateTrafficShaping(List<AuctionParticipation> auctionParticipations,
+                                                            AuctionContext auctionContext) {
+
+        trafficShaper.update(auctionContext, auctionParticipations);
+        return auctionParticipations;
+    }
+
     private Future<AuctionContext> invokeResponseHooks(AuctionContext auctionContext) {
         final BidResponse bidResponse = auctionContext.getBidResponse();
         return hookStageExecutor.executeAuctionResponseStage(bidResponse, auctionContext)
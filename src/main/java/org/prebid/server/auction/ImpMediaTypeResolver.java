@@ -2,6 +2,7 @@ package org.prebid.server.auction;
 
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Video;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
 import org.prebid.server.proto.openrtb.ext.response.BidType;
 
@@ -22,6 +23,32 @@ public class ImpMediaTypeResolver {
         };
     }
 
+    /**
+     * Resolves media type of the bid taking video placement from media types already derived for the bid imp.
+     */
+    public static ImpMediaType resolve(String bidImpId,
+                                       List<Imp> imps,
+                                       BidType bidType,
+                                       RequestAttributes requestAttributes) {
+
+        if (bidType != BidType.video) {
+            return resolve(bidImpId, imps, bidType);
+        }
+
+        final Imp bidImp = imps.stream()
+                .filter(imp -> imp.getId().equals(bidImpId) && imp.getVideo() != null)
+                .findFirst()
+                .orElse(null);
+
+        if (bidImp == null) {
+            return null;
+        }
+
+        return requestAttributes.getImpMediaTypes(bidImp).contains(ImpMediaType.video_outstream)
+                ? ImpMediaType.video_outstream
+                : ImpMediaType.video;
+    }
+
     private static ImpMediaType resolveBidAdjustmentVideoMediaType(String bidImpId, List<Imp> imps) {
         final Video bidImpVideo = imps.stream()
                 .filter(imp -> imp.getId().equals(bidImpId))
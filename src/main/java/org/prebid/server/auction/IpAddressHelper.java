@@ -10,8 +10,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.http.conn.util.InetAddressUtils;
 import org.prebid.server.auction.model.IpAddress;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Validates, classifies and masks IP addresses.
+ * <p>
+ * Common IPv4 and IPv6 notations are handled by {@link IpAddressParser} on primitive values, addresses in other
+ * notations or in ranges the ipaddress library classifies by its own rules fall back to the library.
+ */
 public class IpAddressHelper {
 
     private static final Logger logger = LoggerFactory.getLogger(IpAddressHelper.class);
@@ -26,6 +33,13 @@ public class IpAddressHelper {
     private final IPAddress ipv6AnonLeftMaskAddress;
     private final List<IPAddress> ipv6LocalNetworkMaskAddresses;
 
+    private final long ipv6AlwaysMaskHigh;
+    private final long ipv6AlwaysMaskLow;
+    private final long ipv6AnonLeftMaskHigh;
+    private final long ipv6AnonLeftMaskLow;
+    // null if some of local networks can't be checked without the library
+    private final List<IpNetwork> localNetworks;
+
     public IpAddressHelper(int ipv6AlwaysMaskBits, int ipv6AnonLeftMaskBits, List<String> ipv6LocalNetworks) {
         ipv6AlwaysMaskAddress =
                 toAddress("::/" + validateIpv6AlwaysMaskBits(ipv6AlwaysMaskBits)).getNetworkMask();
@@ -34,9 +48,26 @@ public class IpAddressHelper {
         ipv6LocalNetworkMaskAddresses = ipv6LocalNetworks.stream()
                 .map(this::toAddress)
                 .toList();
+
+        ipv6AlwaysMaskHigh = IpAddressParser.prefixMask(ipv6AlwaysMaskBits);
+        ipv6AlwaysMaskLow = IpAddressParser.prefixMask(ipv6AlwaysMaskBits - 64);
+        ipv6AnonLeftMaskHigh = IpAddressParser.prefixMask(ipv6AnonLeftMaskBits);
+        ipv6AnonLeftMaskLow = IpAddressParser.prefixMask(ipv6AnonLeftMaskBits - 64);
+        localNetworks = toLocalNetworks(ipv6LocalNetworkMaskAddresses);
     }
 
     public String anonymizeIpv6(String ip) {
+        final long[] ipv6 = IpAddressParser.parseIpv6(ip);
+        if (ipv6 != null) {
+            final String anonymizedIp = IpAddressParser.formatIpv6(
+                    ipv6[0] & ipv6AnonLeftMaskHigh, ipv6[1] & ipv6AnonLeftMaskLow);
+            if (anonymizedIp != null) {
+                return anonymizedIp;
+            }
+        } else if (IpAddressParser.parseIpv4(ip) >= 0) {
+            return null;
+        }
+
         try {
             final IPAddressString ipAddressString = new IPAddressString(ip);
             return ipAddressString.isIPv6()
@@ -49,6 +80,31 @@ public class IpAddressHelper {
     }
 
     public IpAddress toIpAddress(String ip) {
+        final long ipv4 = IpAddressParser.parseIpv4(ip);
+        if (ipv4 >= 0) {
+            final Boolean ipv4Public = isIpv4Public(ipv4);
+            if (ipv4Public != null) {
+                return ipv4Public ? IpAddress.of(ip, IpAddress.IP.v4) : null;
+            }
+        } else {
+            final long[] ipv6 = IpAddressParser.parseIpv6(ip);
+            final Boolean ipv6Public = ipv6 != null ? isIpv6Public(ipv6[0], ipv6[1]) : null;
+            if (Boolean.FALSE.equals(ipv6Public)) {
+                return null;
+            }
+
+            final String maskedIp = Boolean.TRUE.equals(ipv6Public)
+                    ? IpAddressParser.formatIpv6(ipv6[0] & ipv6AlwaysMaskHigh, ipv6[1] & ipv6AlwaysMaskLow)
+                    : null;
+            if (maskedIp != null) {
+                return IpAddress.of(maskedIp, IpAddress.IP.v6);
+            }
+        }
+
+        return toIpAddressWithLibrary(ip);
+    }
+
+    private IpAddress toIpAddressWithLibrary(String ip) {
         final IPAddress ipAddress = toIpAddressInternal(ip);
 
         if (ipAddress == null) {
@@ -73,6 +129,10 @@ public class IpAddressHelper {
     }
 
     public String maskIpv4(String ip) {
+        if (IpAddressParser.parseIpv4(ip) >= 0) {
+            return ip.substring(0, ip.lastIndexOf('.')) + ".0";
+        }
+
         if (StringUtils.isBlank(ip) || !InetAddressUtils.isIPv4Address(ip)) {
             return ip;
         }
@@ -137,4 +197,128 @@ public class IpAddressHelper {
                 && !ipAddress.isMax()
                 && ipv6LocalNetworkMaskAddresses.stream().noneMatch(network -> network.contains(ipAddress));
     }
+
+    /**
+     * Returns whether IPv4 address is public or null if it falls into a range the library should decide on.
+     */
+    private Boolean isIpv4Public(long ip) {
+        if (localNetworks == null) {
+            return null;
+        }
+
+        final long firstOctet = ip >>> 24;
+        if (ip == 0L // any local
+                || ip == 0xFFFFFFFFL // max
+                || firstOctet == 10 || ip >>> 20 == 0xAC1 || ip >>> 16 == 0xC0A8 // private
+                || ip >>> 16 == 0xA9FE // link local
+                || firstOctet == 127 // loopback
+                || ip >>> 28 == 0xE) { // multicast
+
+            return false;
+        }
+
+        // "this network", shared address space and reserved ranges
+        if (firstOctet == 0 || ip >>> 22 == 0x191 || ip >>> 28 == 0xF) {
+            return null;
+        }
+
+        return isNotInLocalNetworks(false, 0L, ip);
+    }
+
+    /**
+     * Returns whether IPv6 address is public or null if it falls into a range the library should decide on.
+     * <p>
+     * Only global unicast range is treated as public, except for 6to4 and Teredo addresses with embedded IPv4.
+     */
+    private Boolean isIpv6Public(long high, long low) {
+        if (localNetworks == null) {
+            return null;
+        }
+
+        if (high >>> 56 == 0xFF // multicast
+                || high >>> 54 == 0x3FA) { // link local
+
+            return false;
+        }
+
+        if (high >>> 61 != 1 || high >>> 48 == 0x2002 || high >>> 32 == 0x20010000L) {
+            return null;
+        }
+
+        return isNotInLocalNetworks(true, high, low);
+    }
+
+    private boolean isNotInLocalNetworks(boolean ipv6, long high, long low) {
+        for (IpNetwork network : localNetworks) {
+            if (network.contains(ipv6, high, low)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts local networks to {@link IpNetwork}s or returns null if some of them is not a single address
+     * or a prefix block.
+     */
+    private static List<IpNetwork> toLocalNetworks(List<IPAddress> networkAddresses) {
+        final List<IpNetwork> networks = new ArrayList<>(networkAddresses.size());
+        for (IPAddress networkAddress : networkAddresses) {
+            final Integer prefixLength = networkAddress.getNetworkPrefixLength();
+            final boolean supported = prefixLength != null
+                    ? networkAddress.isPrefixBlock()
+                    : !networkAddress.isMultiple();
+            if (!supported || !(networkAddress.isIPv4() || networkAddress.isIPv6())) {
+                return null;
+            }
+
+            networks.add(IpNetwork.of(networkAddress.getBytes(), prefixLength));
+        }
+        return networks;
+    }
+
+    /**
+     * Network as a pair of masked address and mask, IPv4 address and mask are kept in lower bits.
+     */
+    private static class IpNetwork {
+
+        private final boolean ipv6;
+        private final long high;
+        private final long low;
+        private final long maskHigh;
+        private final long maskLow;
+
+        private IpNetwork(boolean ipv6, long high, long low, long maskHigh, long maskLow) {
+            this.ipv6 = ipv6;
+            this.high = high & maskHigh;
+            this.low = low & maskLow;
+            this.maskHigh = maskHigh;
+            this.maskLow = maskLow;
+        }
+
+        static IpNetwork of(byte[] bytes, Integer prefixLength) {
+            final boolean ipv6 = bytes.length == 16;
+            final int bits = prefixLength != null ? prefixLength : bytes.length * 8;
+
+            if (ipv6) {
+                return new IpNetwork(true, toLong(bytes, 0, 8), toLong(bytes, 8, 16),
+                        IpAddressParser.prefixMask(bits), IpAddressParser.prefixMask(bits - 64));
+            }
+
+            return new IpNetwork(false, 0L, toLong(bytes, 0, 4), 0L,
+                    IpAddressParser.prefixMask(bits) >>> 32);
+        }
+
+        private static long toLong(byte[] bytes, int from, int to) {
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                value = value << 8 | (bytes[i] & 0xFF);
+            }
+            return value;
+        }
+
+        boolean contains(boolean ipv6, long high, long low) {
+            return this.ipv6 == ipv6 && (high & maskHigh) == this.high && (low & maskLow) == this.low;
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package org.prebid.server.auction;
+
+/**
+ * Parses and formats IP addresses in their common notations without creating intermediate objects.
+ * <p>
+ * IPv4 address is parsed into the lowest 32 bits of long, IPv6 address - into two longs with higher and lower
+ * 64 bits. Only dotted decimal IPv4 without leading zeros and colon-separated hexadecimal IPv6 with optional
+ * {@code ::} are supported, other notations (prefix lengths, zones, embedded IPv4, etc.) are left to
+ * the ipaddress library.
+ */
+final class IpAddressParser {
+
+    private static final long NOT_PARSED = -1L;
+
+    private static final int IPV6_GROUPS = 8;
+
+    private IpAddressParser() {
+    }
+
+    /**
+     * Returns IPv4 address value or -1 if the given string is not a dotted decimal IPv4 address.
+     */
+    static long parseIpv4(String ip) {
+        final int length = ip != null ? ip.length() : 0;
+        if (length < 7 || length > 15) {
+            return NOT_PARSED;
+        }
+
+        long value = 0;
+        int octets = 0;
+        int index = 0;
+        while (true) {
+            final int start = index;
+            int octet = 0;
+            while (index < length && isDigit(ip.charAt(index))) {
+                if (index - start == 3) {
+                    return NOT_PARSED;
+                }
+                octet = octet * 10 + ip.charAt(index) - '0';
+                index++;
+            }
+
+            final int digits = index - start;
+            if (digits == 0 || (digits > 1 && ip.charAt(start) == '0') || octet > 255) {
+                return NOT_PARSED;
+            }
+
+            value = value << 8 | octet;
+            octets++;
+
+            if (index == length) {
+                return octets == 4 ? value : NOT_PARSED;
+            }
+            if (octets == 4 || ip.charAt(index) != '.') {
+                return NOT_PARSED;
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Returns higher and lower 64 bits of IPv6 address or null if the given string is not a colon-separated
+     * hexadecimal IPv6 address.
+     */
+    static long[] parseIpv6(String ip) {
+        final int length = ip != null ? ip.length() : 0;
+        if (length < 2 || length > 39) {
+            return null;
+        }
+
+        long headHigh = 0;
+        long headLow = 0;
+        int headGroups = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int tailGroups = 0;
+        boolean compressed = false;
+
+        int index = 0;
+        if (ip.startsWith("::")) {
+            compressed = true;
+            index = 2;
+        }
+
+        while (index < length) {
+            final int start = index;
+            int group = 0;
+            while (index < length && hexDigit(ip.charAt(index)) >= 0) {
+                if (index - start == 4) {
+                    return null;
+                }
+                group = group << 4 | hexDigit(ip.charAt(index));
+                index++;
+            }
+
+            if (index == start || headGroups + tailGroups == IPV6_GROUPS) {
+                return null;
+            }
+
+            if (compressed) {
+                tailHigh = tailHigh << 16 | tailLow >>> 48;
+                tailLow = tailLow << 16 | group;
+                tailGroups++;
+            } else {
+                headHigh = headHigh << 16 | headLow >>> 48;
+                headLow = headLow << 16 | group;
+                headGroups++;
+            }
+
+            if (index == length) {
+                break;
+            }
+            if (ip.charAt(index++) != ':' || index == length) {
+                return null;
+            }
+            if (ip.charAt(index) == ':') {
+                if (compressed) {
+                    return null;
+                }
+                compressed = true;
+                index++;
+            }
+        }
+
+        final int groups = headGroups + tailGroups;
+        if (compressed ? groups == IPV6_GROUPS : groups != IPV6_GROUPS) {
+            return null;
+        }
+
+        // moves groups before :: to their place, groups after :: are already there
+        for (int i = headGroups; i < IPV6_GROUPS; i++) {
+            headHigh = headHigh << 16 | headLow >>> 48;
+            headLow = headLow << 16;
+        }
+
+        return new long[]{headHigh | tailHigh, headLow | tailLow};
+    }
+
+    /**
+     * Returns canonical IPv6 string: lower-case groups without leading zeros with the longest run of two or more
+     * zero groups replaced by {@code ::}. Returns null if there are several longest runs of zero groups
+     * or the longest one is a single group, since choosing among them is up to the ipaddress library.
+     */
+    static String formatIpv6(long high, long low) {
+        int zerosStart = -1;
+        int zerosLength = 0;
+        boolean ambiguous = false;
+
+        int runStart = -1;
+        for (int i = 0; i <= IPV6_GROUPS; i++) {
+            final boolean zero = i < IPV6_GROUPS && group(high, low, i) == 0;
+            if (zero && runStart < 0) {
+                runStart = i;
+            } else if (!zero && runStart >= 0) {
+                final int runLength = i - runStart;
+                if (runLength > zerosLength) {
+                    zerosStart = runStart;
+                    zerosLength = runLength;
+                    ambiguous = false;
+                } else if (runLength == zerosLength) {
+                    ambiguous = true;
+                }
+                runStart = -1;
+            }
+        }
+
+        if (zerosLength == 1 || ambiguous) {
+            return null;
+        }
+
+        final StringBuilder result = new StringBuilder(39);
+        int index = 0;
+        while (index < IPV6_GROUPS) {
+            if (index == zerosStart) {
+                result.append("::");
+                index += zerosLength;
+                continue;
+            }
+
+            if (index > 0 && index != zerosStart + zerosLength) {
+                result.append(':');
+            }
+            result.append(Integer.toHexString(group(high, low, index)));
+            index++;
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Returns 64-bit part of the network mask with the given number of leading one bits.
+     */
+    static long prefixMask(int bits) {
+        if (bits <= 0) {
+            return 0L;
+        }
+        return bits >= 64 ? -1L : -1L << (64 - bits);
+    }
+
+    private static int group(long high, long low, int index) {
+        final long half = index < 4 ? high : low;
+        return (int) (half >>> (48 - 16 * (index % 4))) & 0xFFFF;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
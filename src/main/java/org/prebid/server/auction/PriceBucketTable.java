@@ -0,0 +1,134 @@
+package org.prebid.server.auction;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compiled form of {@link PriceGranularity}: lookup table from cent-level CPM to price bucket string,
+ * equal to the one produced by {@link CpmRange#fromCpm(BigDecimal, PriceGranularity)}.
+ * <p>
+ * Table is built only if all range bounds and increments are multiples of one cent, so the bucket is the same for
+ * all prices strictly between two neighbour cent values. Two tables are kept: one for exact cent prices (they may
+ * be a range bound) and one for prices in between. Price granularities which can't be compiled, prices beyond the
+ * table and negative prices fall back to {@link CpmRange}.
+ * <p>
+ * Tables are built only for granularities not exceeding the max of standard ones, so compiling a custom granularity
+ * coming with a request costs no more than compiling a standard one.
+ */
+class PriceBucketTable {
+
+    private static final BigDecimal MAX_TABLE_PRICE = BigDecimal.valueOf(20);
+
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.005");
+
+    private final PriceGranularity priceGranularity;
+    private final String[] exactCentBuckets;
+    private final String[] betweenCentsBuckets;
+    private final BigDecimal rangesMax;
+    private final String rangesMaxBucket;
+
+    private PriceBucketTable(PriceGranularity priceGranularity,
+                             String[] exactCentBuckets,
+                             String[] betweenCentsBuckets) {
+
+        this.priceGranularity = priceGranularity;
+        this.exactCentBuckets = exactCentBuckets;
+        this.betweenCentsBuckets = betweenCentsBuckets;
+        this.rangesMax = priceGranularity.getRangesMax();
+        // prices above the max are not rounded down to increment, so bucket of the max itself can't be used
+        this.rangesMaxBucket = exactCentBuckets != null
+                ? CpmRange.format(rangesMax, ObjectUtils.defaultIfNull(priceGranularity.getPrecision(), 2))
+                : null;
+    }
+
+    /**
+     * Creates {@link PriceBucketTable} for the given {@link PriceGranularity}.
+     */
+    static PriceBucketTable compile(PriceGranularity priceGranularity) {
+        Objects.requireNonNull(priceGranularity);
+
+        if (!isCompilable(priceGranularity)) {
+            return new PriceBucketTable(priceGranularity, null, null);
+        }
+
+        final int size = toCents(priceGranularity.getRangesMax()) + 1;
+        final String[] exactCentBuckets = new String[size];
+        final String[] betweenCentsBuckets = new String[size];
+        final Map<String, String> buckets = new HashMap<>();
+
+        for (int cents = 0; cents < size; cents++) {
+            final BigDecimal price = BigDecimal.valueOf(cents, 2);
+            exactCentBuckets[cents] = buckets.computeIfAbsent(
+                    CpmRange.fromCpm(price, priceGranularity), bucket -> bucket);
+            betweenCentsBuckets[cents] = buckets.computeIfAbsent(
+                    CpmRange.fromCpm(price.add(HALF_CENT), priceGranularity), bucket -> bucket);
+        }
+
+        return new PriceBucketTable(priceGranularity, exactCentBuckets, betweenCentsBuckets);
+    }
+
+    private static boolean isCompilable(PriceGranularity priceGranularity) {
+        final Integer precision = priceGranularity.getPrecision();
+        if (precision != null && precision < 0) {
+            return false;
+        }
+
+        final BigDecimal rangesMax = priceGranularity.getRangesMax();
+        if (rangesMax.signum() < 0 || rangesMax.compareTo(MAX_TABLE_PRICE) > 0 || !isWholeCents(rangesMax)) {
+            return false;
+        }
+
+        for (ExtGranularityRange range : priceGranularity.getRanges()) {
+            if (range == null || range.getMax() == null || !isWholeCents(range.getMax())) {
+                return false;
+            }
+
+            final BigDecimal increment = range.getIncrement();
+            if (increment != null && (increment.signum() <= 0 || !isWholeCents(increment))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isWholeCents(BigDecimal value) {
+        return value.movePointRight(2).stripTrailingZeros().scale() <= 0;
+    }
+
+    private static int toCents(BigDecimal value) {
+        return value.movePointRight(2).intValueExact();
+    }
+
+    /**
+     * Returns number of table entries, used to bound the total size of cached tables.
+     */
+    int weight() {
+        return exactCentBuckets != null ? exactCentBuckets.length : 1;
+    }
+
+    /**
+     * Returns price bucket for the given CPM.
+     */
+    String bucketFor(BigDecimal cpm) {
+        if (exactCentBuckets == null || cpm.signum() < 0) {
+            return CpmRange.fromCpm(cpm, priceGranularity);
+        }
+
+        if (cpm.compareTo(rangesMax) > 0) {
+            return rangesMaxBucket;
+        }
+
+        final BigDecimal cents = cpm.movePointRight(2);
+        final BigDecimal wholeCents = cents.setScale(0, RoundingMode.FLOOR);
+        final int index = wholeCents.intValue();
+
+        return wholeCents.compareTo(cents) == 0 ? exactCentBuckets[index] : betweenCentsBuckets[index];
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.auction;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.response.Bid;
@@ -54,14 +55,25 @@ public class StoredResponseProcessor {
             new TypeReference<>() {
             };
 
+    private static final int PARSED_SEAT_BIDS_CACHE_SIZE = 10_000;
+
     private final ApplicationSettings applicationSettings;
     private final JacksonMapper mapper;
 
+    // keyed by identity of stored response, so entries live no longer than response is cached by settings
+    private final Map<String, List<SeatBid>> parsedSeatBids;
+
     public StoredResponseProcessor(ApplicationSettings applicationSettings,
                                    JacksonMapper mapper) {
 
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.mapper = Objects.requireNonNull(mapper);
+
+        parsedSeatBids = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(PARSED_SEAT_BIDS_CACHE_SIZE)
+                .<String, List<SeatBid>>build()
+                .asMap();
     }
 
     Future<StoredResponseResult> getStoredResponseResult(List<Imp> imps, Timeout timeout) {
@@ -240,8 +252,17 @@ public class StoredResponseProcessor {
     }
 
     private List<SeatBid> parseSeatBid(String id, String rowSeatBid) {
+        final List<SeatBid> cachedSeatBids = parsedSeatBids.get(rowSeatBid);
+        if (cachedSeatBids != null) {
+            return cachedSeatBids;
+        }
+
         try {
-            return mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
+            final List<SeatBid> seatBids = mapper.mapper().readValue(rowSeatBid, SEATBID_LIST_TYPE);
+            if (seatBids != null) {
+                parsedSeatBids.put(rowSeatBid, seatBids);
+            }
+            return seatBids;
         } catch (IOException e) {
             throw new InvalidRequestException("Can't parse Json for stored response with id " + id);
         }
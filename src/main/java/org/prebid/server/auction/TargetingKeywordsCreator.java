@@ -1,17 +1,16 @@
 package org.prebid.server.auction;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.iab.openrtb.response.Bid;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.proto.openrtb.ext.request.ExtPriceGranularity;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Used throughout Prebid to create targeting keys as keys which can be used in an ad server like DFP.
@@ -82,35 +81,53 @@ public class TargetingKeywordsCreator {
 
     private static final String DEFAULT_CPM = "0.0";
 
-    private final PriceGranularity priceGranularity;
+    private static final int PRICE_BUCKET_TABLES_MAX_WEIGHT = 100_000;
+    private static final int KEYWORD_NAMES_CACHE_SIZE = 10_000;
+
+    /**
+     * Compiled price granularities shared by all creators, since the same granularity is used by many requests.
+     * Bounded by the total number of table entries rather than by the number of granularities.
+     */
+    private static final Map<ExtPriceGranularity, PriceBucketTable> PRICE_BUCKET_TABLES = Caffeine.newBuilder()
+            .maximumWeight(PRICE_BUCKET_TABLES_MAX_WEIGHT)
+            .<ExtPriceGranularity, PriceBucketTable>weigher((priceGranularity, table) -> table.weight())
+            .build()
+            .asMap();
+
+    /**
+     * Keyword names by max keyword length, where 0 means keywords are not truncated.
+     */
+    private static final Map<Integer, KeywordNames> KEYWORD_NAMES = new ConcurrentHashMap<>();
+
+    private final PriceBucketTable priceBucketTable;
     private final boolean includeWinners;
     private final boolean includeBidderKeys;
     private final boolean alwaysIncludeDeals;
     private final boolean includeFormat;
     private final boolean isApp;
-    private final int truncateAttrChars;
+    private final KeywordNames keywordNames;
     private final String cacheHost;
     private final String cachePath;
     private final TargetingKeywordsResolver resolver;
 
-    private TargetingKeywordsCreator(PriceGranularity priceGranularity,
+    private TargetingKeywordsCreator(PriceBucketTable priceBucketTable,
                                      boolean includeWinners,
                                      boolean includeBidderKeys,
                                      boolean alwaysIncludeDeals,
                                      boolean includeFormat,
                                      boolean isApp,
-                                     int truncateAttrChars,
+                                     KeywordNames keywordNames,
                                      String cacheHost,
                                      String cachePath,
                                      TargetingKeywordsResolver resolver) {
 
-        this.priceGranularity = priceGranularity;
+        this.priceBucketTable = priceBucketTable;
         this.includeWinners = includeWinners;
         this.includeBidderKeys = includeBidderKeys;
         this.alwaysIncludeDeals = alwaysIncludeDeals;
         this.includeFormat = includeFormat;
         this.isApp = isApp;
-        this.truncateAttrChars = truncateAttrChars;
+        this.keywordNames = keywordNames;
         this.cacheHost = cacheHost;
         this.cachePath = cachePath;
         this.resolver = resolver;
@@ -118,6 +135,9 @@ public class TargetingKeywordsCreator {
 
     /**
      * Creates {@link TargetingKeywordsCreator} for the given params.
+     * <p>
+     * Price granularity is compiled to the {@link PriceBucketTable} and keyword names are truncated once per
+     * configuration, so creating keywords for each bid doesn't repeat this work.
      */
     public static TargetingKeywordsCreator create(ExtPriceGranularity extPriceGranularity,
                                                   boolean includeWinners,
@@ -131,18 +151,34 @@ public class TargetingKeywordsCreator {
                                                   TargetingKeywordsResolver resolver) {
 
         return new TargetingKeywordsCreator(
-                PriceGranularity.createFromExtPriceGranularity(extPriceGranularity),
+                priceBucketTable(extPriceGranularity),
                 includeWinners,
                 includeBidderKeys,
                 alwaysIncludeDeals,
                 includeFormat,
                 isApp,
-                truncateAttrChars,
+                keywordNames(truncateAttrChars),
                 cacheHost,
                 cachePath,
                 resolver);
     }
 
+    private static PriceBucketTable priceBucketTable(ExtPriceGranularity extPriceGranularity) {
+        final PriceBucketTable cachedTable = PRICE_BUCKET_TABLES.get(extPriceGranularity);
+        if (cachedTable != null) {
+            return cachedTable;
+        }
+
+        final PriceBucketTable table = PriceBucketTable.compile(
+                PriceGranularity.createFromExtPriceGranularity(extPriceGranularity));
+        PRICE_BUCKET_TABLES.put(extPriceGranularity, table);
+        return table;
+    }
+
+    private static KeywordNames keywordNames(int truncateAttrChars) {
+        return KEYWORD_NAMES.computeIfAbsent(Math.max(truncateAttrChars, 0), KeywordNames::new);
+    }
+
     /**
      * Creates map of keywords for the given {@link Bid}.
      */
@@ -167,13 +203,14 @@ public class TargetingKeywordsCreator {
                 bid.getDealid());
 
         if (resolver == null) {
-            return truncateKeys(keywords);
+            return keywords;
         }
 
-        final Map<String, String> augmentedKeywords = new HashMap<>(keywords);
-        augmentedKeywords.putAll(resolver.resolve(bid, bidder));
+        for (Map.Entry<String, String> keyValue : resolver.resolve(bid, bidder).entrySet()) {
+            keywords.put(keywordNames.key(keyValue.getKey()), keyValue.getValue());
+        }
 
-        return truncateKeys(augmentedKeywords);
+        return keywords;
     }
 
     /**
@@ -196,9 +233,10 @@ public class TargetingKeywordsCreator {
                 winningBid,
                 includeWinners,
                 includeBidderKeys || includeDealBid,
-                Collections.emptySet());
+                Collections.emptySet(),
+                keywordNames);
 
-        final String roundedCpm = isPriceGranularityValid() ? CpmRange.fromCpm(price, priceGranularity) : DEFAULT_CPM;
+        final String roundedCpm = isPriceGranularityValid() ? priceBucketTable.bucketFor(price) : DEFAULT_CPM;
         keywordMap.put(HB_PB_KEY, roundedCpm);
 
         keywordMap.put(HB_BIDDER_KEY, bidder);
@@ -240,7 +278,7 @@ public class TargetingKeywordsCreator {
      * Checks price granularity value is defined.
      */
     private boolean isPriceGranularityValid() {
-        return priceGranularity != null;
+        return priceBucketTable != null;
     }
 
     /**
@@ -254,20 +292,6 @@ public class TargetingKeywordsCreator {
                 : null;
     }
 
-    private Map<String, String> truncateKeys(Map<String, String> keyValues) {
-        return truncateAttrChars > 0
-                ? keyValues.entrySet().stream()
-                .collect(Collectors
-                        .toMap(keyValue -> truncateKey(keyValue.getKey()), Map.Entry::getValue, (key1, key2) -> key1))
-                : keyValues;
-    }
-
-    private String truncateKey(String key) {
-        return key.length() > truncateAttrChars
-                ? key.substring(0, truncateAttrChars)
-                : key;
-    }
-
     /**
      * Helper for targeting keywords.
      * <p>
@@ -280,38 +304,85 @@ public class TargetingKeywordsCreator {
         private final boolean includeWinners;
         private final boolean includeBidderKeys;
         private final Set<String> excludedBidderKeys;
+        private final KeywordNames keywordNames;
 
         private final Map<String, String> keywords;
 
         KeywordMap(String bidder, boolean winningBid, boolean includeWinners, boolean includeBidderKeys,
-                   Set<String> excludedBidderKeys) {
+                   Set<String> excludedBidderKeys, KeywordNames keywordNames) {
             this.bidder = bidder;
             this.winningBid = winningBid;
             this.includeWinners = includeWinners;
             this.includeBidderKeys = includeBidderKeys;
             this.excludedBidderKeys = excludedBidderKeys;
+            this.keywordNames = keywordNames;
 
             this.keywords = new HashMap<>();
         }
 
+        /**
+         * Keeps the first value when truncated keys collide, as truncating the whole map used to.
+         */
         void put(String prefix, String value) {
-            createKeys(prefix).forEach(key -> keywords.put(key, value));
-        }
-
-        private List<String> createKeys(String prefix) {
-            final List<String> keys = new ArrayList<>(2);
             if (includeBidderKeys && !excludedBidderKeys.contains(prefix)) {
-                keys.add("%s_%s".formatted(prefix, bidder));
+                keywords.putIfAbsent(keywordNames.bidderKey(prefix, bidder), value);
             }
             // For the top bid, we want to put additional keys apart from bidder-suffixed
             if (winningBid && includeWinners) {
-                keys.add(prefix);
+                keywords.putIfAbsent(keywordNames.key(prefix), value);
             }
-            return keys;
         }
 
         private Map<String, String> asMap() {
             return keywords;
         }
     }
+
+    /**
+     * Keyword names truncated to the max keyword length.
+     * <p>
+     * Keywords and bidders are the same for most of the requests, so names are built and truncated once.
+     */
+    private static class KeywordNames {
+
+        private final int truncateAttrChars;
+        private final Map<String, String> keys;
+        private final Map<String, Map<String, String>> bidderKeys;
+
+        KeywordNames(int truncateAttrChars) {
+            this.truncateAttrChars = truncateAttrChars;
+            this.keys = createCache();
+            this.bidderKeys = createCache();
+        }
+
+        private static <T> Map<String, T> createCache() {
+            return Caffeine.newBuilder()
+                    .maximumSize(KEYWORD_NAMES_CACHE_SIZE)
+                    .<String, T>build()
+                    .asMap();
+        }
+
+        String key(String key) {
+            final String cachedKey = keys.get(key);
+            return cachedKey != null ? cachedKey : keys.computeIfAbsent(key, this::truncate);
+        }
+
+        String bidderKey(String prefix, String bidder) {
+            Map<String, String> keysForBidder = bidderKeys.get(bidder);
+            if (keysForBidder == null) {
+                keysForBidder = bidderKeys.computeIfAbsent(bidder, ignored -> new ConcurrentHashMap<>());
+            }
+
+            final String cachedKey = keysForBidder.get(prefix);
+            return cachedKey != null
+                    ? cachedKey
+                    : keysForBidder.computeIfAbsent(prefix, ignored -> truncate("%s_%s".formatted(prefix, bidder)));
+        }
+
+        private String truncate(String key) {
+            return truncateAttrChars > 0 && key.length() > truncateAttrChars
+                    ? key.substring(0, truncateAttrChars)
+                    : key;
+        }
+    }
 }
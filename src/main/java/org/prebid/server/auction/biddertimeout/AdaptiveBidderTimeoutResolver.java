@@ -0,0 +1,225 @@
+package org.prebid.server.auction.biddertimeout;
+
+import org.prebid.server.execution.Timeout;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Assigns each bidder a time budget based on its recently observed response times.
+ * <p>
+ * Response times are tracked per bidder in histograms covering the current and the previous time window.
+ * Bidders bringing at least average bid value per response get their p99 response time as a budget,
+ * other bidders get their p95, both increased by configured headroom. Timed out request is recorded as a response
+ * taking the whole budget it was given, since its real response time is only known to be not less than that.
+ * When budget becomes too tight for the bidder, these samples push the quantile up to the budget, so the next
+ * budget grows by headroom, step by step, instead of jumping to the whole auction timeout and falling back once
+ * timeouts leave the window. Bidders with not enough samples get the whole auction timeout.
+ */
+public class AdaptiveBidderTimeoutResolver implements BidderTimeoutResolver {
+
+    private static final double VALUABLE_BIDDER_QUANTILE = 0.99;
+    private static final double REGULAR_BIDDER_QUANTILE = 0.95;
+
+    private static final int BUCKET_WIDTH_MS = 10;
+    private static final int BUCKETS_COUNT = 500;
+
+    private static final long STATS_REFRESH_INTERVAL_MS = 1000L;
+
+    private final long windowMs;
+    private final long minSamples;
+    private final long minTimeout;
+    private final long headroom;
+    private final Clock clock;
+
+    private final Map<String, BidderStats> bidderToStats = new ConcurrentHashMap<>();
+
+    private volatile long averageValueComputedAt;
+    private volatile double averageValue;
+
+    public AdaptiveBidderTimeoutResolver(long windowMs, long minSamples, long minTimeout, long headroom, Clock clock) {
+        if (windowMs <= 0 || minSamples <= 0 || minTimeout <= 0 || headroom < 0) {
+            throw new IllegalArgumentException(
+                    "Window, min samples and min timeout should be positive, headroom should be non-negative");
+        }
+
+        this.windowMs = windowMs;
+        this.minSamples = minSamples;
+        this.minTimeout = minTimeout;
+        this.headroom = headroom;
+        this.clock = Objects.requireNonNull(clock);
+
+        averageValueComputedAt = clock.millis() - STATS_REFRESH_INTERVAL_MS;
+    }
+
+    @Override
+    public Timeout resolve(String bidder, Timeout auctionTimeout) {
+        final BidderStats stats = bidderToStats.get(bidder);
+        if (stats == null) {
+            return auctionTimeout;
+        }
+
+        final long now = clock.millis();
+        final boolean valuable = stats.averageValue(now) >= averageValue(now);
+        final long responseTime = stats.responseTimeQuantile(now, valuable);
+
+        return responseTime >= 0
+                ? auctionTimeout.atMost(Math.max(responseTime + headroom, minTimeout))
+                : auctionTimeout;
+    }
+
+    /**
+     * Returns average bid value across all bidders. It is recomputed at most once per refresh interval,
+     * so resolving budgets doesn't iterate over all bidders for each of them.
+     */
+    private double averageValue(long now) {
+        if (now - averageValueComputedAt >= STATS_REFRESH_INTERVAL_MS) {
+            averageValue = computeAverageValue(now);
+            averageValueComputedAt = now;
+        }
+
+        return averageValue;
+    }
+
+    private double computeAverageValue(long now) {
+        double valueSum = 0;
+        int biddersCount = 0;
+        for (BidderStats stats : bidderToStats.values()) {
+            valueSum += stats.averageValue(now);
+            biddersCount++;
+        }
+
+        return biddersCount > 0 ? valueSum / biddersCount : 0;
+    }
+
+    /**
+     * Records response time of the given bidder. Response time of timed out request is the budget it was cut at.
+     */
+    @Override
+    public void updateResponseTime(String bidder, long responseTime) {
+        final long now = clock.millis();
+        stats(bidder, now).window(now).addResponseTime(responseTime);
+    }
+
+    @Override
+    public void updateBidValue(String bidder, BigDecimal value) {
+        final long now = clock.millis();
+        stats(bidder, now).window(now).addValue(value != null ? value.doubleValue() : 0);
+    }
+
+    private BidderStats stats(String bidder, long now) {
+        return bidderToStats.computeIfAbsent(bidder, ignored -> new BidderStats(now));
+    }
+
+    private static long quantile(long[] counts, long total, double quantile) {
+        final long rank = (long) Math.ceil(quantile * total);
+
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulativeCount += counts[i];
+            if (cumulativeCount >= rank) {
+                return (long) (i + 1) * BUCKET_WIDTH_MS;
+            }
+        }
+
+        return (long) counts.length * BUCKET_WIDTH_MS;
+    }
+
+    private class BidderStats {
+
+        private volatile Window current = new Window();
+        private volatile Window previous = new Window();
+        private volatile long windowEnd;
+
+        private volatile long quantilesComputedAt;
+        private volatile long regularQuantile = -1;
+        private volatile long valuableQuantile = -1;
+
+        BidderStats(long now) {
+            windowEnd = now + windowMs;
+            quantilesComputedAt = now - STATS_REFRESH_INTERVAL_MS;
+        }
+
+        Window window(long now) {
+            if (now >= windowEnd) {
+                rotate(now);
+            }
+            return current;
+        }
+
+        private synchronized void rotate(long now) {
+            if (now < windowEnd) {
+                return;
+            }
+
+            previous = now - windowEnd < windowMs ? current : new Window();
+            current = new Window();
+            windowEnd = now + windowMs;
+        }
+
+        double averageValue(long now) {
+            final Window currentWindow = window(now);
+            final Window previousWindow = previous;
+
+            final long count = currentWindow.valueCount.sum() + previousWindow.valueCount.sum();
+            return count > 0
+                    ? (currentWindow.valueSum.sum() + previousWindow.valueSum.sum()) / count
+                    : 0;
+        }
+
+        /**
+         * Returns p99 or p95 response time, or -1 if there are not enough samples.
+         */
+        long responseTimeQuantile(long now, boolean valuable) {
+            if (now - quantilesComputedAt >= STATS_REFRESH_INTERVAL_MS) {
+                computeQuantiles(now);
+            }
+
+            return valuable ? valuableQuantile : regularQuantile;
+        }
+
+        private void computeQuantiles(long now) {
+            final Window currentWindow = window(now);
+            final Window previousWindow = previous;
+
+            final long[] counts = new long[BUCKETS_COUNT];
+            long total = 0;
+            for (int i = 0; i < BUCKETS_COUNT; i++) {
+                counts[i] = currentWindow.buckets.get(i) + previousWindow.buckets.get(i);
+                total += counts[i];
+            }
+
+            if (total < minSamples) {
+                regularQuantile = -1;
+                valuableQuantile = -1;
+            } else {
+                regularQuantile = quantile(counts, total, REGULAR_BIDDER_QUANTILE);
+                valuableQuantile = quantile(counts, total, VALUABLE_BIDDER_QUANTILE);
+            }
+            quantilesComputedAt = now;
+        }
+    }
+
+    private static class Window {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+        private final DoubleAdder valueSum = new DoubleAdder();
+        private final LongAdder valueCount = new LongAdder();
+
+        void addResponseTime(long responseTime) {
+            final long bucket = Math.max(responseTime, 0) / BUCKET_WIDTH_MS;
+            buckets.incrementAndGet((int) Math.min(bucket, BUCKETS_COUNT - 1));
+        }
+
+        void addValue(double value) {
+            valueSum.add(value);
+            valueCount.increment();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.prebid.server.auction.biddertimeout;
+
+import org.prebid.server.execution.Timeout;
+
+import java.math.BigDecimal;
+
+/**
+ * Resolves time budget of a single bidder within the auction.
+ */
+public interface BidderTimeoutResolver {
+
+    /**
+     * Returns {@link Timeout} the given bidder should be requested with. It never expires later than the auction
+     * {@link Timeout}.
+     */
+    Timeout resolve(String bidder, Timeout auctionTimeout);
+
+    /**
+     * Records response time of the given bidder. Response time of timed out request is the time it was cut at.
+     */
+    void updateResponseTime(String bidder, long responseTime);
+
+    /**
+     * Records total price of bids returned by the given bidder in a single response, in ad server currency.
+     */
+    void updateBidValue(String bidder, BigDecimal value);
+}
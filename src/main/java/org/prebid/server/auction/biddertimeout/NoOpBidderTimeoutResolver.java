@@ -0,0 +1,21 @@
+package org.prebid.server.auction.biddertimeout;
+
+import org.prebid.server.execution.Timeout;
+
+import java.math.BigDecimal;
+
+public class NoOpBidderTimeoutResolver implements BidderTimeoutResolver {
+
+    @Override
+    public Timeout resolve(String bidder, Timeout auctionTimeout) {
+        return auctionTimeout;
+    }
+
+    @Override
+    public void updateResponseTime(String bidder, long responseTime) {
+    }
+
+    @Override
+    public void updateBidValue(String bidder, BigDecimal value) {
+    }
+}
@@ -0,0 +1,26 @@
+package org.prebid.server.auction.completion;
+
+import io.vertx.core.Future;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.execution.Timeout;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Decides when the auction stops waiting for bidder responses.
+ */
+public interface AuctionCompletionPolicy {
+
+    /**
+     * Returns future of participations with bidder responses, in the same order as given participations.
+     * <p>
+     * Each of the given futures corresponds to the participation with the same index. If policy completes
+     * before some bidders responded, their participations get empty response with timeout error, and their
+     * actual participations are passed to the late participation handler once they are available.
+     */
+    Future<List<AuctionParticipation>> complete(List<AuctionParticipation> auctionParticipations,
+                                                List<Future<AuctionParticipation>> respondedParticipations,
+                                                Timeout timeout,
+                                                Consumer<AuctionParticipation> lateParticipationHandler);
+}
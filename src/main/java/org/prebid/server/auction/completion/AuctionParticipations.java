@@ -0,0 +1,39 @@
+package org.prebid.server.auction.completion;
+
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+
+import java.util.Collections;
+
+/**
+ * Creates participations with empty bidder response for bidders which did not respond.
+ */
+class AuctionParticipations {
+
+    private static final String FAILED_PARTICIPATION_ERROR = "Bidder participation failed: ";
+
+    private AuctionParticipations() {
+    }
+
+    static AuctionParticipation failed(AuctionParticipation auctionParticipation, Throwable cause, int responseTime) {
+        return withError(
+                auctionParticipation,
+                BidderError.generic(FAILED_PARTICIPATION_ERROR + cause.getMessage()),
+                responseTime);
+    }
+
+    static AuctionParticipation withError(AuctionParticipation auctionParticipation,
+                                          BidderError error,
+                                          int responseTime) {
+
+        final BidderSeatBid seatBid = BidderSeatBid.of(
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.singletonList(error),
+                Collections.emptyList());
+
+        return auctionParticipation.with(BidderResponse.of(auctionParticipation.getBidder(), seatBid, responseTime));
+    }
+}
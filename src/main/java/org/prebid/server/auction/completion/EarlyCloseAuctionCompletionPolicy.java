@@ -0,0 +1,184 @@
+package org.prebid.server.auction.completion;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.execution.Timeout;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Completes the auction as soon as all bidders responded, or once configured fraction of bidders responded
+ * and remaining auction time dropped below configured threshold.
+ * <p>
+ * Bidders which did not respond in time get empty response with timeout error. Their actual responses are
+ * passed to the late participation handler, so they still can be accounted. Failed participation does not fail
+ * the auction: the bidder gets empty response with an error, and the auction keeps waiting for other bidders.
+ */
+public class EarlyCloseAuctionCompletionPolicy implements AuctionCompletionPolicy {
+
+    private static final String EARLY_CLOSE_ERROR = "Auction was closed before bidder responded";
+
+    private final double minRespondedFraction;
+    private final long remainingTimeThreshold;
+    private final Vertx vertx;
+    private final Clock clock;
+
+    public EarlyCloseAuctionCompletionPolicy(double minRespondedFraction,
+                                             long remainingTimeThreshold,
+                                             Vertx vertx,
+                                             Clock clock) {
+
+        if (minRespondedFraction <= 0 || minRespondedFraction > 1) {
+            throw new IllegalArgumentException("Min responded fraction should be in range (0, 1]");
+        }
+        if (remainingTimeThreshold < 0) {
+            throw new IllegalArgumentException("Remaining time threshold should be non-negative");
+        }
+
+        this.minRespondedFraction = minRespondedFraction;
+        this.remainingTimeThreshold = remainingTimeThreshold;
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Future<List<AuctionParticipation>> complete(List<AuctionParticipation> auctionParticipations,
+                                                       List<Future<AuctionParticipation>> respondedParticipations,
+                                                       Timeout timeout,
+                                                       Consumer<AuctionParticipation> lateParticipationHandler) {
+
+        if (respondedParticipations.isEmpty()) {
+            return Future.succeededFuture(Collections.emptyList());
+        }
+
+        final ParticipationsCollector collector =
+                new ParticipationsCollector(auctionParticipations, lateParticipationHandler);
+
+        final long thresholdDelay = timeout.remaining() - remainingTimeThreshold;
+        final Long timerId = thresholdDelay > 0
+                ? vertx.setTimer(thresholdDelay, ignored -> collector.onThresholdReached())
+                : null;
+        if (timerId == null) {
+            collector.onThresholdReached();
+        }
+
+        for (int i = 0; i < respondedParticipations.size(); i++) {
+            final int index = i;
+            respondedParticipations.get(i).onComplete(result -> collector.onResponse(index, result));
+        }
+
+        final Future<List<AuctionParticipation>> result = collector.future();
+        return timerId != null
+                ? result.onComplete(ignored -> vertx.cancelTimer(timerId))
+                : result;
+    }
+
+    private class ParticipationsCollector {
+
+        private final List<AuctionParticipation> auctionParticipations;
+        private final Consumer<AuctionParticipation> lateParticipationHandler;
+        private final AuctionParticipation[] respondedParticipations;
+        private final int minRespondedCount;
+        private final long startTime;
+        private final Promise<List<AuctionParticipation>> promise = Promise.promise();
+
+        private int respondedCount;
+        private int settledCount;
+        private boolean thresholdReached;
+        private boolean completed;
+
+        ParticipationsCollector(List<AuctionParticipation> auctionParticipations,
+                                Consumer<AuctionParticipation> lateParticipationHandler) {
+
+            this.auctionParticipations = auctionParticipations;
+            this.lateParticipationHandler = lateParticipationHandler;
+            this.respondedParticipations = new AuctionParticipation[auctionParticipations.size()];
+            this.minRespondedCount = (int) Math.ceil(minRespondedFraction * auctionParticipations.size());
+            this.startTime = clock.millis();
+        }
+
+        Future<List<AuctionParticipation>> future() {
+            return promise.future();
+        }
+
+        void onThresholdReached() {
+            final List<AuctionParticipation> result;
+            synchronized (this) {
+                thresholdReached = true;
+                result = respondedCount >= minRespondedCount ? completeWithResult() : null;
+            }
+
+            if (result != null) {
+                promise.complete(result);
+            }
+        }
+
+        void onResponse(int index, AsyncResult<AuctionParticipation> response) {
+            final boolean late;
+            final List<AuctionParticipation> result;
+            synchronized (this) {
+                late = completed;
+                if (late) {
+                    result = null;
+                } else {
+                    if (response.succeeded()) {
+                        respondedParticipations[index] = response.result();
+                        respondedCount++;
+                    } else {
+                        respondedParticipations[index] = AuctionParticipations.failed(
+                                auctionParticipations.get(index), response.cause(), responseTime());
+                    }
+                    settledCount++;
+
+                    result = settledCount == respondedParticipations.length
+                            || (thresholdReached && respondedCount >= minRespondedCount)
+                            ? completeWithResult()
+                            : null;
+                }
+            }
+
+            if (late) {
+                if (response.succeeded()) {
+                    lateParticipationHandler.accept(response.result());
+                }
+            } else if (result != null) {
+                promise.complete(result);
+            }
+        }
+
+        private List<AuctionParticipation> completeWithResult() {
+            completed = true;
+
+            final int responseTime = responseTime();
+            final List<AuctionParticipation> result = new ArrayList<>(respondedParticipations.length);
+            for (int i = 0; i < respondedParticipations.length; i++) {
+                final AuctionParticipation respondedParticipation = respondedParticipations[i];
+                result.add(respondedParticipation != null
+                        ? respondedParticipation
+                        : notRespondedParticipation(auctionParticipations.get(i), responseTime));
+            }
+
+            return result;
+        }
+
+        private int responseTime() {
+            return Math.toIntExact(clock.millis() - startTime);
+        }
+
+        private static AuctionParticipation notRespondedParticipation(AuctionParticipation auctionParticipation,
+                                                                      int responseTime) {
+
+            return AuctionParticipations.withError(
+                    auctionParticipation, BidderError.timeout(EARLY_CLOSE_ERROR), responseTime);
+        }
+    }
+}
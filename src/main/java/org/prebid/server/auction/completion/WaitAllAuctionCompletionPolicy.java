@@ -0,0 +1,46 @@
+package org.prebid.server.auction.completion;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.execution.Timeout;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Waits for all bidders to respond or time out.
+ * <p>
+ * Failed participation does not fail the auction: the bidder gets empty response with an error.
+ */
+public class WaitAllAuctionCompletionPolicy implements AuctionCompletionPolicy {
+
+    private final Clock clock;
+
+    public WaitAllAuctionCompletionPolicy(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public Future<List<AuctionParticipation>> complete(List<AuctionParticipation> auctionParticipations,
+                                                       List<Future<AuctionParticipation>> respondedParticipations,
+                                                       Timeout timeout,
+                                                       Consumer<AuctionParticipation> lateParticipationHandler) {
+
+        final long startTime = clock.millis();
+
+        final List<Future> settledParticipations = new ArrayList<>(respondedParticipations.size());
+        for (int i = 0; i < respondedParticipations.size(); i++) {
+            final AuctionParticipation auctionParticipation = auctionParticipations.get(i);
+            settledParticipations.add(respondedParticipations.get(i)
+                    .recover(exception -> Future.succeededFuture(AuctionParticipations.failed(
+                            auctionParticipation, exception, Math.toIntExact(clock.millis() - startTime)))));
+        }
+
+        return CompositeFuture.all(settledParticipations)
+                .map(CompositeFuture::<AuctionParticipation>list);
+    }
+}
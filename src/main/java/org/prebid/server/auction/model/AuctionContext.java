@@ -3,7 +3,11 @@ package org.prebid.server.auction.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.response.BidResponse;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import org.prebid.server.cache.model.DebugHttpCall;
 import org.prebid.server.cookie.UidsCookie;
@@ -19,6 +23,7 @@ import org.prebid.server.settings.model.Account;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Builder(toBuilder = true)
 @Value
@@ -68,6 +73,32 @@ public class AuctionContext {
 
     CachedDebugLog cachedDebugLog;
 
+    /**
+     * Shared between all copies of this context made by {@link #toBuilder()}, so attributes
+     * derived from the same {@link BidRequest} are computed once per auction.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Builder.Default
+    AtomicReference<RequestAttributes> requestAttributes = new AtomicReference<>();
+
+    /**
+     * Returns memoized attributes derived from the current {@link BidRequest}.
+     */
+    @JsonIgnore
+    public RequestAttributes getRequestAttributes() {
+        final RequestAttributes cachedAttributes = requestAttributes.get();
+        if (cachedAttributes != null && cachedAttributes.isDerivedFrom(bidRequest)) {
+            return cachedAttributes;
+        }
+
+        final RequestAttributes attributes = new RequestAttributes(bidRequest);
+        requestAttributes.set(attributes);
+        return attributes;
+    }
+
     public AuctionContext with(Account account) {
         return this.toBuilder().account(account).build();
     }
@@ -0,0 +1,155 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Video;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.floors.DeviceTypeClassifier;
+import org.prebid.server.floors.model.DeviceType;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+import org.prebid.server.util.ObjectUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Attributes derived from a single {@link BidRequest} which are needed by several components
+ * (price floors, deals targeting, etc.) for every imp and bidder.
+ * <p>
+ * Each attribute is computed on the first access and reused afterwards. Computations are side effect free,
+ * so concurrent first accesses may compute the same attribute more than once, but always get the same result.
+ */
+public class RequestAttributes {
+
+    private static final Object NULL = new Object();
+
+    private static final Object DEVICE_TYPE = new Object();
+    private static final Object COUNTRY = new Object();
+    private static final Object SITE_DOMAIN = new Object();
+    private static final Object PUB_DOMAIN = new Object();
+
+    private final BidRequest bidRequest;
+
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+    private final Map<Imp, List<ImpMediaType>> impMediaTypes = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    public RequestAttributes(BidRequest bidRequest) {
+        this.bidRequest = Objects.requireNonNull(bidRequest);
+    }
+
+    /**
+     * Returns true if attributes were derived from the given instance of {@link BidRequest}.
+     */
+    public boolean isDerivedFrom(BidRequest bidRequest) {
+        return this.bidRequest == bidRequest;
+    }
+
+    /**
+     * Returns device type detected by device user agent with the given classifier
+     * or null if user agent is absent.
+     */
+    public DeviceType getDeviceType(DeviceTypeClassifier deviceTypeClassifier) {
+        return get(DEVICE_TYPE, request -> deviceTypeClassifier.classify(
+                ObjectUtil.getIfNotNull(request.getDevice(), Device::getUa)));
+    }
+
+    /**
+     * Returns country from device geo as it is present in request.
+     */
+    public String getCountry() {
+        return get(COUNTRY, request -> {
+            final Geo geo = ObjectUtil.getIfNotNull(request.getDevice(), Device::getGeo);
+            return ObjectUtil.getIfNotNull(geo, Geo::getCountry);
+        });
+    }
+
+    /**
+     * Returns site domain or app domain if site domain is empty.
+     */
+    public String getSiteDomain() {
+        return get(SITE_DOMAIN, request -> {
+            final String siteDomain = ObjectUtil.getIfNotNull(request.getSite(), Site::getDomain);
+            return StringUtils.isNotEmpty(siteDomain)
+                    ? siteDomain
+                    : ObjectUtil.getIfNotNull(request.getApp(), App::getDomain);
+        });
+    }
+
+    /**
+     * Returns site publisher domain or app publisher domain if site publisher domain is empty.
+     */
+    public String getPubDomain() {
+        return get(PUB_DOMAIN, request -> {
+            final Publisher sitePublisher = ObjectUtil.getIfNotNull(request.getSite(), Site::getPublisher);
+            final String sitePublisherDomain = ObjectUtil.getIfNotNull(sitePublisher, Publisher::getDomain);
+            if (StringUtils.isNotEmpty(sitePublisherDomain)) {
+                return sitePublisherDomain;
+            }
+
+            final Publisher appPublisher = ObjectUtil.getIfNotNull(request.getApp(), App::getPublisher);
+            return ObjectUtil.getIfNotNull(appPublisher, Publisher::getDomain);
+        });
+    }
+
+    /**
+     * Returns media types of the given imp, distinguishing instream and outstream video by video placement.
+     */
+    public List<ImpMediaType> getImpMediaTypes(Imp imp) {
+        return impMediaTypes.computeIfAbsent(imp, RequestAttributes::mediaTypesFromImp);
+    }
+
+    private static List<ImpMediaType> mediaTypesFromImp(Imp imp) {
+        final List<ImpMediaType> mediaTypes = new ArrayList<>();
+        if (imp.getBanner() != null) {
+            mediaTypes.add(ImpMediaType.banner);
+        }
+
+        final Video video = imp.getVideo();
+        if (video != null) {
+            final Integer placement = video.getPlacement();
+            if (placement == null || Objects.equals(placement, 1)) {
+                mediaTypes.add(ImpMediaType.video);
+            } else {
+                mediaTypes.add(ImpMediaType.video_outstream);
+            }
+        }
+
+        if (imp.getXNative() != null) {
+            mediaTypes.add(ImpMediaType.xNative);
+        }
+
+        if (imp.getAudio() != null) {
+            mediaTypes.add(ImpMediaType.audio);
+        }
+
+        return Collections.unmodifiableList(mediaTypes);
+    }
+
+    /**
+     * Returns attribute identified by the given key, computing it with the given function on the first access.
+     * <p>
+     * Key is compared by equality, so components should define their keys as constants.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Function<BidRequest, T> attributeResolver) {
+        Object value = values.get(key);
+        if (value == null) {
+            final T resolvedValue = attributeResolver.apply(bidRequest);
+            final Object previousValue = values.putIfAbsent(key, resolvedValue != null ? resolvedValue : NULL);
+            value = previousValue != null ? previousValue : resolvedValue;
+        }
+
+        return value == NULL ? null : (T) value;
+    }
+}
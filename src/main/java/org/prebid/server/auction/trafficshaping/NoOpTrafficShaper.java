@@ -0,0 +1,19 @@
+package org.prebid.server.auction.trafficshaping;
+
+import com.iab.openrtb.request.Imp;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+
+import java.util.List;
+
+public class NoOpTrafficShaper implements TrafficShaper {
+
+    @Override
+    public List<String> shape(AuctionContext auctionContext, List<String> bidders, List<Imp> imps) {
+        return bidders;
+    }
+
+    @Override
+    public void update(AuctionContext auctionContext, List<AuctionParticipation> auctionParticipations) {
+    }
+}
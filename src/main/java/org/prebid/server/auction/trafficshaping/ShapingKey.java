@@ -0,0 +1,16 @@
+package org.prebid.server.auction.trafficshaping;
+
+import lombok.Value;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+@Value(staticConstructor = "of")
+class ShapingKey {
+
+    String bidder;
+
+    String account;
+
+    ImpMediaType mediaType;
+
+    String country;
+}
@@ -0,0 +1,46 @@
+package org.prebid.server.auction.trafficshaping;
+
+/**
+ * Online bid rate, win rate and response time of a bidder within a single {@link ShapingKey}.
+ * <p>
+ * Rates are exponentially weighted moving averages, where weight of the newest sample is never less than
+ * 1 / window samples, so statistics follow bidder behaviour changes.
+ */
+class ShapingStatistics {
+
+    private final long windowSamples;
+
+    private long samples;
+    private double bidRate;
+    private double winRate;
+    private double responseTime;
+
+    ShapingStatistics(long windowSamples) {
+        this.windowSamples = windowSamples;
+    }
+
+    synchronized void update(boolean hasBids, boolean hasWins, int responseTime) {
+        samples++;
+        final double weight = 1.0 / Math.min(samples, windowSamples);
+
+        bidRate += weight * ((hasBids ? 1 : 0) - bidRate);
+        winRate += weight * ((hasWins ? 1 : 0) - winRate);
+        this.responseTime += weight * (responseTime - this.responseTime);
+    }
+
+    synchronized long getSamples() {
+        return samples;
+    }
+
+    synchronized double getBidRate() {
+        return bidRate;
+    }
+
+    synchronized double getWinRate() {
+        return winRate;
+    }
+
+    synchronized double getResponseTime() {
+        return responseTime;
+    }
+}
@@ -0,0 +1,215 @@
+package org.prebid.server.auction.trafficshaping;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.response.Bid;
+import org.apache.commons.collections4.CollectionUtils;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.RequestAttributes;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.util.ObjectUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Skips bidders which rarely bid and win for the given account, media type and device country.
+ * <p>
+ * Statistics are kept per bidder, account, media type and country. Bidder is considered low-yield when there are
+ * enough samples for every media type of its imps and both bid rate and win rate are below configured thresholds
+ * for all of them. Low-yield bidder is still requested with configured exploration rate, so its statistics
+ * keep being updated. Bidders of imps with deals are never skipped.
+ */
+public class StatisticalTrafficShaper implements TrafficShaper {
+
+    private static final String PREBID_EXT = "prebid";
+    private static final String BIDDER_EXT = "bidder";
+
+    private final double minBidRate;
+    private final double minWinRate;
+    private final double explorationRate;
+    private final long minSamples;
+    private final long windowSamples;
+    private final Metrics metrics;
+
+    private final Map<ShapingKey, ShapingStatistics> keyToStatistics;
+
+    public StatisticalTrafficShaper(double minBidRate,
+                                    double minWinRate,
+                                    double explorationRate,
+                                    long minSamples,
+                                    long windowSamples,
+                                    int maxEntries,
+                                    Metrics metrics) {
+
+        if (explorationRate < 0 || explorationRate > 1) {
+            throw new IllegalArgumentException("Exploration rate should be in range [0, 1]");
+        }
+        if (minSamples <= 0 || windowSamples <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("Min samples, window samples and max entries should be positive");
+        }
+
+        this.minBidRate = minBidRate;
+        this.minWinRate = minWinRate;
+        this.explorationRate = explorationRate;
+        this.minSamples = minSamples;
+        this.windowSamples = windowSamples;
+        this.metrics = Objects.requireNonNull(metrics);
+
+        keyToStatistics = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .<ShapingKey, ShapingStatistics>build()
+                .asMap();
+    }
+
+    @Override
+    public List<String> shape(AuctionContext auctionContext, List<String> bidders, List<Imp> imps) {
+        final List<String> shapedBidders = new ArrayList<>(bidders.size());
+
+        for (String bidder : bidders) {
+            final List<Imp> bidderImps = bidderImps(bidder, imps);
+            final ShapingStatistics statistics = lowYieldStatistics(auctionContext, bidder, bidderImps);
+
+            if (statistics == null) {
+                shapedBidders.add(bidder);
+            } else if (ThreadLocalRandom.current().nextDouble() < explorationRate) {
+                metrics.updateAdapterTrafficShapingMetric(bidder, MetricName.shaping_explored);
+                shapedBidders.add(bidder);
+            } else {
+                metrics.updateAdapterTrafficShapingMetric(bidder, MetricName.shaping_skipped);
+                addDebugWarning(auctionContext, bidder, statistics);
+            }
+        }
+
+        return shapedBidders;
+    }
+
+    /**
+     * Returns statistics with the highest bid rate among bidder keys if bidder is low-yield for all of them,
+     * otherwise null.
+     */
+    private ShapingStatistics lowYieldStatistics(AuctionContext auctionContext, String bidder, List<Imp> bidderImps) {
+        if (bidderImps.isEmpty() || bidderImps.stream().anyMatch(StatisticalTrafficShaper::hasDeals)) {
+            return null;
+        }
+
+        ShapingStatistics bestStatistics = null;
+        for (ShapingKey key : keys(auctionContext, bidder, bidderImps)) {
+            final ShapingStatistics statistics = keyToStatistics.get(key);
+            if (statistics == null || !isLowYield(statistics)) {
+                return null;
+            }
+
+            if (bestStatistics == null || statistics.getBidRate() > bestStatistics.getBidRate()) {
+                bestStatistics = statistics;
+            }
+        }
+
+        return bestStatistics;
+    }
+
+    private boolean isLowYield(ShapingStatistics statistics) {
+        return statistics.getSamples() >= minSamples
+                && statistics.getBidRate() < minBidRate
+                && statistics.getWinRate() < minWinRate;
+    }
+
+    private static boolean hasDeals(Imp imp) {
+        final Pmp pmp = imp.getPmp();
+        return pmp != null && CollectionUtils.isNotEmpty(pmp.getDeals());
+    }
+
+    private static void addDebugWarning(AuctionContext auctionContext, String bidder, ShapingStatistics statistics) {
+        if (auctionContext.getDebugContext().isDebugEnabled()) {
+            auctionContext.getDebugWarnings().add(
+                    "Bidder %s was skipped by traffic shaping: bid rate %.4f, win rate %.4f, response time %d ms"
+                            .formatted(
+                                    bidder,
+                                    statistics.getBidRate(),
+                                    statistics.getWinRate(),
+                                    Math.round(statistics.getResponseTime())));
+        }
+    }
+
+    @Override
+    public void update(AuctionContext auctionContext, List<AuctionParticipation> auctionParticipations) {
+        final Set<String> winningBidders = winningBidders(auctionParticipations);
+        final List<Imp> imps = auctionContext.getBidRequest().getImp();
+
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+            if (auctionParticipation.isRequestBlocked() || bidderResponse == null) {
+                continue;
+            }
+
+            final String bidder = auctionParticipation.getBidder();
+            final boolean hasBids = CollectionUtils.isNotEmpty(bidderResponse.getSeatBid().getBids());
+            final boolean hasWins = winningBidders.contains(bidder);
+
+            for (ShapingKey key : keys(auctionContext, bidder, bidderImps(bidder, imps))) {
+                keyToStatistics.computeIfAbsent(key, ignored -> new ShapingStatistics(windowSamples))
+                        .update(hasBids, hasWins, bidderResponse.getResponseTime());
+            }
+        }
+    }
+
+    private static Set<String> winningBidders(List<AuctionParticipation> auctionParticipations) {
+        final Map<String, BigDecimal> impIdToHighestPrice = new HashMap<>();
+        final Map<String, String> impIdToWinningBidder = new HashMap<>();
+
+        for (AuctionParticipation auctionParticipation : auctionParticipations) {
+            final BidderResponse bidderResponse = auctionParticipation.getBidderResponse();
+            if (auctionParticipation.isRequestBlocked() || bidderResponse == null) {
+                continue;
+            }
+
+            for (BidderBid bidderBid : CollectionUtils.emptyIfNull(bidderResponse.getSeatBid().getBids())) {
+                final Bid bid = bidderBid.getBid();
+                final BigDecimal price = bid.getPrice();
+                final BigDecimal highestPrice = impIdToHighestPrice.get(bid.getImpid());
+
+                if (price != null && (highestPrice == null || price.compareTo(highestPrice) > 0)) {
+                    impIdToHighestPrice.put(bid.getImpid(), price);
+                    impIdToWinningBidder.put(bid.getImpid(), auctionParticipation.getBidder());
+                }
+            }
+        }
+
+        return Set.copyOf(impIdToWinningBidder.values());
+    }
+
+    private static List<Imp> bidderImps(String bidder, List<Imp> imps) {
+        return imps.stream()
+                .filter(imp -> imp.getExt() != null && imp.getExt().path(PREBID_EXT).path(BIDDER_EXT).has(bidder))
+                .toList();
+    }
+
+    private static Set<ShapingKey> keys(AuctionContext auctionContext, String bidder, List<Imp> bidderImps) {
+        final RequestAttributes requestAttributes = auctionContext.getRequestAttributes();
+        final String account = ObjectUtil.getIfNotNull(auctionContext.getAccount(), Account::getId);
+        final String country = requestAttributes.getCountry();
+
+        final Set<ShapingKey> keys = new LinkedHashSet<>();
+        for (Imp imp : bidderImps) {
+            for (ImpMediaType mediaType : requestAttributes.getImpMediaTypes(imp)) {
+                keys.add(ShapingKey.of(bidder, account, mediaType, country));
+            }
+        }
+
+        return keys;
+    }
+}
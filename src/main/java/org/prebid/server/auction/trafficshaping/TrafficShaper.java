@@ -0,0 +1,23 @@
+package org.prebid.server.auction.trafficshaping;
+
+import com.iab.openrtb.request.Imp;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+
+import java.util.List;
+
+/**
+ * Decides which bidders are worth calling in the auction.
+ */
+public interface TrafficShaper {
+
+    /**
+     * Returns bidders that should be requested in the auction, preserving the given order.
+     */
+    List<String> shape(AuctionContext auctionContext, List<String> bidders, List<Imp> imps);
+
+    /**
+     * Updates shaping statistics with results of the auction.
+     */
+    void update(AuctionContext auctionContext, List<AuctionParticipation> auctionParticipations);
+}
@@ -26,4 +26,17 @@ public class BidRequestOrtbVersionConversionManager {
                 .getConverter(AUCTION_VERSION, ortbVersion)
                 .convert(bidRequest);
     }
+
+    /**
+     * Converts per-bidder request, reusing conversion results of parts shared with other bidder requests
+     * of the same auction.
+     */
+    public BidRequest convertFromAuctionSupportedVersion(BidRequest bidRequest,
+                                                         OrtbVersion ortbVersion,
+                                                         ConvertedParts convertedParts) {
+
+        return ortbVersionConverterFactory
+                .getConverter(AUCTION_VERSION, ortbVersion)
+                .convert(bidRequest, convertedParts);
+    }
 }
@@ -0,0 +1,37 @@
+package org.prebid.server.auction.versionconverter;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Conversion results of request parts shared by identity between per-bidder requests of a single auction.
+ * <p>
+ * Instance is created per auction, so parts are not expected to change while it is in use.
+ */
+public class ConvertedParts {
+
+    private static final Object UNMODIFIED = new Object();
+
+    private final Map<Object, Object> partToConverted = new IdentityHashMap<>();
+
+    /**
+     * Returns part converted by the given modifier or null if modifier left it as is, applying modifier
+     * only once per part instance.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T converted(T part, UnaryOperator<T> modifier) {
+        if (part == null) {
+            return null;
+        }
+
+        Object converted = partToConverted.get(part);
+        if (converted == null) {
+            final T modifiedPart = modifier.apply(part);
+            converted = modifiedPart != null ? modifiedPart : UNMODIFIED;
+            partToConverted.put(part, converted);
+        }
+
+        return converted == UNMODIFIED ? null : (T) converted;
+    }
+}
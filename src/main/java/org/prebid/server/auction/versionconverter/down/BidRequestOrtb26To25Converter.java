@@ -20,17 +20,27 @@ import com.iab.openrtb.request.Video;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverter;
+import org.prebid.server.auction.versionconverter.ConvertedParts;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtSource;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.IntStream;
-
+import java.util.function.UnaryOperator;
+
+/**
+ * Converts OpenRTB 2.6 request to 2.5 by removing 2.6-only fields or moving them into extensions.
+ * <p>
+ * Per-bidder requests of the same auction usually share imps, site, app, device, user, source and regs
+ * by identity, so when {@link ConvertedParts} of the auction are given, conversion results of these parts are
+ * reused for every bidder. Request without 2.6-only fields is returned as is without rebuilding.
+ */
 public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConverter {
 
     private static final String PREBID_FIELD = "prebid";
@@ -47,26 +57,31 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
 
     @Override
     public BidRequest convert(BidRequest bidRequest) {
+        return convert(bidRequest, null);
+    }
+
+    @Override
+    public BidRequest convert(BidRequest bidRequest, ConvertedParts convertedParts) {
         final List<Imp> imps = bidRequest.getImp();
-        final List<Imp> modifiedImps = modifyImps(imps);
+        final List<Imp> modifiedImps = modifyImps(imps, convertedParts);
 
         final Site site = bidRequest.getSite();
-        final Site modifiedSite = modifySite(site);
+        final Site modifiedSite = modify(site, BidRequestOrtb26To25Converter::modifySite, convertedParts);
 
         final App app = bidRequest.getApp();
-        final App modifiedApp = modifyApp(app);
+        final App modifiedApp = modify(app, BidRequestOrtb26To25Converter::modifyApp, convertedParts);
 
         final Device device = bidRequest.getDevice();
-        final Device modifiedDevice = modifyDevice(device);
+        final Device modifiedDevice = modify(device, BidRequestOrtb26To25Converter::modifyDevice, convertedParts);
 
         final User user = bidRequest.getUser();
-        final User modifiedUser = modifyUser(user);
+        final User modifiedUser = modify(user, BidRequestOrtb26To25Converter::modifyUser, convertedParts);
 
         final Source source = bidRequest.getSource();
-        final Source modifiedSource = modifySource(source);
+        final Source modifiedSource = modify(source, BidRequestOrtb26To25Converter::modifySource, convertedParts);
 
         final Regs regs = bidRequest.getRegs();
-        final Regs modifiedRegs = modifyRegs(regs);
+        final Regs modifiedRegs = modify(regs, BidRequestOrtb26To25Converter::modifyRegs, convertedParts);
 
         return ObjectUtils.anyNotNull(
                 modifiedImps,
@@ -94,18 +109,31 @@ public class BidRequestOrtb26To25Converter implements BidRequestOrtbVersionConve
                 : bidRequest;
     }
 
-    private List<Imp> modifyImps(List<Imp> imps) {
-        final List<Imp> modifiedImps = imps.stream()
-                .map(this::modifyImp)
-                .toList();
+    /**
+     * Returns converted part or null if part has no 2.6-only fields, reusing conversion result of the same
+     * part instance if {@link ConvertedParts} are given.
+     */
+    private static <T> T modify(T part, UnaryOperator<T> modifier, ConvertedParts convertedParts) {
+        if (convertedParts != null) {
+            return convertedParts.converted(part, modifier);
+        }
 
-        if (modifiedImps.stream().allMatch(Objects::isNull)) {
-            return null;
+        return part != null ? modifier.apply(part) : null;
+    }
+
+    private List<Imp> modifyImps(List<Imp> imps, ConvertedParts convertedParts) {
+        List<Imp> modifiedImps = null;
+        for (int i = 0; i < imps.size(); i++) {
+            final Imp modifiedImp = modify(imps.get(i), this::modifyImp, convertedParts);
+            if (modifiedImp != null) {
+                if (modifiedImps == null) {
+                    modifiedImps = new ArrayList<>(imps);
+                }
+                modifiedImps.set(i, modifiedImp);
+            }
         }
 
-        return IntStream.range(0, imps.size())
-                .mapToObj(i -> ObjectUtils.defaultIfNull(modifiedImps.get(i), imps.get(i)))
-                .toList();
+        return modifiedImps != null ? Collections.unmodifiableList(modifiedImps) : null;
     }
 
     private Imp modifyImp(Imp imp) {
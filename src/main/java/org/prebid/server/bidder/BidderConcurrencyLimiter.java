@@ -0,0 +1,295 @@
+package org.prebid.server.bidder;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds number of concurrent HTTP requests to each bidder endpoint.
+ * <p>
+ * Endpoint is identified by bidder name together with scheme, host and port of the request URI. Requests above the
+ * limit wait in a bounded queue until one of in-flight requests completes or their timeout expires, requests which
+ * don't fit the queue are rejected at once. In adaptive mode the limit is adjusted with AIMD: it grows by one per
+ * limit's worth of fast successful responses and is cut multiplicatively on failures and responses slower than the
+ * latency threshold, staying between configured minimum and maximum. Maximum can be overridden per bidder.
+ * <p>
+ * Request which waits in the queue longer than its timeout is failed with {@link PreBidException}, not with timeout
+ * error, since it has never been sent to the bidder.
+ * <p>
+ * Since bidder URI may be built from request data, number of tracked endpoints per bidder is bounded: limits of
+ * the least recently used endpoints are dropped and created anew on their next request.
+ */
+public class BidderConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int MAX_ENDPOINTS_PER_BIDDER = 100;
+
+    private final Vertx vertx;
+    private final int maxInFlightRequests;
+    private final Map<String, Integer> bidderMaxInFlightRequests;
+    private final int minInFlightRequests;
+    private final int maxQueuedRequests;
+    private final boolean adaptive;
+    private final long latencyThresholdMs;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<String, Map<String, EndpointLimit>> bidderEndpointLimits = new ConcurrentHashMap<>();
+
+    public BidderConcurrencyLimiter(Vertx vertx,
+                                    int maxInFlightRequests,
+                                    Map<String, Integer> bidderMaxInFlightRequests,
+                                    int minInFlightRequests,
+                                    int maxQueuedRequests,
+                                    boolean adaptive,
+                                    long latencyThresholdMs,
+                                    Metrics metrics,
+                                    Clock clock) {
+
+        if (minInFlightRequests < 1 || maxInFlightRequests < minInFlightRequests) {
+            throw new IllegalArgumentException(
+                    "Max in-flight requests should not be less than min in-flight requests, which must be positive");
+        }
+        if (bidderMaxInFlightRequests.values().stream().anyMatch(max -> max == null || max < minInFlightRequests)) {
+            throw new IllegalArgumentException(
+                    "Max in-flight requests of bidder should not be less than min in-flight requests");
+        }
+        if (maxQueuedRequests < 0) {
+            throw new IllegalArgumentException("Max queued requests must not be negative");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.bidderMaxInFlightRequests = Objects.requireNonNull(bidderMaxInFlightRequests);
+        this.minInFlightRequests = minInFlightRequests;
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.adaptive = adaptive;
+        this.latencyThresholdMs = latencyThresholdMs;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Returns {@link Future} completed with {@link Permit} once request to the given bidder URI can be made.
+     * <p>
+     * Future fails if the queue of the endpoint is full or the given {@link Timeout} expires while waiting.
+     * Obtained {@link Permit} must be released when request completes.
+     */
+    public Future<Permit> acquire(String bidder, String uri, Timeout timeout) {
+        return endpointLimit(bidder, uri).acquire(timeout);
+    }
+
+    private EndpointLimit endpointLimit(String bidder, String uri) {
+        return bidderEndpointLimits.computeIfAbsent(bidder, this::createEndpointLimits)
+                .computeIfAbsent(endpointOf(uri), endpoint -> new EndpointLimit(
+                        bidder, bidderMaxInFlightRequests.getOrDefault(bidder, maxInFlightRequests)));
+    }
+
+    private Map<String, EndpointLimit> createEndpointLimits(String bidder) {
+        final Map<String, EndpointLimit> endpointLimits = Caffeine.newBuilder()
+                .maximumSize(MAX_ENDPOINTS_PER_BIDDER)
+                .<String, EndpointLimit>build()
+                .asMap();
+        metrics.createAdapterInFlightRequestsGauge(bidder, () -> inFlightRequests(endpointLimits.values()));
+        return endpointLimits;
+    }
+
+    private static long inFlightRequests(Collection<EndpointLimit> endpointLimits) {
+        return endpointLimits.stream().mapToLong(EndpointLimit::inFlightRequests).sum();
+    }
+
+    private static String endpointOf(String uri) {
+        final String safeUri = StringUtils.defaultString(uri);
+        final int hostStart = safeUri.indexOf("://");
+        final int pathStart = safeUri.indexOf('/', hostStart >= 0 ? hostStart + 3 : 0);
+        return pathStart >= 0 ? safeUri.substring(0, pathStart) : safeUri;
+    }
+
+    /**
+     * Right to make a single request to the bidder endpoint.
+     */
+    public interface Permit {
+
+        /**
+         * Returns permit back to the endpoint limit, passing outcome of the request made.
+         * Subsequent calls have no effect.
+         */
+        void release(boolean succeeded);
+
+        /**
+         * Returns permit back to the endpoint limit when request was not made, so the outcome is not recorded.
+         * Subsequent calls have no effect.
+         */
+        void cancel();
+    }
+
+    private class EndpointLimit {
+
+        private final String bidder;
+        private final int maxLimit;
+
+        // guarded by this
+        private final Queue<Waiter> waiters = new ArrayDeque<>();
+        private double limit;
+        private int inFlightRequests;
+
+        EndpointLimit(String bidder, int maxLimit) {
+            this.bidder = bidder;
+            this.maxLimit = maxLimit;
+
+            limit = maxLimit;
+        }
+
+        Future<Permit> acquire(Timeout timeout) {
+            final Waiter waiter;
+            synchronized (this) {
+                if (inFlightRequests < (int) limit) {
+                    inFlightRequests++;
+                    return Future.succeededFuture(new EndpointPermit(this));
+                }
+
+                if (waiters.size() >= maxQueuedRequests) {
+                    waiter = null;
+                } else {
+                    waiter = new Waiter();
+                    waiters.add(waiter);
+                }
+            }
+
+            if (waiter == null) {
+                metrics.updateAdapterConcurrencyLimitMetric(bidder, MetricName.rejected);
+                return Future.failedFuture(new PreBidException("Concurrency limit of bidder endpoint is reached"));
+            }
+
+            metrics.updateAdapterConcurrencyLimitMetric(bidder, MetricName.queued);
+            final long timerId = vertx.setTimer(Math.max(1, timeout.remaining()), ignored -> expire(waiter));
+
+            // waiter may be admitted from another event loop, so result is passed back to the caller's context
+            final Context context = Vertx.currentContext();
+            final Promise<Permit> result = Promise.promise();
+            waiter.promise.future().onComplete(permit -> {
+                vertx.cancelTimer(timerId);
+                if (context != null) {
+                    context.runOnContext(ignored -> result.handle(permit));
+                } else {
+                    result.handle(permit);
+                }
+            });
+            return result.future();
+        }
+
+        private void expire(Waiter waiter) {
+            synchronized (this) {
+                waiters.remove(waiter);
+            }
+            waiter.promise.tryFail(new PreBidException("Timeout has been exceeded while waiting in bidder queue"));
+        }
+
+        void release(long latencyMs, boolean succeeded) {
+            final List<Waiter> admittedWaiters;
+            synchronized (this) {
+                inFlightRequests--;
+                if (adaptive) {
+                    adjustLimit(latencyMs, succeeded);
+                }
+                admittedWaiters = pollAdmittedWaiters();
+            }
+
+            admit(admittedWaiters);
+        }
+
+        void cancel() {
+            final List<Waiter> admittedWaiters;
+            synchronized (this) {
+                inFlightRequests--;
+                admittedWaiters = pollAdmittedWaiters();
+            }
+
+            admit(admittedWaiters);
+        }
+
+        private void admit(List<Waiter> admittedWaiters) {
+            admittedWaiters.forEach(waiter -> {
+                if (!waiter.promise.tryComplete(new EndpointPermit(this))) {
+                    // waiter has just expired, so its slot is returned without affecting the limit
+                    cancel();
+                }
+            });
+        }
+
+        private void adjustLimit(long latencyMs, boolean succeeded) {
+            limit = succeeded && latencyMs <= latencyThresholdMs
+                    ? Math.min(maxLimit, limit + 1 / limit)
+                    : Math.max(minInFlightRequests, limit * BACKOFF_RATIO);
+        }
+
+        private List<Waiter> pollAdmittedWaiters() {
+            if (waiters.isEmpty() || inFlightRequests >= (int) limit) {
+                return Collections.emptyList();
+            }
+
+            final List<Waiter> admittedWaiters = new ArrayList<>();
+            while (!waiters.isEmpty() && inFlightRequests < (int) limit) {
+                admittedWaiters.add(waiters.poll());
+                inFlightRequests++;
+            }
+            return admittedWaiters;
+        }
+
+        synchronized int inFlightRequests() {
+            return inFlightRequests;
+        }
+    }
+
+    private static class Waiter {
+
+        private final Promise<Permit> promise = Promise.promise();
+    }
+
+    private class EndpointPermit implements Permit {
+
+        private final EndpointLimit endpointLimit;
+        private final long acquireTime;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        EndpointPermit(EndpointLimit endpointLimit) {
+            this.endpointLimit = endpointLimit;
+            this.acquireTime = clock.millis();
+        }
+
+        @Override
+        public void release(boolean succeeded) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+
+            endpointLimit.release(clock.millis() - acquireTime, succeeded);
+        }
+
+        @Override
+        public void cancel() {
+            if (released.compareAndSet(false, true)) {
+                endpointLimit.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package org.prebid.server.bidder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.HttpRequest;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.vertx.http.HttpResponseBodyProcessor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Drops obviously invalid bids from bidder responses while response body is being received.
+ * <p>
+ * Body is tokenized with non-blocking JSON parser as its chunks arrive, so {@code seatbid[].bid[]} are checked
+ * without decoding the whole response. Bid is dropped if it refers to imp absent in the bidder request, has no
+ * positive price (zero price is allowed for deals) or its markup is longer than the limit. Dropped bids are cut from
+ * the received body, so bidder decodes only the rest of them.
+ * <p>
+ * Only responses of the listed bidders are filtered, since other bidders may use their own response format or
+ * rewrite imp ids and prices while making bids. Body which is not a JSON object or has unexpected structure is
+ * passed as is, leaving decoding errors to the bidder.
+ */
+public class BidderResponseFilter {
+
+    private static final String SEATBID_FIELD = "seatbid";
+    private static final String BID_FIELD = "bid";
+
+    private final long maxResponseSize;
+    private final int maxAdmLength;
+    private final Set<String> bidders;
+    private final JsonFactory jsonFactory;
+
+    public BidderResponseFilter(long maxResponseSize, int maxAdmLength, Set<String> bidders, JacksonMapper mapper) {
+        if (maxResponseSize <= 0 || maxResponseSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Max response size should be within (0, %d] range"
+                    .formatted(Integer.MAX_VALUE));
+        }
+        if (maxAdmLength <= 0) {
+            throw new IllegalArgumentException("Max adm length should be positive");
+        }
+
+        this.maxResponseSize = maxResponseSize;
+        this.maxAdmLength = maxAdmLength;
+        this.bidders = Objects.requireNonNull(bidders);
+        this.jsonFactory = Objects.requireNonNull(mapper).mapper().getFactory();
+    }
+
+    public long getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    /**
+     * Creates body processor for the response to the given request of the given bidder.
+     */
+    public BodyProcessor createBodyProcessor(String bidder, HttpRequest<?> httpRequest) {
+        if (!bidders.contains(bidder)) {
+            return new BodyProcessor(null, null);
+        }
+
+        try {
+            return new BodyProcessor(jsonFactory.createNonBlockingByteArrayParser(), impIds(httpRequest));
+        } catch (IOException e) {
+            throw new PreBidException("Failed to create bidder response parser: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns ids of imps sent to bidder or null if request payload is not an OpenRTB request.
+     */
+    private static Set<String> impIds(HttpRequest<?> httpRequest) {
+        return httpRequest.getPayload() instanceof BidRequest bidRequest && bidRequest.getImp() != null
+                ? bidRequest.getImp().stream().map(Imp::getId).collect(Collectors.toSet())
+                : null;
+    }
+
+    private static boolean isBidArray(JsonStreamContext context) {
+        final JsonStreamContext bidOwner = context.getParent();
+        final JsonStreamContext seatBids = bidOwner.getParent();
+        final JsonStreamContext seatBidOwner = seatBids != null ? seatBids.getParent() : null;
+
+        return bidOwner.inObject() && BID_FIELD.equals(bidOwner.getCurrentName())
+                && seatBids.inArray()
+                && seatBidOwner != null && seatBidOwner.inObject()
+                && SEATBID_FIELD.equals(seatBidOwner.getCurrentName())
+                && seatBidOwner.getParent().inRoot();
+    }
+
+    private static int skipSeparator(byte[] bytes, int position) {
+        int index = position;
+        while (index < bytes.length && (Character.isWhitespace(bytes[index]) || bytes[index] == ',')) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Collects response body and drops invalid bids from it.
+     */
+    public class BodyProcessor implements HttpResponseBodyProcessor {
+
+        private final JsonParser parser;
+        private final Set<String> impIds;
+
+        private final Buffer body = Buffer.buffer();
+        private final List<BidArray> bidArrays = new ArrayList<>();
+        private final List<BidderError> errors = new ArrayList<>();
+
+        private boolean started;
+        private boolean completed;
+        private boolean failed;
+        private BidArray currentBidArray;
+        private ParsedBid currentBid;
+
+        private BodyProcessor(JsonParser parser, Set<String> impIds) {
+            this.parser = parser;
+            this.impIds = impIds;
+
+            failed = parser == null;
+        }
+
+        /**
+         * Returns errors describing dropped bids.
+         */
+        public List<BidderError> getErrors() {
+            return Collections.unmodifiableList(errors);
+        }
+
+        @Override
+        public void handle(Buffer chunk) {
+            body.appendBuffer(chunk);
+            if (failed) {
+                return;
+            }
+
+            final byte[] bytes = chunk.getBytes();
+            try {
+                ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+                processTokens();
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        @Override
+        public String end() {
+            if (!failed) {
+                try {
+                    ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+                    processTokens();
+                } catch (IOException e) {
+                    failed = true;
+                }
+            }
+
+            if (failed || !completed || errors.isEmpty()) {
+                errors.clear();
+                return body.toString();
+            }
+
+            return filteredBody();
+        }
+
+        private void processTokens() throws IOException {
+            while (!failed) {
+                final JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                    return;
+                }
+
+                if (currentBid != null) {
+                    processBidToken(token);
+                } else {
+                    processToken(token);
+                }
+            }
+        }
+
+        private void processToken(JsonToken token) {
+            if (!started) {
+                started = true;
+                failed = token != JsonToken.START_OBJECT;
+            } else if (currentBidArray != null) {
+                // bid array is expected to contain only objects
+                switch (token) {
+                    case START_OBJECT -> currentBid = new ParsedBid();
+                    case END_ARRAY -> currentBidArray = null;
+                    default -> failed = true;
+                }
+            } else if (token == JsonToken.START_ARRAY && isBidArray(parser.getParsingContext())) {
+                currentBidArray = new BidArray(currentOffset());
+                bidArrays.add(currentBidArray);
+            } else if (token == JsonToken.END_OBJECT && parser.getParsingContext().inRoot()) {
+                completed = true;
+            }
+        }
+
+        private void processBidToken(JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> currentBid.depth++;
+                case END_OBJECT, END_ARRAY -> {
+                    currentBid.depth--;
+                    if (currentBid.depth == 0) {
+                        completeBid();
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (currentBid.depth == 1) {
+                        currentBid.field = parser.getCurrentName();
+                    }
+                }
+                default -> {
+                    if (currentBid.depth == 1) {
+                        processBidValue(token);
+                    }
+                }
+            }
+        }
+
+        private void processBidValue(JsonToken token) throws IOException {
+            final boolean isString = token == JsonToken.VALUE_STRING;
+            switch (StringUtils.defaultString(currentBid.field)) {
+                case "id" -> currentBid.id = isString ? parser.getText() : null;
+                case "impid" -> currentBid.impId = isString ? parser.getText() : null;
+                case "dealid" -> currentBid.dealId = isString ? parser.getText() : null;
+                case "price" -> currentBid.price = token.isNumeric() ? parser.getDecimalValue() : null;
+                case "adm" -> currentBid.admLength = isString ? parser.getTextLength() : 0;
+                default -> {
+                    // other fields are not checked
+                }
+            }
+        }
+
+        private void completeBid() {
+            final String dropReason = dropReason(currentBid);
+            if (dropReason != null) {
+                errors.add(BidderError.invalidBid("Dropped bid '%s'. %s".formatted(currentBid.id, dropReason)));
+            }
+
+            currentBidArray.elementEnds.add(currentOffset());
+            currentBidArray.elementsKept.add(dropReason == null);
+            currentBid = null;
+        }
+
+        private String dropReason(ParsedBid bid) {
+            if (impIds != null && bid.impId != null && !impIds.contains(bid.impId)) {
+                return "Imp '%s' is absent in the request".formatted(bid.impId);
+            }
+
+            final BigDecimal price = bid.price;
+            if (price != null && (price.signum() < 0 || (price.signum() == 0 && StringUtils.isBlank(bid.dealId)))) {
+                return "Does not contain a positive (or zero if there is a deal) 'price'";
+            }
+
+            if (bid.admLength > maxAdmLength) {
+                return "Adm length %d exceeds %d characters limit".formatted(bid.admLength, maxAdmLength);
+            }
+
+            return null;
+        }
+
+        private int currentOffset() {
+            return (int) parser.getCurrentLocation().getByteOffset();
+        }
+
+        /**
+         * Copies received body skipping dropped bids together with separators preceding them.
+         */
+        private String filteredBody() {
+            final byte[] bytes = body.getBytes();
+            final Buffer result = Buffer.buffer(bytes.length);
+
+            int position = 0;
+            for (BidArray bidArray : bidArrays) {
+                result.appendBytes(bytes, position, bidArray.start - position);
+                position = bidArray.start;
+
+                boolean first = true;
+                for (int i = 0; i < bidArray.elementEnds.size(); i++) {
+                    final int elementStart = skipSeparator(bytes, position);
+                    final int elementEnd = bidArray.elementEnds.get(i);
+                    if (bidArray.elementsKept.get(i)) {
+                        if (!first) {
+                            result.appendByte((byte) ',');
+                        }
+                        result.appendBytes(bytes, elementStart, elementEnd - elementStart);
+                        first = false;
+                    }
+                    position = elementEnd;
+                }
+            }
+            result.appendBytes(bytes, position, bytes.length - position);
+
+            return result.toString();
+        }
+    }
+
+    private static class BidArray {
+
+        final int start;
+        final List<Integer> elementEnds = new ArrayList<>();
+        final List<Boolean> elementsKept = new ArrayList<>();
+
+        BidArray(int start) {
+            this.start = start;
+        }
+    }
+
+    private static class ParsedBid {
+
+        int depth = 1;
+        String field;
+        String id;
+        String impId;
+        String dealId;
+        BigDecimal price;
+        int admLength;
+    }
+}
@@ -4,6 +4,7 @@ import com.iab.openrtb.request.BidRequest;
 import io.netty.channel.ConnectTimeoutException;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
@@ -60,18 +61,24 @@ public class HttpBidderRequester {
     private final BidderRequestCompletionTrackerFactory completionTrackerFactory;
     private final BidderErrorNotifier bidderErrorNotifier;
     private final HttpBidderRequestEnricher requestEnricher;
+    private final BidderConcurrencyLimiter concurrencyLimiter;
+    private final BidderResponseFilter responseFilter;
     private final JacksonMapper mapper;
 
     public HttpBidderRequester(HttpClient httpClient,
                                BidderRequestCompletionTrackerFactory completionTrackerFactory,
                                BidderErrorNotifier bidderErrorNotifier,
                                HttpBidderRequestEnricher requestEnricher,
+                               BidderConcurrencyLimiter concurrencyLimiter,
+                               BidderResponseFilter responseFilter,
                                JacksonMapper mapper) {
 
         this.httpClient = Objects.requireNonNull(httpClient);
         this.completionTrackerFactory = completionTrackerFactoryOrFallback(completionTrackerFactory);
         this.bidderErrorNotifier = Objects.requireNonNull(bidderErrorNotifier);
         this.requestEnricher = Objects.requireNonNull(requestEnricher);
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.responseFilter = responseFilter;
         this.mapper = Objects.requireNonNull(mapper);
     }
 
@@ -97,17 +104,17 @@ public class HttpBidderRequester {
             return emptyBidderSeatBidWithErrors(bidderErrors);
         }
 
+        final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
+        final ResultBuilder<T> resultBuilder =
+                new ResultBuilder<>(httpRequests, bidderErrors, completionTracker, mapper);
+
         final String storedResponse = bidderRequest.getStoredResponse();
 
         // stored response available only for single request interaction for the moment.
+        // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
         final Stream<Future<BidderCall<T>>> httpCalls = isStoredResponse(httpRequests, storedResponse, bidderName)
                 ? Stream.of(makeStoredHttpCall(httpRequests.get(0), storedResponse))
-                : httpRequests.stream().map(httpRequest -> doRequest(httpRequest, timeout));
-
-        // httpCalls contains recovered and mapped to succeeded Future<BidderHttpCall> with error inside
-        final BidderRequestCompletionTracker completionTracker = completionTrackerFactory.create(bidRequest);
-        final ResultBuilder<T> resultBuilder =
-                new ResultBuilder<>(httpRequests, bidderErrors, completionTracker, mapper);
+                : httpRequests.stream().map(httpRequest -> doRequest(bidderName, httpRequest, timeout, resultBuilder));
 
         final List<Future<Void>> httpRequestFutures = httpCalls
                 .map(httpCallFuture -> httpCallFuture
@@ -171,28 +178,99 @@ public class HttpBidderRequester {
 
     /**
      * Makes an HTTP request and returns {@link Future} that will be eventually completed with success or error result.
+     * <p>
+     * Bids dropped by {@link BidderResponseFilter} while receiving the response are reported to the given
+     * {@link ResultBuilder} as errors.
      */
-    private <T> Future<BidderCall<T>> doRequest(HttpRequest<T> httpRequest, Timeout timeout) {
+    private <T> Future<BidderCall<T>> doRequest(String bidderName,
+                                                HttpRequest<T> httpRequest,
+                                                Timeout timeout,
+                                                ResultBuilder<T> resultBuilder) {
+
         final long remainingTimeout = timeout.remaining();
         if (remainingTimeout <= 0) {
             return failResponse(new TimeoutException("Timeout has been exceeded"), httpRequest);
         }
 
-        return createRequest(httpRequest, remainingTimeout)
+        final BidderResponseFilter.BodyProcessor bodyProcessor = responseFilter != null
+                ? responseFilter.createBodyProcessor(bidderName, httpRequest)
+                : null;
+
+        final Future<HttpClientResponse> responseFuture = concurrencyLimiter != null
+                ? concurrencyLimiter.acquire(bidderName, httpRequest.getUri(), timeout)
+                .compose(permit -> createLimitedRequest(httpRequest, timeout, permit, bodyProcessor))
+                : createRequest(httpRequest, remainingTimeout, bodyProcessor);
+
+        return responseFuture
+                .onSuccess(ignored -> addDroppedBidErrors(bodyProcessor, resultBuilder))
                 .compose(response -> processResponse(response, httpRequest))
                 .recover(exception -> failResponse(exception, httpRequest));
     }
 
-    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest, long remainingTimeout) {
+    /**
+     * Makes an HTTP request with the remaining time left after waiting for {@link BidderConcurrencyLimiter.Permit}
+     * and releases the permit when request completes.
+     */
+    private <T> Future<HttpClientResponse> createLimitedRequest(HttpRequest<T> httpRequest,
+                                                                Timeout timeout,
+                                                                BidderConcurrencyLimiter.Permit permit,
+                                                                BidderResponseFilter.BodyProcessor bodyProcessor) {
+
+        // request is not sent to the bidder here, so neither its outcome is recorded nor timeout is notified
+        final long remainingTimeout = timeout.remaining();
+        if (remainingTimeout <= 0) {
+            permit.cancel();
+            return Future.failedFuture(
+                    new PreBidException("Timeout has been exceeded while waiting for bidder concurrency limit"));
+        }
+
+        final Future<HttpClientResponse> responseFuture;
+        try {
+            responseFuture = createRequest(httpRequest, remainingTimeout, bodyProcessor);
+        } catch (RuntimeException e) {
+            permit.cancel();
+            throw e;
+        }
+
+        return responseFuture.onComplete(result -> permit.release(isSucceeded(result)));
+    }
+
+    private static boolean isSucceeded(AsyncResult<HttpClientResponse> result) {
+        return result.succeeded() && result.result().getStatusCode() < HttpResponseStatus.INTERNAL_SERVER_ERROR.code();
+    }
+
+    private <T> Future<HttpClientResponse> createRequest(HttpRequest<T> httpRequest,
+                                                         long remainingTimeout,
+                                                         BidderResponseFilter.BodyProcessor bodyProcessor) {
+
         final MultiMap requestHeaders = httpRequest.getHeaders();
         final byte[] preparedBody = compressIfRequired(httpRequest.getBody(), requestHeaders);
 
+        if (bodyProcessor == null) {
+            return httpClient.request(
+                    httpRequest.getMethod(),
+                    httpRequest.getUri(),
+                    requestHeaders,
+                    preparedBody,
+                    remainingTimeout);
+        }
+
         return httpClient.request(
                 httpRequest.getMethod(),
                 httpRequest.getUri(),
                 requestHeaders,
                 preparedBody,
-                remainingTimeout);
+                remainingTimeout,
+                responseFilter.getMaxResponseSize(),
+                bodyProcessor);
+    }
+
+    private static <T> void addDroppedBidErrors(BidderResponseFilter.BodyProcessor bodyProcessor,
+                                                ResultBuilder<T> resultBuilder) {
+
+        if (bodyProcessor != null) {
+            resultBuilder.addErrors(bodyProcessor.getErrors());
+        }
     }
 
     private static byte[] compressIfRequired(byte[] body, MultiMap headers) {
@@ -350,6 +428,10 @@ public class HttpBidderRequester {
             }
         }
 
+        void addErrors(List<BidderError> bidderErrors) {
+            errorsRecorded.addAll(bidderErrors);
+        }
+
         BidderSeatBid toBidderSeatBid(boolean debugEnabled) {
             final List<BidderCall<T>> httpCalls = new ArrayList<>(bidderCallsRecorded.values());
             httpRequests.stream()
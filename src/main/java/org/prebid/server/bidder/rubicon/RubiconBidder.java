@@ -36,6 +36,7 @@ import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.client.utils.URIBuilder;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.ViewabilityVendors;
 import org.prebid.server.bidder.model.BidderBid;
@@ -215,13 +216,14 @@ public class RubiconBidder implements Bidder<BidRequest> {
         final Map<Imp, ExtPrebid<ExtImpPrebid, ExtImpRubicon>> impToImpExt = parseRubiconImpExts(imps, errors);
         final String impLanguage = firstImpExtLanguage(impToImpExt.values());
         final String uri = makeUri(bidRequest);
+        final RequestAttributes requestAttributes = new RequestAttributes(bidRequest);
 
         for (Map.Entry<Imp, ExtPrebid<ExtImpPrebid, ExtImpRubicon>> impToExt : impToImpExt.entrySet()) {
             try {
                 final Imp imp = impToExt.getKey();
                 final ExtPrebid<ExtImpPrebid, ExtImpRubicon> ext = impToExt.getValue();
                 final BidRequest singleImpRequest = createSingleRequest(
-                        imp, ext.getPrebid(), ext.getBidder(), bidRequest, impLanguage, errors);
+                        imp, ext.getPrebid(), ext.getBidder(), bidRequest, requestAttributes, impLanguage, errors);
                 if (hasDeals(imp)) {
                     httpRequests.addAll(createDealsRequests(singleImpRequest, uri));
                 } else {
@@ -354,11 +356,13 @@ public class RubiconBidder implements Bidder<BidRequest> {
                                            ExtImpPrebid extImpPrebid,
                                            ExtImpRubicon extImpRubicon,
                                            BidRequest bidRequest,
+                                           RequestAttributes requestAttributes,
                                            String impLanguage,
                                            List<BidderError> errors) {
 
         return bidRequest.toBuilder()
-                .imp(Collections.singletonList(makeImp(imp, extImpPrebid, extImpRubicon, bidRequest, errors)))
+                .imp(Collections.singletonList(
+                        makeImp(imp, extImpPrebid, extImpRubicon, bidRequest, requestAttributes, errors)))
                 .user(makeUser(bidRequest.getUser(), extImpRubicon))
                 .device(makeDevice(bidRequest.getDevice()))
                 .site(makeSite(bidRequest.getSite(), impLanguage, extImpRubicon))
@@ -410,6 +414,7 @@ public class RubiconBidder implements Bidder<BidRequest> {
                         ExtImpPrebid extImpPrebid,
                         ExtImpRubicon extImpRubicon,
                         BidRequest bidRequest,
+                        RequestAttributes requestAttributes,
                         List<BidderError> errors) {
 
         final App app = bidRequest.getApp();
@@ -418,7 +423,8 @@ public class RubiconBidder implements Bidder<BidRequest> {
         final ImpMediaType impType = impType(imp);
         final List<String> priceFloorsWarnings = new ArrayList<>();
 
-        final PriceFloorResult priceFloorResult = resolvePriceFloors(bidRequest, imp, impType, priceFloorsWarnings);
+        final PriceFloorResult priceFloorResult =
+                resolvePriceFloors(bidRequest, requestAttributes, imp, impType, priceFloorsWarnings);
 
         final BigDecimal ipfFloor = ObjectUtil.getIfNotNull(priceFloorResult, PriceFloorResult::getFloorValue);
         final String ipfCurrency = ipfFloor != null
@@ -474,12 +480,14 @@ public class RubiconBidder implements Bidder<BidRequest> {
     }
 
     private PriceFloorResult resolvePriceFloors(BidRequest bidRequest,
+                                                RequestAttributes requestAttributes,
                                                 Imp imp,
                                                 ImpMediaType mediaType,
                                                 List<String> warnings) {
 
         return floorResolver.resolve(
                 bidRequest,
+                requestAttributes,
                 extractFloorRules(bidRequest),
                 imp,
                 mediaType,
@@ -81,6 +81,7 @@ public class CacheService {
     private final URL endpointUrl;
     private final String cachedAssetUrlTemplate;
     private final long expectedCacheTimeMs;
+    private final boolean repeatableWrites;
     private final VastModifier vastModifier;
     private final EventsService eventsService;
     private final Metrics metrics;
@@ -93,6 +94,7 @@ public class CacheService {
                         URL endpointUrl,
                         String cachedAssetUrlTemplate,
                         long expectedCacheTimeMs,
+                        boolean repeatableWrites,
                         VastModifier vastModifier,
                         EventsService eventsService,
                         Metrics metrics,
@@ -105,6 +107,7 @@ public class CacheService {
         this.endpointUrl = Objects.requireNonNull(endpointUrl);
         this.cachedAssetUrlTemplate = Objects.requireNonNull(cachedAssetUrlTemplate);
         this.expectedCacheTimeMs = expectedCacheTimeMs;
+        this.repeatableWrites = repeatableWrites;
         this.vastModifier = Objects.requireNonNull(vastModifier);
         this.eventsService = Objects.requireNonNull(eventsService);
         this.metrics = Objects.requireNonNull(metrics);
@@ -205,12 +208,13 @@ public class CacheService {
                                                     String integration,
                                                     Timeout timeout) {
 
-        final List<CachedCreative> cachedCreatives =
-                updatePutObjects(putObjects, isEventsEnabled, biddersAllowingVastUpdate, accountId, integration);
+        final List<CachedCreative> cachedCreatives = withKeys(
+                updatePutObjects(putObjects, isEventsEnabled, biddersAllowingVastUpdate, accountId, integration));
 
         updateCreativeMetrics(accountId, cachedCreatives);
 
-        return makeRequest(toBidCacheRequest(cachedCreatives), cachedCreatives.size(), timeout, accountId);
+        return makeRequest(toBidCacheRequest(cachedCreatives), cachedCreatives.size(), timeout, accountId)
+                .map(bidCacheResponse -> repeatableWrites ? keysResponse(cachedCreatives) : bidCacheResponse);
     }
 
     /**
@@ -343,11 +347,11 @@ public class CacheService {
                 ? idGenerator.generateId()
                 : null;
         final String requestId = auctionContext.getBidRequest().getId();
-        final List<CachedCreative> cachedCreatives = Stream.concat(
+        final List<CachedCreative> cachedCreatives = withKeys(Stream.concat(
                         bids.stream().map(cacheBid ->
                                 createJsonPutObjectOpenrtb(cacheBid, accountId, eventsContext)),
                         videoBids.stream().map(videoBid -> createXmlPutObjectOpenrtb(videoBid, requestId, hbCacheId)))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .toList());
 
         if (cachedCreatives.isEmpty()) {
             return Future.succeededFuture(CacheServiceResult.empty());
@@ -379,7 +383,7 @@ public class CacheService {
         return httpClient.post(url, CACHE_HEADERS, body, remainingTimeout)
                 .map(response -> processResponseOpenrtb(response,
                         httpRequest,
-                        cachedCreatives.size(),
+                        cachedCreatives,
                         bids,
                         videoBids,
                         hbCacheId,
@@ -393,7 +397,7 @@ public class CacheService {
      */
     private CacheServiceResult processResponseOpenrtb(HttpClientResponse response,
                                                       CacheHttpRequest httpRequest,
-                                                      int bidCount,
+                                                      List<CachedCreative> cachedCreatives,
                                                       List<CacheBid> bids,
                                                       List<CacheBid> videoBids,
                                                       String hbCacheId,
@@ -406,12 +410,13 @@ public class CacheService {
         final BidCacheResponse bidCacheResponse;
         try {
             bidCacheResponse = toBidCacheResponse(
-                    responseStatusCode, response.getBody(), bidCount, accountId, startTime);
+                    responseStatusCode, response.getBody(), cachedCreatives.size(), accountId, startTime);
         } catch (PreBidException e) {
             return CacheServiceResult.of(httpCall, e, Collections.emptyMap());
         }
 
-        final List<String> uuids = toResponse(bidCacheResponse, CacheObject::getUuid);
+        final List<String> uuids = toResponse(
+                repeatableWrites ? keysResponse(cachedCreatives) : bidCacheResponse, CacheObject::getUuid);
         return CacheServiceResult.of(httpCall, null, toResultMap(bids, videoBids, uuids, hbCacheId));
     }
 
@@ -700,6 +705,35 @@ public class CacheService {
         return node != null ? node.asText().length() : 0;
     }
 
+    /**
+     * Assigns generated keys to put objects without them if writes should be safe to repeat, so repeated request
+     * stores the same values under the same keys instead of new ones.
+     */
+    private List<CachedCreative> withKeys(List<CachedCreative> cachedCreatives) {
+        return cachedCreatives.stream()
+                .map(this::withKey)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private CachedCreative withKey(CachedCreative cachedCreative) {
+        final PutObject payload = cachedCreative.getPayload();
+        if (!repeatableWrites || payload.getKey() != null) {
+            return cachedCreative;
+        }
+
+        return CachedCreative.of(payload.toBuilder().key(idGenerator.generateId()).build(), cachedCreative.getSize());
+    }
+
+    /**
+     * Creates response from the keys put objects were sent with. Repeated request may find them already stored,
+     * so the keys are used instead of uuids returned by the cache service.
+     */
+    private static BidCacheResponse keysResponse(List<CachedCreative> cachedCreatives) {
+        return BidCacheResponse.of(cachedCreatives.stream()
+                .map(cachedCreative -> CacheObject.of(cachedCreative.getPayload().getKey()))
+                .toList());
+    }
+
     private BidCacheRequest toBidCacheRequest(List<CachedCreative> cachedCreatives) {
         return BidCacheRequest.of(cachedCreatives.stream()
                 .map(CachedCreative::getPayload)
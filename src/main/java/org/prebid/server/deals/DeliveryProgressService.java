@@ -8,6 +8,7 @@ import org.prebid.server.deals.lineitem.DeliveryPlan;
 import org.prebid.server.deals.lineitem.DeliveryProgress;
 import org.prebid.server.deals.lineitem.LineItem;
 import org.prebid.server.deals.lineitem.LineItemStatus;
+import org.prebid.server.deals.lineitem.TxnLogAccumulator;
 import org.prebid.server.deals.model.DeliveryProgressProperties;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.proto.report.DeliveryProgressReport;
@@ -39,6 +40,7 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
     private final CriteriaLogManager criteriaLogManager;
 
     private final long lineItemStatusTtl;
+    private final TxnLogAccumulator txnLogAccumulator;
 
     protected final DeliveryProgress overallDeliveryProgress;
     protected DeliveryProgress currentDeliveryProgress;
@@ -57,6 +59,7 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
         this.criteriaLogManager = Objects.requireNonNull(criteriaLogManager);
 
         this.lineItemStatusTtl = TimeUnit.SECONDS.toMillis(deliveryProgressProperties.getLineItemStatusTtlSeconds());
+        this.txnLogAccumulator = TxnLogAccumulator.create();
 
         final ZonedDateTime now = ZonedDateTime.now(clock);
         overallDeliveryProgress = DeliveryProgress.of(now, lineItemService);
@@ -73,6 +76,8 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
      * creates {@link DeliveryProgressReport}.
      */
     public DeliveryProgressReport getOverallDeliveryProgressReport() {
+        txnLogAccumulator.drainTo(currentDeliveryProgress);
+
         final DeliveryProgress overallDeliveryProgressCopy =
                 overallDeliveryProgress.copyWithOriginalPlans();
 
@@ -107,7 +112,8 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
                 .filter(lineItem -> lineItem.getActiveDeliveryPlan() != null)
                 .forEach(lineItem -> incrementTokens(lineItem, now, planIdToTokenPriority));
 
-        currentDeliveryProgress.recordTransactionLog(txnLog, planIdToTokenPriority, accountId);
+        txnLogAccumulator.record(txnLog, accountId);
+        currentDeliveryProgress.recordTokens(txnLog, planIdToTokenPriority);
     }
 
     /**
@@ -144,6 +150,8 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
 
         currentDeliveryProgress = DeliveryProgress.of(now, lineItemService);
 
+        txnLogAccumulator.drainTo(deliveryProgressToReport);
+        txnLogAccumulator.release(lineItemId -> lineItemService.getLineItemById(lineItemId) == null);
         deliveryProgressToReport.setEndTimeStamp(now);
         deliveryProgressToReport.updateWithActiveLineItems(lineItemService.getLineItems());
 
@@ -157,6 +165,8 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
     }
 
     public void invalidateLineItemsByIds(List<String> lineItemIds) {
+        txnLogAccumulator.drainTo(currentDeliveryProgress);
+        txnLogAccumulator.release(lineItemIds::contains);
         overallDeliveryProgress.getLineItemStatuses().entrySet()
                 .removeIf(stringLineItemEntry -> lineItemIds.contains(stringLineItemEntry.getKey()));
         currentDeliveryProgress.getLineItemStatuses().entrySet()
@@ -164,6 +174,8 @@ public class DeliveryProgressService implements ApplicationEventProcessor {
     }
 
     public void invalidateLineItems() {
+        txnLogAccumulator.drainTo(currentDeliveryProgress);
+        txnLogAccumulator.release(lineItemId -> true);
         overallDeliveryProgress.getLineItemStatuses().clear();
         currentDeliveryProgress.getLineItemStatuses().clear();
     }
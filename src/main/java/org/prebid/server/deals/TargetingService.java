@@ -71,7 +71,13 @@ public class TargetingService {
                                     BidderAliases aliases) {
 
         final RequestContext requestContext = new RequestContext(
-                auctionContext.getBidRequest(), imp, source, aliases, auctionContext.getTxnLog(), mapper);
+                auctionContext.getBidRequest(),
+                auctionContext.getRequestAttributes(),
+                imp,
+                source,
+                aliases,
+                auctionContext.getTxnLog(),
+                mapper);
 
         return targetingDefinition.getRootExpression().matches(requestContext);
     }
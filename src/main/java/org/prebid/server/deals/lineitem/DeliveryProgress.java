@@ -8,12 +8,13 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class DeliveryProgress {
@@ -61,42 +62,42 @@ public class DeliveryProgress {
     }
 
     /**
-     * Updates delivery progress from {@link TxnLog}.
+     * Updates delivery plans tokens of line items sent to client as top match from {@link TxnLog}.
      */
-    public void recordTransactionLog(TxnLog txnLog, Map<String, Integer> planIdToTokenPriority, String accountId) {
-        accountRequests(accountId).increment();
-        requests.increment();
-
-        txnLog.lineItemSentToClientAsTopMatch()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClientAsTopMatch));
-        txnLog.lineItemsSentToClient()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToClient));
-        txnLog.lineItemsMatchedDomainTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incDomainMatched));
-        txnLog.lineItemsMatchedWholeTargeting()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatched));
-        txnLog.lineItemsMatchedTargetingFcapped()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapped));
-        txnLog.lineItemsMatchedTargetingFcapLookupFailed()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incTargetMatchedButFcapLookupFailed));
-        txnLog.lineItemsPacingDeferred()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incPacingDeferred));
-        txnLog.lineItemsSentToBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidder)));
-        txnLog.lineItemsSentToBidderAsTopMatch().values().forEach(bidderList -> bidderList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incSentToBidderAsTopMatch)));
-        txnLog.lineItemsReceivedFromBidder().values().forEach(idList -> idList
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidder)));
-        txnLog.lineItemsResponseInvalidated()
-                .forEach(lineItemId -> increment(lineItemId, LineItemStatus::incReceivedFromBidderInvalidated));
-
+    public void recordTokens(TxnLog txnLog, Map<String, Integer> planIdToTokenPriority) {
         txnLog.lineItemSentToClientAsTopMatch()
                 .forEach(lineItemId -> incToken(lineItemId, planIdToTokenPriority));
+    }
+
+    /**
+     * Adds requests count accumulated by {@link TxnLogAccumulator}.
+     */
+    void addRequests(String accountId, long count) {
+        accountRequests(accountId).add(count);
+        requests.add(count);
+    }
+
+    /**
+     * Adds {@link LineItemStatus} counters accumulated by {@link TxnLogAccumulator}.
+     */
+    void addLineItemCounters(String lineItemId, long[] counters, List<Function<LineItemStatus, LongAdder>> adders) {
+        final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(lineItemId,
+                this::createLineItemStatus);
+        for (int i = 0; i < counters.length; i++) {
+            if (counters[i] > 0) {
+                adders.get(i).apply(lineItemStatus).add(counters[i]);
+            }
+        }
+    }
 
-        txnLog.lostMatchingToLineItems().forEach((lineItemId, lostToLineItemsIds) ->
-                updateLostToEachLineItem(lineItemId, lostToLineItemsIds, lineItemIdToLost));
-        txnLog.lostAuctionToLineItems().forEach((lineItemId, lostToLineItemsIds) ->
-                updateLostToEachLineItem(lineItemId, lostToLineItemsIds, lineItemIdToLost));
+    /**
+     * Adds lostToLineItem metric value accumulated by {@link TxnLogAccumulator}.
+     */
+    void addLostToLineItem(String lineItemId, String lostToLineItemId, long count) {
+        lineItemIdToLost.computeIfAbsent(lineItemId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(lostToLineItemId, ignored -> LostToLineItem.of(lostToLineItemId, new LongAdder()))
+                .getCount()
+                .add(count);
     }
 
     /**
@@ -268,18 +269,12 @@ public class DeliveryProgress {
         return requestsPerAccount.computeIfAbsent(account, ignored -> new LongAdder());
     }
 
-    /**
-     * Increments {@link LineItemStatus} metric, creates line item status if does not exist.
-     */
-    private void increment(String lineItemId, Consumer<LineItemStatus> inc) {
-        inc.accept(lineItemStatuses.computeIfAbsent(lineItemId, this::createLineItemStatus));
-    }
-
     /**
      * Increment tokens in active delivery report.
      */
     private void incToken(String lineItemId, Map<String, Integer> planIdToTokenPriority) {
-        final LineItemStatus lineItemStatus = lineItemStatuses.get(lineItemId);
+        final LineItemStatus lineItemStatus = lineItemStatuses.computeIfAbsent(lineItemId,
+                this::createLineItemStatus);
         final LineItem lineItem = lineItemService.getLineItemById(lineItemId);
         final DeliveryPlan lineItemActivePlan = lineItem.getActiveDeliveryPlan();
         if (lineItemActivePlan != null) {
@@ -299,26 +294,6 @@ public class DeliveryProgress {
         }
     }
 
-    /**
-     * Updates lostToLineItem metric for line item specified by lineItemId parameter against line item ids from
-     * parameter lostToLineItemIds
-     */
-    private void updateLostToEachLineItem(String lineItemId, Set<String> lostToLineItemsIds,
-                                          Map<String, Map<String, LostToLineItem>> lostToLineItemTimes) {
-        final Map<String, LostToLineItem> lostToLineItemsTimes = lostToLineItemTimes
-                .computeIfAbsent(lineItemId, key -> new ConcurrentHashMap<>());
-        lostToLineItemsIds.forEach(lostToLineItemId -> incLostToLineItemTimes(lostToLineItemId, lostToLineItemsTimes));
-    }
-
-    /**
-     * Updates listToLineItem metric against line item specified in parameter lostToLineItemId
-     */
-    private void incLostToLineItemTimes(String lostToLineItemId, Map<String, LostToLineItem> lostToLineItemsTimes) {
-        final LostToLineItem lostToLineItem = lostToLineItemsTimes.computeIfAbsent(lostToLineItemId,
-                ignored -> LostToLineItem.of(lostToLineItemId, new LongAdder()));
-        lostToLineItem.getCount().increment();
-    }
-
     /**
      * Merges requests per account to overall statistics.
      */
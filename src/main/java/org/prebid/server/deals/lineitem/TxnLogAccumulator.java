@@ -0,0 +1,386 @@
+package org.prebid.server.deals.lineitem;
+
+import lombok.Value;
+import org.prebid.server.deals.model.TxnLog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lock-free accumulator of {@link TxnLog} counters.
+ * <p>
+ * Each line item id is mapped once to a dense int index, and counters are kept in striped {@link AtomicLongArray}
+ * chunks addressed by that index, so recording a transaction log on the auction path does not touch
+ * {@link LineItemStatus} maps. Accumulated values are moved to {@link DeliveryProgress} by
+ * {@link #drainTo(DeliveryProgress)} at report time.
+ * <p>
+ * Indexes of line items that are gone are given back by {@link #release(Predicate)} and reused for other line items
+ * one drain later, so that late increments made with a released index are still reported for its former line item.
+ * Counters not backed by indexes (lost-to pairs and line items that did not get an index) are removed once they stay
+ * unused for a whole drain period.
+ */
+public class TxnLogAccumulator {
+
+    private static final List<Function<LineItemStatus, LongAdder>> COUNTERS = List.of(
+            LineItemStatus::getDomainMatched,
+            LineItemStatus::getTargetMatched,
+            LineItemStatus::getTargetMatchedButFcapped,
+            LineItemStatus::getTargetMatchedButFcapLookupFailed,
+            LineItemStatus::getPacingDeferred,
+            LineItemStatus::getSentToBidder,
+            LineItemStatus::getSentToBidderAsTopMatch,
+            LineItemStatus::getReceivedFromBidder,
+            LineItemStatus::getReceivedFromBidderInvalidated,
+            LineItemStatus::getSentToClient,
+            LineItemStatus::getSentToClientAsTopMatch);
+
+    private static final int DOMAIN_MATCHED = 0;
+    private static final int TARGET_MATCHED = 1;
+    private static final int TARGET_MATCHED_BUT_FCAPPED = 2;
+    private static final int TARGET_MATCHED_BUT_FCAP_LOOKUP_FAILED = 3;
+    private static final int PACING_DEFERRED = 4;
+    private static final int SENT_TO_BIDDER = 5;
+    private static final int SENT_TO_BIDDER_AS_TOP_MATCH = 6;
+    private static final int RECEIVED_FROM_BIDDER = 7;
+    private static final int RECEIVED_FROM_BIDDER_INVALIDATED = 8;
+    private static final int SENT_TO_CLIENT = 9;
+    private static final int SENT_TO_CLIENT_AS_TOP_MATCH = 10;
+
+    private static final int COUNTERS_NUMBER = COUNTERS.size();
+
+    private static final int CHUNK_SHIFT = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 256;
+    private static final int MAX_LINE_ITEMS = CHUNK_SIZE * MAX_CHUNKS;
+
+    private static final int NO_INDEX = -1;
+
+    private final Map<String, Integer> lineItemIdToIndex;
+    private final AtomicReferenceArray<String> indexToLineItemId;
+    private final AtomicInteger nextIndex;
+    private final Queue<Integer> releasedIndexes;
+    private final Queue<Integer> freeIndexes;
+    private List<Integer> drainedReleasedIndexes;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    private final Map<String, AtomicLong> requestsPerAccount;
+    private final ReclaimableCounters<OverflowCounter> overflowCounters;
+    private final ReclaimableCounters<OverflowLost> overflowLost;
+
+    public TxnLogAccumulator(int stripesNumber) {
+        if (stripesNumber < 1) {
+            throw new IllegalArgumentException("Stripes number must be positive");
+        }
+
+        final int stripesSize = Integer.highestOneBit(stripesNumber - 1) << 1;
+        stripes = new Stripe[Math.max(stripesSize, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeMask = stripes.length - 1;
+
+        lineItemIdToIndex = new ConcurrentHashMap<>();
+        indexToLineItemId = new AtomicReferenceArray<>(MAX_LINE_ITEMS);
+        nextIndex = new AtomicInteger();
+        releasedIndexes = new ConcurrentLinkedQueue<>();
+        freeIndexes = new ConcurrentLinkedQueue<>();
+        drainedReleasedIndexes = new ArrayList<>();
+
+        requestsPerAccount = new ConcurrentHashMap<>();
+        overflowCounters = new ReclaimableCounters<>();
+        overflowLost = new ReclaimableCounters<>();
+    }
+
+    public static TxnLogAccumulator create() {
+        return new TxnLogAccumulator(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Accumulates line item counters and account request from {@link TxnLog}.
+     * <p>
+     * Delivery tokens are not handled here since they depend on active plans and are recorded directly
+     * to {@link DeliveryProgress}.
+     */
+    public void record(TxnLog txnLog, String accountId) {
+        final Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+
+        requestsPerAccount.computeIfAbsent(accountId, ignored -> new AtomicLong()).incrementAndGet();
+
+        incrementAll(stripe, txnLog.lineItemSentToClientAsTopMatch(), SENT_TO_CLIENT_AS_TOP_MATCH);
+        incrementAll(stripe, txnLog.lineItemsSentToClient(), SENT_TO_CLIENT);
+        incrementAll(stripe, txnLog.lineItemsMatchedDomainTargeting(), DOMAIN_MATCHED);
+        incrementAll(stripe, txnLog.lineItemsMatchedWholeTargeting(), TARGET_MATCHED);
+        incrementAll(stripe, txnLog.lineItemsMatchedTargetingFcapped(), TARGET_MATCHED_BUT_FCAPPED);
+        incrementAll(stripe, txnLog.lineItemsMatchedTargetingFcapLookupFailed(),
+                TARGET_MATCHED_BUT_FCAP_LOOKUP_FAILED);
+        incrementAll(stripe, txnLog.lineItemsPacingDeferred(), PACING_DEFERRED);
+        txnLog.lineItemsSentToBidder().values()
+                .forEach(lineItemIds -> incrementAll(stripe, lineItemIds, SENT_TO_BIDDER));
+        txnLog.lineItemsSentToBidderAsTopMatch().values()
+                .forEach(lineItemIds -> incrementAll(stripe, lineItemIds, SENT_TO_BIDDER_AS_TOP_MATCH));
+        txnLog.lineItemsReceivedFromBidder().values()
+                .forEach(lineItemIds -> incrementAll(stripe, lineItemIds, RECEIVED_FROM_BIDDER));
+        incrementAll(stripe, txnLog.lineItemsResponseInvalidated(), RECEIVED_FROM_BIDDER_INVALIDATED);
+
+        txnLog.lostMatchingToLineItems().forEach((lineItemId, lostToLineItemIds) ->
+                incrementLost(stripe, lineItemId, lostToLineItemIds));
+        txnLog.lostAuctionToLineItems().forEach((lineItemId, lostToLineItemIds) ->
+                incrementLost(stripe, lineItemId, lostToLineItemIds));
+    }
+
+    /**
+     * Moves everything accumulated so far to the given {@link DeliveryProgress} and resets counters.
+     * <p>
+     * Values recorded concurrently with draining are never lost: they are either moved by this call or left
+     * for the next one.
+     */
+    public synchronized void drainTo(DeliveryProgress deliveryProgress) {
+        requestsPerAccount.forEach((accountId, requests) -> {
+            final long value = requests.getAndSet(0);
+            if (value > 0) {
+                deliveryProgress.addRequests(accountId, value);
+            }
+        });
+
+        final long[] counters = new long[COUNTERS_NUMBER];
+        final int indexesNumber = Math.min(nextIndex.get(), MAX_LINE_ITEMS);
+        for (int index = 0; index < indexesNumber; index++) {
+            final String lineItemId = indexToLineItemId.get(index);
+            if (lineItemId != null && drainCounters(index, counters)) {
+                deliveryProgress.addLineItemCounters(lineItemId, counters, COUNTERS);
+            }
+        }
+
+        for (Stripe stripe : stripes) {
+            stripe.lost.drain((key, value) -> drainLost(key, value, deliveryProgress));
+        }
+
+        overflowCounters.drain((key, value) -> {
+            final long[] overflow = new long[COUNTERS_NUMBER];
+            overflow[key.getCounter()] = value;
+            deliveryProgress.addLineItemCounters(key.getLineItemId(), overflow, COUNTERS);
+        });
+
+        overflowLost.drain((key, value) ->
+                deliveryProgress.addLostToLineItem(key.getLineItemId(), key.getLostToLineItemId(), value));
+
+        recycleReleasedIndexes();
+    }
+
+    /**
+     * Gives back indexes of line items matching the given predicate, e.g. expired or invalidated ones.
+     * <p>
+     * Values already recorded for these line items are moved by the following {@link #drainTo(DeliveryProgress)}
+     * calls. If a released line item is recorded again, it gets a new index.
+     */
+    public void release(Predicate<String> lineItemIdPredicate) {
+        lineItemIdToIndex.forEach((lineItemId, index) -> {
+            if (lineItemIdPredicate.test(lineItemId) && lineItemIdToIndex.remove(lineItemId, index)) {
+                releasedIndexes.add(index);
+            }
+        });
+    }
+
+    private void drainLost(long key, long value, DeliveryProgress deliveryProgress) {
+        final String lineItemId = indexToLineItemId.get((int) (key >>> 32));
+        final String lostToLineItemId = indexToLineItemId.get((int) key);
+        if (lineItemId != null && lostToLineItemId != null) {
+            deliveryProgress.addLostToLineItem(lineItemId, lostToLineItemId, value);
+        }
+    }
+
+    /**
+     * Makes indexes released before the previous drain available for reuse. Their counters have been drained
+     * at least once since release, so a concurrent recording that still holds such index is not expected.
+     */
+    private void recycleReleasedIndexes() {
+        drainedReleasedIndexes.forEach(index -> {
+            indexToLineItemId.set(index, null);
+            freeIndexes.add(index);
+        });
+
+        final List<Integer> released = new ArrayList<>();
+        Integer index = releasedIndexes.poll();
+        while (index != null) {
+            released.add(index);
+            index = releasedIndexes.poll();
+        }
+        drainedReleasedIndexes = released;
+    }
+
+    private void incrementAll(Stripe stripe, Collection<String> lineItemIds, int counter) {
+        for (String lineItemId : lineItemIds) {
+            final int index = indexOf(lineItemId);
+            if (index != NO_INDEX) {
+                stripe.increment(index, counter);
+            } else {
+                overflowCounters.increment(OverflowCounter.of(lineItemId, counter));
+            }
+        }
+    }
+
+    private void incrementLost(Stripe stripe, String lineItemId, Set<String> lostToLineItemIds) {
+        final int index = indexOf(lineItemId);
+        for (String lostToLineItemId : lostToLineItemIds) {
+            final int lostToIndex = indexOf(lostToLineItemId);
+            if (index != NO_INDEX && lostToIndex != NO_INDEX) {
+                stripe.incrementLost(((long) index << 32) | lostToIndex);
+            } else {
+                overflowLost.increment(OverflowLost.of(lineItemId, lostToLineItemId));
+            }
+        }
+    }
+
+    private int indexOf(String lineItemId) {
+        final Integer existing = lineItemIdToIndex.get(lineItemId);
+        final Integer index = existing != null
+                ? existing
+                : lineItemIdToIndex.computeIfAbsent(lineItemId, this::assignIndex);
+        return index != null ? index : NO_INDEX;
+    }
+
+    /**
+     * Returns free index for the given line item or null if all of them are taken. Null is not stored by
+     * {@link Map#computeIfAbsent}, so such line item gets an index as soon as one is released.
+     */
+    private Integer assignIndex(String lineItemId) {
+        final Integer freeIndex = freeIndexes.poll();
+        if (freeIndex != null) {
+            indexToLineItemId.set(freeIndex, lineItemId);
+            return freeIndex;
+        }
+
+        if (nextIndex.get() >= MAX_LINE_ITEMS) {
+            return null;
+        }
+
+        final int index = nextIndex.getAndIncrement();
+        if (index >= MAX_LINE_ITEMS) {
+            return null;
+        }
+
+        indexToLineItemId.set(index, lineItemId);
+        return index;
+    }
+
+    private boolean drainCounters(int index, long[] counters) {
+        boolean hasValues = false;
+        for (int counter = 0; counter < COUNTERS_NUMBER; counter++) {
+            long value = 0;
+            for (Stripe stripe : stripes) {
+                value += stripe.drain(index, counter);
+            }
+            counters[counter] = value;
+            hasValues |= value > 0;
+        }
+        return hasValues;
+    }
+
+    private static class Stripe {
+
+        private final AtomicReferenceArray<AtomicLongArray> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+
+        private final ReclaimableCounters<Long> lost = new ReclaimableCounters<>();
+
+        void increment(int index, int counter) {
+            chunk(index >>> CHUNK_SHIFT).incrementAndGet(offset(index, counter));
+        }
+
+        void incrementLost(long key) {
+            lost.increment(key);
+        }
+
+        long drain(int index, int counter) {
+            final AtomicLongArray chunk = chunks.get(index >>> CHUNK_SHIFT);
+            return chunk != null ? chunk.getAndSet(offset(index, counter), 0) : 0;
+        }
+
+        private AtomicLongArray chunk(int chunkIndex) {
+            final AtomicLongArray existing = chunks.get(chunkIndex);
+            if (existing != null) {
+                return existing;
+            }
+
+            final AtomicLongArray created = new AtomicLongArray(CHUNK_SIZE * COUNTERS_NUMBER);
+            return chunks.compareAndSet(chunkIndex, null, created) ? created : chunks.get(chunkIndex);
+        }
+
+        private static int offset(int index, int counter) {
+            return (index & CHUNK_MASK) * COUNTERS_NUMBER + counter;
+        }
+    }
+
+    /**
+     * Counters keyed by arbitrary values. Counter left unused for a whole drain period is marked as dead and removed,
+     * so the map does not grow with keys seen once. Increment never lands on a dead counter, hence nothing recorded
+     * concurrently with removal is lost.
+     */
+    private static class ReclaimableCounters<K> {
+
+        private static final long DEAD = -1L;
+
+        private final Map<K, AtomicLong> counters = new ConcurrentHashMap<>();
+
+        void increment(K key) {
+            while (true) {
+                final AtomicLong counter = counters.computeIfAbsent(key, ignored -> new AtomicLong());
+                final long value = counter.get();
+                if (value == DEAD) {
+                    counters.remove(key, counter);
+                } else if (counter.compareAndSet(value, value + 1)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Passes non-zero values to the given consumer and resets them. Must not be called concurrently.
+         */
+        void drain(BiConsumer<K, Long> consumer) {
+            counters.forEach((key, counter) -> {
+                if (counter.compareAndSet(0, DEAD)) {
+                    counters.remove(key, counter);
+                    return;
+                }
+
+                final long value = counter.getAndSet(0);
+                if (value > 0) {
+                    consumer.accept(key, value);
+                }
+            });
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    private static class OverflowCounter {
+
+        String lineItemId;
+
+        int counter;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class OverflowLost {
+
+        String lineItemId;
+
+        String lostToLineItemId;
+    }
+}
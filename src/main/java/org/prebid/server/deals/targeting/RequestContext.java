@@ -19,6 +19,7 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.prebid.server.auction.BidderAliases;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.deals.model.TxnLog;
 import org.prebid.server.deals.targeting.model.GeoLocation;
 import org.prebid.server.deals.targeting.model.LookupResult;
@@ -60,6 +61,9 @@ public class RequestContext {
     private static final String EXT_PREBID_BIDDER = "prebid.bidder.";
     private static final String EXT_CONTEXT_DATA = "context.data.";
 
+    private static final Object GEO_EXT_ATTRIBUTE = new Object();
+    private static final Object DEVICE_EXT_ATTRIBUTE = new Object();
+
     private final BidRequest bidRequest;
     private final Imp imp;
     private final String bidder;
@@ -80,6 +84,21 @@ public class RequestContext {
                           TxnLog txnLog,
                           JacksonMapper mapper) {
 
+        this(bidRequest, new RequestAttributes(bidRequest), imp, bidder, aliases, txnLog, mapper);
+    }
+
+    /**
+     * Creates context reusing device and geo extensions already converted for another imp or line item
+     * of the same request.
+     */
+    public RequestContext(BidRequest bidRequest,
+                          RequestAttributes requestAttributes,
+                          Imp imp,
+                          String bidder,
+                          BidderAliases aliases,
+                          TxnLog txnLog,
+                          JacksonMapper mapper) {
+
         this.bidRequest = Objects.requireNonNull(bidRequest);
         this.imp = Objects.requireNonNull(imp);
         this.bidder = bidder;
@@ -87,11 +106,12 @@ public class RequestContext {
         this.txnLog = Objects.requireNonNull(txnLog);
 
         impReader = AttributeReader.forImp();
-        geoReader = AttributeReader.forGeo(getExtNode(
-                bidRequest.getDevice(),
+        geoReader = AttributeReader.forGeo(requestAttributes.get(GEO_EXT_ATTRIBUTE, request -> getExtNode(
+                request.getDevice(),
                 device -> getIfNotNull(getIfNotNull(device, Device::getGeo), Geo::getExt),
-                mapper));
-        deviceReader = AttributeReader.forDevice(getExtNode(bidRequest.getDevice(), Device::getExt, mapper));
+                mapper)));
+        deviceReader = AttributeReader.forDevice(requestAttributes.get(DEVICE_EXT_ATTRIBUTE,
+                request -> getExtNode(request.getDevice(), Device::getExt, mapper)));
         userReader = AttributeReader.forUser();
         siteReader = AttributeReader.forSite();
         appReader = AttributeReader.forApp();
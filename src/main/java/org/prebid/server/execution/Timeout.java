@@ -28,6 +28,19 @@ public class Timeout {
         return new Timeout(clock, deadline - amount);
     }
 
+    /**
+     * Returns a {@link Timeout} instance expiring not later than specified amount of milliseconds from the current
+     * moment, or the current instance if it expires sooner.
+     */
+    public Timeout atMost(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount must be non-negative");
+        }
+
+        final long limitedDeadline = clock.millis() + amount;
+        return limitedDeadline < deadline ? new Timeout(clock, limitedDeadline) : this;
+    }
+
     /**
      * Returns amount of time remaining before this {@link Timeout} expires.
      */
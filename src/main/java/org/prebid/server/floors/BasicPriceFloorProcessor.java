@@ -11,6 +11,7 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.floors.model.PriceFloorData;
@@ -73,7 +74,8 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
         }
 
         final PriceFloorRules floors = resolveFloors(account, bidRequest, errors);
-        final BidRequest updatedBidRequest = updateBidRequestWithFloors(bidRequest, floors, errors, warnings);
+        final BidRequest updatedBidRequest = updateBidRequestWithFloors(
+                bidRequest, auctionContext.getRequestAttributes(), floors, errors, warnings);
 
         return auctionContext.with(updatedBidRequest);
     }
@@ -255,6 +257,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
     }
 
     private BidRequest updateBidRequestWithFloors(BidRequest bidRequest,
+                                                  RequestAttributes requestAttributes,
                                                   PriceFloorRules floors,
                                                   List<String> errors,
                                                   List<String> warnings) {
@@ -264,7 +267,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
 
         final List<Imp> imps = skipFloors
                 ? bidRequest.getImp()
-                : updateImpsWithFloors(floors, bidRequest, errors, warnings);
+                : updateImpsWithFloors(floors, bidRequest, requestAttributes, errors, warnings);
         final ExtRequest extRequest = updateExtRequestWithFloors(bidRequest, floors, requestSkipRate, skipFloors);
 
         return bidRequest.toBuilder()
@@ -304,6 +307,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
 
     private List<Imp> updateImpsWithFloors(PriceFloorRules effectiveFloors,
                                            BidRequest bidRequest,
+                                           RequestAttributes requestAttributes,
                                            List<String> errors,
                                            List<String> warnings) {
 
@@ -319,7 +323,7 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
         }
 
         return CollectionUtils.emptyIfNull(imps).stream()
-                .map(imp -> updateImpWithFloors(imp, floors, bidRequest, errors, warnings))
+                .map(imp -> updateImpWithFloors(imp, floors, bidRequest, requestAttributes, errors, warnings))
                 .toList();
     }
 
@@ -333,12 +337,13 @@ public class BasicPriceFloorProcessor implements PriceFloorProcessor {
     private Imp updateImpWithFloors(Imp imp,
                                     PriceFloorRules floorRules,
                                     BidRequest bidRequest,
+                                    RequestAttributes requestAttributes,
                                     List<String> errors,
                                     List<String> warnings) {
 
         final PriceFloorResult priceFloorResult;
         try {
-            priceFloorResult = floorResolver.resolve(bidRequest, floorRules, imp, warnings);
+            priceFloorResult = floorResolver.resolve(bidRequest, requestAttributes, floorRules, imp, warnings);
         } catch (IllegalStateException e) {
             errors.add("Cannot resolve bid floor, error: " + e.getMessage());
             return imp;
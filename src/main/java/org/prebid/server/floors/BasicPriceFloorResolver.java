@@ -7,12 +7,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.App;
 import com.iab.openrtb.request.Banner;
 import com.iab.openrtb.request.BidRequest;
-import com.iab.openrtb.request.Device;
 import com.iab.openrtb.request.Format;
-import com.iab.openrtb.request.Geo;
 import com.iab.openrtb.request.Imp;
-import com.iab.openrtb.request.Publisher;
-import com.iab.openrtb.request.Site;
 import com.iab.openrtb.request.Video;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -24,6 +20,7 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.math3.util.CombinatoricsUtils;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.bidder.model.Price;
 import org.prebid.server.currency.CurrencyConversionService;
 import org.prebid.server.exception.PreBidException;
@@ -80,28 +77,49 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
     private static final JsonPointer ADSLOT_POINTER = JsonPointer.valueOf("/data/adserver/adslot");
     private static final JsonPointer ADSERVER_NAME_POINTER = JsonPointer.valueOf("/data/adserver/name");
 
-    private static final Set<String> PHONE_PATTERNS = Set.of("Phone", "iPhone", "Android.*Mobile", "Mobile.*Android");
-    private static final Set<String> TABLET_PATTERNS = Set.of("tablet", "iPad", "Windows NT.*touch",
-            "touch.*Windows NT", "Android");
-
     private final CurrencyConversionService currencyConversionService;
     private final CountryCodeMapper countryCodeMapper;
     private final Metrics metrics;
     private final JacksonMapper mapper;
+    private final DeviceTypeClassifier deviceTypeClassifier;
 
     public BasicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                    CountryCodeMapper countryCodeMapper,
                                    Metrics metrics,
-                                   JacksonMapper mapper) {
+                                   JacksonMapper mapper,
+                                   DeviceTypeClassifier deviceTypeClassifier) {
 
         this.currencyConversionService = Objects.requireNonNull(currencyConversionService);
         this.countryCodeMapper = Objects.requireNonNull(countryCodeMapper);
         this.metrics = Objects.requireNonNull(metrics);
         this.mapper = Objects.requireNonNull(mapper);
+        this.deviceTypeClassifier = Objects.requireNonNull(deviceTypeClassifier);
+    }
+
+    @Override
+    public PriceFloorResult resolve(BidRequest bidRequest,
+                                    PriceFloorRules floorRules,
+                                    Imp imp,
+                                    ImpMediaType mediaType,
+                                    Format format,
+                                    List<String> warnings) {
+
+        return resolve(bidRequest, new RequestAttributes(bidRequest), floorRules, imp, mediaType, format, warnings);
+    }
+
+    @Override
+    public PriceFloorResult resolve(BidRequest bidRequest,
+                                    RequestAttributes requestAttributes,
+                                    PriceFloorRules floorRules,
+                                    Imp imp,
+                                    List<String> warnings) {
+
+        return resolve(bidRequest, requestAttributes, floorRules, imp, null, null, warnings);
     }
 
     @Override
     public PriceFloorResult resolve(BidRequest bidRequest,
+                                    RequestAttributes requestAttributes,
                                     PriceFloorRules floorRules,
                                     Imp imp,
                                     ImpMediaType mediaType,
@@ -128,7 +146,8 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         }
 
         final String delimiter = ObjectUtils.defaultIfNull(schema.getDelimiter(), SCHEMA_DEFAULT_DELIMITER);
-        final List<List<String>> desiredRuleKey = createRuleKey(schema, bidRequest, imp, mediaType, format);
+        final List<List<String>> desiredRuleKey =
+                createRuleKey(schema, bidRequest, requestAttributes, imp, mediaType, format);
 
         final Map<String, BigDecimal> rules = keysToLowerCase(modelGroup.getValues());
 
@@ -179,30 +198,32 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
 
     private List<List<String>> createRuleKey(PriceFloorSchema schema,
                                              BidRequest bidRequest,
+                                             RequestAttributes requestAttributes,
                                              Imp imp,
                                              ImpMediaType mediaType,
                                              Format format) {
 
         return schema.getFields().stream()
-                .map(field -> toFieldValues(field, bidRequest, imp, mediaType, format))
+                .map(field -> toFieldValues(field, bidRequest, requestAttributes, imp, mediaType, format))
                 .map(BasicPriceFloorResolver::prepareFieldValues)
                 .toList();
     }
 
     private List<String> toFieldValues(PriceFloorField field,
                                        BidRequest bidRequest,
+                                       RequestAttributes requestAttributes,
                                        Imp imp,
                                        ImpMediaType mediaType,
                                        Format format) {
 
         final List<ImpMediaType> resolvedMediaTypes = mediaType != null
                 ? Collections.singletonList(mediaType)
-                : mediaTypesFromImp(imp);
+                : requestAttributes.getImpMediaTypes(imp);
 
         return switch (field) {
-            case siteDomain -> siteDomainFromRequest(bidRequest);
-            case pubDomain -> pubDomainFromRequest(bidRequest);
-            case domain -> domainFromRequest(bidRequest);
+            case siteDomain -> Collections.singletonList(requestAttributes.getSiteDomain());
+            case pubDomain -> Collections.singletonList(requestAttributes.getPubDomain());
+            case domain -> domainFromRequest(requestAttributes);
             case bundle -> bundleFromRequest(bidRequest);
             case channel -> channelFromRequest(bidRequest);
             case mediaType -> mediaTypeToRuleKey(resolvedMediaTypes);
@@ -210,70 +231,15 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
                     sizeFromFormat(ObjectUtils.defaultIfNull(format, resolveFormatFromImp(imp, resolvedMediaTypes)));
             case gptSlot -> gptAdSlotFromImp(imp);
             case pbAdSlot -> pbAdSlotFromImp(imp);
-            case country -> countryFromRequest(bidRequest);
-            case deviceType -> resolveDeviceTypeFromRequest(bidRequest);
+            case country -> countryToRuleKey(requestAttributes.getCountry());
+            case deviceType -> deviceTypeToRuleKey(requestAttributes.getDeviceType(deviceTypeClassifier));
         };
     }
 
-    private static List<ImpMediaType> mediaTypesFromImp(Imp imp) {
-        final List<ImpMediaType> impMediaTypes = new ArrayList<>();
-        if (imp.getBanner() != null) {
-            impMediaTypes.add(ImpMediaType.banner);
-        }
-
-        final Video video = imp.getVideo();
-        if (video != null) {
-            final Integer placement = video.getPlacement();
-            if (placement == null || Objects.equals(placement, 1)) {
-                impMediaTypes.add(ImpMediaType.video);
-            } else {
-                impMediaTypes.add(ImpMediaType.video_outstream);
-            }
-        }
-
-        if (imp.getXNative() != null) {
-            impMediaTypes.add(ImpMediaType.xNative);
-        }
-
-        if (imp.getAudio() != null) {
-            impMediaTypes.add(ImpMediaType.audio);
-        }
-
-        return impMediaTypes;
-    }
-
-    private static List<String> siteDomainFromRequest(BidRequest bidRequest) {
-        final Site site = bidRequest.getSite();
-        final String siteDomain = ObjectUtil.getIfNotNull(site, Site::getDomain);
-
-        if (StringUtils.isNotEmpty(siteDomain)) {
-            return Collections.singletonList(siteDomain);
-        }
-
-        final App app = bidRequest.getApp();
-        final String appDomain = ObjectUtil.getIfNotNull(app, App::getDomain);
-
-        return Collections.singletonList(appDomain);
-    }
-
-    private static List<String> pubDomainFromRequest(BidRequest bidRequest) {
-        final Site site = bidRequest.getSite();
-        final Publisher sitePublisher = ObjectUtil.getIfNotNull(site, Site::getPublisher);
-        final String sitePublisherDomain = ObjectUtil.getIfNotNull(sitePublisher, Publisher::getDomain);
-
-        if (StringUtils.isNotEmpty(sitePublisherDomain)) {
-            return Collections.singletonList(sitePublisherDomain);
-        }
-
-        final App app = bidRequest.getApp();
-        final Publisher appPublisher = ObjectUtil.getIfNotNull(app, App::getPublisher);
-        final String appPublisherDomain = ObjectUtil.getIfNotNull(appPublisher, Publisher::getDomain);
-
-        return Collections.singletonList(appPublisherDomain);
-    }
-
-    private static List<String> domainFromRequest(BidRequest bidRequest) {
-        return ListUtils.union(siteDomainFromRequest(bidRequest), pubDomainFromRequest(bidRequest));
+    private static List<String> domainFromRequest(RequestAttributes requestAttributes) {
+        return ListUtils.union(
+                Collections.singletonList(requestAttributes.getSiteDomain()),
+                Collections.singletonList(requestAttributes.getPubDomain()));
     }
 
     private static List<String> bundleFromRequest(BidRequest bidRequest) {
@@ -390,37 +356,15 @@ public class BasicPriceFloorResolver implements PriceFloorResolver {
         return Collections.singletonList(adSlot);
     }
 
-    private List<String> countryFromRequest(BidRequest bidRequest) {
-        final Device device = bidRequest.getDevice();
-        final Geo geo = ObjectUtil.getIfNotNull(device, Device::getGeo);
-        final String country = ObjectUtil.getIfNotNull(geo, Geo::getCountry);
+    private List<String> countryToRuleKey(String country) {
         final String alpha3Code = StringUtils.isNotBlank(country) ? countryCodeMapper.mapToAlpha3(country) : null;
         final String countryRuleKey = StringUtils.isNotBlank(alpha3Code) ? alpha3Code : country;
 
         return Collections.singletonList(countryRuleKey);
     }
 
-    public static List<String> resolveDeviceTypeFromRequest(BidRequest bidRequest) {
-        final Device device = bidRequest.getDevice();
-        final String userAgent = ObjectUtil.getIfNotNull(device, Device::getUa);
-
-        if (StringUtils.isBlank(userAgent)) {
-            return Collections.singletonList(WILDCARD_CATCH_ALL);
-        }
-
-        for (String pattern : PHONE_PATTERNS) {
-            if (userAgent.matches(pattern)) {
-                return Collections.singletonList(DeviceType.phone.name());
-            }
-        }
-
-        for (String pattern : TABLET_PATTERNS) {
-            if (userAgent.matches(pattern)) {
-                return Collections.singletonList(DeviceType.tablet.name());
-            }
-        }
-
-        return Collections.singletonList(DeviceType.desktop.name());
+    private static List<String> deviceTypeToRuleKey(DeviceType deviceType) {
+        return Collections.singletonList(deviceType != null ? deviceType.name() : WILDCARD_CATCH_ALL);
     }
 
     private static List<String> prepareFieldValues(List<String> fieldValues) {
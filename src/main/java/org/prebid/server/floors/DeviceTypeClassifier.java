@@ -0,0 +1,59 @@
+package org.prebid.server.floors;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.floors.model.DeviceType;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Detects {@link DeviceType} by user agent.
+ * <p>
+ * All phone and tablet patterns are compiled into a single expression, where phone alternatives come first,
+ * so phone wins if user agent matches both. As in the original floors implementation, pattern has to match
+ * the whole user agent. User agents are highly repetitive, so results are kept in a bounded cache.
+ */
+public class DeviceTypeClassifier {
+
+    private static final String PHONE_GROUP = "phone";
+    private static final String TABLET_GROUP = "tablet";
+
+    private static final Pattern DEVICE_TYPE_PATTERN = Pattern.compile(
+            "(?<%s>Phone|iPhone|Android.*Mobile|Mobile.*Android)".formatted(PHONE_GROUP)
+                    + "|(?<%s>tablet|iPad|Windows NT.*touch|touch.*Windows NT|Android)".formatted(TABLET_GROUP));
+
+    private final Map<String, DeviceType> userAgentToDeviceType;
+
+    public DeviceTypeClassifier(int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cacheSize must be positive");
+        }
+
+        userAgentToDeviceType = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<String, DeviceType>build()
+                .asMap();
+    }
+
+    /**
+     * Returns device type for the given user agent or null if user agent is blank.
+     */
+    public DeviceType classify(String userAgent) {
+        if (StringUtils.isBlank(userAgent)) {
+            return null;
+        }
+
+        return userAgentToDeviceType.computeIfAbsent(userAgent, DeviceTypeClassifier::match);
+    }
+
+    private static DeviceType match(String userAgent) {
+        final Matcher matcher = DEVICE_TYPE_PATTERN.matcher(userAgent);
+        if (!matcher.matches()) {
+            return DeviceType.desktop;
+        }
+
+        return matcher.group(PHONE_GROUP) != null ? DeviceType.phone : DeviceType.tablet;
+    }
+}
@@ -3,6 +3,7 @@ package org.prebid.server.floors;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Format;
 import com.iab.openrtb.request.Imp;
+import org.prebid.server.auction.model.RequestAttributes;
 import org.prebid.server.floors.model.PriceFloorResult;
 import org.prebid.server.floors.model.PriceFloorRules;
 import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
@@ -26,6 +27,33 @@ public interface PriceFloorResolver {
         return resolve(bidRequest, floorRules, imp, null, null, warnings);
     }
 
+    /**
+     * Resolves floor for the given imp reusing request attributes already derived by other imps and components.
+     */
+    default PriceFloorResult resolve(BidRequest bidRequest,
+                                     RequestAttributes requestAttributes,
+                                     PriceFloorRules floorRules,
+                                     Imp imp,
+                                     List<String> warnings) {
+
+        return resolve(bidRequest, floorRules, imp, warnings);
+    }
+
+    /**
+     * Resolves floor for the given imp, media type and format reusing request attributes shared by the imps
+     * of the request.
+     */
+    default PriceFloorResult resolve(BidRequest bidRequest,
+                                     RequestAttributes requestAttributes,
+                                     PriceFloorRules floorRules,
+                                     Imp imp,
+                                     ImpMediaType mediaType,
+                                     Format format,
+                                     List<String> warnings) {
+
+        return resolve(bidRequest, floorRules, imp, mediaType, format, warnings);
+    }
+
     static NoOpPriceFloorResolver noOp() {
         return new NoOpPriceFloorResolver();
     }
@@ -0,0 +1,150 @@
+package org.prebid.server.handler;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.util.HttpUtil;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sheds requests to auction endpoints when event loop serving them is overloaded.
+ * <p>
+ * Each event loop is checked separately: its lag is measured by periodic timer as a delay between expected and
+ * actual timer firing, and its in-flight requests are counted until response is ended or connection is closed.
+ * Request is rejected with 503 status when lag or number of in-flight requests exceeds configured maximum,
+ * so requests which can't be served in time fail fast instead of timing out.
+ */
+public class AdmissionControlHandler implements Handler<RoutingContext> {
+
+    private static final String OVERLOADED_MESSAGE = "Server is overloaded, try again later";
+
+    private final Vertx vertx;
+    private final long lagCheckIntervalMs;
+    private final long maxEventLoopLagMs;
+    private final int maxInFlightRequests;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final Map<Context, EventLoopState> eventLoopStates = new ConcurrentHashMap<>();
+
+    public AdmissionControlHandler(Vertx vertx,
+                                   long lagCheckIntervalMs,
+                                   long maxEventLoopLagMs,
+                                   int maxInFlightRequests,
+                                   Metrics metrics,
+                                   Clock clock) {
+
+        if (lagCheckIntervalMs <= 0 || maxEventLoopLagMs <= 0 || maxInFlightRequests <= 0) {
+            throw new IllegalArgumentException(
+                    "Lag check interval, max event loop lag and max in-flight requests must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+        this.maxEventLoopLagMs = maxEventLoopLagMs;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void handle(RoutingContext routingContext) {
+        final EventLoopState state =
+                eventLoopStates.computeIfAbsent(vertx.getOrCreateContext(), ignored -> createState());
+
+        if (state.lagMs > maxEventLoopLagMs) {
+            reject(routingContext, MetricName.shed_by_event_loop_lag);
+            return;
+        }
+
+        final AtomicInteger inFlightRequests = state.inFlightRequests;
+        if (exceedsInFlightLimit(inFlightRequests.incrementAndGet())) {
+            inFlightRequests.decrementAndGet();
+            reject(routingContext, MetricName.shed_by_in_flight);
+            return;
+        }
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final Handler<Void> releaseHandler = ignored -> {
+            if (released.compareAndSet(false, true)) {
+                inFlightRequests.decrementAndGet();
+            }
+        };
+        routingContext.addBodyEndHandler(releaseHandler);
+        routingContext.response().closeHandler(releaseHandler);
+
+        routingContext.next();
+    }
+
+    /**
+     * Returns true if at least one of event loops is overloaded at the moment.
+     */
+    public boolean isOverloaded() {
+        return eventLoopStates.values().stream().anyMatch(this::isOverloaded);
+    }
+
+    /**
+     * Event loop is overloaded if the next request arriving on it would be rejected by {@link #handle}.
+     */
+    private boolean isOverloaded(EventLoopState state) {
+        return state.lagMs > maxEventLoopLagMs || exceedsInFlightLimit(state.inFlightRequests.get() + 1);
+    }
+
+    private boolean exceedsInFlightLimit(int inFlightRequests) {
+        return inFlightRequests > maxInFlightRequests;
+    }
+
+    /**
+     * Creates state of the current event loop and starts measuring its lag.
+     * <p>
+     * Timer is set from within the event loop context, so it fires on the same event loop.
+     */
+    private EventLoopState createState() {
+        final EventLoopState state = new EventLoopState(clock.millis() + lagCheckIntervalMs);
+        vertx.setPeriodic(lagCheckIntervalMs, ignored -> measureLag(state));
+        return state;
+    }
+
+    private void measureLag(EventLoopState state) {
+        final long currentTime = clock.millis();
+        final long lagMs = Math.max(0, currentTime - state.expectedCheckTime);
+
+        state.lagMs = lagMs;
+        state.expectedCheckTime = currentTime + lagCheckIntervalMs;
+
+        metrics.updateEventLoopLagMetric(lagMs);
+    }
+
+    private void reject(RoutingContext routingContext, MetricName reason) {
+        metrics.updateAdmissionControlShedMetric(reason);
+
+        HttpUtil.executeSafely(routingContext, routingContext.request().path(),
+                response -> response
+                        .setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                        .end(OVERLOADED_MESSAGE));
+    }
+
+    private static class EventLoopState {
+
+        private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+        private volatile long lagMs;
+
+        // accessed only by timer on the event loop
+        private long expectedCheckTime;
+
+        EventLoopState(long expectedCheckTime) {
+            this.expectedCheckTime = expectedCheckTime;
+        }
+    }
+}
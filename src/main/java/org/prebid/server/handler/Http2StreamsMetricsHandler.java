@@ -0,0 +1,56 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import org.prebid.server.metric.Metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks HTTP/2 streams served by HTTP server and passes requests to the delegate handler.
+ * <p>
+ * Stream is considered active until its response is ended, failed or closed (e.g. stream reset by the client or
+ * connection closed). Whichever of these happens first releases the stream, the others are ignored.
+ */
+public class Http2StreamsMetricsHandler implements Handler<HttpServerRequest> {
+
+    private final Handler<HttpServerRequest> delegate;
+    private final Metrics metrics;
+
+    private final AtomicLong activeStreams = new AtomicLong();
+
+    public Http2StreamsMetricsHandler(Handler<HttpServerRequest> delegate, Metrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+
+        metrics.createHttp2ActiveStreamsGauge(activeStreams::get);
+    }
+
+    @Override
+    public void handle(HttpServerRequest request) {
+        if (request.version() == HttpVersion.HTTP_2) {
+            metrics.updateHttp2RequestsMetric();
+            activeStreams.incrementAndGet();
+            trackRelease(request.response());
+        }
+
+        delegate.handle(request);
+    }
+
+    private void trackRelease(HttpServerResponse response) {
+        final AtomicBoolean released = new AtomicBoolean();
+        final Handler<Void> releaseHandler = ignored -> {
+            if (released.compareAndSet(false, true)) {
+                activeStreams.decrementAndGet();
+            }
+        };
+
+        response.endHandler(releaseHandler);
+        response.closeHandler(releaseHandler);
+        response.exceptionHandler(ignored -> releaseHandler.handle(null));
+    }
+}
@@ -4,14 +4,10 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
-import lombok.AllArgsConstructor;
-import lombok.Value;
 import org.prebid.server.analytics.AnalyticsReporter;
 import org.prebid.server.analytics.model.NotificationEvent;
 import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
@@ -29,9 +25,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.util.HttpUtil;
-import org.prebid.server.util.ResourceUtil;
 
-import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -42,9 +36,6 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationEventHandler.class);
 
-    private static final String TRACKING_PIXEL_PNG = "static/tracking-pixel.png";
-    private static final String PNG_CONTENT_TYPE = "image/png";
-
     private final UidsCookieService uidsCookieService;
     private final ApplicationEventService applicationEventService;
     private final UserService userService;
@@ -53,7 +44,6 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
     private final ApplicationSettings applicationSettings;
     private final long defaultTimeoutMillis;
     private final boolean dealsEnabled;
-    private final TrackingPixel trackingPixel;
 
     public NotificationEventHandler(UidsCookieService uidsCookieService,
                                     ApplicationEventService applicationEventService,
@@ -72,19 +62,6 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
         this.applicationSettings = Objects.requireNonNull(applicationSettings);
         this.defaultTimeoutMillis = defaultTimeoutMillis;
         this.dealsEnabled = dealsEnabled;
-
-        trackingPixel = createTrackingPixel();
-    }
-
-    private static TrackingPixel createTrackingPixel() {
-        final byte[] bytes;
-        try {
-            bytes = ResourceUtil.readByteArrayFromClassPath(TRACKING_PIXEL_PNG);
-        } catch (IOException e) {
-            throw new IllegalArgumentException(
-                    "Failed to load pixel image at " + TRACKING_PIXEL_PNG, e);
-        }
-        return TrackingPixel.of(PNG_CONTENT_TYPE, bytes);
     }
 
     @Override
@@ -109,6 +86,13 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
         }
 
         final EventRequest eventRequest = EventUtil.from(routingContext);
+        if (eventRequest.getAnalytics() != EventRequest.Analytics.enabled) {
+            // account is needed only to pass event to analytics, so it isn't fetched at all
+            processLineItemEvent(eventRequest, routingContext);
+            respondWithOk(routingContext, eventRequest.getFormat() == EventRequest.Format.image);
+            return;
+        }
+
         getAccountById(eventRequest.getAccountId())
                 .onComplete(async -> handleEvent(async, eventRequest, routingContext));
     }
@@ -142,43 +126,42 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
         } else {
             final Account account = async.result();
 
-            final String lineItemId = eventRequest.getLineItemId();
-            final String bidId = eventRequest.getBidId();
-            if (dealsEnabled && lineItemId != null) {
-                applicationEventService.publishLineItemWinEvent(lineItemId);
-                userService.processWinEvent(lineItemId, bidId, uidsCookieService.parseFromRequest(routingContext));
-            }
-
-            boolean eventsEnabledForAccount = Objects.equals(accountEventsEnabled(account), true);
-            boolean eventsEnabledForRequest = eventRequest.getAnalytics() == EventRequest.Analytics.enabled;
+            processLineItemEvent(eventRequest, routingContext);
 
-            if (!eventsEnabledForAccount && eventsEnabledForRequest) {
+            if (!Objects.equals(accountEventsEnabled(account), true)) {
                 respondWithUnauthorized(routingContext,
                         "Account '%s' doesn't support events".formatted(account.getId()));
                 return;
             }
 
             final EventRequest.Type eventType = eventRequest.getType();
-            if (eventsEnabledForRequest) {
-                final NotificationEvent notificationEvent = NotificationEvent.builder()
-                        .type(eventType == EventRequest.Type.win
-                                ? NotificationEvent.Type.win : NotificationEvent.Type.imp)
-                        .bidId(eventRequest.getBidId())
-                        .account(account)
-                        .bidder(eventRequest.getBidder())
-                        .timestamp(eventRequest.getTimestamp())
-                        .integration(eventRequest.getIntegration())
-                        .httpContext(HttpRequestContext.from(routingContext))
-                        .lineItemId(lineItemId)
-                        .build();
-
-                analyticsDelegator.processEvent(notificationEvent);
+            final NotificationEvent notificationEvent = NotificationEvent.builder()
+                    .type(eventType == EventRequest.Type.win
+                            ? NotificationEvent.Type.win : NotificationEvent.Type.imp)
+                    .bidId(eventRequest.getBidId())
+                    .account(account)
+                    .bidder(eventRequest.getBidder())
+                    .timestamp(eventRequest.getTimestamp())
+                    .integration(eventRequest.getIntegration())
+                    .httpContext(HttpRequestContext.from(routingContext))
+                    .lineItemId(eventRequest.getLineItemId())
+                    .build();
+
+            analyticsDelegator.processEvent(notificationEvent);
 
-            }
             respondWithOk(routingContext, eventRequest.getFormat() == EventRequest.Format.image);
         }
     }
 
+    private void processLineItemEvent(EventRequest eventRequest, RoutingContext routingContext) {
+        final String lineItemId = eventRequest.getLineItemId();
+        if (dealsEnabled && lineItemId != null) {
+            applicationEventService.publishLineItemWinEvent(lineItemId);
+            userService.processWinEvent(
+                    lineItemId, eventRequest.getBidId(), uidsCookieService.parseFromRequest(routingContext));
+        }
+    }
+
     private static Boolean accountEventsEnabled(Account account) {
         final AccountAuctionConfig accountAuctionConfig = account.getAuction();
         final AccountEventsConfig accountEventsConfig =
@@ -189,10 +172,7 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
 
     private void respondWithOk(RoutingContext routingContext, boolean respondWithPixel) {
         if (respondWithPixel) {
-            HttpUtil.executeSafely(routingContext, Endpoint.event,
-                    response -> response
-                            .putHeader(HttpHeaders.CONTENT_TYPE, trackingPixel.getContentType())
-                            .end(Buffer.buffer(trackingPixel.getContent())));
+            HttpUtil.executeSafely(routingContext, Endpoint.event, TrackingPixel::respondWith);
         } else {
             HttpUtil.executeSafely(routingContext, Endpoint.event,
                     HttpServerResponse::end);
@@ -219,16 +199,4 @@ public class NotificationEventHandler implements Handler<RoutingContext> {
                         .setStatusCode(status.code())
                         .end(body));
     }
-
-    /**
-     * Internal class for holding pixels content type to its value.
-     */
-    @AllArgsConstructor(staticName = "of")
-    @Value
-    private static class TrackingPixel {
-
-        String contentType;
-
-        byte[] content;
-    }
 }
@@ -50,7 +50,6 @@ public class SetuidHandler implements Handler<RoutingContext> {
 
     private static final String BIDDER_PARAM = "bidder";
     private static final String UID_PARAM = "uid";
-    private static final String PIXEL_FILE_PATH = "static/tracking-pixel.png";
     private static final String ACCOUNT_PARAM = "account";
     private static final int UNAVAILABLE_FOR_LEGAL_REASONS = 451;
 
@@ -282,7 +281,7 @@ public class SetuidHandler implements Handler<RoutingContext> {
 
         final String format = setuidContext.getRoutingContext().request().getParam(UsersyncUtil.FORMAT_PARAMETER);
         return shouldRespondWithPixel(format, setuidContext.getSyncType())
-                ? response -> response.sendFile(PIXEL_FILE_PATH)
+                ? TrackingPixel::respondWith
                 : response -> response
                 .setStatusCode(responseStatusCode)
                 .putHeader(HttpHeaders.CONTENT_LENGTH, "0")
@@ -0,0 +1,42 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import org.prebid.server.util.ResourceUtil;
+
+import java.io.IOException;
+
+/**
+ * Tracking pixel image returned by pixel endpoints.
+ * <p>
+ * Image is read once and kept in {@link Buffer} which is written to every response as is,
+ * without file system access or copying per request.
+ */
+final class TrackingPixel {
+
+    private static final String TRACKING_PIXEL_PNG = "static/tracking-pixel.png";
+    private static final String PNG_CONTENT_TYPE = "image/png";
+
+    private static final Buffer CONTENT = readContent();
+
+    private TrackingPixel() {
+    }
+
+    private static Buffer readContent() {
+        try {
+            return Buffer.buffer(ResourceUtil.readByteArrayFromClassPath(TRACKING_PIXEL_PNG));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to load pixel image at " + TRACKING_PIXEL_PNG, e);
+        }
+    }
+
+    /**
+     * Ends the given response with tracking pixel image.
+     */
+    static void respondWith(HttpServerResponse response) {
+        response
+                .putHeader(HttpHeaders.CONTENT_TYPE, PNG_CONTENT_TYPE)
+                .end(CONTENT);
+    }
+}
@@ -4,6 +4,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -20,6 +21,7 @@ import org.prebid.server.cache.CacheService;
 import org.prebid.server.exception.InvalidRequestException;
 import org.prebid.server.exception.UnauthorizedAccountException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.json.JsonBufferEncoder;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.model.Endpoint;
@@ -55,7 +57,7 @@ public class VideoHandler implements Handler<RoutingContext> {
     private final Metrics metrics;
     private final Clock clock;
     private final PrebidVersionProvider prebidVersionProvider;
-    private final JacksonMapper mapper;
+    private final JsonBufferEncoder responseEncoder;
 
     public VideoHandler(VideoRequestFactory videoRequestFactory,
                         VideoResponseFactory videoResponseFactory,
@@ -73,7 +75,7 @@ public class VideoHandler implements Handler<RoutingContext> {
         this.metrics = Objects.requireNonNull(metrics);
         this.clock = Objects.requireNonNull(clock);
         this.prebidVersionProvider = Objects.requireNonNull(prebidVersionProvider);
-        this.mapper = Objects.requireNonNull(mapper);
+        this.responseEncoder = new JsonBufferEncoder(Objects.requireNonNull(mapper));
     }
 
     @Override
@@ -120,7 +122,7 @@ public class VideoHandler implements Handler<RoutingContext> {
         final MetricName metricRequestStatus;
         final List<String> errorMessages;
         final HttpResponseStatus status;
-        final String body;
+        final Buffer body;
         final VideoResponse videoResponse = responseSucceeded ? responseResult.result() : null;
 
         final HttpServerResponse response = routingContext.response();
@@ -132,7 +134,7 @@ public class VideoHandler implements Handler<RoutingContext> {
 
             status = HttpResponseStatus.OK;
             enrichWithSuccessfulHeaders(response);
-            body = mapper.encodeToString(videoResponse);
+            body = responseEncoder.encode(videoResponse);
         } else {
             final Throwable exception = responseResult.cause();
             if (exception instanceof InvalidRequestException) {
@@ -141,9 +143,9 @@ public class VideoHandler implements Handler<RoutingContext> {
                 logger.info("Invalid request format: {0}", errorMessages);
 
                 status = HttpResponseStatus.BAD_REQUEST;
-                body = errorMessages.stream()
+                body = Buffer.buffer(errorMessages.stream()
                         .map(msg -> "Invalid request format: " + msg)
-                        .collect(Collectors.joining("\n"));
+                        .collect(Collectors.joining("\n")));
             } else if (exception instanceof UnauthorizedAccountException) {
                 metricRequestStatus = MetricName.badinput;
                 final String errorMessage = exception.getMessage();
@@ -151,7 +153,7 @@ public class VideoHandler implements Handler<RoutingContext> {
                 errorMessages = Collections.singletonList(errorMessage);
 
                 status = HttpResponseStatus.UNAUTHORIZED;
-                body = "Unauthorised: " + errorMessage;
+                body = Buffer.buffer("Unauthorised: " + errorMessage);
             } else {
                 metricRequestStatus = MetricName.err;
                 logger.error("Critical error while running the auction", exception);
@@ -160,7 +162,7 @@ public class VideoHandler implements Handler<RoutingContext> {
                 errorMessages = Collections.singletonList(message);
 
                 status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-                body = "Critical error while running the auction: " + message;
+                body = Buffer.buffer("Critical error while running the auction: " + message);
             }
         }
 
@@ -205,7 +207,7 @@ public class VideoHandler implements Handler<RoutingContext> {
 
     private void respondWith(RoutingContext routingContext,
                              HttpResponseStatus status,
-                             String body,
+                             Buffer body,
                              long startTime,
                              MetricName metricRequestStatus,
                              VideoEvent event,
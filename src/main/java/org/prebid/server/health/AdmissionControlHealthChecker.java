@@ -0,0 +1,37 @@
+package org.prebid.server.health;
+
+import org.prebid.server.handler.AdmissionControlHandler;
+import org.prebid.server.health.model.Status;
+import org.prebid.server.health.model.StatusResponse;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * Reports server as not ready to accept more traffic while auction requests are shed by admission control.
+ */
+public class AdmissionControlHealthChecker implements HealthChecker {
+
+    private static final String NAME = "admission-control";
+
+    private final AdmissionControlHandler admissionControlHandler;
+    private final Clock clock;
+
+    public AdmissionControlHealthChecker(AdmissionControlHandler admissionControlHandler, Clock clock) {
+        this.admissionControlHandler = Objects.requireNonNull(admissionControlHandler);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public StatusResponse status() {
+        return StatusResponse.of(
+                admissionControlHandler.isOverloaded() ? Status.DOWN.name() : Status.UP.name(),
+                ZonedDateTime.now(clock));
+    }
+}
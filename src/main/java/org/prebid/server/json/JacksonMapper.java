@@ -3,6 +3,7 @@ package org.prebid.server.json;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import org.prebid.server.proto.openrtb.ext.FlexibleExtension;
@@ -15,9 +16,11 @@ public class JacksonMapper {
 
     private static final String FAILED_TO_DECODE = "Failed to decode: %s";
     private final ObjectMapper mapper;
+    private final ObjectWriter sharedFragmentWriter;
 
     public JacksonMapper(ObjectMapper mapper) {
         this.mapper = Objects.requireNonNull(mapper);
+        this.sharedFragmentWriter = mapper.copy().registerModule(new SharedFragmentModule()).writer();
     }
 
     public ObjectMapper mapper() {
@@ -26,7 +29,10 @@ public class JacksonMapper {
 
     public <T> String encodeToString(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsString(obj);
+            final SharedFragments fragments = SharedFragments.current();
+            return fragments != null
+                    ? sharedFragmentWriter(fragments).writeValueAsString(obj)
+                    : mapper.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
         }
@@ -34,7 +40,10 @@ public class JacksonMapper {
 
     public <T> byte[] encodeToBytes(T obj) throws EncodeException {
         try {
-            return mapper.writeValueAsBytes(obj);
+            final SharedFragments fragments = SharedFragments.current();
+            return fragments != null
+                    ? sharedFragmentWriter(fragments).writeValueAsBytes(obj)
+                    : mapper.writeValueAsBytes(obj);
         } catch (JsonProcessingException e) {
             throw new EncodeException("Failed to encode as byte array: " + e.getMessage());
         }
@@ -84,4 +93,11 @@ public class JacksonMapper {
         target.addProperties(mapper.convertValue(source, FlexibleExtension.PROPERTIES_TYPE_REF));
         return target;
     }
+
+    /**
+     * Returns writer reusing request sub-objects serialized within {@link SharedFragments#encodeWithin}.
+     */
+    private ObjectWriter sharedFragmentWriter(SharedFragments fragments) {
+        return sharedFragmentWriter.withAttribute(SharedFragments.class, fragments);
+    }
 }
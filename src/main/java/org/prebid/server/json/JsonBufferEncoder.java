@@ -0,0 +1,57 @@
+package org.prebid.server.json;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * Encodes objects as JSON directly into {@link Buffer}, avoiding intermediate {@link String} and byte array
+ * copies of the encoded value.
+ * <p>
+ * Buffer is pre-sized from the running average of previously encoded values, so growing it is rarely needed.
+ * Each instance keeps its own estimate, so it should be used for values of similar size, like responses of
+ * a single endpoint.
+ */
+public class JsonBufferEncoder {
+
+    private static final int MIN_INITIAL_CAPACITY = 1024;
+    private static final int MAX_INITIAL_CAPACITY = 1024 * 1024;
+    private static final int ESTIMATE_WEIGHT = 8;
+
+    private final JacksonMapper mapper;
+
+    // races between concurrent updates are harmless: estimate only affects initial buffer capacity
+    private volatile int averageSize = MIN_INITIAL_CAPACITY;
+
+    public JsonBufferEncoder(JacksonMapper mapper) {
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    public <T> Buffer encode(T obj) throws EncodeException {
+        final ByteBuf byteBuf = Unpooled.buffer(initialCapacity());
+        try {
+            mapper.mapper().writeValue((OutputStream) new ByteBufOutputStream(byteBuf), obj);
+        } catch (IOException e) {
+            throw new EncodeException("Failed to encode as JSON: " + e.getMessage());
+        }
+
+        updateAverageSize(byteBuf.readableBytes());
+        return Buffer.buffer(byteBuf);
+    }
+
+    private int initialCapacity() {
+        // a quarter of headroom lets most of the values fit without buffer growth
+        final int size = averageSize;
+        return Math.min(Math.max(size + (size >> 2), MIN_INITIAL_CAPACITY), MAX_INITIAL_CAPACITY);
+    }
+
+    private void updateAverageSize(int size) {
+        final int average = averageSize;
+        averageSize = average + (size - average) / ESTIMATE_WEIGHT;
+    }
+}
@@ -0,0 +1,141 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Regs;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Source;
+import com.iab.openrtb.request.User;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Serializes request sub-objects which are usually shared by identity between per-bidder copies of the same
+ * request only once and splices the serialized JSON into every following payload.
+ * <p>
+ * Fragments are kept in {@link SharedFragments} of the auction, passed as serialization attribute. Without it,
+ * as well as for serialization into token buffers (tree conversion) and pretty printed output, objects are
+ * serialized as usual.
+ */
+class SharedFragmentModule extends SimpleModule {
+
+    private static final Set<Class<?>> SHARED_TYPES =
+            Set.of(Site.class, App.class, Device.class, User.class, Source.class, Regs.class);
+
+    SharedFragmentModule() {
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config,
+                                                      BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+
+                return SHARED_TYPES.contains(beanDesc.getBeanClass())
+                        ? new SharedFragmentSerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+    }
+
+    private static class SharedFragmentSerializer extends JsonSerializer<Object>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+
+        SharedFragmentSerializer(JsonSerializer<Object> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            final SharedFragments fragments = (SharedFragments) provider.getAttribute(SharedFragments.class);
+            final ObjectCodec codec = generator.getCodec();
+            if (fragments == null
+                    || codec == null
+                    || generator instanceof TokenBuffer
+                    || generator.getPrettyPrinter() != null) {
+
+                delegate.serialize(value, generator, provider);
+                return;
+            }
+
+            String fragment = fragments.get(value);
+            if (fragment == null) {
+                fragment = serializeFragment(value, codec, generator, provider);
+                fragments.put(value, fragment);
+            }
+
+            generator.writeRawValue(fragment);
+        }
+
+        private String serializeFragment(Object value,
+                                         ObjectCodec codec,
+                                         JsonGenerator generator,
+                                         SerializerProvider provider) throws IOException {
+
+            final SegmentedStringWriter writer = new SegmentedStringWriter(new BufferRecycler());
+            try (JsonGenerator fragmentGenerator = codec.getFactory().createGenerator(writer)) {
+                fragmentGenerator.setFeatureMask(generator.getFeatureMask());
+                delegate.serialize(value, fragmentGenerator, provider);
+            }
+            return writer.getAndClear();
+        }
+
+        @Override
+        public void serializeWithType(Object value,
+                                      JsonGenerator generator,
+                                      SerializerProvider provider,
+                                      TypeSerializer typeSerializer) throws IOException {
+
+            delegate.serializeWithType(value, generator, provider, typeSerializer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public Class<Object> handledType() {
+            return delegate.handledType();
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) delegate).resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+
+            final JsonSerializer<?> contextual = delegate instanceof ContextualSerializer
+                    ? ((ContextualSerializer) delegate).createContextual(provider, property)
+                    : delegate;
+
+            return contextual == delegate
+                    ? this
+                    : new SharedFragmentSerializer((JsonSerializer<Object>) contextual);
+        }
+    }
+}
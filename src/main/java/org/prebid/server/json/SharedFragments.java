@@ -0,0 +1,49 @@
+package org.prebid.server.json;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Serialized JSON of request sub-objects shared by identity between per-bidder requests of a single auction.
+ * <p>
+ * Instance is created per auction and is used by {@link JacksonMapper} only while bidder requests are encoded
+ * within {@link #encodeWithin(Supplier)}, so fragments never outlive the auction and are never reused
+ * by unrelated serialization.
+ */
+public class SharedFragments {
+
+    private static final ThreadLocal<SharedFragments> CURRENT = new ThreadLocal<>();
+
+    private final Map<Object, String> objectToFragment = new IdentityHashMap<>();
+
+    /**
+     * Runs the given code, which is expected to encode bidder requests synchronously, with this instance
+     * available to {@link JacksonMapper} on the current thread.
+     */
+    public <T> T encodeWithin(Supplier<T> encoding) {
+        final SharedFragments previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return encoding.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static SharedFragments current() {
+        return CURRENT.get();
+    }
+
+    synchronized String get(Object value) {
+        return objectToFragment.get(value);
+    }
+
+    synchronized void put(Object value, String fragment) {
+        objectToFragment.put(value, fragment);
+    }
+}
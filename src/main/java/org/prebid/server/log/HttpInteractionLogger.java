@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
@@ -43,7 +44,7 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Auction(AuctionContext auctionContext,
                                         RoutingContext routingContext,
                                         int statusCode,
-                                        String responseBody) {
+                                        Buffer responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.auction, statusCode, auctionContext)) {
             logger.info(
@@ -51,7 +52,7 @@ public class HttpInteractionLogger {
                     routingContext.request().uri(),
                     toOneLineString(routingContext.getBodyAsString()),
                     statusCode,
-                    responseBody);
+                    Objects.toString(responseBody, null));
 
             incLoggedInteractions();
         }
@@ -68,14 +69,14 @@ public class HttpInteractionLogger {
     public void maybeLogOpenrtb2Amp(AuctionContext auctionContext,
                                     RoutingContext routingContext,
                                     int statusCode,
-                                    String responseBody) {
+                                    Buffer responseBody) {
 
         if (interactionSatisfiesSpec(HttpLogSpec.Endpoint.amp, statusCode, auctionContext)) {
             logger.info(
                     "Requested URL: \"{0}\", response status: \"{1}\", response body: \"{2}\"",
                     routingContext.request().uri(),
                     statusCode,
-                    responseBody);
+                    Objects.toString(responseBody, null));
 
             incLoggedInteractions();
         }
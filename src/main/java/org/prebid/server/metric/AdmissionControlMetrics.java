@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Auction endpoints admission control metrics support.
+ */
+class AdmissionControlMetrics extends UpdatableMetrics {
+
+    AdmissionControlMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "admission-control." + metricName);
+    }
+}
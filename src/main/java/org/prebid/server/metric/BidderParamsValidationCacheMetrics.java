@@ -0,0 +1,16 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+
+/**
+ * Bidder params validation cache metrics support.
+ */
+class BidderParamsValidationCacheMetrics extends UpdatableMetrics {
+
+    BidderParamsValidationCacheMetrics(MetricRegistry metricRegistry, CounterType counterType) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                metricName -> "bidder-params.validation.cache." + metricName);
+    }
+}
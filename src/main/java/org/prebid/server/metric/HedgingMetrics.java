@@ -0,0 +1,25 @@
+package org.prebid.server.metric;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Hedged HTTP requests metrics support.
+ */
+class HedgingMetrics extends UpdatableMetrics {
+
+    HedgingMetrics(MetricRegistry metricRegistry, CounterType counterType, String name) {
+        super(Objects.requireNonNull(metricRegistry), Objects.requireNonNull(counterType),
+                nameCreator(createPrefix(Objects.requireNonNull(name))));
+    }
+
+    private static String createPrefix(String name) {
+        return "hedging." + name;
+    }
+
+    private static Function<MetricName, String> nameCreator(String prefix) {
+        return metricName -> "%s.%s".formatted(prefix, metricName);
+    }
+}
@@ -4,6 +4,8 @@ public enum MetricName {
 
     // connection
     connection_accept_errors,
+    http2_requests("http2.requests"),
+    http2_active_streams("http2.active_streams"),
 
     // circuit breaker
     db,
@@ -26,6 +28,8 @@ public enum MetricName {
     app_requests,
     no_cookie_requests,
     request_time,
+    prepare_time,
+    bid_validation_time,
     prices,
     imps_requested,
     imps_banner,
@@ -72,6 +76,19 @@ public enum MetricName {
     // bids validation
     warn,
 
+    // early auction close
+    late,
+    late_bids_received,
+
+    // traffic shaping
+    shaping_skipped,
+    shaping_explored,
+
+    // bidder concurrency limit
+    queued,
+    rejected,
+    in_flight,
+
     // cookie sync
     cookie_sync_requests,
     opt_outs,
@@ -122,12 +139,31 @@ public enum MetricName {
     // settings cache
     stored_request("stored-request"),
     amp_stored_request("amp-stored-request"),
+    stored_response("stored-response"),
     account,
     initialize,
     update,
     hit,
     miss,
 
+    // bidder params validation cache
+    bypass,
+
+    // admission control
+    event_loop_lag,
+    shed_by_event_loop_lag("shed.event_loop_lag"),
+    shed_by_in_flight("shed.in_flight"),
+
+    // hedging
+    hedged,
+    hedge_won,
+    hedge_capped,
+
+    // startup
+    bidder_params_schemas,
+    context_refresh,
+    services_initialization_dispatch,
+
     // hooks
     call,
     success,
@@ -38,6 +38,7 @@ public class Metrics extends UpdatableMetrics {
     private final Function<Integer, BidderCardinalityMetrics> bidderCardinalityMetricsCreator;
     private final Function<MetricName, CircuitBreakerMetrics> circuitBreakerMetricsCreator;
     private final Function<MetricName, SettingsCacheMetrics> settingsCacheMetricsCreator;
+    private final Function<String, HedgingMetrics> hedgingMetricsCreator;
     // not thread-safe maps are intentionally used here because it's harmless in this particular case - eventually
     // this all boils down to metrics lookup by underlying metric registry and that operation is guaranteed to be
     // thread-safe
@@ -54,8 +55,12 @@ public class Metrics extends UpdatableMetrics {
     private final Map<MetricName, CircuitBreakerMetrics> circuitBreakerMetrics;
     private final CacheMetrics cacheMetrics;
     private final TimeoutNotificationMetrics timeoutNotificationMetrics;
+    private final BidderParamsValidationCacheMetrics bidderParamsValidationCacheMetrics;
+    private final StartupMetrics startupMetrics;
+    private final AdmissionControlMetrics admissionControlMetrics;
     private final CurrencyRatesMetrics currencyRatesMetrics;
     private final Map<MetricName, SettingsCacheMetrics> settingsCacheMetrics;
+    private final Map<String, HedgingMetrics> hedgingMetrics;
     private final HooksMetrics hooksMetrics;
     private final PgMetrics pgMetrics;
 
@@ -78,6 +83,7 @@ public class Metrics extends UpdatableMetrics {
                 metricRegistry, counterType, account);
         circuitBreakerMetricsCreator = type -> new CircuitBreakerMetrics(metricRegistry, counterType, type);
         settingsCacheMetricsCreator = type -> new SettingsCacheMetrics(metricRegistry, counterType, type);
+        hedgingMetricsCreator = name -> new HedgingMetrics(metricRegistry, counterType, name);
         requestMetrics = new EnumMap<>(MetricName.class);
         accountMetrics = new HashMap<>();
         adapterMetrics = new HashMap<>();
@@ -91,8 +97,12 @@ public class Metrics extends UpdatableMetrics {
         circuitBreakerMetrics = new HashMap<>();
         cacheMetrics = new CacheMetrics(metricRegistry, counterType);
         timeoutNotificationMetrics = new TimeoutNotificationMetrics(metricRegistry, counterType);
+        bidderParamsValidationCacheMetrics = new BidderParamsValidationCacheMetrics(metricRegistry, counterType);
+        startupMetrics = new StartupMetrics(metricRegistry, counterType);
+        admissionControlMetrics = new AdmissionControlMetrics(metricRegistry, counterType);
         currencyRatesMetrics = new CurrencyRatesMetrics(metricRegistry, counterType);
         settingsCacheMetrics = new HashMap<>();
+        hedgingMetrics = new HashMap<>();
         hooksMetrics = new HooksMetrics(metricRegistry, counterType);
         pgMetrics = new PgMetrics(metricRegistry, counterType);
     }
@@ -161,6 +171,10 @@ public class Metrics extends UpdatableMetrics {
         return settingsCacheMetrics.computeIfAbsent(type, settingsCacheMetricsCreator);
     }
 
+    HedgingMetrics forHedging(String name) {
+        return hedgingMetrics.computeIfAbsent(name, hedgingMetricsCreator);
+    }
+
     HooksMetrics hooks() {
         return hooksMetrics;
     }
@@ -219,6 +233,10 @@ public class Metrics extends UpdatableMetrics {
         updateTimer(requestType, millis);
     }
 
+    public void updateBidValidationTime(long validationTime) {
+        updateTimer(MetricName.bid_validation_time, validationTime);
+    }
+
     public void updateRequestTypeMetric(MetricName requestType, MetricName requestStatus) {
         forRequestType(requestType).incCounter(requestStatus);
     }
@@ -309,6 +327,28 @@ public class Metrics extends UpdatableMetrics {
         forAdapter(bidder).request().incCounter(errorMetric);
     }
 
+    public void updateAdapterLateResponseMetrics(String bidder, int bidsCount) {
+        final AdapterTypeMetrics adapterTypeMetrics = forAdapter(bidder);
+        adapterTypeMetrics.request().incCounter(MetricName.late);
+        adapterTypeMetrics.incCounter(MetricName.late_bids_received, bidsCount);
+    }
+
+    public void updateAdapterTrafficShapingMetric(String bidder, MetricName shapingResult) {
+        forAdapter(bidder).request().incCounter(shapingResult);
+    }
+
+    public void updateAdapterPreparationTime(String bidder, long preparationTime) {
+        forAdapter(bidder).updateTimer(MetricName.prepare_time, preparationTime);
+    }
+
+    public void updateAdapterConcurrencyLimitMetric(String bidder, MetricName limitResult) {
+        forAdapter(bidder).request().incCounter(limitResult);
+    }
+
+    public void createAdapterInFlightRequestsGauge(String bidder, LongSupplier inFlightRequestsSupplier) {
+        forAdapter(bidder).request().createGauge(MetricName.in_flight, inFlightRequestsSupplier);
+    }
+
     public void updateAnalyticEventMetric(String analyticCode, MetricName eventType, MetricName result) {
         forAnalyticReporter(analyticCode).forEventType(eventType).incCounter(result);
     }
@@ -463,6 +503,14 @@ public class Metrics extends UpdatableMetrics {
         incCounter(MetricName.connection_accept_errors);
     }
 
+    public void updateHttp2RequestsMetric() {
+        incCounter(MetricName.http2_requests);
+    }
+
+    public void createHttp2ActiveStreamsGauge(LongSupplier activeStreamsSupplier) {
+        createGauge(MetricName.http2_active_streams, activeStreamsSupplier);
+    }
+
     public void updateDatabaseQueryTimeMetric(long millis) {
         updateTimer(MetricName.db_query_time, millis);
     }
@@ -607,6 +655,26 @@ public class Metrics extends UpdatableMetrics {
         forSettingsCacheType(cacheType).incCounter(event);
     }
 
+    public void updateBidderParamsValidationCacheMetric(MetricName event) {
+        bidderParamsValidationCacheMetrics.incCounter(event);
+    }
+
+    public void updateStartupPhaseMetric(MetricName phase, long millis) {
+        startupMetrics.updateTimer(phase, millis);
+    }
+
+    public void updateEventLoopLagMetric(long millis) {
+        admissionControlMetrics.updateTimer(MetricName.event_loop_lag, millis);
+    }
+
+    public void updateAdmissionControlShedMetric(MetricName reason) {
+        admissionControlMetrics.incCounter(reason);
+    }
+
+    public void updateHedgingMetric(String name, MetricName event) {
+        forHedging(name).incCounter(event);
+    }
+
     public void updateHooksMetrics(
             String moduleCode,
             Stage stage,
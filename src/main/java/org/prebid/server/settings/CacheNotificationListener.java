@@ -8,4 +8,14 @@ public interface CacheNotificationListener {
     void save(Map<String, String> requests, Map<String, String> imps);
 
     void invalidate(List<String> requests, List<String> imps);
+
+    /**
+     * Accepts the initial full load of stored requests and imps.
+     * <p>
+     * Unlike {@link #save}, it doesn't notify about changed data, so listeners propagating changes further
+     * can ignore it. By default, it is handled as {@link #save}.
+     */
+    default void load(Map<String, String> requests, Map<String, String> imps) {
+        save(requests, imps);
+    }
 }
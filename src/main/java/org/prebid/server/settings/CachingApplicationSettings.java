@@ -3,6 +3,7 @@ package org.prebid.server.settings;
 import io.vertx.core.Future;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
@@ -18,6 +19,7 @@ import org.prebid.server.settings.model.StoredResponseDataResult;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -37,10 +39,13 @@ public class CachingApplicationSettings implements ApplicationSettings {
     private final Map<String, String> accountToErrorCache;
     private final Map<String, String> adServerPublisherToErrorCache;
     private final Map<String, Map<String, String>> categoryConfigCache;
+    private final Map<String, String> storedResponseCache;
+    private final CacheNotificationListener storedResponseCacheInvalidator;
     private final SettingsCache cache;
     private final SettingsCache ampCache;
     private final SettingsCache videoCache;
     private final Metrics metrics;
+    private final DistributedCachingApplicationSettings distributedSettings;
 
     public CachingApplicationSettings(ApplicationSettings delegate,
                                       SettingsCache cache,
@@ -50,6 +55,22 @@ public class CachingApplicationSettings implements ApplicationSettings {
                                       int ttl,
                                       int size) {
 
+        this(delegate, cache, ampCache, videoCache, metrics, ttl, size, null);
+    }
+
+    /**
+     * Creates caching settings which additionally remove invalidated accounts from the given cache shared
+     * between instances, so they are not served from there until expiration.
+     */
+    public CachingApplicationSettings(ApplicationSettings delegate,
+                                      SettingsCache cache,
+                                      SettingsCache ampCache,
+                                      SettingsCache videoCache,
+                                      Metrics metrics,
+                                      int ttl,
+                                      int size,
+                                      DistributedCachingApplicationSettings distributedSettings) {
+
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
@@ -58,10 +79,13 @@ public class CachingApplicationSettings implements ApplicationSettings {
         this.accountToErrorCache = SettingsCache.createCache(ttl, size);
         this.adServerPublisherToErrorCache = SettingsCache.createCache(ttl, size);
         this.categoryConfigCache = SettingsCache.createCache(ttl, size);
+        this.storedResponseCache = SettingsCache.createCache(ttl, size);
+        this.storedResponseCacheInvalidator = new StoredResponseCacheInvalidator();
         this.cache = Objects.requireNonNull(cache);
         this.ampCache = Objects.requireNonNull(ampCache);
         this.videoCache = Objects.requireNonNull(videoCache);
         this.metrics = Objects.requireNonNull(metrics);
+        this.distributedSettings = distributedSettings;
     }
 
     /**
@@ -112,11 +136,37 @@ public class CachingApplicationSettings implements ApplicationSettings {
     }
 
     /**
-     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     * Retrieves stored responses from cache and delegates look up of missed ones to original fetcher,
+     * updating cache with its result afterwards.
      */
     @Override
     public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
-        return delegate.getStoredResponses(responseIds, timeout);
+        final Map<String, String> idToStoredResponses = new HashMap<>(responseIds.size());
+        final Set<String> missedIds = new HashSet<>();
+
+        for (String id : responseIds) {
+            final String storedResponse = storedResponseCache.get(id);
+            if (storedResponse != null) {
+                idToStoredResponses.put(id, storedResponse);
+            } else {
+                missedIds.add(id);
+            }
+        }
+
+        if (missedIds.isEmpty()) {
+            metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit);
+            return Future.succeededFuture(StoredResponseDataResult.of(idToStoredResponses, Collections.emptyList()));
+        }
+
+        metrics.updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.miss);
+
+        return delegate.getStoredResponses(missedIds, timeout).map(result -> {
+            final Map<String, String> idToStoredResponsesFromDelegate = result.getIdToStoredResponses();
+            storedResponseCache.putAll(idToStoredResponsesFromDelegate);
+            idToStoredResponses.putAll(idToStoredResponsesFromDelegate);
+
+            return StoredResponseDataResult.of(idToStoredResponses, result.getErrors());
+        });
     }
 
     @Override
@@ -241,11 +291,26 @@ public class CachingApplicationSettings implements ApplicationSettings {
         return idToStoredItem;
     }
 
+    /**
+     * Returns listener updating and invalidating cached stored responses. Stored response ids are passed as requests,
+     * imps are ignored.
+     */
+    public CacheNotificationListener storedResponseCacheInvalidator() {
+        return storedResponseCacheInvalidator;
+    }
+
     public void invalidateAccountCache(String accountId) {
+        if (distributedSettings != null) {
+            distributedSettings.invalidateAccountCache(accountId);
+        }
         accountCache.remove(accountId);
         logger.debug("Account with id {0} was invalidated", accountId);
     }
 
+    /**
+     * Clears in-memory accounts cache. Accounts in the distributed cache are kept until expiration,
+     * since its keys are not enumerated.
+     */
     public void invalidateAllAccountCache() {
         accountCache.clear();
         logger.debug("All accounts cache were invalidated");
@@ -253,4 +318,22 @@ public class CachingApplicationSettings implements ApplicationSettings {
 
     private static <ANY> void noOp(ANY any) {
     }
+
+    private class StoredResponseCacheInvalidator implements CacheNotificationListener {
+
+        @Override
+        public void save(Map<String, String> responses, Map<String, String> imps) {
+            if (MapUtils.isNotEmpty(responses)) {
+                storedResponseCache.putAll(responses);
+            }
+        }
+
+        @Override
+        public void invalidate(List<String> responses, List<String> imps) {
+            if (responses != null) {
+                responses.forEach(storedResponseCache::remove);
+            }
+            logger.debug("Stored responses with ids {0} were invalidated", responses);
+        }
+    }
 }
@@ -0,0 +1,319 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.json.DecodeException;
+import org.prebid.server.json.EncodeException;
+import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.settings.distributed.DistributedCache;
+import org.prebid.server.settings.helper.StoredDataFetcher;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+import org.prebid.server.settings.model.StoredResponseDataResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Adds second-level caching shared between Prebid Server instances for {@link ApplicationSettings} implementation.
+ * <p>
+ * Unavailability of the {@link DistributedCache} is never propagated to the caller: failed lookups are
+ * treated as misses and failed updates are only logged.
+ */
+public class DistributedCachingApplicationSettings implements ApplicationSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(DistributedCachingApplicationSettings.class);
+
+    private static final String ACCOUNT_PREFIX = "account:";
+    private static final String NO_ACCOUNT_FIELD = "";
+
+    private final ApplicationSettings delegate;
+    private final DistributedCache cache;
+    private final JacksonMapper mapper;
+
+    private final StoredDataCacheKeys storedDataKeys = new StoredDataCacheKeys("stored-request:", "stored-imp:");
+    private final StoredDataCacheKeys ampStoredDataKeys =
+            new StoredDataCacheKeys("amp-stored-request:", "amp-stored-imp:");
+    private final StoredDataCacheKeys videoStoredDataKeys =
+            new StoredDataCacheKeys("video-stored-request:", "video-stored-imp:");
+
+    public DistributedCachingApplicationSettings(ApplicationSettings delegate,
+                                                 DistributedCache cache,
+                                                 JacksonMapper mapper) {
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    /**
+     * Retrieves account from distributed cache or delegates it to original fetcher.
+     */
+    @Override
+    public Future<Account> getAccountById(String accountId, Timeout timeout) {
+        final String key = ACCOUNT_PREFIX + accountId;
+
+        return getFromCache(key, NO_ACCOUNT_FIELD)
+                .map(this::decodeAccount)
+                .compose(account -> account != null
+                        ? Future.succeededFuture(account)
+                        : delegate.getAccountById(accountId, timeout).map(fetchedAccount -> {
+                            putAccountToCache(key, fetchedAccount);
+                            return fetchedAccount;
+                        }));
+    }
+
+    private void putAccountToCache(String key, Account account) {
+        try {
+            putToCache(key, NO_ACCOUNT_FIELD, mapper.encodeToString(account));
+        } catch (EncodeException e) {
+            logger.warn("Error occurred while encoding account for distributed cache: {0}", e.getMessage());
+        }
+    }
+
+    private Account decodeAccount(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return mapper.decodeValue(value, Account.class);
+        } catch (DecodeException e) {
+            logger.warn("Error occurred while decoding account from distributed cache: {0}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves stored data from distributed cache or delegates it to original fetcher.
+     */
+    @Override
+    public Future<StoredDataResult> getStoredData(String accountId,
+                                                  Set<String> requestIds,
+                                                  Set<String> impIds,
+                                                  Timeout timeout) {
+
+        return getFromCacheOrDelegate(storedDataKeys, accountId, requestIds, impIds, timeout,
+                delegate::getStoredData);
+    }
+
+    /**
+     * Retrieves amp stored data from distributed cache or delegates it to original fetcher.
+     */
+    @Override
+    public Future<StoredDataResult> getAmpStoredData(String accountId,
+                                                     Set<String> requestIds,
+                                                     Set<String> impIds,
+                                                     Timeout timeout) {
+
+        return getFromCacheOrDelegate(ampStoredDataKeys, accountId, requestIds, impIds, timeout,
+                delegate::getAmpStoredData);
+    }
+
+    /**
+     * Retrieves video stored data from distributed cache or delegates it to original fetcher.
+     */
+    @Override
+    public Future<StoredDataResult> getVideoStoredData(String accountId,
+                                                       Set<String> requestIds,
+                                                       Set<String> impIds,
+                                                       Timeout timeout) {
+
+        return getFromCacheOrDelegate(videoStoredDataKeys, accountId, requestIds, impIds, timeout,
+                delegate::getVideoStoredData);
+    }
+
+    /**
+     * Delegates stored response retrieve to original fetcher, as caching is not supported fot stored response.
+     */
+    @Override
+    public Future<StoredResponseDataResult> getStoredResponses(Set<String> responseIds, Timeout timeout) {
+        return delegate.getStoredResponses(responseIds, timeout);
+    }
+
+    @Override
+    public Future<Map<String, String>> getCategories(String primaryAdServer, String publisher, Timeout timeout) {
+        return delegate.getCategories(primaryAdServer, publisher, timeout);
+    }
+
+    /**
+     * Returns listener removing stored requests and imps from distributed cache when they are changed in the source.
+     */
+    public CacheNotificationListener storedDataInvalidator() {
+        return storedDataKeys;
+    }
+
+    /**
+     * Returns listener removing amp stored requests and imps from distributed cache
+     * when they are changed in the source.
+     */
+    public CacheNotificationListener ampStoredDataInvalidator() {
+        return ampStoredDataKeys;
+    }
+
+    /**
+     * Returns listener removing video stored requests and imps from distributed cache
+     * when they are changed in the source.
+     */
+    public CacheNotificationListener videoStoredDataInvalidator() {
+        return videoStoredDataKeys;
+    }
+
+    /**
+     * Removes account from distributed cache, so the next lookup on any instance fetches it from the source.
+     */
+    public void invalidateAccountCache(String accountId) {
+        invalidateKeys(Collections.singletonList(ACCOUNT_PREFIX + accountId));
+    }
+
+    /**
+     * Looks up all requested ids in distributed cache and delegates call to original source only for missed ones,
+     * updating distributed cache with its result afterwards.
+     */
+    private Future<StoredDataResult> getFromCacheOrDelegate(
+            StoredDataCacheKeys keys,
+            String accountId,
+            Set<String> requestIds,
+            Set<String> impIds,
+            Timeout timeout,
+            StoredDataFetcher<String, Set<String>, Set<String>, Timeout, Future<StoredDataResult>> retriever) {
+
+        // empty string account ID doesn't make sense
+        final String normalizedAccountId = StringUtils.stripToNull(accountId);
+        final String field = StringUtils.defaultString(normalizedAccountId, NO_ACCOUNT_FIELD);
+
+        final Future<Map<String, String>> requestsFuture = getAllFromCache(requestIds, keys.requestPrefix, field);
+        final Future<Map<String, String>> impsFuture = getAllFromCache(impIds, keys.impPrefix, field);
+
+        return CompositeFuture.join(requestsFuture, impsFuture).compose(ignored -> {
+            final Map<String, String> storedIdToRequest = requestsFuture.result();
+            final Map<String, String> storedIdToImp = impsFuture.result();
+
+            final Set<String> missedRequestIds = missedIds(requestIds, storedIdToRequest);
+            final Set<String> missedImpIds = missedIds(impIds, storedIdToImp);
+
+            if (missedRequestIds.isEmpty() && missedImpIds.isEmpty()) {
+                return Future.succeededFuture(
+                        StoredDataResult.of(storedIdToRequest, storedIdToImp, Collections.emptyList()));
+            }
+
+            return retriever.apply(normalizedAccountId, missedRequestIds, missedImpIds, timeout).map(result -> {
+                final Map<String, String> storedIdToRequestFromDelegate = result.getStoredIdToRequest();
+                storedIdToRequest.putAll(storedIdToRequestFromDelegate);
+                storedIdToRequestFromDelegate.forEach((id, value) -> putToCache(keys.requestPrefix + id, field, value));
+
+                final Map<String, String> storedIdToImpFromDelegate = result.getStoredIdToImp();
+                storedIdToImp.putAll(storedIdToImpFromDelegate);
+                storedIdToImpFromDelegate.forEach((id, value) -> putToCache(keys.impPrefix + id, field, value));
+
+                return StoredDataResult.of(storedIdToRequest, storedIdToImp, result.getErrors());
+            });
+        });
+    }
+
+    private Future<Map<String, String>> getAllFromCache(Set<String> ids, String prefix, String field) {
+        if (ids.isEmpty()) {
+            return Future.succeededFuture(new HashMap<>());
+        }
+
+        final List<String> orderedIds = new ArrayList<>(ids);
+        final List<Future<String>> lookups = orderedIds.stream()
+                .map(id -> getFromCache(prefix + id, field))
+                .toList();
+
+        return CompositeFuture.all(new ArrayList<>(lookups)).map(ignored -> {
+            final Map<String, String> idToValue = new HashMap<>(orderedIds.size());
+            for (int i = 0; i < orderedIds.size(); i++) {
+                final String value = lookups.get(i).result();
+                if (value != null) {
+                    idToValue.put(orderedIds.get(i), value);
+                }
+            }
+            return idToValue;
+        });
+    }
+
+    private static Set<String> missedIds(Set<String> ids, Map<String, String> found) {
+        return ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Future<String> getFromCache(String key, String field) {
+        return cache.get(key, field).recover(exception -> {
+            logger.warn("Error occurred while getting {0} from distributed cache: {1}", key, exception.getMessage());
+            return Future.succeededFuture();
+        });
+    }
+
+    private void putToCache(String key, String field, String value) {
+        cache.put(key, field, value).onFailure(exception ->
+                logger.warn("Error occurred while putting {0} to distributed cache: {1}", key, exception.getMessage()));
+    }
+
+    private void invalidateKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        cache.invalidate(keys).onFailure(exception ->
+                logger.warn("Error occurred while invalidating distributed cache: {0}", exception.getMessage()));
+    }
+
+    private class StoredDataCacheKeys implements CacheNotificationListener {
+
+        private final String requestPrefix;
+        private final String impPrefix;
+
+        StoredDataCacheKeys(String requestPrefix, String impPrefix) {
+            this.requestPrefix = requestPrefix;
+            this.impPrefix = impPrefix;
+        }
+
+        /**
+         * Removes saved ids from distributed cache, so the next lookup fetches them from the source
+         * instead of possibly outdated copy.
+         */
+        @Override
+        public void save(Map<String, String> requests, Map<String, String> imps) {
+            invalidateIds(requests != null ? requests.keySet() : Collections.emptySet(),
+                    imps != null ? imps.keySet() : Collections.emptySet());
+        }
+
+        @Override
+        public void invalidate(List<String> requests, List<String> imps) {
+            invalidateIds(requests, imps);
+        }
+
+        /**
+         * Keeps distributed cache as is, since initially loaded data is not a change and entries shared with
+         * other instances are still valid.
+         */
+        @Override
+        public void load(Map<String, String> requests, Map<String, String> imps) {
+        }
+
+        private void invalidateIds(Collection<String> requests, Collection<String> imps) {
+            final List<String> keys = new ArrayList<>(requests.size() + imps.size());
+            keys.addAll(prefixed(requestPrefix, requests));
+            keys.addAll(prefixed(impPrefix, imps));
+            invalidateKeys(keys);
+        }
+
+        private static List<String> prefixed(String prefix, Collection<String> ids) {
+            return ids.stream().map(prefix::concat).toList();
+        }
+    }
+}
@@ -2,7 +2,6 @@ package org.prebid.server.settings;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.lang3.ObjectUtils;
 import org.prebid.server.settings.model.StoredItem;
 
 import java.util.Collections;
@@ -19,13 +18,23 @@ public class SettingsCache implements CacheNotificationListener {
 
     private final Map<String, Set<StoredItem>> requestCache;
     private final Map<String, Set<StoredItem>> impCache;
+    private final CacheNotificationListener notificationPropagator;
 
     public SettingsCache(int ttl, int size) {
+        this(ttl, size, null);
+    }
+
+    /**
+     * Creates cache which additionally forwards all received change notifications to the given listener,
+     * e.g. to keep a cache shared between instances consistent with the local one.
+     */
+    public SettingsCache(int ttl, int size, CacheNotificationListener notificationPropagator) {
         if (ttl <= 0 || size <= 0) {
             throw new IllegalArgumentException("ttl and size must be positive");
         }
         requestCache = createCache(ttl, size);
         impCache = createCache(ttl, size);
+        this.notificationPropagator = notificationPropagator;
     }
 
     static <T> Map<String, T> createCache(int ttl, int size) {
@@ -54,9 +63,11 @@ public class SettingsCache implements CacheNotificationListener {
 
     private static void saveCachedValue(Map<String, Set<StoredItem>> cache,
                                         String accountId, String id, String value) {
-        final Set<StoredItem> values = ObjectUtils.defaultIfNull(cache.get(id), new HashSet<>());
+        // cached sets are replaced instead of being modified, so they can be safely read outside the event loop
+        final Set<StoredItem> cachedValues = cache.get(id);
+        final Set<StoredItem> values = cachedValues != null ? new HashSet<>(cachedValues) : new HashSet<>();
         values.add(StoredItem.of(accountId, value));
-        cache.put(id, values);
+        cache.put(id, Collections.unmodifiableSet(values));
     }
 
     /**
@@ -66,6 +77,23 @@ public class SettingsCache implements CacheNotificationListener {
      */
     @Override
     public void save(Map<String, String> requests, Map<String, String> imps) {
+        put(requests, imps);
+        if (notificationPropagator != null) {
+            notificationPropagator.save(requests, imps);
+        }
+    }
+
+    /**
+     * Saves initially loaded stored requests and imps for NULL account.
+     * <p>
+     * Loaded data is not a change, so it is not forwarded to the notification propagator.
+     */
+    @Override
+    public void load(Map<String, String> requests, Map<String, String> imps) {
+        put(requests, imps);
+    }
+
+    private void put(Map<String, String> requests, Map<String, String> imps) {
         if (MapUtils.isNotEmpty(requests)) {
             requests.forEach((key, value) -> requestCache.put(key, Collections.singleton(StoredItem.of(null, value))));
         }
@@ -78,5 +106,8 @@ public class SettingsCache implements CacheNotificationListener {
     public void invalidate(List<String> requests, List<String> imps) {
         requests.forEach(requestCache.keySet()::remove);
         imps.forEach(impCache.keySet()::remove);
+        if (notificationPropagator != null) {
+            notificationPropagator.invalidate(requests, imps);
+        }
     }
 }
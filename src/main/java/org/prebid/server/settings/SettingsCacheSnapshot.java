@@ -0,0 +1,281 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.CopyOptions;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import lombok.Value;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.settings.model.StoredItem;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Persists {@link SettingsCache} content to a local file and restores it on startup,
+ * so a new instance starts with warm caches and only needs to fetch updates made since the snapshot was taken.
+ * <p>
+ * Binary layout (all numbers are big-endian):
+ * <pre>
+ * int     magic
+ * byte    version
+ * long    last update time of the cache content in epoch millis
+ * section stored requests
+ * section stored imps
+ *
+ * section: int entries number, then for each entry:
+ *     string id, int items number, then for each item: string account id, string value
+ * string: int bytes length (-1 for null), then UTF-8 bytes
+ * </pre>
+ */
+public class SettingsCacheSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(SettingsCacheSnapshot.class);
+
+    private static final int MAGIC = 0x50425343;
+    private static final byte VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+
+    private final String path;
+    private final long savePeriod;
+    private final SettingsCache settingsCache;
+    private final Vertx vertx;
+    private final Clock clock;
+
+    private volatile long lastSaveMillis;
+
+    public SettingsCacheSnapshot(String path,
+                                 long savePeriod,
+                                 SettingsCache settingsCache,
+                                 Vertx vertx,
+                                 Clock clock) {
+
+        this.path = Objects.requireNonNull(path);
+        this.savePeriod = savePeriod;
+        this.settingsCache = Objects.requireNonNull(settingsCache);
+        this.vertx = Objects.requireNonNull(vertx);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Restores {@link SettingsCache} content from the snapshot file.
+     * <p>
+     * Returns last update time of restored content or failed future if there is no usable snapshot.
+     */
+    public Future<Instant> load() {
+        final Promise<Boolean> existsPromise = Promise.promise();
+        vertx.fileSystem().exists(path, existsPromise);
+
+        return existsPromise.future()
+                .compose(this::readSnapshot)
+                .map(this::restore)
+                .map(this::logRestored)
+                .recover(this::failLoad);
+    }
+
+    /**
+     * Reads and parses snapshot file on a worker thread, since both are proportional to the snapshot size.
+     */
+    private Future<Snapshot> readSnapshot(boolean exists) {
+        if (!exists) {
+            return Future.failedFuture(new PreBidException("Settings cache snapshot not found: " + path));
+        }
+
+        final Promise<Snapshot> readPromise = Promise.promise();
+        vertx.executeBlocking(promise -> promise.complete(parse(vertx.fileSystem().readFileBlocking(path))),
+                false, readPromise);
+        return readPromise.future();
+    }
+
+    private Instant restore(Snapshot snapshot) {
+        settingsCache.getRequestCache().putAll(snapshot.getRequests());
+        settingsCache.getImpCache().putAll(snapshot.getImps());
+
+        return snapshot.getLastUpdate();
+    }
+
+    private Instant logRestored(Instant lastUpdate) {
+        logger.info("Settings cache restored from snapshot {0}, last update {1}", path, lastUpdate);
+        return lastUpdate;
+    }
+
+    private Future<Instant> failLoad(Throwable exception) {
+        logger.warn("Settings cache snapshot {0} was not restored: {1}", path, exception.getMessage());
+        return Future.failedFuture(exception);
+    }
+
+    /**
+     * Writes current {@link SettingsCache} content to the snapshot file if save period has passed since
+     * the previous save.
+     * <p>
+     * Cache content is serialized and written on a worker thread, since it is proportional to the cache size.
+     * Cache maps are copied on the calling thread before that, cached sets are never modified in place
+     * by {@link SettingsCache}, so the copies are not affected by concurrent cache updates.
+     * File is written to a temporary location first and then moved, so a partially written snapshot
+     * is never observed by {@link #load()}.
+     */
+    public Future<Void> save(Instant lastUpdate) {
+        final long now = clock.millis();
+        if (lastUpdate == null || now - lastSaveMillis < savePeriod) {
+            return Future.succeededFuture();
+        }
+        lastSaveMillis = now;
+
+        final Map<String, Set<StoredItem>> requests = new HashMap<>(settingsCache.getRequestCache());
+        final Map<String, Set<StoredItem>> imps = new HashMap<>(settingsCache.getImpCache());
+
+        final Promise<Void> savePromise = Promise.promise();
+        vertx.executeBlocking(promise -> write(serialize(lastUpdate, requests, imps), promise), false, savePromise);
+
+        return savePromise.future()
+                .recover(this::failSave);
+    }
+
+    private void write(Buffer snapshot, Promise<Void> promise) {
+        final String tempPath = path + ".tmp";
+        final FileSystem fileSystem = vertx.fileSystem();
+
+        fileSystem.writeFileBlocking(tempPath, snapshot);
+        fileSystem.moveBlocking(tempPath, path, new CopyOptions().setReplaceExisting(true));
+
+        promise.complete();
+    }
+
+    private Future<Void> failSave(Throwable exception) {
+        logger.warn("Error occurred while saving settings cache snapshot {0}", exception, path);
+        return Future.failedFuture(exception);
+    }
+
+    private static Buffer serialize(Instant lastUpdate,
+                                    Map<String, Set<StoredItem>> requests,
+                                    Map<String, Set<StoredItem>> imps) {
+
+        final Buffer buffer = Buffer.buffer()
+                .appendInt(MAGIC)
+                .appendByte(VERSION)
+                .appendLong(lastUpdate.toEpochMilli());
+
+        appendSection(buffer, requests);
+        appendSection(buffer, imps);
+
+        return buffer;
+    }
+
+    private static void appendSection(Buffer buffer, Map<String, Set<StoredItem>> entries) {
+        buffer.appendInt(entries.size());
+        entries.forEach((id, items) -> {
+            appendString(buffer, id);
+            buffer.appendInt(items.size());
+            for (StoredItem item : items) {
+                appendString(buffer, item.getAccountId());
+                appendString(buffer, item.getData());
+            }
+        });
+    }
+
+    private static void appendString(Buffer buffer, String value) {
+        if (value == null) {
+            buffer.appendInt(NULL_LENGTH);
+        } else {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.appendInt(bytes.length).appendBytes(bytes);
+        }
+    }
+
+    private Snapshot parse(Buffer buffer) {
+        final Reader reader = new Reader(buffer);
+        if (reader.readInt() != MAGIC || reader.readByte() != VERSION) {
+            throw new PreBidException("Unsupported settings cache snapshot format: " + path);
+        }
+
+        final Instant lastUpdate = Instant.ofEpochMilli(reader.readLong());
+        final Map<String, Set<StoredItem>> requests = readSection(reader);
+        final Map<String, Set<StoredItem>> imps = readSection(reader);
+
+        return Snapshot.of(lastUpdate, requests, imps);
+    }
+
+    private static Map<String, Set<StoredItem>> readSection(Reader reader) {
+        final int entriesNumber = reader.readInt();
+        final Map<String, Set<StoredItem>> entries = new HashMap<>(entriesNumber);
+        for (int i = 0; i < entriesNumber; i++) {
+            final String id = reader.readString();
+            final int itemsNumber = reader.readInt();
+            final Set<StoredItem> items = new HashSet<>(itemsNumber);
+            for (int j = 0; j < itemsNumber; j++) {
+                items.add(StoredItem.of(reader.readString(), reader.readString()));
+            }
+            entries.put(id, Collections.unmodifiableSet(items));
+        }
+        return entries;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Snapshot {
+
+        Instant lastUpdate;
+
+        Map<String, Set<StoredItem>> requests;
+
+        Map<String, Set<StoredItem>> imps;
+    }
+
+    private static class Reader {
+
+        private final Buffer buffer;
+
+        private int position;
+
+        Reader(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readInt() {
+            ensureAvailable(Integer.BYTES);
+            final int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        byte readByte() {
+            ensureAvailable(Byte.BYTES);
+            return buffer.getByte(position++);
+        }
+
+        long readLong() {
+            ensureAvailable(Long.BYTES);
+            final long value = buffer.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        String readString() {
+            final int length = readInt();
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+
+            ensureAvailable(length);
+            final String value = buffer.getString(position, position + length, StandardCharsets.UTF_8.name());
+            position += length;
+            return value;
+        }
+
+        private void ensureAvailable(int length) {
+            if (length < 0 || position + length > buffer.length()) {
+                throw new PreBidException("Settings cache snapshot is truncated");
+            }
+        }
+    }
+}
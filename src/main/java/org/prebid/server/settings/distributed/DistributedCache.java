@@ -0,0 +1,34 @@
+package org.prebid.server.settings.distributed;
+
+import io.vertx.core.Future;
+
+import java.util.Collection;
+
+/**
+ * Defines the contract of the cache shared between Prebid Server instances.
+ * <p>
+ * Entries are addressed by a key and a field inside it, so all the variants of a single entity
+ * (e.g. stored request resolved for different accounts) can be invalidated at once by the key.
+ * <p>
+ * Implementations should never fail on missed entry, but return succeeded {@link Future} with null value instead.
+ *
+ * @see InMemoryDistributedCache
+ * @see RedisDistributedCache
+ */
+public interface DistributedCache {
+
+    /**
+     * Returns value for the given key and field or null if it is absent.
+     */
+    Future<String> get(String key, String field);
+
+    /**
+     * Stores value for the given key and field.
+     */
+    Future<Void> put(String key, String field, String value);
+
+    /**
+     * Removes all the fields of the given keys.
+     */
+    Future<Void> invalidate(Collection<String> keys);
+}
@@ -0,0 +1,49 @@
+package org.prebid.server.settings.distributed;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vertx.core.Future;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reference {@link DistributedCache} implementation keeping entries in the local memory.
+ * <p>
+ * It is not shared between instances, so it is intended for tests and single-instance deployments only.
+ */
+public class InMemoryDistributedCache implements DistributedCache {
+
+    private final Map<String, Map<String, String>> cache;
+
+    public InMemoryDistributedCache(int ttl, int size) {
+        if (ttl <= 0 || size <= 0) {
+            throw new IllegalArgumentException("ttl and size must be positive");
+        }
+
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl, TimeUnit.SECONDS)
+                .maximumSize(size)
+                .<String, Map<String, String>>build()
+                .asMap();
+    }
+
+    @Override
+    public Future<String> get(String key, String field) {
+        final Map<String, String> fields = cache.get(key);
+        return Future.succeededFuture(fields != null ? fields.get(field) : null);
+    }
+
+    @Override
+    public Future<Void> put(String key, String field, String value) {
+        cache.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>()).put(field, value);
+        return Future.succeededFuture();
+    }
+
+    @Override
+    public Future<Void> invalidate(Collection<String> keys) {
+        keys.forEach(cache::remove);
+        return Future.succeededFuture();
+    }
+}
@@ -0,0 +1,282 @@
+package org.prebid.server.settings.distributed;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetSocket;
+import org.prebid.server.exception.PreBidException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Minimal pipelining client speaking Redis serialization protocol (RESP) over a single connection.
+ * <p>
+ * Commands are written in the order they are sent and replies are matched to them in the same order.
+ * Connection is opened lazily and reopened on the next command after it was closed.
+ * Results are delivered on the context of the caller.
+ */
+public class RedisClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisClient.class);
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final Object INCOMPLETE = new Object();
+
+    private final Vertx vertx;
+    private final NetClient netClient;
+    private final String host;
+    private final int port;
+    private final long timeout;
+
+    private final Deque<Promise<Object>> pendingReplies = new ArrayDeque<>();
+    private final List<Buffer> commandsAwaitingConnection = new ArrayList<>();
+    private NetSocket socket;
+    private boolean connecting;
+    private Buffer readBuffer = Buffer.buffer();
+    private int readPosition;
+    // start of the line which end was not found yet and position up to which it was searched
+    private int incompleteLineStart = -1;
+    private int incompleteLineScanPosition;
+
+    public RedisClient(Vertx vertx, NetClient netClient, String host, int port, long timeout) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.netClient = Objects.requireNonNull(netClient);
+        this.host = Objects.requireNonNull(host);
+        this.port = port;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Sends command with arguments and returns the reply: {@link String} for simple strings and bulk strings,
+     * {@link Long} for integers, {@link List} for arrays or null for null replies.
+     * Error replies and timeouts result in failed {@link Future}.
+     */
+    public Future<Object> send(String... command) {
+        final Promise<Object> replyPromise = Promise.promise();
+        final Buffer encodedCommand = encode(command);
+
+        synchronized (this) {
+            pendingReplies.add(replyPromise);
+            if (socket != null) {
+                socket.write(encodedCommand);
+            } else {
+                commandsAwaitingConnection.add(encodedCommand);
+                connect();
+            }
+        }
+
+        final long timerId = vertx.setTimer(timeout, ignored -> replyPromise.tryFail(
+                new PreBidException("Timed out while waiting for redis reply")));
+
+        final Context context = Vertx.currentContext();
+        final Promise<Object> result = Promise.promise();
+        replyPromise.future().onComplete(reply -> {
+            vertx.cancelTimer(timerId);
+            if (context != null) {
+                context.runOnContext(ignored -> result.handle(reply));
+            } else {
+                result.handle(reply);
+            }
+        });
+
+        return result.future();
+    }
+
+    private void connect() {
+        if (!connecting) {
+            connecting = true;
+            netClient.connect(port, host, this::handleConnect);
+        }
+    }
+
+    private synchronized void handleConnect(AsyncResult<NetSocket> result) {
+        connecting = false;
+        if (result.failed()) {
+            logger.warn("Cannot connect to redis {0}:{1}", result.cause(), host, port);
+            reset(result.cause());
+            return;
+        }
+
+        final NetSocket connectedSocket = result.result();
+        connectedSocket.handler(this::handleData);
+        connectedSocket.exceptionHandler(exception -> {
+            logger.warn("Redis connection to {0}:{1} failed", exception, host, port);
+            connectedSocket.close();
+        });
+        connectedSocket.closeHandler(ignored -> handleClose(connectedSocket));
+
+        socket = connectedSocket;
+        commandsAwaitingConnection.forEach(connectedSocket::write);
+        commandsAwaitingConnection.clear();
+    }
+
+    private synchronized void handleClose(NetSocket closedSocket) {
+        if (socket == closedSocket) {
+            reset(new PreBidException("Redis connection closed"));
+        }
+    }
+
+    private void reset(Throwable exception) {
+        socket = null;
+        readBuffer = Buffer.buffer();
+        readPosition = 0;
+        incompleteLineStart = -1;
+        commandsAwaitingConnection.clear();
+
+        while (!pendingReplies.isEmpty()) {
+            pendingReplies.poll().tryFail(exception);
+        }
+    }
+
+    private synchronized void handleData(Buffer data) {
+        readBuffer.appendBuffer(data);
+
+        try {
+            Object reply = parseReply();
+            while (reply != INCOMPLETE) {
+                completeReply(reply);
+                reply = parseReply();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Error occurred while processing redis reply", e);
+            final NetSocket failedSocket = socket;
+            reset(e);
+            if (failedSocket != null) {
+                failedSocket.close();
+            }
+            return;
+        }
+
+        readBuffer = readBuffer.getBuffer(readPosition, readBuffer.length());
+        if (incompleteLineStart >= readPosition) {
+            incompleteLineStart -= readPosition;
+            incompleteLineScanPosition -= readPosition;
+        } else {
+            incompleteLineStart = -1;
+        }
+        readPosition = 0;
+    }
+
+    private void completeReply(Object reply) {
+        final Promise<Object> pending = pendingReplies.poll();
+        if (pending == null) {
+            throw new PreBidException("Unexpected redis reply");
+        }
+
+        if (reply instanceof PreBidException) {
+            pending.tryFail((PreBidException) reply);
+        } else {
+            pending.tryComplete(reply);
+        }
+    }
+
+    private Object parseReply() {
+        final int lineEnd = indexOfLineEnd(readPosition);
+        if (lineEnd < 0) {
+            return INCOMPLETE;
+        }
+
+        final int start = readPosition;
+        final byte type = readBuffer.getByte(start);
+        final String line = readBuffer.getString(start + 1, lineEnd, StandardCharsets.UTF_8.name());
+        readPosition = lineEnd + CRLF.length;
+
+        switch (type) {
+            case '+':
+                return line;
+            case '-':
+                return new PreBidException("Redis error: " + line);
+            case ':':
+                return Long.parseLong(line);
+            case '$':
+                return parseBulkString(start, Integer.parseInt(line));
+            case '*':
+                return parseArray(start, Integer.parseInt(line));
+            default:
+                throw new PreBidException("Unexpected redis reply type: " + (char) type);
+        }
+    }
+
+    private Object parseBulkString(int start, int length) {
+        if (length < 0) {
+            return null;
+        }
+
+        final int end = readPosition + length;
+        if (end + CRLF.length > readBuffer.length()) {
+            readPosition = start;
+            return INCOMPLETE;
+        }
+
+        final String value = readBuffer.getString(readPosition, end, StandardCharsets.UTF_8.name());
+        readPosition = end + CRLF.length;
+        return value;
+    }
+
+    private Object parseArray(int start, int size) {
+        if (size < 0) {
+            return null;
+        }
+
+        final List<Object> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Object value = parseReply();
+            if (value == INCOMPLETE) {
+                readPosition = start;
+                return INCOMPLETE;
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
+    /**
+     * Searches for the end of line starting at the given position.
+     * <p>
+     * Received data is only appended to the buffer, so search for the line which end was not found in previous
+     * chunks resumes from the position it stopped at.
+     */
+    private int indexOfLineEnd(int from) {
+        int i = from == incompleteLineStart ? Math.max(from, incompleteLineScanPosition) : from;
+        for (; i < readBuffer.length() - 1; i++) {
+            if (readBuffer.getByte(i) == CRLF[0] && readBuffer.getByte(i + 1) == CRLF[1]) {
+                return i;
+            }
+        }
+
+        incompleteLineStart = from;
+        incompleteLineScanPosition = i;
+        return -1;
+    }
+
+    private static Buffer encode(String... command) {
+        final Buffer buffer = Buffer.buffer()
+                .appendString("*" + command.length)
+                .appendBytes(CRLF);
+
+        for (String argument : command) {
+            final byte[] bytes = argument.getBytes(StandardCharsets.UTF_8);
+            buffer.appendString("$" + bytes.length)
+                    .appendBytes(CRLF)
+                    .appendBytes(bytes)
+                    .appendBytes(CRLF);
+        }
+
+        return buffer;
+    }
+}
@@ -0,0 +1,60 @@
+package org.prebid.server.settings.distributed;
+
+import io.vertx.core.Future;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@link DistributedCache} implementation backed by Redis (or any server speaking Redis protocol).
+ * <p>
+ * Each key is stored as a Redis hash with expiration, so invalidation of the key removes all its fields.
+ * Field is set together with key expiration by a single script call, so the key is never left without expiration.
+ */
+public class RedisDistributedCache implements DistributedCache {
+
+    private static final String PUT_SCRIPT = "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+            + "return redis.call('EXPIRE', KEYS[1], ARGV[3])";
+
+    private final RedisClient redisClient;
+    private final String keyPrefix;
+    private final String ttl;
+
+    public RedisDistributedCache(RedisClient redisClient, String keyPrefix, int ttl) {
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+
+        this.redisClient = Objects.requireNonNull(redisClient);
+        this.keyPrefix = Objects.requireNonNull(keyPrefix);
+        this.ttl = String.valueOf(ttl);
+    }
+
+    @Override
+    public Future<String> get(String key, String field) {
+        return redisClient.send("HGET", keyPrefix + key, field)
+                .map(String.class::cast);
+    }
+
+    @Override
+    public Future<Void> put(String key, String field, String value) {
+        return redisClient.send("EVAL", PUT_SCRIPT, "1", keyPrefix + key, field, value, ttl)
+                .mapEmpty();
+    }
+
+    @Override
+    public Future<Void> invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        final String[] command = new String[keys.size() + 1];
+        command[0] = "DEL";
+        int i = 1;
+        for (String key : keys) {
+            command[i++] = keyPrefix + key;
+        }
+
+        return redisClient.send(command).mapEmpty();
+    }
+}
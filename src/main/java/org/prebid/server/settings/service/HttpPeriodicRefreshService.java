@@ -11,6 +11,7 @@ import org.prebid.server.exception.PreBidException;
 import org.prebid.server.json.DecodeException;
 import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCacheSnapshot;
 import org.prebid.server.settings.model.StoredDataType;
 import org.prebid.server.settings.proto.response.HttpRefreshResponse;
 import org.prebid.server.util.HttpUtil;
@@ -57,6 +58,9 @@ import java.util.Objects;
  * <p>
  * To signal deletions, the endpoint may return { "deleted": true }
  * in place of the Stored Data if the "last-modified" param existed.
+ * <p>
+ * If {@link SettingsCacheSnapshot} is configured and contains usable data, the cache is restored from it on startup
+ * and only updates since the snapshot are requested, instead of all the known data.
  */
 public class HttpPeriodicRefreshService implements Initializable {
 
@@ -66,6 +70,7 @@ public class HttpPeriodicRefreshService implements Initializable {
     private final long refreshPeriod;
     private final long timeout;
     private final CacheNotificationListener cacheNotificationListener;
+    private final SettingsCacheSnapshot settingsCacheSnapshot;
     private final Vertx vertx;
     private final HttpClient httpClient;
     private final JacksonMapper mapper;
@@ -76,6 +81,7 @@ public class HttpPeriodicRefreshService implements Initializable {
                                       long refreshPeriod,
                                       long timeout,
                                       CacheNotificationListener cacheNotificationListener,
+                                      SettingsCacheSnapshot settingsCacheSnapshot,
                                       Vertx vertx,
                                       HttpClient httpClient,
                                       JacksonMapper mapper) {
@@ -84,6 +90,7 @@ public class HttpPeriodicRefreshService implements Initializable {
         this.refreshPeriod = refreshPeriod;
         this.timeout = timeout;
         this.cacheNotificationListener = Objects.requireNonNull(cacheNotificationListener);
+        this.settingsCacheSnapshot = settingsCacheSnapshot;
         this.vertx = Objects.requireNonNull(vertx);
         this.httpClient = Objects.requireNonNull(httpClient);
         this.mapper = Objects.requireNonNull(mapper);
@@ -91,20 +98,42 @@ public class HttpPeriodicRefreshService implements Initializable {
 
     @Override
     public void initialize() {
-        getAll();
+        if (settingsCacheSnapshot != null) {
+            settingsCacheSnapshot.load()
+                    .map(this::refreshFromSnapshot)
+                    .recover(ignored -> getAll());
+        } else {
+            getAll();
+        }
+
         if (refreshPeriod > 0) {
             vertx.setPeriodic(refreshPeriod, aLong -> refresh());
         }
     }
 
-    private void getAll() {
-        httpClient.get(refreshUrl, timeout)
+    private Void refreshFromSnapshot(Instant snapshotLastUpdate) {
+        lastUpdateTime = snapshotLastUpdate;
+        refresh();
+        return null;
+    }
+
+    private Future<Void> getAll() {
+        return httpClient.get(refreshUrl, timeout)
                 .map(this::processResponse)
-                .map(this::save)
+                .map(this::load)
                 .map(ignored -> setLastUpdateTime(Instant.now()))
                 .recover(HttpPeriodicRefreshService::failResponse);
     }
 
+    private Void load(HttpRefreshResponse refreshResponse) {
+        final Map<String, String> requests = parseStoredData(refreshResponse.getRequests(), StoredDataType.request);
+        final Map<String, String> imps = parseStoredData(refreshResponse.getImps(), StoredDataType.imp);
+
+        cacheNotificationListener.load(requests, imps);
+
+        return null;
+    }
+
     private Void save(HttpRefreshResponse refreshResponse) {
         final Map<String, String> requests = parseStoredData(refreshResponse.getRequests(), StoredDataType.request);
         final Map<String, String> imps = parseStoredData(refreshResponse.getImps(), StoredDataType.imp);
@@ -116,6 +145,11 @@ public class HttpPeriodicRefreshService implements Initializable {
 
     private Void setLastUpdateTime(Instant instant) {
         lastUpdateTime = instant;
+
+        if (settingsCacheSnapshot != null) {
+            settingsCacheSnapshot.save(instant);
+        }
+
         return null;
     }
 
@@ -10,6 +10,7 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCacheSnapshot;
 import org.prebid.server.settings.helper.JdbcStoredDataResultMapper;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.vertx.Initializable;
@@ -40,6 +41,10 @@ import java.util.stream.Collectors;
  * If data is empty or the JSON "null", then the ID will be invalidated (e.g. a deletion).
  * If data is not empty, depending on TYPE, it should be put to corresponding map with ID as a key and DATA as value.
  * </p>
+ * <p>
+ * If {@link SettingsCacheSnapshot} is configured and contains usable data, the cache is restored from it on startup
+ * and only the update query is run to catch up, instead of the initialize query.
+ * </p>
  */
 public class JdbcPeriodicRefreshService implements Initializable {
 
@@ -69,6 +74,7 @@ public class JdbcPeriodicRefreshService implements Initializable {
     private final long timeout;
     private final MetricName cacheType;
     private final CacheNotificationListener cacheNotificationListener;
+    private final SettingsCacheSnapshot settingsCacheSnapshot;
     private final Vertx vertx;
     private final JdbcClient jdbcClient;
     private final TimeoutFactory timeoutFactory;
@@ -83,6 +89,7 @@ public class JdbcPeriodicRefreshService implements Initializable {
                                       long timeout,
                                       MetricName cacheType,
                                       CacheNotificationListener cacheNotificationListener,
+                                      SettingsCacheSnapshot settingsCacheSnapshot,
                                       Vertx vertx,
                                       JdbcClient jdbcClient,
                                       TimeoutFactory timeoutFactory,
@@ -95,6 +102,7 @@ public class JdbcPeriodicRefreshService implements Initializable {
         this.timeout = timeout;
         this.cacheType = Objects.requireNonNull(cacheType);
         this.cacheNotificationListener = Objects.requireNonNull(cacheNotificationListener);
+        this.settingsCacheSnapshot = settingsCacheSnapshot;
         this.vertx = Objects.requireNonNull(vertx);
         this.jdbcClient = Objects.requireNonNull(jdbcClient);
         this.timeoutFactory = Objects.requireNonNull(timeoutFactory);
@@ -104,16 +112,29 @@ public class JdbcPeriodicRefreshService implements Initializable {
 
     @Override
     public void initialize() {
-        getAll();
+        if (settingsCacheSnapshot != null) {
+            settingsCacheSnapshot.load()
+                    .map(this::refreshFromSnapshot)
+                    .recover(ignored -> getAll());
+        } else {
+            getAll();
+        }
+
         if (refreshPeriod > 0) {
             vertx.setPeriodic(refreshPeriod, aLong -> refresh());
         }
     }
 
-    private void getAll() {
+    private Void refreshFromSnapshot(Instant snapshotLastUpdate) {
+        lastUpdate = snapshotLastUpdate;
+        refresh();
+        return null;
+    }
+
+    private Future<Void> getAll() {
         final long startTime = clock.millis();
 
-        jdbcClient.executeQuery(
+        return jdbcClient.executeQuery(
                         initQuery,
                         Collections.emptyList(),
                         JdbcStoredDataResultMapper::map,
@@ -128,11 +149,21 @@ public class JdbcPeriodicRefreshService implements Initializable {
                               long startTime,
                               MetricName refreshType) {
 
-        cacheNotificationListener.save(storedDataResult.getStoredIdToRequest(), storedDataResult.getStoredIdToImp());
+        final Map<String, String> requests = storedDataResult.getStoredIdToRequest();
+        final Map<String, String> imps = storedDataResult.getStoredIdToImp();
+        if (refreshType == MetricName.initialize) {
+            cacheNotificationListener.load(requests, imps);
+        } else {
+            cacheNotificationListener.save(requests, imps);
+        }
         lastUpdate = updateTime;
 
         metrics.updateSettingsCacheRefreshTime(cacheType, refreshType, clock.millis() - startTime);
 
+        if (settingsCacheSnapshot != null) {
+            settingsCacheSnapshot.save(updateTime);
+        }
+
         return null;
     }
 
@@ -121,6 +121,26 @@ public class AdminEndpointsConfiguration {
                 .withCredentials(adminEndpointCredentials);
     }
 
+    @Bean
+    @ConditionalOnExpression("${settings.in-memory-cache.notification-endpoints-enabled:false}"
+            + " and ${admin-endpoints.storedresponse.enabled} == true")
+    CustomizedAdminEndpoint storedResponseCacheNotificationEndpoint(
+            CachingApplicationSettings cachingApplicationSettings,
+            JacksonMapper mapper,
+            @Value("${admin-endpoints.storedresponse.path}") String path,
+            @Value("${admin-endpoints.storedresponse.on-application-port}") boolean isOnApplicationPort,
+            @Value("${admin-endpoints.storedresponse.protected}") boolean isProtected,
+            @Autowired(required = false) Map<String, String> adminEndpointCredentials) {
+
+        return new CustomizedAdminEndpoint(
+                path,
+                new SettingsCacheNotificationHandler(
+                        cachingApplicationSettings.storedResponseCacheInvalidator(), mapper, path),
+                isOnApplicationPort,
+                isProtected)
+                .withCredentials(adminEndpointCredentials);
+    }
+
     @Bean
     @ConditionalOnExpression("${settings.in-memory-cache.notification-endpoints-enabled:false}"
             + " and ${admin-endpoints.cache-invalidation.enabled} == true")
@@ -4,6 +4,8 @@ import io.vertx.core.Vertx;
 import io.vertx.ext.jdbc.JDBCClient;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.geolocation.GeoLocationService;
+import org.prebid.server.handler.AdmissionControlHandler;
+import org.prebid.server.health.AdmissionControlHealthChecker;
 import org.prebid.server.health.ApplicationChecker;
 import org.prebid.server.health.DatabaseHealthChecker;
 import org.prebid.server.health.GeoLocationHealthChecker;
@@ -41,6 +43,12 @@ public class HealthCheckerConfiguration {
         return new GeoLocationHealthChecker(vertx, refreshPeriod, geoLocationService, timeoutFactory, clock);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.admission-control", name = "enabled", havingValue = "true")
+    HealthChecker admissionControlChecker(AdmissionControlHandler admissionControlHandler, Clock clock) {
+        return new AdmissionControlHealthChecker(admissionControlHandler, clock);
+    }
+
     @Bean
     HealthChecker applicationChecker(@Value("${status-response}") String statusResponse) {
         return new ApplicationChecker(statusResponse);
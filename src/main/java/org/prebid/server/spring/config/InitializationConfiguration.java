@@ -1,5 +1,6 @@
 package org.prebid.server.spring.config;
 
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.ContextRunner;
 import org.prebid.server.vertx.Initializable;
@@ -9,6 +10,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 
+import java.time.Clock;
 import java.util.List;
 
 /**
@@ -23,6 +25,10 @@ import java.util.List;
  * Having services that depend on {@link HttpClient} in their initialization actions initialized after dependency
  * tree is fully constructed ensures that subsequent {@link HttpClient} instance creation will not happen in the
  * middle of another bean creation process.
+ * <p>
+ * Durations of context creation and of running services initialization actions are reported as startup metrics.
+ * Initialization actions only start asynchronous loading (like fetching currency rates or stored data), so its
+ * completion is not included.
  */
 @Configuration
 public class InitializationConfiguration {
@@ -33,11 +39,23 @@ public class InitializationConfiguration {
     @Autowired
     private List<Initializable> initializables;
 
+    @Autowired
+    private Metrics metrics;
+
+    @Autowired
+    private Clock clock;
+
     @EventListener(ContextRefreshedEvent.class)
-    public void initializeServices() {
+    public void initializeServices(ContextRefreshedEvent event) {
+        final long startTime = clock.millis();
+        metrics.updateStartupPhaseMetric(
+                MetricName.context_refresh, startTime - event.getApplicationContext().getStartupDate());
+
         contextRunner.runOnServiceContext(promise -> {
             initializables.forEach(Initializable::initialize);
             promise.complete();
         });
+
+        metrics.updateStartupPhaseMetric(MetricName.services_initialization_dispatch, clock.millis() - startTime);
     }
 }
@@ -8,6 +8,7 @@ import org.prebid.server.floors.BasicPriceFloorAdjuster;
 import org.prebid.server.floors.BasicPriceFloorEnforcer;
 import org.prebid.server.floors.BasicPriceFloorProcessor;
 import org.prebid.server.floors.BasicPriceFloorResolver;
+import org.prebid.server.floors.DeviceTypeClassifier;
 import org.prebid.server.floors.PriceFloorAdjuster;
 import org.prebid.server.floors.PriceFloorEnforcer;
 import org.prebid.server.floors.PriceFloorFetcher;
@@ -19,6 +20,7 @@ import org.prebid.server.json.JacksonMapper;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.vertx.http.HttpClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -61,14 +63,24 @@ public class PriceFloorsConfiguration {
         return PriceFloorEnforcer.noOp();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "price-floors", name = "enabled", havingValue = "true")
+    DeviceTypeClassifier deviceTypeClassifier(
+            @Value("${price-floors.device-type-cache-size}") int deviceTypeCacheSize) {
+
+        return new DeviceTypeClassifier(deviceTypeCacheSize);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "price-floors", name = "enabled", havingValue = "true")
     PriceFloorResolver basicPriceFloorResolver(CurrencyConversionService currencyConversionService,
                                                CountryCodeMapper countryCodeMapper,
                                                Metrics metrics,
-                                               JacksonMapper mapper) {
+                                               JacksonMapper mapper,
+                                               DeviceTypeClassifier deviceTypeClassifier) {
 
-        return new BasicPriceFloorResolver(currencyConversionService, countryCodeMapper, metrics, mapper);
+        return new BasicPriceFloorResolver(
+                currencyConversionService, countryCodeMapper, metrics, mapper, deviceTypeClassifier);
     }
 
     @Bean
@@ -6,9 +6,11 @@ import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.net.JksOptions;
+import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.AmpResponsePostProcessor;
 import org.prebid.server.auction.BidResponseCreator;
 import org.prebid.server.auction.BidResponsePostProcessor;
+import org.prebid.server.auction.BidderPreparationExecutor;
 import org.prebid.server.auction.DebugResolver;
 import org.prebid.server.auction.ExchangeService;
 import org.prebid.server.auction.FpdResolver;
@@ -25,7 +27,13 @@ import org.prebid.server.auction.VideoResponseFactory;
 import org.prebid.server.auction.VideoStoredRequestProcessor;
 import org.prebid.server.auction.WinningBidComparatorFactory;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
+import org.prebid.server.auction.biddertimeout.AdaptiveBidderTimeoutResolver;
+import org.prebid.server.auction.biddertimeout.BidderTimeoutResolver;
+import org.prebid.server.auction.biddertimeout.NoOpBidderTimeoutResolver;
 import org.prebid.server.auction.categorymapping.BasicCategoryMappingService;
+import org.prebid.server.auction.completion.AuctionCompletionPolicy;
+import org.prebid.server.auction.completion.EarlyCloseAuctionCompletionPolicy;
+import org.prebid.server.auction.completion.WaitAllAuctionCompletionPolicy;
 import org.prebid.server.auction.categorymapping.CategoryMappingService;
 import org.prebid.server.auction.categorymapping.NoOpCategoryMappingService;
 import org.prebid.server.auction.mediatypeprocessor.BidderMediaTypeProcessor;
@@ -37,12 +45,17 @@ import org.prebid.server.auction.requestfactory.AuctionRequestFactory;
 import org.prebid.server.auction.requestfactory.Ortb2ImplicitParametersResolver;
 import org.prebid.server.auction.requestfactory.Ortb2RequestFactory;
 import org.prebid.server.auction.requestfactory.VideoRequestFactory;
+import org.prebid.server.auction.trafficshaping.NoOpTrafficShaper;
+import org.prebid.server.auction.trafficshaping.StatisticalTrafficShaper;
+import org.prebid.server.auction.trafficshaping.TrafficShaper;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConverterFactory;
 import org.prebid.server.bidder.BidderCatalog;
+import org.prebid.server.bidder.BidderConcurrencyLimiter;
 import org.prebid.server.bidder.BidderDeps;
 import org.prebid.server.bidder.BidderErrorNotifier;
 import org.prebid.server.bidder.BidderRequestCompletionTrackerFactory;
+import org.prebid.server.bidder.BidderResponseFilter;
 import org.prebid.server.bidder.HttpBidderRequestEnricher;
 import org.prebid.server.bidder.HttpBidderRequester;
 import org.prebid.server.cache.CacheService;
@@ -69,12 +82,14 @@ import org.prebid.server.log.CriteriaLogManager;
 import org.prebid.server.log.CriteriaManager;
 import org.prebid.server.log.HttpInteractionLogger;
 import org.prebid.server.log.LoggerControlKnob;
+import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.optout.GoogleRecaptchaVerifier;
 import org.prebid.server.privacy.PrivacyExtractor;
 import org.prebid.server.privacy.gdpr.TcfDefinerService;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.model.BidValidationEnforcement;
+import org.prebid.server.spring.config.model.BidderConcurrencyLimitProperties;
 import org.prebid.server.spring.config.model.ExternalConversionProperties;
 import org.prebid.server.spring.config.model.HttpClientCircuitBreakerProperties;
 import org.prebid.server.spring.config.model.HttpClientProperties;
@@ -87,6 +102,7 @@ import org.prebid.server.vast.VastModifier;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.prebid.server.vertx.http.BasicHttpClient;
 import org.prebid.server.vertx.http.CircuitBreakerSecuredHttpClient;
+import org.prebid.server.vertx.http.HedgingHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -102,6 +118,8 @@ import javax.validation.constraints.Min;
 import java.io.IOException;
 import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
@@ -119,19 +137,31 @@ public class ServiceConfiguration {
             @Value("${cache.banner-ttl-seconds:#{null}}") Integer bannerCacheTtl,
             @Value("${cache.video-ttl-seconds:#{null}}") Integer videoCacheTtl,
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
+            @Value("${cache.hedging.enabled}") boolean hedgingEnabled,
+            @Value("${cache.hedging.delay-percentile}") double hedgingDelayPercentile,
+            @Value("${cache.hedging.min-delay-ms}") long hedgingMinDelayMs,
+            @Value("${cache.hedging.max-hedge-rate}") double maxHedgeRate,
             VastModifier vastModifier,
             EventsService eventsService,
             HttpClient httpClient,
+            Vertx vertx,
             Metrics metrics,
             Clock clock,
             JacksonMapper mapper) {
 
+        // hedged cache writes are made safe to repeat by sending them with keys generated in advance
+        final HttpClient cacheHttpClient = hedgingEnabled
+                ? new HedgingHttpClient(vertx, httpClient, "prebid_cache", true,
+                hedgingDelayPercentile, hedgingMinDelayMs, maxHedgeRate, metrics, clock)
+                : httpClient;
+
         return new CacheService(
                 CacheTtl.of(bannerCacheTtl, videoCacheTtl),
-                httpClient,
+                cacheHttpClient,
                 CacheService.getCacheEndpointUrl(scheme, host, path),
                 CacheService.getCachedAssetUrlTemplate(scheme, host, path, query),
                 expectedCacheTimeMs,
+                hedgingEnabled,
                 vastModifier,
                 eventsService,
                 metrics,
@@ -562,18 +592,132 @@ public class ServiceConfiguration {
         return new NoOpMediaTypeProcessor();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.adaptive-timeout", name = "enabled", havingValue = "true")
+    BidderTimeoutResolver adaptiveBidderTimeoutResolver(
+            @Value("${auction.adaptive-timeout.window-ms}") long windowMs,
+            @Value("${auction.adaptive-timeout.min-samples}") long minSamples,
+            @Value("${auction.adaptive-timeout.min-timeout-ms}") long minTimeoutMs,
+            @Value("${auction.adaptive-timeout.headroom-ms}") long headroomMs,
+            Clock clock) {
+
+        return new AdaptiveBidderTimeoutResolver(windowMs, minSamples, minTimeoutMs, headroomMs, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "auction.adaptive-timeout",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    BidderTimeoutResolver noOpBidderTimeoutResolver() {
+        return new NoOpBidderTimeoutResolver();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.traffic-shaping", name = "enabled", havingValue = "true")
+    TrafficShaper statisticalTrafficShaper(
+            @Value("${auction.traffic-shaping.min-bid-rate}") double minBidRate,
+            @Value("${auction.traffic-shaping.min-win-rate}") double minWinRate,
+            @Value("${auction.traffic-shaping.exploration-rate}") double explorationRate,
+            @Value("${auction.traffic-shaping.min-samples}") long minSamples,
+            @Value("${auction.traffic-shaping.window-samples}") long windowSamples,
+            @Value("${auction.traffic-shaping.max-entries}") int maxEntries,
+            Metrics metrics) {
+
+        return new StatisticalTrafficShaper(
+                minBidRate, minWinRate, explorationRate, minSamples, windowSamples, maxEntries, metrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "auction.traffic-shaping",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    TrafficShaper noOpTrafficShaper() {
+        return new NoOpTrafficShaper();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.early-close", name = "enabled", havingValue = "true")
+    AuctionCompletionPolicy earlyCloseAuctionCompletionPolicy(
+            @Value("${auction.early-close.min-responded-fraction}") double minRespondedFraction,
+            @Value("${auction.early-close.remaining-time-threshold-ms}") long remainingTimeThresholdMs,
+            Vertx vertx,
+            Clock clock) {
+
+        return new EarlyCloseAuctionCompletionPolicy(minRespondedFraction, remainingTimeThresholdMs, vertx, clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "auction.early-close",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    AuctionCompletionPolicy waitAllAuctionCompletionPolicy(Clock clock) {
+        return new WaitAllAuctionCompletionPolicy(clock);
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "auction.bidder-concurrency-limit")
+    @ConditionalOnProperty(prefix = "auction.bidder-concurrency-limit", name = "enabled", havingValue = "true")
+    BidderConcurrencyLimitProperties bidderConcurrencyLimitProperties() {
+        return new BidderConcurrencyLimitProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-concurrency-limit", name = "enabled", havingValue = "true")
+    BidderConcurrencyLimiter bidderConcurrencyLimiter(BidderConcurrencyLimitProperties properties,
+                                                      Vertx vertx,
+                                                      Metrics metrics,
+                                                      Clock clock) {
+
+        return new BidderConcurrencyLimiter(
+                vertx,
+                properties.getMaxInFlightRequests(),
+                properties.getBidderMaxInFlightRequests(),
+                properties.getMinInFlightRequests(),
+                properties.getMaxQueuedRequests(),
+                properties.getAdaptive(),
+                properties.getLatencyThresholdMs(),
+                metrics,
+                clock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.bidder-response-filter", name = "enabled", havingValue = "true")
+    BidderResponseFilter bidderResponseFilter(
+            @Value("${auction.bidder-response-filter.max-response-size-bytes}") long maxResponseSize,
+            @Value("${auction.bidder-response-filter.max-adm-length}") int maxAdmLength,
+            @Value("${auction.bidder-response-filter.bidders}") String biddersString,
+            JacksonMapper mapper) {
+
+        final List<String> bidders = splitToList(biddersString);
+        return new BidderResponseFilter(
+                maxResponseSize,
+                maxAdmLength,
+                bidders != null ? new HashSet<>(bidders) : Collections.emptySet(),
+                mapper);
+    }
+
     @Bean
     HttpBidderRequester httpBidderRequester(
             HttpClient httpClient,
             @Autowired(required = false) BidderRequestCompletionTrackerFactory bidderRequestCompletionTrackerFactory,
             BidderErrorNotifier bidderErrorNotifier,
             HttpBidderRequestEnricher requestEnricher,
+            @Autowired(required = false) BidderConcurrencyLimiter bidderConcurrencyLimiter,
+            @Autowired(required = false) BidderResponseFilter bidderResponseFilter,
             JacksonMapper mapper) {
 
         return new HttpBidderRequester(httpClient,
                 bidderRequestCompletionTrackerFactory,
                 bidderErrorNotifier,
                 requestEnricher,
+                bidderConcurrencyLimiter,
+                bidderResponseFilter,
                 mapper);
     }
 
@@ -637,6 +781,20 @@ public class ServiceConfiguration {
                 mapper);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.parallel-bidder-preparation", name = "enabled", havingValue = "true")
+    BidderPreparationExecutor bidderPreparationExecutor(
+            @Value("${auction.parallel-bidder-preparation.pool-size}") int poolSize,
+            @Value("${auction.parallel-bidder-preparation.min-bidders}") int minBidders,
+            @Value("${auction.parallel-bidder-preparation.max-queued-tasks}") int maxQueuedTasks,
+            Vertx vertx) {
+
+        return new BidderPreparationExecutor(
+                vertx.createSharedWorkerExecutor("bidder-preparation", poolSize),
+                minBidders,
+                maxQueuedTasks);
+    }
+
     @Bean
     ExchangeService exchangeService(
             @Value("${auction.cache.expected-request-time-ms}") long expectedCacheTimeMs,
@@ -650,12 +808,17 @@ public class ServiceConfiguration {
             MediaTypeProcessor mediaTypeProcessor,
             BidRequestOrtbVersionConversionManager bidRequestOrtbVersionConversionManager,
             HttpBidderRequester httpBidderRequester,
+            BidderTimeoutResolver bidderTimeoutResolver,
+            TrafficShaper trafficShaper,
+            AuctionCompletionPolicy auctionCompletionPolicy,
+            AnalyticsReporterDelegator analyticsReporterDelegator,
             ResponseBidValidator responseBidValidator,
             CurrencyConversionService currencyConversionService,
             BidResponseCreator bidResponseCreator,
             BidResponsePostProcessor bidResponsePostProcessor,
             HookStageExecutor hookStageExecutor,
             @Autowired(required = false) ApplicationEventService applicationEventService,
+            @Autowired(required = false) BidderPreparationExecutor bidderPreparationExecutor,
             HttpInteractionLogger httpInteractionLogger,
             PriceFloorAdjuster priceFloorAdjuster,
             PriceFloorEnforcer priceFloorEnforcer,
@@ -677,12 +840,17 @@ public class ServiceConfiguration {
                 mediaTypeProcessor,
                 bidRequestOrtbVersionConversionManager,
                 httpBidderRequester,
+                bidderTimeoutResolver,
+                trafficShaper,
+                auctionCompletionPolicy,
+                analyticsReporterDelegator,
                 responseBidValidator,
                 currencyConversionService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
                 applicationEventService,
+                bidderPreparationExecutor,
                 httpInteractionLogger,
                 priceFloorAdjuster,
                 priceFloorEnforcer,
@@ -795,8 +963,25 @@ public class ServiceConfiguration {
     }
 
     @Bean
-    BidderParamValidator bidderParamValidator(BidderCatalog bidderCatalog, JacksonMapper mapper) {
-        return BidderParamValidator.create(bidderCatalog, "static/bidder-params", mapper);
+    BidderParamValidator bidderParamValidator(
+            @Value("${auction.bidder-params-validation-cache.enabled}") boolean cacheEnabled,
+            @Value("${auction.bidder-params-validation-cache.size}") int cacheSize,
+            @Value("${auction.bidder-params-validation-cache.max-node-size}") int maxCachedNodeSize,
+            BidderCatalog bidderCatalog,
+            JacksonMapper mapper,
+            Metrics metrics,
+            Clock clock) {
+
+        final long startTime = clock.millis();
+
+        final String schemaDirectory = "static/bidder-params";
+        final BidderParamValidator bidderParamValidator = cacheEnabled
+                ? BidderParamValidator.create(
+                        bidderCatalog, schemaDirectory, mapper, cacheSize, maxCachedNodeSize, metrics)
+                : BidderParamValidator.create(bidderCatalog, schemaDirectory, mapper);
+
+        metrics.updateStartupPhaseMetric(MetricName.bidder_params_schemas, clock.millis() - startTime);
+        return bidderParamValidator;
     }
 
     @Bean
@@ -3,6 +3,8 @@ package org.prebid.server.spring.config;
 import io.vertx.core.Vertx;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetClientOptions;
 import io.vertx.ext.jdbc.JDBCClient;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,15 +20,22 @@ import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.ApplicationSettings;
 import org.prebid.server.settings.CachingApplicationSettings;
 import org.prebid.server.settings.CompositeApplicationSettings;
+import org.prebid.server.settings.DistributedCachingApplicationSettings;
 import org.prebid.server.settings.EnrichingApplicationSettings;
 import org.prebid.server.settings.FileApplicationSettings;
 import org.prebid.server.settings.HttpApplicationSettings;
 import org.prebid.server.settings.JdbcApplicationSettings;
 import org.prebid.server.settings.SettingsCache;
+import org.prebid.server.settings.SettingsCacheSnapshot;
+import org.prebid.server.settings.distributed.DistributedCache;
+import org.prebid.server.settings.distributed.InMemoryDistributedCache;
+import org.prebid.server.settings.distributed.RedisClient;
+import org.prebid.server.settings.distributed.RedisDistributedCache;
 import org.prebid.server.settings.service.HttpPeriodicRefreshService;
 import org.prebid.server.settings.service.JdbcPeriodicRefreshService;
 import org.prebid.server.spring.config.model.CircuitBreakerProperties;
 import org.prebid.server.vertx.ContextRunner;
+import org.prebid.server.vertx.http.HedgingHttpClient;
 import org.prebid.server.vertx.http.HttpClient;
 import org.prebid.server.vertx.jdbc.BasicJdbcClient;
 import org.prebid.server.vertx.jdbc.CircuitBreakerSecuredJdbcClient;
@@ -212,9 +221,21 @@ public class SettingsConfiguration {
                 @Value("${settings.http.endpoint}") String endpoint,
                 @Value("${settings.http.amp-endpoint}") String ampEndpoint,
                 @Value("${settings.http.video-endpoint}") String videoEndpoint,
-                @Value("${settings.http.category-endpoint}") String categoryEndpoint) {
-
-            return new HttpApplicationSettings(httpClient, mapper, endpoint, ampEndpoint, videoEndpoint,
+                @Value("${settings.http.category-endpoint}") String categoryEndpoint,
+                @Value("${settings.http.hedging.enabled}") boolean hedgingEnabled,
+                @Value("${settings.http.hedging.delay-percentile}") double hedgingDelayPercentile,
+                @Value("${settings.http.hedging.min-delay-ms}") long hedgingMinDelayMs,
+                @Value("${settings.http.hedging.max-hedge-rate}") double maxHedgeRate,
+                Vertx vertx,
+                Metrics metrics,
+                Clock clock) {
+
+            final HttpClient settingsHttpClient = hedgingEnabled
+                    ? new HedgingHttpClient(vertx, httpClient, "settings", false,
+                    hedgingDelayPercentile, hedgingMinDelayMs, maxHedgeRate, metrics, clock)
+                    : httpClient;
+
+            return new HttpApplicationSettings(settingsHttpClient, mapper, endpoint, ampEndpoint, videoEndpoint,
                     categoryEndpoint);
         }
     }
@@ -240,20 +261,31 @@ public class SettingsConfiguration {
         public HttpPeriodicRefreshService httpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.endpoint}") String endpoint,
                 SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("settingsCacheSnapshot")
+                SettingsCacheSnapshot settingsCacheSnapshot,
                 JacksonMapper mapper) {
 
             return new HttpPeriodicRefreshService(
-                    endpoint, refreshPeriod, timeout, settingsCache, vertx, httpClient, mapper);
+                    endpoint, refreshPeriod, timeout, settingsCache, settingsCacheSnapshot, vertx, httpClient, mapper);
         }
 
         @Bean
         public HttpPeriodicRefreshService ampHttpPeriodicRefreshService(
                 @Value("${settings.in-memory-cache.http-update.amp-endpoint}") String ampEndpoint,
                 SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampSettingsCacheSnapshot")
+                SettingsCacheSnapshot ampSettingsCacheSnapshot,
                 JacksonMapper mapper) {
 
             return new HttpPeriodicRefreshService(
-                    ampEndpoint, refreshPeriod, timeout, ampSettingsCache, vertx, httpClient, mapper);
+                    ampEndpoint,
+                    refreshPeriod,
+                    timeout,
+                    ampSettingsCache,
+                    ampSettingsCacheSnapshot,
+                    vertx,
+                    httpClient,
+                    mapper);
         }
     }
 
@@ -287,6 +319,8 @@ public class SettingsConfiguration {
         @Bean
         public JdbcPeriodicRefreshService jdbcPeriodicRefreshService(
                 @Qualifier("settingsCache") SettingsCache settingsCache,
+                @Autowired(required = false) @Qualifier("settingsCacheSnapshot")
+                SettingsCacheSnapshot settingsCacheSnapshot,
                 @Value("${settings.in-memory-cache.jdbc-update.init-query}") String initQuery,
                 @Value("${settings.in-memory-cache.jdbc-update.update-query}") String updateQuery) {
 
@@ -297,6 +331,7 @@ public class SettingsConfiguration {
                     timeout,
                     MetricName.stored_request,
                     settingsCache,
+                    settingsCacheSnapshot,
                     vertx,
                     jdbcClient,
                     timeoutFactory,
@@ -307,6 +342,8 @@ public class SettingsConfiguration {
         @Bean
         public JdbcPeriodicRefreshService ampJdbcPeriodicRefreshService(
                 @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache,
+                @Autowired(required = false) @Qualifier("ampSettingsCacheSnapshot")
+                SettingsCacheSnapshot ampSettingsCacheSnapshot,
                 @Value("${settings.in-memory-cache.jdbc-update.amp-init-query}") String ampInitQuery,
                 @Value("${settings.in-memory-cache.jdbc-update.amp-update-query}") String ampUpdateQuery) {
 
@@ -317,6 +354,7 @@ public class SettingsConfiguration {
                     timeout,
                     MetricName.amp_stored_request,
                     ampSettingsCache,
+                    ampSettingsCacheSnapshot,
                     vertx,
                     jdbcClient,
                     timeoutFactory,
@@ -348,6 +386,51 @@ public class SettingsConfiguration {
         }
     }
 
+    /**
+     * This configuration defines a cache shared between instances in front of application settings fetchers.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.distributed-cache", name = {"type", "ttl-seconds"})
+    static class DistributedCacheConfiguration {
+
+        @Value("${settings.distributed-cache.ttl-seconds}")
+        int ttlSeconds;
+
+        @Bean
+        @ConditionalOnProperty(prefix = "settings.distributed-cache", name = "type", havingValue = "in-memory")
+        InMemoryDistributedCache inMemoryDistributedCache(
+                @Value("${settings.distributed-cache.cache-size}") int cacheSize) {
+
+            return new InMemoryDistributedCache(ttlSeconds, cacheSize);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "settings.distributed-cache", name = "type", havingValue = "redis")
+        RedisDistributedCache redisDistributedCache(
+                @Value("${settings.distributed-cache.redis.host}") String host,
+                @Value("${settings.distributed-cache.redis.port}") int port,
+                @Value("${settings.distributed-cache.redis.timeout-ms}") long timeoutMs,
+                @Value("${settings.distributed-cache.redis.key-prefix:pbs:}") String keyPrefix,
+                Vertx vertx) {
+
+            final NetClient netClient = vertx.createNetClient(
+                    new NetClientOptions().setConnectTimeout(Math.toIntExact(timeoutMs)));
+            final RedisClient redisClient = new RedisClient(vertx, netClient, host, port, timeoutMs);
+
+            return new RedisDistributedCache(redisClient, keyPrefix, ttlSeconds);
+        }
+
+        @Bean
+        DistributedCachingApplicationSettings distributedCachingApplicationSettings(
+                CompositeApplicationSettings compositeApplicationSettings,
+                DistributedCache distributedCache,
+                JacksonMapper jacksonMapper) {
+
+            return new DistributedCachingApplicationSettings(
+                    compositeApplicationSettings, distributedCache, jacksonMapper);
+        }
+    }
+
     @Configuration
     static class EnrichingSettingsConfiguration {
 
@@ -356,13 +439,14 @@ public class SettingsConfiguration {
                 @Value("${settings.enforce-valid-account}") boolean enforceValidAccount,
                 @Value("${settings.default-account-config:#{null}}") String defaultAccountConfig,
                 CompositeApplicationSettings compositeApplicationSettings,
+                @Autowired(required = false) DistributedCachingApplicationSettings distributedSettings,
                 PriceFloorsConfigResolver priceFloorsConfigResolver,
                 JsonMerger jsonMerger,
                 JacksonMapper jacksonMapper) {
 
             return new EnrichingApplicationSettings(enforceValidAccount,
                     defaultAccountConfig,
-                    compositeApplicationSettings,
+                    ObjectUtils.defaultIfNull(distributedSettings, compositeApplicationSettings),
                     priceFloorsConfigResolver,
                     jsonMerger,
                     jacksonMapper);
@@ -380,6 +464,7 @@ public class SettingsConfiguration {
                 @Qualifier("settingsCache") SettingsCache cache,
                 @Qualifier("ampSettingsCache") SettingsCache ampCache,
                 @Qualifier("videoSettingCache") SettingsCache videoCache,
+                @Autowired(required = false) DistributedCachingApplicationSettings distributedSettings,
                 Metrics metrics) {
 
             return new CachingApplicationSettings(
@@ -389,7 +474,8 @@ public class SettingsConfiguration {
                     videoCache,
                     metrics,
                     cacheProperties.getTtlSeconds(),
-                    cacheProperties.getCacheSize());
+                    cacheProperties.getCacheSize(),
+                    distributedSettings);
         }
     }
 
@@ -410,20 +496,68 @@ public class SettingsConfiguration {
 
         @Bean
         @Qualifier("settingsCache")
-        SettingsCache settingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache settingsCache(
+                ApplicationSettingsCacheProperties cacheProperties,
+                @Autowired(required = false) DistributedCachingApplicationSettings distributedSettings) {
+
+            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(),
+                    distributedSettings != null
+                            ? distributedSettings.storedDataInvalidator()
+                            : null);
         }
 
         @Bean
         @Qualifier("ampSettingsCache")
-        SettingsCache ampSettingsCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache ampSettingsCache(
+                ApplicationSettingsCacheProperties cacheProperties,
+                @Autowired(required = false) DistributedCachingApplicationSettings distributedSettings) {
+
+            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(),
+                    distributedSettings != null
+                            ? distributedSettings.ampStoredDataInvalidator()
+                            : null);
         }
 
         @Bean
         @Qualifier("videoSettingCache")
-        SettingsCache videoSettingCache(ApplicationSettingsCacheProperties cacheProperties) {
-            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize());
+        SettingsCache videoSettingCache(
+                ApplicationSettingsCacheProperties cacheProperties,
+                @Autowired(required = false) DistributedCachingApplicationSettings distributedSettings) {
+
+            return new SettingsCache(cacheProperties.getTtlSeconds(), cacheProperties.getCacheSize(),
+                    distributedSettings != null
+                            ? distributedSettings.videoStoredDataInvalidator()
+                            : null);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "settings.in-memory-cache.snapshot", name = {"path", "amp-path", "save-period-ms"})
+    static class SettingsCacheSnapshotConfiguration {
+
+        @Value("${settings.in-memory-cache.snapshot.save-period-ms}")
+        long savePeriod;
+
+        @Bean
+        @Qualifier("settingsCacheSnapshot")
+        SettingsCacheSnapshot settingsCacheSnapshot(
+                @Value("${settings.in-memory-cache.snapshot.path}") String path,
+                @Qualifier("settingsCache") SettingsCache settingsCache,
+                Vertx vertx,
+                Clock clock) {
+
+            return new SettingsCacheSnapshot(path, savePeriod, settingsCache, vertx, clock);
+        }
+
+        @Bean
+        @Qualifier("ampSettingsCacheSnapshot")
+        SettingsCacheSnapshot ampSettingsCacheSnapshot(
+                @Value("${settings.in-memory-cache.snapshot.amp-path}") String ampPath,
+                @Qualifier("ampSettingsCache") SettingsCache ampSettingsCache,
+                Vertx vertx,
+                Clock clock) {
+
+            return new SettingsCacheSnapshot(ampPath, savePeriod, ampSettingsCache, vertx, clock);
         }
     }
 
@@ -1,10 +1,13 @@
 package org.prebid.server.spring.config;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.JksOptions;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.handler.CorsHandler;
 import io.vertx.ext.web.handler.StaticHandler;
@@ -24,6 +27,7 @@ import org.prebid.server.cookie.UidsCookieService;
 import org.prebid.server.deals.UserService;
 import org.prebid.server.deals.events.ApplicationEventService;
 import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.handler.AdmissionControlHandler;
 import org.prebid.server.handler.BidderParamHandler;
 import org.prebid.server.handler.CookieSyncHandler;
 import org.prebid.server.handler.CustomizedAdminEndpoint;
@@ -52,6 +56,7 @@ import org.prebid.server.validation.BidderParamValidator;
 import org.prebid.server.version.PrebidVersionProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -68,6 +73,9 @@ import java.util.Set;
 @Configuration
 public class WebConfiguration {
 
+    // pixel endpoints read nothing but query parameters and cookies, so there is no body to collect
+    private static final Set<String> PIXEL_PATHS = Set.of("/event", "/setuid");
+
     @Autowired
     private Vertx vertx;
 
@@ -76,7 +84,10 @@ public class WebConfiguration {
             @Value("#{'${http.max-headers-size:${server.max-headers-size:}}'}") int maxHeaderSize,
             @Value("#{'${http.ssl:${server.ssl:}}'}") boolean ssl,
             @Value("#{'${http.jks-path:${server.jks-path:}}'}") String jksPath,
-            @Value("#{'${http.jks-password:${server.jks-password:}}'}") String jksPassword) {
+            @Value("#{'${http.jks-password:${server.jks-password:}}'}") String jksPassword,
+            @Value("${server.http2.enabled}") boolean http2Enabled,
+            @Value("${server.http2.h2c-enabled}") boolean h2cEnabled,
+            @Value("${server.http2.max-concurrent-streams}") long maxConcurrentStreams) {
 
         final HttpServerOptions httpServerOptions = new HttpServerOptions()
                 .setHandle100ContinueAutomatically(true)
@@ -95,6 +106,14 @@ public class WebConfiguration {
                     .setKeyStoreOptions(jksOptions);
         }
 
+        if (http2Enabled) {
+            httpServerOptions
+                    .setUseAlpn(ssl)
+                    .setAlpnVersions(List.of(HttpVersion.HTTP_2, HttpVersion.HTTP_1_1))
+                    .setHttp2ClearTextEnabled(h2cEnabled)
+                    .setInitialSettings(new Http2Settings().setMaxConcurrentStreams(maxConcurrentStreams));
+        }
+
         return httpServerOptions;
     }
 
@@ -121,12 +140,18 @@ public class WebConfiguration {
                   BidderDetailsHandler bidderDetailsHandler,
                   NotificationEventHandler notificationEventHandler,
                   List<CustomizedAdminEndpoint> customizedAdminEndpoints,
-                  StaticHandler staticHandler) {
+                  StaticHandler staticHandler,
+                  @Autowired(required = false) AdmissionControlHandler admissionControlHandler) {
 
         final Router router = Router.router(vertx);
-        router.route().handler(bodyHandler);
+        router.route().handler(routingContext -> handleBody(bodyHandler, routingContext));
         router.route().handler(noCacheHandler);
         router.route().handler(corsHandler);
+        if (admissionControlHandler != null) {
+            router.post("/openrtb2/auction").handler(admissionControlHandler);
+            router.get("/openrtb2/amp").handler(admissionControlHandler);
+            router.post("/openrtb2/video").handler(admissionControlHandler);
+        }
         router.post("/openrtb2/auction").handler(openrtbAuctionHandler);
         router.get("/openrtb2/amp").handler(openrtbAmpHandler);
         router.post("/openrtb2/video").handler(openrtbVideoHandler);
@@ -152,6 +177,28 @@ public class WebConfiguration {
         return router;
     }
 
+    private static void handleBody(BodyHandler bodyHandler, RoutingContext routingContext) {
+        if (routingContext.request().method() == HttpMethod.GET
+                && PIXEL_PATHS.contains(routingContext.normalisedPath())) {
+            routingContext.next();
+        } else {
+            bodyHandler.handle(routingContext);
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auction.admission-control", name = "enabled", havingValue = "true")
+    AdmissionControlHandler admissionControlHandler(
+            @Value("${auction.admission-control.lag-check-interval-ms}") long lagCheckIntervalMs,
+            @Value("${auction.admission-control.max-event-loop-lag-ms}") long maxEventLoopLagMs,
+            @Value("${auction.admission-control.max-in-flight-requests}") int maxInFlightRequests,
+            Metrics metrics,
+            Clock clock) {
+
+        return new AdmissionControlHandler(
+                vertx, lagCheckIntervalMs, maxEventLoopLagMs, maxInFlightRequests, metrics, clock);
+    }
+
     @Bean
     NoCacheHandler noCacheHandler() {
         return NoCacheHandler.create();
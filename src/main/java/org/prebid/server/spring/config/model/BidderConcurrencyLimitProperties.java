@@ -0,0 +1,37 @@
+package org.prebid.server.spring.config.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+
+@Validated
+@Data
+@NoArgsConstructor
+public class BidderConcurrencyLimitProperties {
+
+    @NotNull
+    @Min(1)
+    private Integer maxInFlightRequests;
+
+    @NotNull
+    private Map<String, Integer> bidderMaxInFlightRequests = new HashMap<>();
+
+    @NotNull
+    @Min(1)
+    private Integer minInFlightRequests;
+
+    @NotNull
+    @Min(0)
+    private Integer maxQueuedRequests;
+
+    @NotNull
+    private Boolean adaptive;
+
+    @NotNull
+    private Long latencyThresholdMs;
+}
@@ -1,12 +1,16 @@
 package org.prebid.server.spring.config.server;
 
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
 import org.prebid.server.handler.ExceptionHandler;
+import org.prebid.server.handler.Http2StreamsMetricsHandler;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.vertx.ContextRunner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -38,6 +42,9 @@ public class HttpServerConfiguration {
     @Qualifier("router")
     private Router router;
 
+    @Autowired
+    private Metrics metrics;
+
     @Value("#{'${http.port:${server.http.port}}'}")
     private Integer httpPort;
 
@@ -45,6 +52,9 @@ public class HttpServerConfiguration {
     @Value("#{'${vertx.http-server-instances:${server.http.server-instances}}'}")
     private Integer httpServerNum;
 
+    @Value("${server.http2.enabled}")
+    private boolean http2Enabled;
+
     @PostConstruct
     public void startHttpServer() {
         logger.info(
@@ -52,10 +62,14 @@ public class HttpServerConfiguration {
                 httpServerNum,
                 httpPort);
 
+        final Handler<HttpServerRequest> requestHandler = http2Enabled
+                ? new Http2StreamsMetricsHandler(router, metrics)
+                : router;
+
         contextRunner.<HttpServer>runOnNewContext(httpServerNum, promise ->
                 vertx.createHttpServer(httpServerOptions)
                         .exceptionHandler(exceptionHandler)
-                        .requestHandler(router)
+                        .requestHandler(requestHandler)
                         .listen(httpPort, promise));
 
         logger.info("Successfully started {0} instances of Http Server", httpServerNum);
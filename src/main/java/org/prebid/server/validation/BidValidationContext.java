@@ -0,0 +1,136 @@
+package org.prebid.server.validation;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Format;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Site;
+import org.apache.commons.collections4.ListUtils;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.BidValidationEnforcement;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Auction data used by {@link ResponseBidValidator}, prepared once per auction and shared by all bids of all
+ * bidders: effective account settings and imps by id with their banner size limits and allowed sizes.
+ */
+public class BidValidationContext {
+
+    private final Account account;
+    private final String referer;
+    private final BidValidationEnforcement bannerMaxSizeEnforcement;
+    private final Map<String, ImpValidationInfo> impIdToInfo;
+
+    BidValidationContext(BidRequest bidRequest, Account account, BidValidationEnforcement bannerMaxSizeEnforcement) {
+        this.account = account;
+        this.referer = referer(Objects.requireNonNull(bidRequest));
+        this.bannerMaxSizeEnforcement = Objects.requireNonNull(bannerMaxSizeEnforcement);
+        this.impIdToInfo = impIdToInfo(bidRequest.getImp());
+    }
+
+    private static String referer(BidRequest bidRequest) {
+        final Site site = bidRequest.getSite();
+        return site != null ? site.getPage() : "unknown";
+    }
+
+    private static Map<String, ImpValidationInfo> impIdToInfo(List<Imp> imps) {
+        final Map<String, ImpValidationInfo> impIdToInfo = new HashMap<>();
+        for (Imp imp : ListUtils.emptyIfNull(imps)) {
+            // the first imp with the same id wins, as if imps were scanned for every bid
+            impIdToInfo.putIfAbsent(imp.getId(), new ImpValidationInfo(imp));
+        }
+        return impIdToInfo;
+    }
+
+    Account getAccount() {
+        return account;
+    }
+
+    String getReferer() {
+        return referer;
+    }
+
+    BidValidationEnforcement getBannerMaxSizeEnforcement() {
+        return bannerMaxSizeEnforcement;
+    }
+
+    /**
+     * Returns validation data of the imp with given id or null if there is no such imp in request.
+     */
+    ImpValidationInfo impInfo(String impId) {
+        return impIdToInfo.get(impId);
+    }
+
+    static class ImpValidationInfo {
+
+        private final Imp imp;
+        private final List<Format> bannerFormats;
+        private final int maxBannerWidth;
+        private final int maxBannerHeight;
+        private final Set<Long> bannerSizes;
+
+        ImpValidationInfo(Imp imp) {
+            this.imp = imp;
+
+            final Banner banner = imp.getBanner();
+            bannerFormats = ListUtils.emptyIfNull(banner != null ? banner.getFormat() : null);
+
+            int maxW = 0;
+            int maxH = 0;
+            bannerSizes = new HashSet<>();
+            for (Format format : bannerFormats) {
+                final Integer w = format.getW();
+                final Integer h = format.getH();
+                maxW = w != null ? Math.max(maxW, w) : maxW;
+                maxH = h != null ? Math.max(maxH, h) : maxH;
+                if (w != null && h != null) {
+                    bannerSizes.add(sizeKey(w, h));
+                }
+            }
+            maxBannerWidth = maxW;
+            maxBannerHeight = maxH;
+        }
+
+        Imp getImp() {
+            return imp;
+        }
+
+        List<Format> getBannerFormats() {
+            return bannerFormats;
+        }
+
+        int getMaxBannerWidth() {
+            return maxBannerWidth;
+        }
+
+        int getMaxBannerHeight() {
+            return maxBannerHeight;
+        }
+
+        boolean isSecure() {
+            return Objects.equals(imp.getSecure(), 1);
+        }
+
+        /**
+         * Returns true if imp banner has format with exactly the given width and height.
+         */
+        boolean hasBannerSize(Integer w, Integer h) {
+            if (w != null && h != null) {
+                return bannerSizes.contains(sizeKey(w, h));
+            }
+
+            return bannerFormats.stream()
+                    .anyMatch(format -> Objects.equals(format.getW(), w) && Objects.equals(format.getH(), h));
+        }
+
+        private static long sizeKey(int w, int h) {
+            return (long) w << 32 | (h & 0xFFFFFFFFL);
+        }
+    }
+}
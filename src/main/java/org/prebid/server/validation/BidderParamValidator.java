@@ -1,23 +1,31 @@
 package org.prebid.server.validation;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaException;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
+import lombok.Value;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.json.EncodeException;
 import org.prebid.server.json.JacksonMapper;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,23 +38,91 @@ public class BidderParamValidator {
     private static final String JSON_FILE_EXT = ".json";
     private static final String FILE_SEP = "/";
 
+    private final Map<String, JsonNode> bidderRawSchemas;
     private final Map<String, JsonSchema> bidderSchemas;
     private final String schemas;
+    private final Map<BidderParams, Set<String>> validationResults;
+    private final int maxCachedNodeSize;
+    private final Metrics metrics;
 
-    private BidderParamValidator(Map<String, JsonSchema> bidderSchemas, String schemas) {
+    private BidderParamValidator(Map<String, JsonNode> bidderRawSchemas,
+                                 Map<String, JsonSchema> bidderSchemas,
+                                 String schemas,
+                                 Map<BidderParams, Set<String>> validationResults,
+                                 int maxCachedNodeSize,
+                                 Metrics metrics) {
+
+        this.bidderRawSchemas = bidderRawSchemas;
         this.bidderSchemas = bidderSchemas;
         this.schemas = schemas;
+        this.validationResults = validationResults;
+        this.maxCachedNodeSize = maxCachedNodeSize;
+        this.metrics = metrics;
     }
 
     /**
      * Validates the {@link JsonNode} input parameter against bidder's JSON-schema
+     * <p>
+     * If validation results cache is enabled, results are remembered by bidder and structure of the parameter,
+     * so identical parameters are validated only once. Parameters of more than configured number of nodes
+     * bypass the cache.
      */
     public Set<String> validate(String bidder, JsonNode jsonNode) {
-        return bidderSchemas.get(bidder).validate(jsonNode).stream()
+        if (validationResults == null) {
+            return doValidate(bidder, jsonNode);
+        }
+
+        if (exceedsSize(jsonNode, maxCachedNodeSize)) {
+            metrics.updateBidderParamsValidationCacheMetric(MetricName.bypass);
+            return doValidate(bidder, jsonNode);
+        }
+
+        final Set<String> cachedResult = validationResults.get(BidderParams.of(bidder, jsonNode));
+        if (cachedResult != null) {
+            metrics.updateBidderParamsValidationCacheMetric(MetricName.hit);
+            return cachedResult;
+        }
+
+        metrics.updateBidderParamsValidationCacheMetric(MetricName.miss);
+        final Set<String> result = Collections.unmodifiableSet(doValidate(bidder, jsonNode));
+        // node is copied to make sure later modifications of the request do not affect the key
+        validationResults.put(BidderParams.of(bidder, jsonNode.deepCopy()), result);
+
+        return result;
+    }
+
+    private Set<String> doValidate(String bidder, JsonNode jsonNode) {
+        return bidderSchema(bidder).validate(jsonNode).stream()
                 .map(ValidationMessage::getMessage)
                 .collect(Collectors.toSet());
     }
 
+    private JsonSchema bidderSchema(String bidder) {
+        final JsonSchema schema = bidderSchemas.get(bidder);
+        return schema != null
+                ? schema
+                : bidderSchemas.computeIfAbsent(bidder, key -> toBidderSchema(bidderRawSchemas.get(key), key));
+    }
+
+    private static boolean exceedsSize(JsonNode jsonNode, int maxSize) {
+        final Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.push(jsonNode);
+
+        int size = 0;
+        while (!nodes.isEmpty()) {
+            if (++size > maxSize) {
+                return true;
+            }
+
+            final JsonNode node = nodes.pop();
+            if (node.isContainerNode()) {
+                node.forEach(nodes::push);
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Returns a JSON object combining all schemas for all bidders. Each bidder has a subnode with its schema within
      * framing object.
@@ -75,6 +151,9 @@ public class BidderParamValidator {
      * exist as CLASSPATH resources, otherwise {@link IllegalArgumentException} will be thrown. This method consumes
      * schema directory parameter that defines the root directory for files containing schemas. By convention the name
      * of each schema file same as corresponding bidder name.
+     * <p>
+     * Schema files are loaded in parallel. Schemas of disabled bidders are compiled on the first use, since most of
+     * the deployments have only a few of all bidders enabled.
      */
     public static BidderParamValidator create(
             BidderCatalog bidderCatalog, String schemaDirectory, JacksonMapper mapper) {
@@ -83,17 +162,81 @@ public class BidderParamValidator {
         Objects.requireNonNull(schemaDirectory);
         Objects.requireNonNull(mapper);
 
-        final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
+        final Map<String, JsonNode> bidderRawSchemas = bidderRawSchemas(bidderCatalog, schemaDirectory, mapper);
 
-        bidderCatalog.names().forEach(bidder -> bidderRawSchemas.put(
-                bidder, createSchemaNode(schemaDirectory, maybeResolveAlias(bidderCatalog, bidder), mapper)));
+        return new BidderParamValidator(
+                bidderRawSchemas,
+                toBidderSchemas(bidderRawSchemas, bidderCatalog),
+                toSchemas(bidderRawSchemas, mapper),
+                null,
+                0,
+                null);
+    }
+
+    /**
+     * Constructs an instance of {@link BidderParamValidator} with bounded cache of validation results.
+     * Parameters consisting of more than maxCachedNodeSize JSON nodes are validated without cache.
+     */
+    public static BidderParamValidator create(BidderCatalog bidderCatalog,
+                                              String schemaDirectory,
+                                              JacksonMapper mapper,
+                                              int cacheSize,
+                                              int maxCachedNodeSize,
+                                              Metrics metrics) {
+
+        Objects.requireNonNull(bidderCatalog);
+        Objects.requireNonNull(schemaDirectory);
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(metrics);
+        if (cacheSize <= 0 || maxCachedNodeSize <= 0) {
+            throw new IllegalArgumentException("Cache size and max cached node size should be positive");
+        }
+
+        final Map<String, JsonNode> bidderRawSchemas = bidderRawSchemas(bidderCatalog, schemaDirectory, mapper);
+        final Map<BidderParams, Set<String>> validationResults = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .<BidderParams, Set<String>>build()
+                .asMap();
+
+        return new BidderParamValidator(
+                bidderRawSchemas,
+                toBidderSchemas(bidderRawSchemas, bidderCatalog),
+                toSchemas(bidderRawSchemas, mapper),
+                validationResults,
+                maxCachedNodeSize,
+                metrics);
+    }
+
+    private static Map<String, JsonNode> bidderRawSchemas(BidderCatalog bidderCatalog,
+                                                          String schemaDirectory,
+                                                          JacksonMapper mapper) {
+
+        final Set<String> bidders = bidderCatalog.names();
+
+        // aliases share schema of the core bidder, so each schema file is loaded only once
+        final Map<String, JsonNode> schemaNodes = bidders.stream()
+                .map(bidder -> maybeResolveAlias(bidderCatalog, bidder))
+                .distinct()
+                .parallel()
+                .collect(Collectors.toConcurrentMap(
+                        Function.identity(),
+                        schemaName -> createSchemaNode(schemaDirectory, schemaName, mapper)));
+
+        final Map<String, JsonNode> bidderRawSchemas = new LinkedHashMap<>();
+        bidders.forEach(bidder -> bidderRawSchemas.put(
+                bidder, schemaNodes.get(maybeResolveAlias(bidderCatalog, bidder))));
 
-        return new BidderParamValidator(toBidderSchemas(bidderRawSchemas), toSchemas(bidderRawSchemas, mapper));
+        return bidderRawSchemas;
     }
 
-    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas) {
-        return bidderRawSchemas.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, e -> toBidderSchema(e.getValue(), e.getKey())));
+    private static Map<String, JsonSchema> toBidderSchemas(Map<String, JsonNode> bidderRawSchemas,
+                                                           BidderCatalog bidderCatalog) {
+
+        return bidderRawSchemas.entrySet().parallelStream()
+                .filter(bidderToSchema -> bidderCatalog.isActive(bidderToSchema.getKey()))
+                .collect(Collectors.toConcurrentMap(
+                        Map.Entry::getKey,
+                        bidderToSchema -> toBidderSchema(bidderToSchema.getValue(), bidderToSchema.getKey())));
     }
 
     private static String toSchemas(Map<String, JsonNode> bidderRawSchemas, JacksonMapper mapper) {
@@ -146,4 +289,12 @@ public class BidderParamValidator {
         }
         return result;
     }
+
+    @Value(staticConstructor = "of")
+    private static class BidderParams {
+
+        String bidder;
+
+        JsonNode params;
+    }
 }
@@ -2,18 +2,14 @@ package org.prebid.server.validation;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.iab.openrtb.request.Banner;
-import com.iab.openrtb.request.BidRequest;
 import com.iab.openrtb.request.Deal;
 import com.iab.openrtb.request.Format;
 import com.iab.openrtb.request.Imp;
 import com.iab.openrtb.request.Pmp;
-import com.iab.openrtb.request.Site;
 import com.iab.openrtb.response.Bid;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.prebid.server.auction.BidderAliases;
@@ -31,6 +27,7 @@ import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountBidValidationConfig;
 import org.prebid.server.settings.model.BidValidationEnforcement;
 import org.prebid.server.util.DealUtil;
+import org.prebid.server.validation.BidValidationContext.ImpValidationInfo;
 import org.prebid.server.validation.model.ValidationResult;
 
 import java.util.ArrayList;
@@ -57,8 +54,9 @@ public class ResponseBidValidator {
             logger);
     private static final double LOG_SAMPLING_RATE = 0.01;
 
-    private static final String[] INSECURE_MARKUP_MARKERS = {"http:", "http%3A"};
-    private static final String[] SECURE_MARKUP_MARKERS = {"https:", "https%3A"};
+    private static final String HTTP = "http";
+    private static final String[] INSECURE_MARKUP_SUFFIXES = {":", "%3A"};
+    private static final String[] SECURE_MARKUP_SUFFIXES = {"s:", "s%3A"};
 
     private static final String PREBID_EXT = "prebid";
     private static final String BIDDER_EXT = "bidder";
@@ -86,14 +84,29 @@ public class ResponseBidValidator {
         this.dealsEnabled = dealsEnabled;
     }
 
+    /**
+     * Prepares auction data needed to validate bids, so it can be reused for all bids of all bidders.
+     */
+    public BidValidationContext createContext(AuctionContext auctionContext) {
+        final Account account = auctionContext.getAccount();
+        return new BidValidationContext(
+                auctionContext.getBidRequest(), account, effectiveBannerMaxSizeEnforcement(account));
+    }
+
     public ValidationResult validate(BidderBid bidderBid,
                                      String bidder,
                                      AuctionContext auctionContext,
                                      BidderAliases aliases) {
 
+        return validate(bidderBid, bidder, createContext(auctionContext), aliases);
+    }
+
+    public ValidationResult validate(BidderBid bidderBid,
+                                     String bidder,
+                                     BidValidationContext validationContext,
+                                     BidderAliases aliases) {
+
         final Bid bid = bidderBid.getBid();
-        final BidRequest bidRequest = auctionContext.getBidRequest();
-        final Account account = auctionContext.getAccount();
         final List<String> warnings = new ArrayList<>();
 
         try {
@@ -101,16 +114,16 @@ public class ResponseBidValidator {
             validateTypeSpecific(bidderBid, bidder);
             validateCurrency(bidderBid.getBidCurrency());
 
-            final Imp correspondingImp = findCorrespondingImp(bid, bidRequest);
+            final ImpValidationInfo correspondingImp = findCorrespondingImp(bid, validationContext);
             if (bidderBid.getType() == BidType.banner) {
-                warnings.addAll(validateBannerFields(bid, bidder, bidRequest, account, correspondingImp, aliases));
+                warnings.addAll(validateBannerFields(bid, bidder, validationContext, correspondingImp, aliases));
             }
 
             if (dealsEnabled) {
-                validateDealsFor(bidderBid, auctionContext.getBidRequest(), bidder, aliases, warnings);
+                validateDealsFor(bidderBid, correspondingImp, bidder, aliases, warnings);
             }
 
-            warnings.addAll(validateSecureMarkup(bid, bidder, bidRequest, account, correspondingImp, aliases));
+            warnings.addAll(validateSecureMarkup(bid, bidder, validationContext, correspondingImp, aliases));
         } catch (ValidationException e) {
             return ValidationResult.error(warnings, e.getMessage());
         }
@@ -156,12 +169,15 @@ public class ResponseBidValidator {
         }
     }
 
-    private static Imp findCorrespondingImp(Bid bid, BidRequest bidRequest) throws ValidationException {
-        return bidRequest.getImp().stream()
-                .filter(imp -> Objects.equals(imp.getId(), bid.getImpid()))
-                .findFirst()
-                .orElseThrow(() -> exceptionAndLogOnePercent(
-                        "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId())));
+    private static ImpValidationInfo findCorrespondingImp(Bid bid, BidValidationContext validationContext)
+            throws ValidationException {
+
+        final ImpValidationInfo impInfo = validationContext.impInfo(bid.getImpid());
+        if (impInfo == null) {
+            throw exceptionAndLogOnePercent(
+                    "Bid \"%s\" has no corresponding imp in request".formatted(bid.getId()));
+        }
+        return impInfo;
     }
 
     private static ValidationException exceptionAndLogOnePercent(String message) {
@@ -171,17 +187,17 @@ public class ResponseBidValidator {
 
     private List<String> validateBannerFields(Bid bid,
                                               String bidder,
-                                              BidRequest bidRequest,
-                                              Account account,
-                                              Imp correspondingImp,
+                                              BidValidationContext validationContext,
+                                              ImpValidationInfo correspondingImp,
                                               BidderAliases aliases) throws ValidationException {
 
-        final BidValidationEnforcement bannerMaxSizeEnforcement = effectiveBannerMaxSizeEnforcement(account);
+        final BidValidationEnforcement bannerMaxSizeEnforcement = validationContext.getBannerMaxSizeEnforcement();
         if (bannerMaxSizeEnforcement != BidValidationEnforcement.skip) {
-            final Format maxSize = maxSizeForBanner(correspondingImp);
+            final int maxW = correspondingImp.getMaxBannerWidth();
+            final int maxH = correspondingImp.getMaxBannerHeight();
 
-            if (bannerSizeIsNotValid(bid, maxSize)) {
-                final String accountId = account.getId();
+            if (bannerSizeIsNotValid(bid, maxW, maxH)) {
+                final String accountId = validationContext.getAccount().getId();
                 final String message = """
                         BidResponse validation `%s`: bidder `%s` response triggers creative \
                         size validation for bid %s, account=%s, referrer=%s, max imp size='%dx%d', \
@@ -190,9 +206,9 @@ public class ResponseBidValidator {
                         bidder,
                         bid.getId(),
                         accountId,
-                        getReferer(bidRequest),
-                        maxSize.getW(),
-                        maxSize.getH(),
+                        validationContext.getReferer(),
+                        maxW,
+                        maxH,
                         bid.getW(),
                         bid.getH());
 
@@ -207,7 +223,7 @@ public class ResponseBidValidator {
     }
 
     private BidValidationEnforcement effectiveBannerMaxSizeEnforcement(Account account) {
-        final AccountAuctionConfig accountAuctionConfig = account.getAuction();
+        final AccountAuctionConfig accountAuctionConfig = account != null ? account.getAuction() : null;
         final AccountBidValidationConfig validationConfig =
                 accountAuctionConfig != null ? accountAuctionConfig.getBidValidations() : null;
         final BidValidationEnforcement accountBannerMaxSizeEnforcement =
@@ -216,45 +232,28 @@ public class ResponseBidValidator {
         return ObjectUtils.defaultIfNull(accountBannerMaxSizeEnforcement, bannerMaxSizeEnforcement);
     }
 
-    private static Format maxSizeForBanner(Imp imp) {
-        int maxW = 0;
-        int maxH = 0;
-        for (final Format size : bannerFormats(imp)) {
-            maxW = Math.max(maxW, size.getW());
-            maxH = Math.max(maxH, size.getH());
-        }
-        return Format.builder().w(maxW).h(maxH).build();
-    }
-
-    private static List<Format> bannerFormats(Imp imp) {
-        final Banner banner = imp.getBanner();
-        final List<Format> formats = banner != null ? banner.getFormat() : null;
-        return ListUtils.emptyIfNull(formats);
-    }
-
-    private static boolean bannerSizeIsNotValid(Bid bid, Format maxSize) {
+    private static boolean bannerSizeIsNotValid(Bid bid, int maxW, int maxH) {
         final Integer bidW = bid.getW();
         final Integer bidH = bid.getH();
-        return bidW == null || bidW > maxSize.getW()
-                || bidH == null || bidH > maxSize.getH();
+        return bidW == null || bidW > maxW
+                || bidH == null || bidH > maxH;
     }
 
     private List<String> validateSecureMarkup(Bid bid,
                                               String bidder,
-                                              BidRequest bidRequest,
-                                              Account account,
-                                              Imp correspondingImp,
+                                              BidValidationContext validationContext,
+                                              ImpValidationInfo correspondingImp,
                                               BidderAliases aliases) throws ValidationException {
 
         if (secureMarkupEnforcement == BidValidationEnforcement.skip) {
             return Collections.emptyList();
         }
 
-        final String accountId = account.getId();
-        final String referer = getReferer(bidRequest);
         final String adm = bid.getAdm();
 
-        if (isImpSecure(correspondingImp) && markupIsNotSecure(adm)) {
+        if (correspondingImp.isSecure() && markupIsNotSecure(adm)) {
+            final String accountId = validationContext.getAccount().getId();
+            final String referer = validationContext.getReferer();
             final String message = """
                     BidResponse validation `%s`: bidder `%s` response triggers secure \
                     creative validation for bid %s, account=%s, referrer=%s, adm=%s"""
@@ -270,13 +269,37 @@ public class ResponseBidValidator {
         return Collections.emptyList();
     }
 
-    private static boolean isImpSecure(Imp imp) {
-        return Objects.equals(imp.getSecure(), 1);
+    /**
+     * Returns true if markup has any insecure URL scheme ({@code http:} or {@code http%3A}) or none of secure ones
+     * ({@code https:} or {@code https%3A}). Markup is scanned once, only at occurrences of {@code http}.
+     */
+    private static boolean markupIsNotSecure(String adm) {
+        if (adm == null) {
+            return true;
+        }
+
+        boolean hasSecureMarker = false;
+        int index = adm.indexOf(HTTP);
+        while (index >= 0) {
+            final int schemeEnd = index + HTTP.length();
+            if (startsWithAny(adm, schemeEnd, INSECURE_MARKUP_SUFFIXES)) {
+                return true;
+            }
+            hasSecureMarker = hasSecureMarker || startsWithAny(adm, schemeEnd, SECURE_MARKUP_SUFFIXES);
+
+            index = adm.indexOf(HTTP, schemeEnd);
+        }
+
+        return !hasSecureMarker;
     }
 
-    private static boolean markupIsNotSecure(String adm) {
-        return StringUtils.containsAny(adm, INSECURE_MARKUP_MARKERS)
-                || !StringUtils.containsAny(adm, SECURE_MARKUP_MARKERS);
+    private static boolean startsWithAny(String value, int offset, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (value.startsWith(prefix, offset)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private static List<String> singleWarningOrValidationException(BidValidationEnforcement enforcement,
@@ -298,24 +321,15 @@ public class ResponseBidValidator {
         };
     }
 
-    private static String getReferer(BidRequest bidRequest) {
-        final Site site = bidRequest.getSite();
-        return site != null ? site.getPage() : "unknown";
-    }
-
     private void validateDealsFor(BidderBid bidderBid,
-                                  BidRequest bidRequest,
+                                  ImpValidationInfo impInfo,
                                   String bidder,
                                   BidderAliases aliases,
                                   List<String> warnings) throws ValidationException {
 
         final Bid bid = bidderBid.getBid();
         final String bidId = bid.getId();
-
-        final Imp imp = bidRequest.getImp().stream()
-                .filter(curImp -> Objects.equals(curImp.getId(), bid.getImpid()))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Bid \"%s\" has no corresponding imp in request", bidId));
+        final Imp imp = impInfo.getImp();
 
         final String dealId = bid.getDealid();
 
@@ -339,15 +353,14 @@ public class ResponseBidValidator {
                             bidId);
                 }
 
-                final List<Format> bannerFormats = getBannerFormats(imp);
-                if (bidSizeNotInFormats(bid, bannerFormats)) {
+                if (!impInfo.hasBannerSize(bid.getW(), bid.getH())) {
                     throw new ValidationException("""
                             Bid "%s" has 'w' and 'h' not supported by corresponding imp in \
                             request. Bid dimensions: '%dx%d', formats in imp: '%s'""",
                             bidId,
                             bid.getW(),
                             bid.getH(),
-                            formatSizes(bannerFormats));
+                            formatSizes(impInfo.getBannerFormats()));
                 }
 
                 if (isPgDeal(imp, dealId)) {
@@ -405,10 +418,6 @@ public class ResponseBidValidator {
         return Objects.equals(format.getH(), bid.getH()) && Objects.equals(format.getW(), bid.getW());
     }
 
-    private static List<Format> getBannerFormats(Imp imp) {
-        return ListUtils.emptyIfNull(imp.getBanner().getFormat());
-    }
-
     private List<Format> getLineItemSizes(Imp imp, String dealId) {
         return getDeals(imp)
                 .filter(deal -> dealId.equals(deal.getId()))
@@ -1,7 +1,7 @@
 package org.prebid.server.vertx;
 
-import io.vertx.circuitbreaker.CircuitBreakerOptions;
 import io.vertx.circuitbreaker.CircuitBreakerState;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
@@ -11,21 +11,44 @@ import io.vertx.core.logging.LoggerFactory;
 
 import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Wrapper over Vert.x {@link io.vertx.circuitbreaker.CircuitBreaker} with functionality
- * to reset failure counter to adjust open-circuit time frame.
+ * Lock-free circuit breaker.
+ * <p>
+ * Circuit opens when the given number of failures happened within the opening interval. Times of the latest failures
+ * are kept in a ring buffer, so the check is done on the calling thread without locks and without resetting
+ * counters on a worker thread. After the closing interval circuit becomes half-open and lets a bounded number of
+ * probe operations through: successful probe closes the circuit, failed one opens it again. Probe that is not
+ * completed within the closing interval is treated as failed, so the circuit cannot get stuck in half-open state
+ * with all permits taken by operations that never complete.
  */
 public class CircuitBreaker {
 
     private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
 
-    private final io.vertx.circuitbreaker.CircuitBreaker breaker;
+    private static final int HALF_OPEN_PERMITS = 1;
+
+    private static final RuntimeException OPEN_CIRCUIT_EXCEPTION = new OpenCircuitException();
+
+    private final String name;
     private final Vertx vertx;
     private final long openingIntervalMs;
+    private final long closingIntervalMs;
     private final Clock clock;
 
-    private volatile long lastFailureTime;
+    private final AtomicReference<CircuitBreakerState> state;
+    private final AtomicLongArray failureTimes;
+    private final AtomicLong failureCount;
+    private final AtomicInteger halfOpenPermits;
+    private final AtomicLong halfOpenGeneration;
+
+    private volatile Handler<Void> openHandler;
+    private volatile Handler<Void> halfOpenHandler;
+    private volatile Handler<Void> closeHandler;
 
     public CircuitBreaker(String name,
                           Vertx vertx,
@@ -34,88 +57,170 @@ public class CircuitBreaker {
                           long closingIntervalMs,
                           Clock clock) {
 
-        breaker = io.vertx.circuitbreaker.CircuitBreaker.create(
-                Objects.requireNonNull(name),
-                Objects.requireNonNull(vertx),
-                new CircuitBreakerOptions()
-                        .setNotificationPeriod(0)
-                        .setMaxFailures(openingThreshold)
-                        .setResetTimeout(closingIntervalMs));
+        if (openingThreshold < 1) {
+            throw new IllegalArgumentException("Circuit breaker opening threshold must be positive");
+        }
 
-        this.vertx = vertx;
+        this.name = Objects.requireNonNull(name);
+        this.vertx = Objects.requireNonNull(vertx);
         this.openingIntervalMs = openingIntervalMs;
+        this.closingIntervalMs = closingIntervalMs;
         this.clock = Objects.requireNonNull(clock);
+
+        state = new AtomicReference<>(CircuitBreakerState.CLOSED);
+        failureTimes = new AtomicLongArray(openingThreshold);
+        failureCount = new AtomicLong();
+        halfOpenPermits = new AtomicInteger();
+        halfOpenGeneration = new AtomicLong();
     }
 
     /**
      * Executes the given operation with the circuit breaker control.
      */
     public <T> Future<T> execute(Handler<Promise<T>> command) {
-        return breaker.execute(promise -> execute(command, promise));
+        final CircuitBreakerState currentState = state.get();
+        if (currentState == CircuitBreakerState.OPEN) {
+            return Future.failedFuture(OPEN_CIRCUIT_EXCEPTION);
+        }
+
+        final boolean probe = currentState == CircuitBreakerState.HALF_OPEN;
+        if (probe && !tryAcquireHalfOpenPermit()) {
+            return Future.failedFuture(OPEN_CIRCUIT_EXCEPTION);
+        }
+
+        final Promise<T> operationPromise = Promise.promise();
+        final Promise<T> resultPromise = Promise.promise();
+        if (probe) {
+            final long generation = halfOpenGeneration.get();
+            final long timerId = vertx.setTimer(closingIntervalMs, ignored -> expireProbe(generation));
+            operationPromise.future()
+                    .onComplete(result -> handleProbeResult(result, generation, timerId, resultPromise));
+        } else {
+            operationPromise.future().onComplete(result -> handleResult(result, resultPromise));
+        }
+
+        try {
+            command.handle(operationPromise);
+        } catch (Exception e) {
+            operationPromise.tryFail(e);
+        }
+
+        return resultPromise.future();
     }
 
-    /**
-     * Executes operation and handle result of it on given {@link Promise}.
-     */
-    private <T> void execute(Handler<Promise<T>> command, Promise<T> promise) {
-        final Promise<T> passedPromise = Promise.promise();
-        command.handle(passedPromise);
+    private boolean tryAcquireHalfOpenPermit() {
+        int permits;
+        do {
+            permits = halfOpenPermits.get();
+            if (permits <= 0) {
+                return false;
+            }
+        } while (!halfOpenPermits.compareAndSet(permits, permits - 1));
 
-        passedPromise.future()
-                .compose(response -> succeedBreaker(response, promise))
-                .recover(exception -> failBreaker(exception, promise));
+        return true;
     }
 
-    /**
-     * Succeeds given {@link Promise} and returns corresponding {@link Future}.
-     */
-    private static <T> Future<T> succeedBreaker(T result, Promise<T> promise) {
-        promise.complete(result);
-        return promise.future();
+    private <T> void handleResult(AsyncResult<T> result, Promise<T> resultPromise) {
+        if (result.failed() && state.get() == CircuitBreakerState.CLOSED && recordFailure()) {
+            open(CircuitBreakerState.CLOSED);
+        }
+
+        resultPromise.handle(result);
     }
 
     /**
-     * Fails given {@link Promise} and returns corresponding {@link Future}.
+     * Closes or opens the circuit depending on probe result, unless the probe has already expired
+     * and the circuit has moved on since the probe was started.
      */
-    private <T> Future<T> failBreaker(Throwable exception, Promise<T> promise) {
-        final Promise<T> ensureStatePromise = Promise.promise();
-        vertx.executeBlocking(this::ensureState, false, ensureStatePromise);
-
-        return ensureStatePromise.future()
-                .recover(throwable -> {
-                    logger.warn("Resetting circuit breaker state failed", throwable);
-                    promise.fail(throwable);
-                    return promise.future();
-                })
-                .compose(ignored -> { // ensuring state succeeded, propagate real error
-                    promise.fail(exception);
-                    return promise.future();
-                });
+    private <T> void handleProbeResult(AsyncResult<T> result,
+                                       long generation,
+                                       long timerId,
+                                       Promise<T> resultPromise) {
+
+        vertx.cancelTimer(timerId);
+
+        if (generation == halfOpenGeneration.get()) {
+            if (result.succeeded()) {
+                close();
+            } else {
+                open(CircuitBreakerState.HALF_OPEN);
+            }
+        }
+
+        resultPromise.handle(result);
+    }
+
+    private void expireProbe(long generation) {
+        if (generation == halfOpenGeneration.get()) {
+            logger.debug("Circuit breaker %s probe was not completed within closing interval".formatted(name));
+            open(CircuitBreakerState.HALF_OPEN);
+        }
     }
 
     /**
-     * Resets failure counter to adjust open-circuit time frame.
+     * Records failure time and returns true if opening threshold is reached within opening interval.
      * <p>
-     * Note: the operations {@link io.vertx.circuitbreaker.CircuitBreaker#state()}
-     * and {@link io.vertx.circuitbreaker.CircuitBreaker#reset()} can take a while,
-     * so it is better to perform them on a worker thread.
+     * Ring buffer keeps as many failure times as opening threshold is, so the slot following the just written one
+     * holds the oldest failure among the latest ones. Concurrent failures may overwrite it with a newer time,
+     * which can only delay opening of the circuit.
      */
-    private <T> void ensureState(Promise<T> executeBlockingPromise) {
+    private boolean recordFailure() {
         final long currentTime = clock.millis();
-        if (breaker.state() == CircuitBreakerState.CLOSED && lastFailureTime > 0
-                && currentTime - lastFailureTime > openingIntervalMs) {
-            breaker.reset();
+        final int size = failureTimes.length();
+        final long index = failureCount.getAndIncrement();
+
+        failureTimes.set((int) (index % size), currentTime);
+        if (index + 1 < size) {
+            return false;
+        }
+
+        final long oldestFailureTime = failureTimes.get((int) ((index + 1) % size));
+        return currentTime - oldestFailureTime <= openingIntervalMs;
+    }
+
+    private void open(CircuitBreakerState expectedState) {
+        if (!state.compareAndSet(expectedState, CircuitBreakerState.OPEN)) {
+            return;
+        }
+
+        logger.debug("Circuit breaker %s opened".formatted(name));
+        vertx.setTimer(closingIntervalMs, ignored -> halfOpen());
+        notify(openHandler);
+    }
+
+    private void halfOpen() {
+        halfOpenGeneration.incrementAndGet();
+        halfOpenPermits.set(HALF_OPEN_PERMITS);
+        if (!state.compareAndSet(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN)) {
+            return;
+        }
+
+        logger.debug("Circuit breaker %s half-opened".formatted(name));
+        notify(halfOpenHandler);
+    }
+
+    private void close() {
+        // failure times left in ring buffer are ignored until it is filled again
+        failureCount.set(0);
+        if (!state.compareAndSet(CircuitBreakerState.HALF_OPEN, CircuitBreakerState.CLOSED)) {
+            return;
         }
 
-        lastFailureTime = currentTime;
-        executeBlockingPromise.complete();
+        logger.debug("Circuit breaker %s closed".formatted(name));
+        notify(closeHandler);
+    }
+
+    private static void notify(Handler<Void> handler) {
+        if (handler != null) {
+            handler.handle(null);
+        }
     }
 
     /**
      * Sets a {@link Handler} invoked when the circuit breaker state switches to open.
      */
     public CircuitBreaker openHandler(Handler<Void> handler) {
-        breaker.openHandler(handler);
+        openHandler = handler;
         return this;
     }
 
@@ -123,7 +228,7 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to half-open.
      */
     public CircuitBreaker halfOpenHandler(Handler<Void> handler) {
-        breaker.halfOpenHandler(handler);
+        halfOpenHandler = handler;
         return this;
     }
 
@@ -131,14 +236,24 @@ public class CircuitBreaker {
      * Sets a {@link Handler} invoked when the circuit breaker state switches to close.
      */
     public CircuitBreaker closeHandler(Handler<Void> handler) {
-        breaker.closeHandler(handler);
+        closeHandler = handler;
         return this;
     }
 
     public boolean isOpen() {
-        return switch (breaker.state()) {
+        return switch (state.get()) {
             case OPEN, HALF_OPEN -> true;
             case CLOSED -> false;
         };
     }
+
+    /**
+     * Failure of operations rejected by open circuit. Has no stack trace since it is shared by all rejections.
+     */
+    private static class OpenCircuitException extends RuntimeException {
+
+        OpenCircuitException() {
+            super("open circuit", null, false, false);
+        }
+    }
 }
@@ -13,6 +13,7 @@ import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 /**
@@ -31,19 +32,27 @@ public class BasicHttpClient implements HttpClient {
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                               String body, long timeoutMs, long maxResponseSize) {
-        return request(method, url, headers, timeoutMs, maxResponseSize, body,
+        return request(method, url, headers, timeoutMs, maxResponseSize, HttpResponseBodyProcessor.buffering(), body,
                 (HttpClientRequest httpClientRequest) -> httpClientRequest.end(body));
     }
 
     @Override
     public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                               byte[] body, long timeoutMs, long maxResponseSize) {
-        return request(method, url, headers, timeoutMs, maxResponseSize, body,
+        return request(method, url, headers, body, timeoutMs, maxResponseSize, HttpResponseBodyProcessor.buffering());
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                              long timeoutMs, long maxResponseSize,
+                                              HttpResponseBodyProcessor bodyProcessor) {
+        return request(method, url, headers, timeoutMs, maxResponseSize, bodyProcessor, body,
                 (HttpClientRequest httpClientRequest) -> httpClientRequest.end(Buffer.buffer(body)));
     }
 
     private <T> Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
-                                                   long timeoutMs, long maxResponseSize, T body,
+                                                   long timeoutMs, long maxResponseSize,
+                                                   HttpResponseBodyProcessor bodyProcessor, T body,
                                                    Consumer<HttpClientRequest> requestBodySetter) {
         final Promise<HttpClientResponse> promise = Promise.promise();
 
@@ -64,7 +73,8 @@ public class BasicHttpClient implements HttpClient {
 
             httpClientRequest
                     .setFollowRedirects(true)
-                    .handler(response -> handleResponse(response, promise, timerId, maxResponseSize))
+                    .handler(response -> handleResponse(
+                            response, promise, timerId, maxResponseSize, bodyProcessor, httpClientRequest))
                     .exceptionHandler(exception -> failResponse(exception, promise, timerId));
 
             if (headers != null) {
@@ -94,7 +104,12 @@ public class BasicHttpClient implements HttpClient {
     }
 
     private void handleResponse(io.vertx.core.http.HttpClientResponse response,
-                                Promise<HttpClientResponse> promise, long timerId, long maxResponseSize) {
+                                Promise<HttpClientResponse> promise,
+                                long timerId,
+                                long maxResponseSize,
+                                HttpResponseBodyProcessor bodyProcessor,
+                                HttpClientRequest httpClientRequest) {
+
         final String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
         final long responseBodySize = contentLength != null ? Long.parseLong(contentLength) : 0;
         if (responseBodySize > maxResponseSize) {
@@ -106,11 +121,51 @@ public class BasicHttpClient implements HttpClient {
             return;
         }
 
+        // chunked response doesn't declare its size, so the limit is checked while the body is being received
+        final AtomicLong receivedSize = new AtomicLong();
         response
-                .bodyHandler(buffer -> successResponse(buffer.toString(), response, promise, timerId))
+                .handler(chunk -> handleChunk(
+                        chunk, receivedSize, maxResponseSize, bodyProcessor, promise, timerId, httpClientRequest))
+                .endHandler(ignored -> handleEnd(bodyProcessor, response, promise, timerId))
                 .exceptionHandler(exception -> failResponse(exception, promise, timerId));
     }
 
+    private void handleChunk(Buffer chunk,
+                             AtomicLong receivedSize,
+                             long maxResponseSize,
+                             HttpResponseBodyProcessor bodyProcessor,
+                             Promise<HttpClientResponse> promise,
+                             long timerId,
+                             HttpClientRequest httpClientRequest) {
+
+        if (promise.future().isComplete()) {
+            return;
+        }
+
+        if (receivedSize.addAndGet(chunk.length()) > maxResponseSize) {
+            failResponse(
+                    new PreBidException("Response size exceeded %d bytes limit".formatted(maxResponseSize)),
+                    promise,
+                    timerId);
+
+            // stops receiving the rest of the body
+            httpClientRequest.reset();
+            return;
+        }
+
+        bodyProcessor.handle(chunk);
+    }
+
+    private void handleEnd(HttpResponseBodyProcessor bodyProcessor,
+                           io.vertx.core.http.HttpClientResponse response,
+                           Promise<HttpClientResponse> promise,
+                           long timerId) {
+
+        if (!promise.future().isComplete()) {
+            successResponse(bodyProcessor.end(), response, promise, timerId);
+        }
+    }
+
     private void successResponse(String body, io.vertx.core.http.HttpClientResponse response,
                                  Promise<HttpClientResponse> promise, long timerId) {
         vertx.cancelTimer(timerId);
@@ -87,6 +87,21 @@ public class CircuitBreakerSecuredHttpClient implements HttpClient {
                                 .onComplete(promise));
     }
 
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize,
+                                              HttpResponseBodyProcessor bodyProcessor) {
+
+        return circuitBreakerByName.computeIfAbsent(nameFrom(url), circuitBreakerCreator)
+                .execute(promise ->
+                        httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize, bodyProcessor)
+                                .onComplete(promise));
+    }
+
     private CircuitBreaker createCircuitBreaker(String name,
                                                 Vertx vertx,
                                                 int openingThreshold,
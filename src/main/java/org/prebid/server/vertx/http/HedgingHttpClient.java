@@ -0,0 +1,278 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongFunction;
+
+/**
+ * Wrapper over {@link HttpClient} sending hedged requests.
+ * <p>
+ * If response isn't received within the hedge delay, the same request is sent once more and the first successful
+ * response is taken, the other one is ignored. Response with 5xx status doesn't win: it is returned only if the other
+ * attempt didn't bring a better one. Hedge delay is the given percentile of the latest response times,
+ * but not less than the minimal delay. Share of hedged requests is capped by token bucket: each request adds
+ * the max hedge rate of a token, each hedge takes the whole token.
+ * <p>
+ * Only idempotent requests are hedged, since both of them may reach the server. Other requests are passed to the
+ * wrapped client as is, unless the caller makes its writes safe to repeat and asks to hedge them too.
+ */
+public class HedgingHttpClient implements HttpClient {
+
+    private static final int LATENCY_WINDOW = 1000;
+    private static final long TOKEN = 1000;
+    private static final long MAX_TOKENS = 10 * TOKEN;
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS =
+            Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final Vertx vertx;
+    private final HttpClient httpClient;
+    private final String name;
+    private final boolean repeatableWrites;
+    private final double delayPercentile;
+    private final long minDelayMs;
+    private final long tokensPerRequest;
+    private final Metrics metrics;
+    private final Clock clock;
+
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_WINDOW);
+    private final AtomicLong latencyCount = new AtomicLong();
+    private final AtomicLong hedgeTokens = new AtomicLong();
+    private volatile long hedgeDelayMs;
+
+    public HedgingHttpClient(Vertx vertx,
+                             HttpClient httpClient,
+                             String name,
+                             boolean repeatableWrites,
+                             double delayPercentile,
+                             long minDelayMs,
+                             double maxHedgeRate,
+                             Metrics metrics,
+                             Clock clock) {
+
+        if (delayPercentile <= 0 || delayPercentile > 100) {
+            throw new IllegalArgumentException("Hedge delay percentile should be within (0, 100] range");
+        }
+        if (maxHedgeRate < 0 || maxHedgeRate > 1) {
+            throw new IllegalArgumentException("Max hedge rate should be within [0, 1] range");
+        }
+
+        this.vertx = Objects.requireNonNull(vertx);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.name = Objects.requireNonNull(name);
+        this.repeatableWrites = repeatableWrites;
+        this.delayPercentile = delayPercentile;
+        this.minDelayMs = minDelayMs;
+        this.tokensPerRequest = Math.round(maxHedgeRate * TOKEN);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.clock = Objects.requireNonNull(clock);
+
+        hedgeDelayMs = minDelayMs;
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              String body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        if (!isHedgeable(method)) {
+            return httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize);
+        }
+
+        return hedge(remainingTimeoutMs ->
+                httpClient.request(method, url, headers, body, remainingTimeoutMs, maxResponseSize), timeoutMs);
+    }
+
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize) {
+
+        if (!isHedgeable(method)) {
+            return httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize);
+        }
+
+        return hedge(remainingTimeoutMs ->
+                httpClient.request(method, url, headers, body, remainingTimeoutMs, maxResponseSize), timeoutMs);
+    }
+
+    /**
+     * Body processor is bound to a single response, so such requests are passed to the wrapped client as is.
+     */
+    @Override
+    public Future<HttpClientResponse> request(HttpMethod method,
+                                              String url,
+                                              MultiMap headers,
+                                              byte[] body,
+                                              long timeoutMs,
+                                              long maxResponseSize,
+                                              HttpResponseBodyProcessor bodyProcessor) {
+
+        return httpClient.request(method, url, headers, body, timeoutMs, maxResponseSize, bodyProcessor);
+    }
+
+    private boolean isHedgeable(HttpMethod method) {
+        return repeatableWrites || IDEMPOTENT_METHODS.contains(method);
+    }
+
+    private Future<HttpClientResponse> hedge(LongFunction<Future<HttpClientResponse>> requestSender, long timeoutMs) {
+        hedgeTokens.updateAndGet(tokens -> Math.min(MAX_TOKENS, tokens + tokensPerRequest));
+
+        final long delayMs = hedgeDelayMs;
+        final HedgedRequest hedgedRequest = new HedgedRequest(requestSender, timeoutMs, delayMs < timeoutMs);
+        hedgedRequest.send(delayMs);
+
+        return hedgedRequest.promise.future();
+    }
+
+    private boolean tryAcquireHedgeToken() {
+        long tokens;
+        do {
+            tokens = hedgeTokens.get();
+            if (tokens < TOKEN) {
+                return false;
+            }
+        } while (!hedgeTokens.compareAndSet(tokens, tokens - TOKEN));
+
+        return true;
+    }
+
+    /**
+     * Records response time and recalculates hedge delay once per window of responses.
+     */
+    private void recordLatency(long latencyMs) {
+        final long index = latencyCount.getAndIncrement();
+        latencies.set((int) (index % LATENCY_WINDOW), latencyMs);
+
+        if (index % LATENCY_WINDOW == LATENCY_WINDOW - 1) {
+            final long[] sortedLatencies = new long[LATENCY_WINDOW];
+            for (int i = 0; i < LATENCY_WINDOW; i++) {
+                sortedLatencies[i] = latencies.get(i);
+            }
+            Arrays.sort(sortedLatencies);
+
+            final int percentileIndex = (int) Math.ceil(delayPercentile / 100 * LATENCY_WINDOW) - 1;
+            hedgeDelayMs = Math.max(minDelayMs, sortedLatencies[percentileIndex]);
+        }
+    }
+
+    private static boolean isServerError(HttpClientResponse response) {
+        return response.getStatusCode() >= 500;
+    }
+
+    private class HedgedRequest {
+
+        private final LongFunction<Future<HttpClientResponse>> requestSender;
+        private final long timeoutMs;
+        private final long startTime;
+        private final Promise<HttpClientResponse> promise = Promise.promise();
+
+        // attempts made or still possible, the last failed one fails the whole request
+        private final AtomicInteger pendingAttempts;
+        private final AtomicBoolean hedgeDecided;
+        private volatile long timerId;
+        private volatile HttpClientResponse serverErrorResponse;
+
+        HedgedRequest(LongFunction<Future<HttpClientResponse>> requestSender, long timeoutMs, boolean hedgeable) {
+            this.requestSender = requestSender;
+            this.timeoutMs = timeoutMs;
+            this.startTime = clock.millis();
+            this.pendingAttempts = new AtomicInteger(hedgeable ? 2 : 1);
+            this.hedgeDecided = new AtomicBoolean(!hedgeable);
+        }
+
+        void send(long delayMs) {
+            if (!hedgeDecided.get()) {
+                timerId = vertx.setTimer(delayMs, ignored -> sendHedge());
+            }
+
+            requestSender.apply(timeoutMs).onComplete(result -> handleResult(result, false));
+        }
+
+        private void sendHedge() {
+            if (!hedgeDecided.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (!tryAcquireHedgeToken()) {
+                metrics.updateHedgingMetric(name, MetricName.hedge_capped);
+                pendingAttempts.decrementAndGet();
+                return;
+            }
+
+            final long remainingTimeoutMs = timeoutMs - (clock.millis() - startTime);
+            if (remainingTimeoutMs <= 0) {
+                pendingAttempts.decrementAndGet();
+                return;
+            }
+
+            metrics.updateHedgingMetric(name, MetricName.hedged);
+            requestSender.apply(remainingTimeoutMs).onComplete(result -> handleResult(result, true));
+        }
+
+        private void handleResult(AsyncResult<HttpClientResponse> result, boolean hedge) {
+            if (result.succeeded() && !isServerError(result.result())) {
+                cancelHedge();
+                if (promise.tryComplete(result.result())) {
+                    recordLatency(clock.millis() - startTime);
+                    if (hedge) {
+                        metrics.updateHedgingMetric(name, MetricName.hedge_won);
+                    }
+                }
+                return;
+            }
+
+            if (result.succeeded()) {
+                serverErrorResponse = result.result();
+            }
+
+            // hedging doesn't retry failed requests, so failure or server error of the first attempt cancels the hedge
+            if (!hedge && cancelHedge()) {
+                pendingAttempts.decrementAndGet();
+            }
+            if (pendingAttempts.decrementAndGet() == 0) {
+                completeWithoutWinner(result);
+            }
+        }
+
+        private void completeWithoutWinner(AsyncResult<HttpClientResponse> lastResult) {
+            final HttpClientResponse response = serverErrorResponse;
+            if (response != null) {
+                promise.tryComplete(response);
+            } else {
+                promise.tryFail(lastResult.cause());
+            }
+        }
+
+        private boolean cancelHedge() {
+            if (!hedgeDecided.compareAndSet(false, true)) {
+                return false;
+            }
+
+            vertx.cancelTimer(timerId);
+            return true;
+        }
+    }
+}
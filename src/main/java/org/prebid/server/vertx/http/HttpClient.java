@@ -16,6 +16,12 @@ public interface HttpClient {
     Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers,
                                        byte[] body, long timeoutMs, long maxResponseSize);
 
+    /**
+     * Makes request passing response body to the given {@link HttpResponseBodyProcessor} while it is being received.
+     */
+    Future<HttpClientResponse> request(HttpMethod method, String url, MultiMap headers, byte[] body,
+                                       long timeoutMs, long maxResponseSize, HttpResponseBodyProcessor bodyProcessor);
+
     default Future<HttpClientResponse> request(HttpMethod method, String url,
                                                MultiMap headers, String body, long timeoutMs) {
         return request(method, url, headers, body, timeoutMs, Long.MAX_VALUE);
@@ -0,0 +1,42 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.buffer.Buffer;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+/**
+ * Processes HTTP response body while it is being received, chunk by chunk.
+ * <p>
+ * Instance is bound to a single response, so it should not be shared between requests.
+ */
+public interface HttpResponseBodyProcessor {
+
+    /**
+     * Handles the next received part of response body.
+     */
+    void handle(Buffer chunk);
+
+    /**
+     * Returns body for {@link HttpClientResponse} when the whole response body is received.
+     */
+    String end();
+
+    /**
+     * Returns processor collecting response body as is.
+     */
+    static HttpResponseBodyProcessor buffering() {
+        final Buffer body = Buffer.buffer();
+
+        return new HttpResponseBodyProcessor() {
+
+            @Override
+            public void handle(Buffer chunk) {
+                body.appendBuffer(chunk);
+            }
+
+            @Override
+            public String end() {
+                return body.toString();
+            }
+        };
+    }
+}
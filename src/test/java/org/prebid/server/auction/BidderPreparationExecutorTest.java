@@ -0,0 +1,146 @@
+package org.prebid.server.auction;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.WorkerExecutor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class BidderPreparationExecutorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private WorkerExecutor workerExecutor;
+
+    private Timeout timeout;
+
+    private BidderPreparationExecutor bidderPreparationExecutor;
+
+    @Before
+    public void setUp() {
+        willAnswer(invocation -> {
+            final Handler<Promise<Object>> blockingCodeHandler = invocation.getArgument(0);
+            final Handler<AsyncResult<Object>> resultHandler = invocation.getArgument(2);
+
+            final Promise<Object> promise = Promise.promise();
+            try {
+                blockingCodeHandler.handle(promise);
+            } catch (RuntimeException e) {
+                promise.tryFail(e);
+            }
+            resultHandler.handle(promise.future());
+            return null;
+        }).given(workerExecutor).executeBlocking(any(), anyBoolean(), any());
+
+        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+
+        bidderPreparationExecutor = new BidderPreparationExecutor(workerExecutor, 2, 3);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMinBidders() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderPreparationExecutor(workerExecutor, 0, 3));
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveMaxQueuedTasks() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderPreparationExecutor(workerExecutor, 2, 0));
+    }
+
+    @Test
+    public void isParallelShouldReturnTrueOnlyWhenThereAreEnoughBidders() {
+        // when and then
+        assertThat(bidderPreparationExecutor.isParallel(1)).isFalse();
+        assertThat(bidderPreparationExecutor.isParallel(2)).isTrue();
+    }
+
+    @Test
+    public void executeShouldPrepareEachElementOnWorkerPoolAndKeepOrder() {
+        // when
+        final Future<List<String>> result = bidderPreparationExecutor.execute(
+                asList("bidder1", "bidder2", "bidder3"), String::toUpperCase, timeout);
+
+        // then
+        verify(workerExecutor, times(3)).executeBlocking(any(), eq(false), any());
+        assertThat(result.result()).containsExactly("BIDDER1", "BIDDER2", "BIDDER3");
+    }
+
+    @Test
+    public void executeShouldFailWhenPreparationOfAnyElementFails() {
+        // when
+        final Future<List<String>> result = bidderPreparationExecutor.execute(asList("bidder1", "bidder2"),
+                bidder -> {
+                    if (bidder.equals("bidder2")) {
+                        throw new PreBidException("preparation failed");
+                    }
+                    return bidder;
+                },
+                timeout);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("preparation failed");
+    }
+
+    @Test
+    public void executeShouldPrepareElementsOnCallingThreadIfTooManyTasksAreQueued() {
+        // given
+        willDoNothing().given(workerExecutor).executeBlocking(any(), anyBoolean(), any());
+        bidderPreparationExecutor.execute(asList("bidder1", "bidder2"), String::toUpperCase, timeout);
+
+        // when
+        final Future<List<String>> result =
+                bidderPreparationExecutor.execute(asList("bidder3", "bidder4"), String::toUpperCase, timeout);
+
+        // then
+        verify(workerExecutor, times(2)).executeBlocking(any(), eq(false), any());
+        assertThat(result.result()).containsExactly("BIDDER3", "BIDDER4");
+    }
+
+    @Test
+    public void executeShouldFailWithoutPreparingIfTaskStartedAfterTimeoutExpired() {
+        // given
+        final Timeout expiredTimeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault()))
+                .create(Instant.now().minusSeconds(1).toEpochMilli(), 1L);
+
+        // when
+        final Future<List<String>> result = bidderPreparationExecutor.execute(asList("bidder1", "bidder2"),
+                bidder -> {
+                    throw new PreBidException("should not be prepared");
+                },
+                expiredTimeout);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("Timeout has been exceeded while waiting for bidder preparation");
+    }
+}
@@ -41,7 +41,11 @@ import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
+import org.prebid.server.analytics.reporter.AnalyticsReporterDelegator;
 import org.prebid.server.auction.adjustment.BidAdjustmentFactorResolver;
+import org.prebid.server.auction.biddertimeout.BidderTimeoutResolver;
+import org.prebid.server.auction.biddertimeout.NoOpBidderTimeoutResolver;
+import org.prebid.server.auction.completion.WaitAllAuctionCompletionPolicy;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessingResult;
 import org.prebid.server.auction.mediatypeprocessor.MediaTypeProcessor;
 import org.prebid.server.auction.mediatypeprocessor.NoOpMediaTypeProcessor;
@@ -54,7 +58,10 @@ import org.prebid.server.auction.model.BidderResponse;
 import org.prebid.server.auction.model.DebugContext;
 import org.prebid.server.auction.model.MultiBidConfig;
 import org.prebid.server.auction.model.StoredResponseResult;
+import org.prebid.server.auction.trafficshaping.NoOpTrafficShaper;
+import org.prebid.server.auction.trafficshaping.TrafficShaper;
 import org.prebid.server.auction.versionconverter.BidRequestOrtbVersionConversionManager;
+import org.prebid.server.auction.versionconverter.ConvertedParts;
 import org.prebid.server.bidder.Bidder;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
@@ -145,6 +152,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountAuctionConfig;
 import org.prebid.server.settings.model.AccountEventsConfig;
 import org.prebid.server.spring.config.bidder.model.CompressionType;
+import org.prebid.server.validation.BidValidationContext;
 import org.prebid.server.validation.ResponseBidValidator;
 import org.prebid.server.validation.model.ValidationResult;
 
@@ -177,6 +185,7 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -214,6 +223,9 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private PrivacyEnforcementService privacyEnforcementService;
 
+    @Mock
+    private AnalyticsReporterDelegator analyticsReporterDelegator;
+
     @Mock
     private FpdResolver fpdResolver;
 
@@ -232,6 +244,12 @@ public class ExchangeServiceTest extends VertxTest {
     @Mock
     private HttpBidderRequester httpBidderRequester;
 
+    @Mock
+    private BidderTimeoutResolver bidderTimeoutResolver;
+
+    @Mock
+    private TrafficShaper trafficShaper;
+
     @Mock
     private ResponseBidValidator responseBidValidator;
 
@@ -336,7 +354,8 @@ public class ExchangeServiceTest extends VertxTest {
                         false,
                         AuctionResponsePayloadImpl.of(invocation.getArgument(0)))));
 
-        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
+        given(responseBidValidator.validate(any(), any(), (BidValidationContext) any(), any()))
+                .willReturn(ValidationResult.success());
 
         given(currencyService.convertCurrency(any(), any(), any(), any()))
                 .willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
@@ -359,9 +378,12 @@ public class ExchangeServiceTest extends VertxTest {
         given(criteriaLogManager.traceResponse(any(), any(), any(), anyBoolean()))
                 .willAnswer(inv -> inv.getArgument(1));
 
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any()))
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any()))
                 .willAnswer(invocation -> invocation.getArgument(0));
 
+        given(bidderTimeoutResolver.resolve(any(), any())).willAnswer(invocation -> invocation.getArgument(1));
+        given(trafficShaper.shape(any(), any(), any())).willAnswer(invocation -> invocation.getArgument(1));
+
         clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
         timeout = new TimeoutFactory(clock).create(500);
         dealsProcessor = new DealsProcessor(jacksonMapper);
@@ -378,12 +400,17 @@ public class ExchangeServiceTest extends VertxTest {
                 new NoOpMediaTypeProcessor(),
                 ortbVersionConversionManager,
                 httpBidderRequester,
+                bidderTimeoutResolver,
+                trafficShaper,
+                new WaitAllAuctionCompletionPolicy(clock),
+                analyticsReporterDelegator,
                 responseBidValidator,
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
                 applicationEventService,
+                null,
                 httpInteractionLogger,
                 priceFloorAdjuster,
                 priceFloorEnforcer,
@@ -409,12 +436,17 @@ public class ExchangeServiceTest extends VertxTest {
                         null,
                         ortbVersionConversionManager,
                         httpBidderRequester,
+                        new NoOpBidderTimeoutResolver(),
+                        new NoOpTrafficShaper(),
+                        new WaitAllAuctionCompletionPolicy(clock),
+                        analyticsReporterDelegator,
                         responseBidValidator,
                         currencyService,
                         bidResponseCreator,
                         bidResponsePostProcessor,
                         hookStageExecutor,
                         applicationEventService,
+                        null,
                         httpInteractionLogger,
                         priceFloorAdjuster,
                         priceFloorEnforcer,
@@ -549,6 +581,102 @@ public class ExchangeServiceTest extends VertxTest {
                 .build());
     }
 
+    @Test
+    public void shouldNotRequestBiddersSkippedByTrafficShaper() {
+        // given
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        given(trafficShaper.shape(any(), any(), any())).willReturn(singletonList("bidder1"));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(httpBidderRequester).requestBids(same(bidder1), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester, never()).requestBids(same(bidder2), any(), any(), any(), anyBoolean());
+        verify(trafficShaper).update(any(), argThat(auctionParticipations -> auctionParticipations.size() == 1));
+    }
+
+    @Test
+    public void shouldPrepareBidderRequestsWithBidderPreparationExecutorWhenParallel() {
+        // given
+        final BidderPreparationExecutor bidderPreparationExecutor = mock(BidderPreparationExecutor.class);
+        given(bidderPreparationExecutor.isParallel(anyInt())).willReturn(true);
+        given(bidderPreparationExecutor.execute(anyList(), any(), any())).willAnswer(invocation -> {
+            final List<Object> elements = invocation.getArgument(0);
+            final Function<Object, Object> preparer = invocation.getArgument(1);
+            return Future.succeededFuture(elements.stream().map(preparer).toList());
+        });
+
+        exchangeService = new ExchangeService(
+                0,
+                bidderCatalog,
+                storedResponseProcessor,
+                dealsProcessor,
+                privacyEnforcementService,
+                fpdResolver,
+                supplyChainResolver,
+                debugResolver,
+                new NoOpMediaTypeProcessor(),
+                ortbVersionConversionManager,
+                httpBidderRequester,
+                bidderTimeoutResolver,
+                trafficShaper,
+                new WaitAllAuctionCompletionPolicy(clock),
+                analyticsReporterDelegator,
+                responseBidValidator,
+                currencyService,
+                bidResponseCreator,
+                bidResponsePostProcessor,
+                hookStageExecutor,
+                applicationEventService,
+                bidderPreparationExecutor,
+                httpInteractionLogger,
+                priceFloorAdjuster,
+                priceFloorEnforcer,
+                bidAdjustmentFactorResolver,
+                metrics,
+                clock,
+                jacksonMapper,
+                criteriaLogManager);
+
+        final Bidder<?> bidder1 = mock(Bidder.class);
+        final Bidder<?> bidder2 = mock(Bidder.class);
+        givenBidder("bidder1", bidder1, givenEmptySeatBid());
+        givenBidder("bidder2", bidder2, givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderPreparationExecutor).execute(argThat(elements -> elements.size() == 2), any(), any());
+        verify(httpBidderRequester).requestBids(same(bidder1), any(), any(), any(), anyBoolean());
+        verify(httpBidderRequester).requestBids(same(bidder2), any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldUpdateBidderPreparationTimeMetrics() {
+        // given
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(metrics).updateAdapterPreparationTime(eq("bidder1"), anyLong());
+        verify(metrics).updateAdapterPreparationTime(eq("bidder2"), anyLong());
+    }
+
     @Test
     public void shouldExtractMultipleRequests() {
         // given
@@ -687,12 +815,17 @@ public class ExchangeServiceTest extends VertxTest {
                 new NoOpMediaTypeProcessor(),
                 ortbVersionConversionManager,
                 httpBidderRequester,
+                new NoOpBidderTimeoutResolver(),
+                new NoOpTrafficShaper(),
+                new WaitAllAuctionCompletionPolicy(clock),
+                analyticsReporterDelegator,
                 responseBidValidator,
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
                 applicationEventService,
+                null,
                 httpInteractionLogger,
                 priceFloorAdjuster,
                 priceFloorEnforcer,
@@ -1451,9 +1584,10 @@ public class ExchangeServiceTest extends VertxTest {
                         .auctiontimestamp(1000L)
                         .build())));
 
-        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.error(
-                singletonList("bid validation warning"),
-                "bid validation error"));
+        given(responseBidValidator.validate(any(), any(), (BidValidationContext) any(), any()))
+                .willReturn(ValidationResult.error(
+                        singletonList("bid validation warning"),
+                        "bid validation error"));
 
         givenBidResponseCreator(singletonList(Bid.builder().build()));
 
@@ -1489,8 +1623,9 @@ public class ExchangeServiceTest extends VertxTest {
                         .auctiontimestamp(1000L)
                         .build())));
 
-        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success(
-                singletonList("bid validation warning")));
+        given(responseBidValidator.validate(any(), any(), (BidValidationContext) any(), any()))
+                .willReturn(ValidationResult.success(
+                        singletonList("bid validation warning")));
 
         givenBidResponseCreator(singletonList(Bid.builder().build()));
 
@@ -1527,7 +1662,7 @@ public class ExchangeServiceTest extends VertxTest {
                         .auctiontimestamp(1000L)
                         .build())));
 
-        given(responseBidValidator.validate(any(), any(), any(), any()))
+        given(responseBidValidator.validate(any(), any(), (BidValidationContext) any(), any()))
                 .willReturn(ValidationResult.error("BidResponse currency is not valid: USDD"));
 
         final List<ExtBidderError> bidderErrors = singletonList(ExtBidderError.of(BidderError.Type.generic.getCode(),
@@ -2699,6 +2834,46 @@ public class ExchangeServiceTest extends VertxTest {
         verify(httpBidderRequester).requestBids(any(), any(), same(timeout), any(), anyBoolean());
     }
 
+    @Test
+    public void shouldPassBidderTimeoutResolvedByBidderTimeoutResolverToConnector() {
+        // given
+        givenBidder(givenEmptySeatBid());
+
+        final Timeout bidderTimeout = new TimeoutFactory(clock).create(200);
+        given(bidderTimeoutResolver.resolve(eq("someBidder"), same(timeout))).willReturn(bidderTimeout);
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(httpBidderRequester).requestBids(any(), any(), same(bidderTimeout), any(), anyBoolean());
+    }
+
+    @Test
+    public void shouldUpdateBidderTimeoutResolverWithResponseTimeAndBidValue() {
+        // given
+        given(httpBidderRequester.requestBids(any(), any(), any(), any(), anyBoolean()))
+                .willReturn(Future.succeededFuture(BidderSeatBid.of(
+                        asList(
+                                givenBid(Bid.builder().impid("impId").price(TEN).build()),
+                                givenBid(Bid.builder().impid("impId").price(ONE).build())),
+                        emptyList(),
+                        emptyList(),
+                        emptyList())));
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(singletonMap("someBidder", 1)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        verify(bidderTimeoutResolver).updateResponseTime(eq("someBidder"), anyLong());
+        verify(bidderTimeoutResolver).updateBidValue(
+                eq("someBidder"), argThat(value -> value.compareTo(BigDecimal.valueOf(11)) == 0));
+    }
+
     @Test
     public void shouldPassReducedGlobalTimeoutToConnectorAndOriginalToBidResponseCreator() {
         // given
@@ -2714,12 +2889,17 @@ public class ExchangeServiceTest extends VertxTest {
                 new NoOpMediaTypeProcessor(),
                 ortbVersionConversionManager,
                 httpBidderRequester,
+                new NoOpBidderTimeoutResolver(),
+                new NoOpTrafficShaper(),
+                new WaitAllAuctionCompletionPolicy(clock),
+                analyticsReporterDelegator,
                 responseBidValidator,
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
                 applicationEventService,
+                null,
                 httpInteractionLogger,
                 priceFloorAdjuster,
                 priceFloorEnforcer,
@@ -4324,7 +4504,8 @@ public class ExchangeServiceTest extends VertxTest {
         givenBidder(givenSeatBid(singletonList(
                 givenBid(Bid.builder().id("bidId2").impid("impId1").dealid("dealId2").price(BigDecimal.ONE).build()))));
 
-        given(responseBidValidator.validate(any(), any(), any(), any())).willReturn(ValidationResult.success());
+        given(responseBidValidator.validate(any(), any(), (BidValidationContext) any(), any()))
+                .willReturn(ValidationResult.success());
 
         // when
         exchangeService.holdAuction(auctionContext);
@@ -4410,12 +4591,17 @@ public class ExchangeServiceTest extends VertxTest {
                 mediaTypeProcessor,
                 ortbVersionConversionManager,
                 httpBidderRequester,
+                new NoOpBidderTimeoutResolver(),
+                new NoOpTrafficShaper(),
+                new WaitAllAuctionCompletionPolicy(clock),
+                analyticsReporterDelegator,
                 responseBidValidator,
                 currencyService,
                 bidResponseCreator,
                 bidResponsePostProcessor,
                 hookStageExecutor,
                 applicationEventService,
+                null,
                 httpInteractionLogger,
                 priceFloorAdjuster,
                 priceFloorEnforcer,
@@ -4437,7 +4623,7 @@ public class ExchangeServiceTest extends VertxTest {
     @Test
     public void shouldConvertBidRequestOpenRTBVersionToConfiguredByBidder() {
         // given
-        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any())).willAnswer(
+        given(ortbVersionConversionManager.convertFromAuctionSupportedVersion(any(), any(), any())).willAnswer(
                 invocation -> ((BidRequest) invocation.getArgument(0))
                         .toBuilder()
                         .source(null)
@@ -4461,6 +4647,26 @@ public class ExchangeServiceTest extends VertxTest {
                 .isNull();
     }
 
+    @Test
+    public void shouldShareConvertedPartsBetweenBiddersOfTheSameAuction() {
+        // given
+        givenBidder("bidder1", mock(Bidder.class), givenEmptySeatBid());
+        givenBidder("bidder2", mock(Bidder.class), givenEmptySeatBid());
+
+        final BidRequest bidRequest = givenBidRequest(givenSingleImp(doubleMap("bidder1", 1, "bidder2", 2)));
+
+        // when
+        exchangeService.holdAuction(givenRequestContext(bidRequest));
+
+        // then
+        final ArgumentCaptor<ConvertedParts> convertedPartsCaptor = ArgumentCaptor.forClass(ConvertedParts.class);
+        verify(ortbVersionConversionManager, times(2))
+                .convertFromAuctionSupportedVersion(any(), any(), convertedPartsCaptor.capture());
+
+        final List<ConvertedParts> convertedParts = convertedPartsCaptor.getAllValues();
+        assertThat(convertedParts.get(0)).isNotNull().isSameAs(convertedParts.get(1));
+    }
+
     private AuctionContext givenRequestContext(BidRequest bidRequest) {
         return givenRequestContext(
                 bidRequest,
@@ -138,4 +138,49 @@ public class IpAddressHelperTest {
         assertThat(ipAddressHelper.toIpAddress("2001:1db8:85a3:a5b7:0000:8a2e:0370:7334"))
                 .isEqualTo(IpAddress.of("2001:1db8:85a3:a5b7::", IpAddress.IP.v6));
     }
+
+    @Test
+    public void anonymizeIpv6ShouldSupportCompressedAndUpperCaseNotation() {
+        assertThat(ipAddressHelper.anonymizeIpv6("2001:DB8::1")).isEqualTo("2001:db8::");
+        assertThat(ipAddressHelper.anonymizeIpv6("::1")).isEqualTo("::");
+    }
+
+    @Test
+    public void anonymizeIpv6ShouldReturnNullIfIpIsV4() {
+        assertThat(ipAddressHelper.anonymizeIpv6("12.34.56.78")).isNull();
+    }
+
+    @Test
+    public void maskIpv4ShouldReturnInputIfIpIsNotCompleteAddress() {
+        assertThat(ipAddressHelper.maskIpv4("192.168.34")).isEqualTo("192.168.34");
+        assertThat(ipAddressHelper.maskIpv4("192.168.34.256")).isEqualTo("192.168.34.256");
+    }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsV4AndPrivate() {
+        assertThat(ipAddressHelper.toIpAddress("10.1.2.3")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("172.16.0.1")).isNull();
+    }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsV6AndLinkLocal() {
+        assertThat(ipAddressHelper.toIpAddress("fe80::1")).isNull();
+    }
+
+    @Test
+    public void toIpAddressShouldReturnNullIfIpIsInConfiguredLocalNetwork() {
+        // given
+        ipAddressHelper = new IpAddressHelper(64, 56, asList("8.8.8.0/24", "2001:db8::/32"));
+
+        // when and then
+        assertThat(ipAddressHelper.toIpAddress("8.8.8.8")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("2001:db8:1::1")).isNull();
+        assertThat(ipAddressHelper.toIpAddress("8.8.4.4")).isEqualTo(IpAddress.of("8.8.4.4", IpAddress.IP.v4));
+    }
+
+    @Test
+    public void toIpAddressShouldReturnIpV6AddressMaskedInCanonicalForm() {
+        assertThat(ipAddressHelper.toIpAddress("2a00:1450:4001:0800::200E"))
+                .isEqualTo(IpAddress.of("2a00:1450:4001:800::", IpAddress.IP.v6));
+    }
 }
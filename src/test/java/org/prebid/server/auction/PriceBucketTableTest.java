@@ -0,0 +1,86 @@
+package org.prebid.server.auction;
+
+import org.junit.Test;
+import org.prebid.server.proto.openrtb.ext.request.ExtGranularityRange;
+
+import java.math.BigDecimal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PriceBucketTableTest {
+
+    @Test
+    public void bucketForShouldReturnSameBucketAsCpmRangeForStringPriceGranularities() {
+        for (String type : asList("low", "med", "high", "auto", "dense")) {
+            assertSameBucketsAsCpmRange(PriceGranularity.createFromString(type));
+        }
+    }
+
+    @Test
+    public void bucketForShouldReturnSameBucketAsCpmRangeWhenRangeBoundIsNotMultipleOfNextIncrement() {
+        assertSameBucketsAsCpmRange(PriceGranularity.createFromRanges(2, asList(
+                range("5", "0.05"),
+                range("10", "0.3"))));
+    }
+
+    @Test
+    public void bucketForShouldReturnSameBucketAsCpmRangeWhenPrecisionIsLowerThanIncrement() {
+        assertSameBucketsAsCpmRange(PriceGranularity.createFromRanges(1, singletonList(range("10", "0.05"))));
+    }
+
+    @Test
+    public void bucketForShouldFallbackToCpmRangeWhenIncrementIsLessThanCent() {
+        assertSameBucketsAsCpmRange(PriceGranularity.createFromRanges(3, singletonList(range("2", "0.001"))));
+    }
+
+    @Test
+    public void compileShouldNotBuildTableForGranularityExceedingStandardMax() {
+        // given
+        final PriceGranularity priceGranularity =
+                PriceGranularity.createFromRanges(2, singletonList(range("1000", "0.01")));
+
+        // when
+        final PriceBucketTable table = PriceBucketTable.compile(priceGranularity);
+
+        // then
+        assertThat(table.weight()).isEqualTo(1);
+        assertThat(table.bucketFor(new BigDecimal("123.456"))).isEqualTo("123.45");
+    }
+
+    @Test
+    public void compileShouldBuildTableForStandardGranularity() {
+        // when
+        final PriceBucketTable table = PriceBucketTable.compile(PriceGranularity.createFromString("high"));
+
+        // then
+        assertThat(table.weight()).isEqualTo(2001);
+    }
+
+    @Test
+    public void bucketForShouldReturnEmptyBucketWhenRangeHasNoIncrement() {
+        // given
+        final PriceBucketTable table = PriceBucketTable.compile(
+                PriceGranularity.createFromRanges(2, singletonList(range("5", null))));
+
+        // when and then
+        assertThat(table.bucketFor(new BigDecimal("1.23"))).isEmpty();
+        assertThat(table.bucketFor(new BigDecimal("6"))).isEqualTo("5.00");
+    }
+
+    private static void assertSameBucketsAsCpmRange(PriceGranularity priceGranularity) {
+        final PriceBucketTable table = PriceBucketTable.compile(priceGranularity);
+
+        final BigDecimal max = priceGranularity.getRangesMax().add(BigDecimal.ONE);
+        for (BigDecimal cpm = BigDecimal.ZERO; cpm.compareTo(max) <= 0; cpm = cpm.add(new BigDecimal("0.0025"))) {
+            assertThat(table.bucketFor(cpm))
+                    .as("Bucket for " + cpm)
+                    .isEqualTo(CpmRange.fromCpm(cpm, priceGranularity));
+        }
+    }
+
+    private static ExtGranularityRange range(String max, String increment) {
+        return ExtGranularityRange.of(new BigDecimal(max), increment != null ? new BigDecimal(increment) : null);
+    }
+}
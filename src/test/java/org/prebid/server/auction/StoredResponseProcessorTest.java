@@ -97,6 +97,31 @@ public class StoredResponseProcessorTest extends VertxTest {
                 emptyMap()));
     }
 
+    @Test
+    public void getStoredResponseResultShouldResolveImpIdForEachUseOfSameStoredResponse()
+            throws JsonProcessingException {
+
+        // given
+        final String storedResponse = mapper.writeValueAsString(singletonList(SeatBid.builder().seat("rubicon")
+                .bid(singletonList(Bid.builder().id("id").build())).build()));
+        given(applicationSettings.getStoredResponses(any(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("1", storedResponse), emptyList())));
+
+        storedResponseProcessor.getStoredResponseResult(
+                singletonList(givenImp("impId1", ExtStoredAuctionResponse.of("1"), null)), timeout);
+
+        // when
+        final Future<StoredResponseResult> result = storedResponseProcessor.getStoredResponseResult(
+                singletonList(givenImp("impId2", ExtStoredAuctionResponse.of("1"), null)), timeout);
+
+        // then
+        assertThat(result.result().getAuctionStoredResponse())
+                .flatExtracting(SeatBid::getBid)
+                .extracting(Bid::getImpid)
+                .containsOnly("impId2");
+    }
+
     @Test
     public void getStoredResponseResultShouldNotChangeImpsAndReturnSeatBidsWhenThereAreNoStoredIds() {
         // given
@@ -0,0 +1,178 @@
+package org.prebid.server.auction.biddertimeout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class AdaptiveBidderTimeoutResolverTest {
+
+    private Clock clock;
+    private Timeout auctionTimeout;
+
+    private AdaptiveBidderTimeoutResolver target;
+
+    @Before
+    public void setUp() {
+        clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        auctionTimeout = new TimeoutFactory(clock).create(1000L);
+
+        target = new AdaptiveBidderTimeoutResolver(60000L, 100L, 50L, 20L, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidArguments() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderTimeoutResolver(0L, 100L, 50L, 20L, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdaptiveBidderTimeoutResolver(60000L, 100L, 50L, -1L, clock));
+    }
+
+    @Test
+    public void resolveShouldReturnAuctionTimeoutForUnknownBidder() {
+        // when and then
+        assertThat(target.resolve("bidder", auctionTimeout)).isSameAs(auctionTimeout);
+    }
+
+    @Test
+    public void resolveShouldReturnAuctionTimeoutIfThereAreNotEnoughSamples() {
+        // given
+        givenResponseTimes("bidder", 99, 100L);
+
+        // when and then
+        assertThat(target.resolve("bidder", auctionTimeout)).isSameAs(auctionTimeout);
+    }
+
+    @Test
+    public void resolveShouldReturnRegularQuantileWithHeadroomForBidderWithLowValue() {
+        // given
+        givenResponseTimes("bidder", 95, 100L);
+        givenResponseTimes("bidder", 4, 300L);
+        givenResponseTimes("bidder", 1, 500L);
+        target.updateBidValue("bidder", BigDecimal.ZERO);
+
+        target.updateBidValue("valuableBidder", BigDecimal.TEN);
+
+        // when
+        final Timeout result = target.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(130L);
+    }
+
+    @Test
+    public void resolveShouldReturnValuableQuantileWithHeadroomForBidderWithHighValue() {
+        // given
+        givenResponseTimes("bidder", 95, 100L);
+        givenResponseTimes("bidder", 4, 300L);
+        givenResponseTimes("bidder", 1, 500L);
+        target.updateBidValue("bidder", BigDecimal.TEN);
+
+        target.updateBidValue("otherBidder", BigDecimal.ONE);
+
+        // when
+        final Timeout result = target.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(330L);
+    }
+
+    @Test
+    public void resolveShouldNotReturnLessThanMinTimeout() {
+        // given
+        givenResponseTimes("bidder", 100, 1L);
+
+        // when
+        final Timeout result = target.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(50L);
+    }
+
+    @Test
+    public void resolveShouldGrowBudgetByHeadroomIfBidderTimesOutTooOften() {
+        // given
+        givenResponseTimes("bidder", 90, 100L);
+        for (int i = 0; i < 10; i++) {
+            target.updateResponseTime("bidder", 130L);
+        }
+
+        // when
+        final Timeout result = target.resolve("bidder", auctionTimeout);
+
+        // then
+        assertThat(result.remaining()).isEqualTo(160L);
+    }
+
+    @Test
+    public void resolveShouldSettleBudgetWithoutOscillatingWhenBidderSlowsDown() {
+        // given
+        final AtomicLong now = new AtomicLong(1000000L);
+        final Clock advancingClock = mock(Clock.class);
+        given(advancingClock.millis()).willAnswer(invocation -> now.get());
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(advancingClock);
+
+        target = new AdaptiveBidderTimeoutResolver(60000L, 100L, 50L, 20L, advancingClock);
+        givenResponseTimes("bidder", 100, 100L);
+
+        // when
+        final List<Long> budgets = new ArrayList<>();
+        for (int round = 0; round < 6; round++) {
+            now.addAndGet(1000L);
+            final long budget = target.resolve("bidder", timeoutFactory.create(1000L)).remaining();
+            budgets.add(budget);
+
+            final long responseTime = Math.min(150L, budget);
+            for (int i = 0; i < 100; i++) {
+                target.updateResponseTime("bidder", responseTime);
+            }
+        }
+
+        // then
+        assertThat(budgets).containsExactly(130L, 160L, 180L, 180L, 180L, 180L);
+    }
+
+    @Test
+    public void resolveShouldRefreshAverageBidValueOncePerSecond() {
+        // given
+        final AtomicLong now = new AtomicLong(1000000L);
+        final Clock advancingClock = mock(Clock.class);
+        given(advancingClock.millis()).willAnswer(invocation -> now.get());
+        final TimeoutFactory timeoutFactory = new TimeoutFactory(advancingClock);
+
+        target = new AdaptiveBidderTimeoutResolver(60000L, 100L, 50L, 20L, advancingClock);
+        givenResponseTimes("bidder", 95, 100L);
+        givenResponseTimes("bidder", 5, 300L);
+        target.updateBidValue("bidder", BigDecimal.ONE);
+        target.resolve("bidder", timeoutFactory.create(1000L));
+
+        // when
+        target.updateBidValue("valuableBidder", BigDecimal.TEN);
+        final long budgetBeforeRefresh = target.resolve("bidder", timeoutFactory.create(1000L)).remaining();
+        now.addAndGet(1000L);
+        final long budgetAfterRefresh = target.resolve("bidder", timeoutFactory.create(1000L)).remaining();
+
+        // then
+        assertThat(budgetBeforeRefresh).isEqualTo(330L);
+        assertThat(budgetAfterRefresh).isEqualTo(130L);
+    }
+
+    private void givenResponseTimes(String bidder, int count, long responseTime) {
+        for (int i = 0; i < count; i++) {
+            target.updateResponseTime(bidder, responseTime);
+        }
+    }
+}
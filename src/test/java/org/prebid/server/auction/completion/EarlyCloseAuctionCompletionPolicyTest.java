@@ -0,0 +1,242 @@
+package org.prebid.server.auction.completion;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class EarlyCloseAuctionCompletionPolicyTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+
+    private Timeout timeout;
+    private List<AuctionParticipation> lateParticipations;
+    private Consumer<AuctionParticipation> lateParticipationHandler;
+
+    private EarlyCloseAuctionCompletionPolicy target;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeout = new TimeoutFactory(clock).create(1000L);
+        lateParticipations = new ArrayList<>();
+        lateParticipationHandler = lateParticipations::add;
+
+        given(vertx.setTimer(anyLong(), any())).willReturn(1L);
+
+        target = new EarlyCloseAuctionCompletionPolicy(0.5, 200L, vertx, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidMinRespondedFraction() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new EarlyCloseAuctionCompletionPolicy(0, 200L, vertx, Clock.systemUTC()));
+    }
+
+    @Test
+    public void completeShouldReturnEmptyListIfThereAreNoParticipations() {
+        // when
+        final Future<List<AuctionParticipation>> result =
+                target.complete(emptyList(), emptyList(), timeout, lateParticipationHandler);
+
+        // then
+        assertThat(result.result()).isEmpty();
+    }
+
+    @Test
+    public void completeShouldCompleteWhenAllBiddersResponded() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipationHandler);
+
+        promise2.complete(givenRespondedParticipation("bidder2"));
+        final boolean completedAfterFirstResponse = result.isComplete();
+        promise1.complete(givenRespondedParticipation("bidder1"));
+
+        // then
+        assertThat(completedAfterFirstResponse).isFalse();
+        assertThat(result.result())
+                .containsExactly(givenRespondedParticipation("bidder1"), givenRespondedParticipation("bidder2"));
+        verify(vertx).setTimer(eq(800L), any());
+        verify(vertx).cancelTimer(1L);
+    }
+
+    @Test
+    public void completeShouldCloseEarlyWhenThresholdIsReachedAndEnoughBiddersResponded() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipationHandler);
+
+        promise1.complete(givenRespondedParticipation("bidder1"));
+        captureTimerHandler().handle(1L);
+
+        // then
+        assertThat(result.result()).hasSize(2);
+        assertThat(result.result().get(0)).isEqualTo(givenRespondedParticipation("bidder1"));
+        assertThat(result.result().get(1).getBidderResponse().getSeatBid().getErrors())
+                .extracting(BidderError::getType)
+                .containsExactly(BidderError.Type.timeout);
+    }
+
+    @Test
+    public void completeShouldCloseEarlyOnResponseAfterThresholdWasReached() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipationHandler);
+
+        captureTimerHandler().handle(1L);
+        final boolean completedOnThreshold = result.isComplete();
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(completedOnThreshold).isFalse();
+        assertThat(result.result()).hasSize(2);
+        assertThat(result.result().get(1)).isEqualTo(givenRespondedParticipation("bidder2"));
+    }
+
+    @Test
+    public void completeShouldPassLateParticipationsToHandler() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipationHandler);
+
+        promise1.complete(givenRespondedParticipation("bidder1"));
+        captureTimerHandler().handle(1L);
+
+        // when
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(lateParticipations).containsExactly(givenRespondedParticipation("bidder2"));
+    }
+
+    @Test
+    public void completeShouldTreatFailedParticipationAsNotRespondedAndWaitForOtherBidders() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipationHandler);
+
+        promise1.fail("failed");
+        final boolean completedAfterFailure = result.isComplete();
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(completedAfterFailure).isFalse();
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).hasSize(2);
+        assertThat(result.result().get(0).getBidderResponse().getSeatBid().getErrors())
+                .extracting(BidderError::getType, BidderError::getMessage)
+                .containsExactly(tuple(BidderError.Type.generic, "Bidder participation failed: failed"));
+        assertThat(result.result().get(1)).isEqualTo(givenRespondedParticipation("bidder2"));
+        assertThat(lateParticipations).isEmpty();
+    }
+
+    @Test
+    public void completeShouldNotCountFailedParticipationAsRespondedOnThreshold() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipationHandler);
+
+        promise1.fail("failed");
+        captureTimerHandler().handle(1L);
+        final boolean completedOnThreshold = result.isComplete();
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(completedOnThreshold).isFalse();
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result().get(1)).isEqualTo(givenRespondedParticipation("bidder2"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Handler<Long> captureTimerHandler() {
+        final ArgumentCaptor<Handler<Long>> handlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(anyLong(), handlerCaptor.capture());
+        return handlerCaptor.getValue();
+    }
+
+    private static AuctionParticipation givenParticipation(String bidder) {
+        return AuctionParticipation.builder().bidder(bidder).build();
+    }
+
+    private static AuctionParticipation givenRespondedParticipation(String bidder) {
+        return givenParticipation(bidder).with(BidderResponse.of(bidder, BidderSeatBid.empty(), 100));
+    }
+}
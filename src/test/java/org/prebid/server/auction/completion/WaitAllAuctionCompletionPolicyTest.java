@@ -0,0 +1,95 @@
+package org.prebid.server.auction.completion;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.Before;
+import org.junit.Test;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class WaitAllAuctionCompletionPolicyTest {
+
+    private Timeout timeout;
+
+    private WaitAllAuctionCompletionPolicy target;
+
+    @Before
+    public void setUp() {
+        final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeout = new TimeoutFactory(clock).create(1000L);
+
+        target = new WaitAllAuctionCompletionPolicy(clock);
+    }
+
+    @Test
+    public void completeShouldCompleteWhenAllBiddersResponded() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipation -> {
+                });
+
+        promise2.complete(givenRespondedParticipation("bidder2"));
+        final boolean completedAfterFirstResponse = result.isComplete();
+        promise1.complete(givenRespondedParticipation("bidder1"));
+
+        // then
+        assertThat(completedAfterFirstResponse).isFalse();
+        assertThat(result.result())
+                .containsExactly(givenRespondedParticipation("bidder1"), givenRespondedParticipation("bidder2"));
+    }
+
+    @Test
+    public void completeShouldReturnEmptyResponseWithErrorForFailedParticipation() {
+        // given
+        final Promise<AuctionParticipation> promise1 = Promise.promise();
+        final Promise<AuctionParticipation> promise2 = Promise.promise();
+
+        // when
+        final Future<List<AuctionParticipation>> result = target.complete(
+                asList(givenParticipation("bidder1"), givenParticipation("bidder2")),
+                asList(promise1.future(), promise2.future()),
+                timeout,
+                lateParticipation -> {
+                });
+
+        promise1.fail("failed");
+        promise2.complete(givenRespondedParticipation("bidder2"));
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.result()).hasSize(2);
+        assertThat(result.result().get(0).getBidderResponse().getBidder()).isEqualTo("bidder1");
+        assertThat(result.result().get(0).getBidderResponse().getSeatBid().getErrors())
+                .extracting(BidderError::getType, BidderError::getMessage)
+                .containsExactly(tuple(BidderError.Type.generic, "Bidder participation failed: failed"));
+        assertThat(result.result().get(1)).isEqualTo(givenRespondedParticipation("bidder2"));
+    }
+
+    private static AuctionParticipation givenParticipation(String bidder) {
+        return AuctionParticipation.builder().bidder(bidder).build();
+    }
+
+    private static AuctionParticipation givenRespondedParticipation(String bidder) {
+        return givenParticipation(bidder).with(BidderResponse.of(bidder, BidderSeatBid.empty(), 100));
+    }
+}
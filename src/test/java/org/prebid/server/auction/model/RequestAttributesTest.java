@@ -0,0 +1,121 @@
+package org.prebid.server.auction.model;
+
+import com.iab.openrtb.request.App;
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Publisher;
+import com.iab.openrtb.request.Site;
+import com.iab.openrtb.request.Video;
+import org.junit.Test;
+import org.prebid.server.floors.DeviceTypeClassifier;
+import org.prebid.server.floors.model.DeviceType;
+import org.prebid.server.proto.openrtb.ext.request.ImpMediaType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestAttributesTest {
+
+    private final DeviceTypeClassifier deviceTypeClassifier = new DeviceTypeClassifier(10);
+
+    @Test
+    public void getDeviceTypeShouldDetectDeviceTypeByUserAgent() {
+        // given
+        final RequestAttributes requestAttributes = new RequestAttributes(BidRequest.builder()
+                .device(Device.builder().ua("iPhone").build())
+                .build());
+
+        // when and then
+        assertThat(requestAttributes.getDeviceType(deviceTypeClassifier)).isEqualTo(DeviceType.phone);
+    }
+
+    @Test
+    public void getDeviceTypeShouldReturnNullIfUserAgentIsAbsent() {
+        // given
+        final RequestAttributes requestAttributes = new RequestAttributes(BidRequest.builder().build());
+
+        // when and then
+        assertThat(requestAttributes.getDeviceType(deviceTypeClassifier)).isNull();
+    }
+
+    @Test
+    public void getCountryShouldReturnDeviceGeoCountry() {
+        // given
+        final RequestAttributes requestAttributes = new RequestAttributes(BidRequest.builder()
+                .device(Device.builder().geo(Geo.builder().country("USA").build()).build())
+                .build());
+
+        // when and then
+        assertThat(requestAttributes.getCountry()).isEqualTo("USA");
+    }
+
+    @Test
+    public void getSiteDomainAndPubDomainShouldFallbackToApp() {
+        // given
+        final RequestAttributes requestAttributes = new RequestAttributes(BidRequest.builder()
+                .site(Site.builder().publisher(Publisher.builder().domain("sitePubDomain").build()).build())
+                .app(App.builder().domain("appDomain").build())
+                .build());
+
+        // when and then
+        assertThat(requestAttributes.getSiteDomain()).isEqualTo("appDomain");
+        assertThat(requestAttributes.getPubDomain()).isEqualTo("sitePubDomain");
+    }
+
+    @Test
+    public void getImpMediaTypesShouldDistinguishOutstreamVideo() {
+        // given
+        final RequestAttributes requestAttributes = new RequestAttributes(BidRequest.builder().build());
+        final Imp imp = Imp.builder()
+                .banner(Banner.builder().build())
+                .video(Video.builder().placement(3).build())
+                .build();
+
+        // when and then
+        assertThat(requestAttributes.getImpMediaTypes(imp))
+                .containsExactly(ImpMediaType.banner, ImpMediaType.video_outstream);
+    }
+
+    @Test
+    public void getShouldComputeAttributeOnlyOnce() {
+        // given
+        final RequestAttributes requestAttributes = new RequestAttributes(BidRequest.builder().id("id").build());
+        final Object key = new Object();
+        final AtomicInteger computations = new AtomicInteger();
+
+        // when
+        requestAttributes.get(key, request -> {
+            computations.incrementAndGet();
+            return null;
+        });
+        final String result = requestAttributes.get(key, request -> {
+            computations.incrementAndGet();
+            return request.getId();
+        });
+
+        // then
+        assertThat(result).isNull();
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    public void auctionContextShouldReuseAttributesUntilBidRequestIsChanged() {
+        // given
+        final AuctionContext auctionContext = AuctionContext.builder()
+                .bidRequest(BidRequest.builder().id("id").build())
+                .build();
+        final RequestAttributes requestAttributes = auctionContext.getRequestAttributes();
+
+        // when
+        final AuctionContext sameRequestContext = auctionContext.with(DebugContext.empty());
+        final AuctionContext changedRequestContext = auctionContext.with(BidRequest.builder().id("id").build());
+
+        // then
+        assertThat(sameRequestContext.getRequestAttributes()).isSameAs(requestAttributes);
+        assertThat(changedRequestContext.getRequestAttributes()).isNotSameAs(requestAttributes);
+    }
+}
@@ -0,0 +1,248 @@
+package org.prebid.server.auction.trafficshaping;
+
+import com.iab.openrtb.request.Banner;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Deal;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Imp;
+import com.iab.openrtb.request.Pmp;
+import com.iab.openrtb.response.Bid;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.auction.model.AuctionContext;
+import org.prebid.server.auction.model.AuctionParticipation;
+import org.prebid.server.auction.model.BidderResponse;
+import org.prebid.server.auction.model.DebugContext;
+import org.prebid.server.bidder.model.BidderBid;
+import org.prebid.server.bidder.model.BidderSeatBid;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.proto.openrtb.ext.response.BidType;
+import org.prebid.server.settings.model.Account;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class StatisticalTrafficShaperTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Metrics metrics;
+
+    private StatisticalTrafficShaper target;
+
+    @Before
+    public void setUp() {
+        target = givenTarget(0.0);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidExplorationRate() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new StatisticalTrafficShaper(0.1, 0.1, 1.5, 10, 100, 100, metrics));
+    }
+
+    @Test
+    public void shapeShouldKeepBiddersWithoutStatistics() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(result).containsExactly("bidder1", "bidder2");
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void shapeShouldKeepBiddersWithNotEnoughSamples() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        givenResponses(auctionContext, 9, false);
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(result).containsExactly("bidder1", "bidder2");
+    }
+
+    @Test
+    public void shapeShouldSkipLowYieldBidderAndReportIt() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        givenResponses(auctionContext, 10, false);
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(result).containsExactly("bidder1");
+        verify(metrics).updateAdapterTrafficShapingMetric("bidder2", MetricName.shaping_skipped);
+        assertThat(auctionContext.getDebugWarnings()).isEmpty();
+    }
+
+    @Test
+    public void shapeShouldAddDebugWarningForSkippedBidderWhenDebugIsEnabled() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(
+                context -> context.debugContext(DebugContext.of(true, null)));
+        givenResponses(auctionContext, 10, false);
+
+        // when
+        target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(auctionContext.getDebugWarnings()).containsExactly("Bidder bidder2 was skipped by traffic shaping: "
+                + "bid rate 0.0000, win rate 0.0000, response time 100 ms");
+    }
+
+    @Test
+    public void shapeShouldKeepLowYieldBidderWhenExploring() {
+        // given
+        target = givenTarget(1.0);
+
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        givenResponses(auctionContext, 10, false);
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(result).containsExactly("bidder1", "bidder2");
+        verify(metrics).updateAdapterTrafficShapingMetric("bidder2", MetricName.shaping_explored);
+    }
+
+    @Test
+    public void shapeShouldKeepLowYieldBidderForAnotherCountry() {
+        // given
+        givenResponses(givenAuctionContext(identity()), 10, false);
+
+        final AuctionContext auctionContext = givenAuctionContext(context -> context.bidRequest(
+                givenBidRequest(request -> request.device(givenDevice("CAN")))));
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(result).containsExactly("bidder1", "bidder2");
+    }
+
+    @Test
+    public void shapeShouldKeepLowYieldBidderWhenImpHasDeals() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        givenResponses(auctionContext, 10, false);
+
+        final List<Imp> impsWithDeals = imps(auctionContext).stream()
+                .map(imp -> imp.toBuilder()
+                        .pmp(Pmp.builder().deals(singletonList(Deal.builder().id("dealId").build())).build())
+                        .build())
+                .toList();
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), impsWithDeals);
+
+        // then
+        assertThat(result).containsExactly("bidder1", "bidder2");
+    }
+
+    @Test
+    public void shapeShouldKeepBidderWhichWinsAlthoughRarelyBids() {
+        // given
+        final AuctionContext auctionContext = givenAuctionContext(identity());
+        givenResponses(auctionContext, 10, true);
+
+        // when
+        final List<String> result = target.shape(auctionContext, asList("bidder1", "bidder2"), imps(auctionContext));
+
+        // then
+        assertThat(result).containsExactly("bidder1", "bidder2");
+    }
+
+    private StatisticalTrafficShaper givenTarget(double explorationRate) {
+        return new StatisticalTrafficShaper(0.5, 0.1, explorationRate, 10, 100, 100, metrics);
+    }
+
+    /**
+     * Records auction results where bidder1 always bids, and bidder2 either never bids or rarely bids and wins.
+     */
+    private void givenResponses(AuctionContext auctionContext, int count, boolean bidder2Wins) {
+        for (int i = 0; i < count; i++) {
+            final List<BidderBid> bidder2Bids = bidder2Wins && i % 5 == 0
+                    ? singletonList(givenBid(BigDecimal.TEN))
+                    : emptyList();
+
+            target.update(auctionContext, asList(
+                    givenParticipation("bidder1", singletonList(givenBid(BigDecimal.ONE))),
+                    givenParticipation("bidder2", bidder2Bids)));
+        }
+    }
+
+    private static AuctionParticipation givenParticipation(String bidder, List<BidderBid> bids) {
+        return AuctionParticipation.builder()
+                .bidder(bidder)
+                .bidderResponse(BidderResponse.of(bidder, BidderSeatBid.of(bids), 100))
+                .build();
+    }
+
+    private static BidderBid givenBid(BigDecimal price) {
+        return BidderBid.of(Bid.builder().impid("impId").price(price).build(), BidType.banner, "USD");
+    }
+
+    private static AuctionContext givenAuctionContext(
+            UnaryOperator<AuctionContext.AuctionContextBuilder> auctionContextCustomizer) {
+
+        return auctionContextCustomizer.apply(AuctionContext.builder()
+                        .bidRequest(givenBidRequest(identity()))
+                        .account(Account.builder().id("accountId").build())
+                        .debugContext(DebugContext.empty())
+                        .debugWarnings(new ArrayList<>()))
+                .build();
+    }
+
+    private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
+        final Imp imp = Imp.builder()
+                .id("impId")
+                .banner(Banner.builder().build())
+                .ext(mapper.valueToTree(Map.of("prebid", Map.of("bidder", Map.of("bidder1", 1, "bidder2", 2)))))
+                .build();
+
+        return bidRequestCustomizer.apply(BidRequest.builder()
+                        .imp(singletonList(imp))
+                        .device(givenDevice("USA")))
+                .build();
+    }
+
+    private static Device givenDevice(String country) {
+        return Device.builder().geo(Geo.builder().country(country).build()).build();
+    }
+
+    private static List<Imp> imps(AuctionContext auctionContext) {
+        return auctionContext.getBidRequest().getImp();
+    }
+
+    private static <T> UnaryOperator<T> identity() {
+        return UnaryOperator.identity();
+    }
+}
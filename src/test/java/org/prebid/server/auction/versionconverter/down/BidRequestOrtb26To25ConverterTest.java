@@ -22,6 +22,7 @@ import com.iab.openrtb.request.Video;
 import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.VertxTest;
+import org.prebid.server.auction.versionconverter.ConvertedParts;
 import org.prebid.server.proto.openrtb.ext.request.ExtRegs;
 import org.prebid.server.proto.openrtb.ext.request.ExtSource;
 import org.prebid.server.proto.openrtb.ext.request.ExtUser;
@@ -243,6 +244,80 @@ public class BidRequestOrtb26To25ConverterTest extends VertxTest {
         });
     }
 
+    @Test
+    public void convertShouldReturnSameRequestIfThereAreNoOrtb26Fields() {
+        // given
+        final BidRequest bidRequest = givenBidRequest(request -> request
+                .imp(singletonList(givenImp(imp -> imp.id("impId").video(Video.builder().w(1).build()))))
+                .site(Site.builder().domain("domain").build())
+                .device(Device.builder().ua("ua").build())
+                .user(User.builder().id("userId").build()));
+
+        // when
+        final BidRequest result = converter.convert(bidRequest);
+
+        // then
+        assertThat(result).isSameAs(bidRequest);
+    }
+
+    @Test
+    public void convertShouldReuseConvertedPartsSharedBetweenRequests() {
+        // given
+        final Site site = Site.builder().cattax(1).build();
+        final Device device = Device.builder().langb("langb").build();
+        final Imp imp = givenImp(impBuilder -> impBuilder.ssai(1));
+
+        final BidRequest firstBidRequest = givenBidRequest(request -> request
+                .id("1").imp(singletonList(imp)).site(site).device(device));
+        final BidRequest secondBidRequest = givenBidRequest(request -> request
+                .id("2").imp(singletonList(imp)).site(site).device(device));
+
+        final ConvertedParts convertedParts = new ConvertedParts();
+
+        // when
+        final BidRequest firstResult = converter.convert(firstBidRequest, convertedParts);
+        final BidRequest secondResult = converter.convert(secondBidRequest, convertedParts);
+
+        // then
+        assertThat(firstResult.getSite()).isEqualTo(Site.builder().build());
+        assertThat(secondResult.getSite()).isSameAs(firstResult.getSite());
+        assertThat(secondResult.getDevice()).isSameAs(firstResult.getDevice());
+        assertThat(secondResult.getImp().get(0)).isSameAs(firstResult.getImp().get(0));
+        assertThat(secondResult.getId()).isEqualTo("2");
+    }
+
+    @Test
+    public void convertShouldConvertDifferentPartInstancesIndependently() {
+        // given
+        final BidRequest firstBidRequest = givenBidRequest(request -> request
+                .device(Device.builder().langb("langb").build()));
+        final BidRequest secondBidRequest = givenBidRequest(request -> request
+                .device(Device.builder().langb("langb").ua("ua").build()));
+
+        final ConvertedParts convertedParts = new ConvertedParts();
+
+        // when
+        converter.convert(firstBidRequest, convertedParts);
+        final BidRequest result = converter.convert(secondBidRequest, convertedParts);
+
+        // then
+        assertThat(result.getDevice()).isEqualTo(Device.builder().ua("ua").build());
+    }
+
+    @Test
+    public void convertShouldNotReuseConvertedPartsWithoutConvertedPartsOfAuction() {
+        // given
+        final Device device = Device.builder().langb("langb").build();
+        final BidRequest bidRequest = givenBidRequest(request -> request.device(device));
+
+        // when
+        final BidRequest firstResult = converter.convert(bidRequest);
+        final BidRequest secondResult = converter.convert(bidRequest);
+
+        // then
+        assertThat(secondResult.getDevice()).isEqualTo(firstResult.getDevice()).isNotSameAs(firstResult.getDevice());
+    }
+
     private static BidRequest givenBidRequest(UnaryOperator<BidRequest.BidRequestBuilder> bidRequestCustomizer) {
         return bidRequestCustomizer.apply(BidRequest.builder().imp(emptyList())).build();
     }
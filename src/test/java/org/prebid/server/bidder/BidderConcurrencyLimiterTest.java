@@ -0,0 +1,267 @@
+package org.prebid.server.bidder;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.exception.PreBidException;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+public class BidderConcurrencyLimiterTest {
+
+    private static final String BIDDER = "bidder";
+    private static final String URI = "http://bidder.com/endpoint?param=value";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private Timeout timeout;
+
+    private BidderConcurrencyLimiter concurrencyLimiter;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        final Clock fixedClock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+        timeout = new TimeoutFactory(fixedClock).create(500L);
+
+        concurrencyLimiter = new BidderConcurrencyLimiter(vertx, 1, emptyMap(), 1, 1, false, 100L, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidLimits() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderConcurrencyLimiter(
+                        vertx, 1, emptyMap(), 0, 1, false, 100L, metrics, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderConcurrencyLimiter(
+                        vertx, 1, emptyMap(), 2, 1, false, 100L, metrics, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderConcurrencyLimiter(
+                        vertx, 1, emptyMap(), 1, -1, false, 100L, metrics, clock));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderConcurrencyLimiter(
+                        vertx, 1, singletonMap(BIDDER, 0), 1, 1, false, 100L, metrics, clock));
+    }
+
+    @Test
+    public void acquireShouldReturnPermitWhenLimitIsNotReached() {
+        // when
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void acquireShouldQueueRequestWhenLimitIsReachedAndAdmitItOnRelease() {
+        // given
+        final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(BIDDER, URI, timeout).result();
+
+        // when
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+        verify(metrics).updateAdapterConcurrencyLimitMetric(BIDDER, MetricName.queued);
+
+        permit.release(true);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void acquireShouldAdmitQueuedRequestOnContextItWasMadeFrom() throws Exception {
+        // given
+        final Vertx realVertx = Vertx.vertx();
+        try {
+            concurrencyLimiter = new BidderConcurrencyLimiter(
+                    realVertx, 1, emptyMap(), 1, 1, false, 100L, metrics, clock);
+            final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(BIDDER, URI, timeout).result();
+
+            final Context requestContext = realVertx.getOrCreateContext();
+            final CompletableFuture<Void> queued = new CompletableFuture<>();
+            final CompletableFuture<Context> admissionContext = new CompletableFuture<>();
+            requestContext.runOnContext(ignored -> {
+                concurrencyLimiter.acquire(BIDDER, URI, timeout)
+                        .onSuccess(admitted -> admissionContext.complete(Vertx.currentContext()));
+                queued.complete(null);
+            });
+            queued.get(1, TimeUnit.SECONDS);
+
+            // when
+            realVertx.getOrCreateContext().runOnContext(ignored -> permit.release(true));
+
+            // then
+            assertThat(admissionContext.get(1, TimeUnit.SECONDS)).isSameAs(requestContext);
+        } finally {
+            realVertx.close();
+        }
+    }
+
+    @Test
+    public void acquireShouldRejectRequestWhenQueueIsFull() {
+        // given
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // when
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(metrics).updateAdapterConcurrencyLimitMetric(BIDDER, MetricName.rejected);
+    }
+
+    @Test
+    public void acquireShouldFailQueuedRequestWhenTimeoutExpires() {
+        // given
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(500L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).isInstanceOf(PreBidException.class)
+                .hasMessage("Timeout has been exceeded while waiting in bidder queue");
+    }
+
+    @Test
+    public void acquireShouldUseMaxInFlightRequestsConfiguredForBidder() {
+        // given
+        concurrencyLimiter = new BidderConcurrencyLimiter(
+                vertx, 1, singletonMap(BIDDER, 2), 1, 1, false, 100L, metrics, clock);
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        concurrencyLimiter.acquire("otherBidder", URI, timeout);
+
+        // when
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        final Future<BidderConcurrencyLimiter.Permit> otherBidderResult =
+                concurrencyLimiter.acquire("otherBidder", URI, timeout);
+
+        // then
+        assertThat(result.succeeded()).isTrue();
+        assertThat(otherBidderResult.isComplete()).isFalse();
+    }
+
+    @Test
+    public void acquireShouldLimitEachBidderEndpointSeparately() {
+        // given
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // when
+        final Future<BidderConcurrencyLimiter.Permit> otherEndpointResult =
+                concurrencyLimiter.acquire(BIDDER, "http://other-bidder.com/endpoint", timeout);
+        final Future<BidderConcurrencyLimiter.Permit> otherBidderResult =
+                concurrencyLimiter.acquire("otherBidder", URI, timeout);
+        final Future<BidderConcurrencyLimiter.Permit> sameHostResult =
+                concurrencyLimiter.acquire(BIDDER, "http://bidder.com/other-endpoint", timeout);
+
+        // then
+        assertThat(otherEndpointResult.succeeded()).isTrue();
+        assertThat(otherBidderResult.succeeded()).isTrue();
+        assertThat(sameHostResult.isComplete()).isFalse();
+    }
+
+    @Test
+    public void releaseShouldDecreaseAdaptiveLimitOnSlowResponses() {
+        // given
+        concurrencyLimiter = new BidderConcurrencyLimiter(vertx, 2, emptyMap(), 1, 1, true, 100L, metrics, clock);
+
+        final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(BIDDER, URI, timeout).result();
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // when
+        given(clock.millis()).willReturn(200L);
+        permit.release(true);
+
+        // then
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    public void cancelShouldReturnPermitWithoutDecreasingAdaptiveLimit() {
+        // given
+        concurrencyLimiter = new BidderConcurrencyLimiter(vertx, 2, emptyMap(), 1, 1, true, 100L, metrics, clock);
+
+        final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(BIDDER, URI, timeout).result();
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // when
+        given(clock.millis()).willReturn(200L);
+        permit.cancel();
+
+        // then
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    public void releaseShouldHaveNoEffectWhenCalledTwice() {
+        // given
+        final BidderConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(BIDDER, URI, timeout).result();
+        permit.release(true);
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+
+        // when
+        permit.release(true);
+
+        // then
+        final Future<BidderConcurrencyLimiter.Permit> result = concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    public void acquireShouldCreateInFlightRequestsGaugePerBidder() {
+        // given
+        concurrencyLimiter.acquire(BIDDER, URI, timeout);
+        concurrencyLimiter.acquire(BIDDER, "http://other-bidder.com/endpoint", timeout);
+
+        final ArgumentCaptor<LongSupplier> gaugeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createAdapterInFlightRequestsGauge(eq(BIDDER), gaugeCaptor.capture());
+
+        // when
+        final long result = gaugeCaptor.getValue().getAsLong();
+
+        // then
+        assertThat(result).isEqualTo(2L);
+    }
+}
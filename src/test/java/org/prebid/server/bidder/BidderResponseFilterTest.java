@@ -0,0 +1,160 @@
+package org.prebid.server.bidder;
+
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Imp;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.bidder.model.BidderError;
+import org.prebid.server.bidder.model.HttpRequest;
+
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BidderResponseFilterTest extends VertxTest {
+
+    private final BidderResponseFilter bidderResponseFilter =
+            new BidderResponseFilter(1000L, 5, Set.of("bidder"), jacksonMapper);
+
+    @Test
+    public void creationShouldFailOnNonPositiveLimits() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderResponseFilter(0L, 5, Set.of(), jacksonMapper));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new BidderResponseFilter(1000L, 0, Set.of(), jacksonMapper));
+    }
+
+    @Test
+    public void bodyProcessorShouldDropBidsReferringToUnknownImpWhileBodyIsReceivedInChunks() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor =
+                bidderResponseFilter.createBodyProcessor("bidder", givenHttpRequest("imp1"));
+
+        // when
+        bodyProcessor.handle(Buffer.buffer("{\"id\": \"response\", \"seatbid\": [{\"bid\": [{\"id\": \"bid1\", \"imp"));
+        bodyProcessor.handle(Buffer.buffer("id\": \"imp2\", \"price\": 1}, {\"id\": \"bid2\", \"impid\": \"imp1\""));
+        bodyProcessor.handle(Buffer.buffer(", \"price\": 1}], \"seat\": \"seat\"}], \"cur\": \"USD\"}"));
+        final String body = bodyProcessor.end();
+
+        // then
+        assertThat(body).isEqualTo("{\"id\": \"response\", \"seatbid\": [{\"bid\": [{\"id\": \"bid2\","
+                + " \"impid\": \"imp1\", \"price\": 1}], \"seat\": \"seat\"}], \"cur\": \"USD\"}");
+        assertThat(bodyProcessor.getErrors()).containsOnly(
+                BidderError.invalidBid("Dropped bid 'bid1'. Imp 'imp2' is absent in the request"));
+    }
+
+    @Test
+    public void bodyProcessorShouldDropBidsWithoutPositivePriceUnlessTheyHaveDeal() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor =
+                bidderResponseFilter.createBodyProcessor("bidder", givenHttpRequest("imp1"));
+
+        // when
+        bodyProcessor.handle(Buffer.buffer("""
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp1","price":0},\
+                {"id":"bid2","impid":"imp1","price":0,"dealid":"deal"},\
+                {"id":"bid3","impid":"imp1","price":-1}]}]}"""));
+        final String body = bodyProcessor.end();
+
+        // then
+        assertThat(body).isEqualTo("""
+                {"seatbid":[{"bid":[{"id":"bid2","impid":"imp1","price":0,"dealid":"deal"}]}]}""");
+        assertThat(bodyProcessor.getErrors()).containsExactly(
+                BidderError.invalidBid(
+                        "Dropped bid 'bid1'. Does not contain a positive (or zero if there is a deal) 'price'"),
+                BidderError.invalidBid(
+                        "Dropped bid 'bid3'. Does not contain a positive (or zero if there is a deal) 'price'"));
+    }
+
+    @Test
+    public void bodyProcessorShouldDropBidsWithTooLongAdm() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor =
+                bidderResponseFilter.createBodyProcessor("bidder", givenHttpRequest("imp1"));
+
+        // when
+        bodyProcessor.handle(Buffer.buffer("""
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp1","price":1,"adm":"short"},\
+                {"id":"bid2","impid":"imp1","price":1,"adm":"too long","ext":{"adm":"nested"}}]}]}"""));
+        final String body = bodyProcessor.end();
+
+        // then
+        assertThat(body).isEqualTo("""
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp1","price":1,"adm":"short"}]}]}""");
+        assertThat(bodyProcessor.getErrors()).containsOnly(
+                BidderError.invalidBid("Dropped bid 'bid2'. Adm length 8 exceeds 5 characters limit"));
+    }
+
+    @Test
+    public void bodyProcessorShouldNotCheckImpIdsIfPayloadIsNotBidRequest() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor = bidderResponseFilter.createBodyProcessor(
+                "bidder", HttpRequest.<String>builder().payload("payload").build());
+        final String response = """
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp1","price":1}]}]}""";
+
+        // when
+        bodyProcessor.handle(Buffer.buffer(response));
+
+        // then
+        assertThat(bodyProcessor.end()).isEqualTo(response);
+        assertThat(bodyProcessor.getErrors()).isEmpty();
+    }
+
+    @Test
+    public void bodyProcessorShouldReturnBodyAsIsForNotListedBidder() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor =
+                bidderResponseFilter.createBodyProcessor("other", givenHttpRequest("imp1"));
+        final String response = """
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp2","price":1}]}]}""";
+
+        // when
+        bodyProcessor.handle(Buffer.buffer(response));
+
+        // then
+        assertThat(bodyProcessor.end()).isEqualTo(response);
+        assertThat(bodyProcessor.getErrors()).isEmpty();
+    }
+
+    @Test
+    public void bodyProcessorShouldReturnBodyAsIsIfItIsNotValidJson() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor =
+                bidderResponseFilter.createBodyProcessor("bidder", givenHttpRequest("imp1"));
+        final String response = """
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp2","price":1}]}]""";
+
+        // when
+        bodyProcessor.handle(Buffer.buffer(response));
+
+        // then
+        assertThat(bodyProcessor.end()).isEqualTo(response);
+        assertThat(bodyProcessor.getErrors()).isEmpty();
+    }
+
+    @Test
+    public void bodyProcessorShouldReturnBodyAsIsIfBidsHaveUnexpectedStructure() {
+        // given
+        final BidderResponseFilter.BodyProcessor bodyProcessor =
+                bidderResponseFilter.createBodyProcessor("bidder", givenHttpRequest("imp1"));
+        final String response = """
+                {"seatbid":[{"bid":[{"id":"bid1","impid":"imp2","price":1},"bid2"]}]}""";
+
+        // when
+        bodyProcessor.handle(Buffer.buffer(response));
+
+        // then
+        assertThat(bodyProcessor.end()).isEqualTo(response);
+        assertThat(bodyProcessor.getErrors()).isEmpty();
+    }
+
+    private static HttpRequest<BidRequest> givenHttpRequest(String impId) {
+        return HttpRequest.<BidRequest>builder()
+                .payload(BidRequest.builder().imp(singletonList(Imp.builder().id(impId).build())).build())
+                .build();
+    }
+}
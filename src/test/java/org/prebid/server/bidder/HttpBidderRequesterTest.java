@@ -10,6 +10,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.RoutingContext;
@@ -30,12 +31,14 @@ import org.prebid.server.bidder.model.BidderSeatBid;
 import org.prebid.server.bidder.model.HttpRequest;
 import org.prebid.server.bidder.model.HttpResponse;
 import org.prebid.server.bidder.model.Result;
+import org.prebid.server.exception.PreBidException;
 import org.prebid.server.execution.Timeout;
 import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.model.CaseInsensitiveMultiMap;
 import org.prebid.server.proto.openrtb.ext.response.ExtHttpCall;
 import org.prebid.server.util.HttpUtil;
 import org.prebid.server.vertx.http.HttpClient;
+import org.prebid.server.vertx.http.HttpResponseBodyProcessor;
 import org.prebid.server.vertx.http.model.HttpClientResponse;
 
 import java.time.Clock;
@@ -44,6 +47,7 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 import java.util.function.UnaryOperator;
 
@@ -58,9 +62,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -85,6 +91,10 @@ public class HttpBidderRequesterTest extends VertxTest {
     private RoutingContext routingContext;
     @Mock
     private HttpServerRequest httpServerRequest;
+    @Mock
+    private BidderConcurrencyLimiter concurrencyLimiter;
+    @Mock
+    private BidderConcurrencyLimiter.Permit permit;
 
     private HttpBidderRequester httpBidderRequester;
 
@@ -105,7 +115,7 @@ public class HttpBidderRequesterTest extends VertxTest {
         expiredTimeout = timeoutFactory.create(clock.instant().minusMillis(1500L).toEpochMilli(), 1000L);
 
         httpBidderRequester = new HttpBidderRequester(
-                httpClient, null, bidderErrorNotifier, requestEnricher, jacksonMapper);
+                httpClient, null, bidderErrorNotifier, requestEnricher, null, null, jacksonMapper);
     }
 
     @Test
@@ -328,7 +338,7 @@ public class HttpBidderRequesterTest extends VertxTest {
     public void shouldNotWaitForResponsesWhenAllDealsIsGathered() throws JsonProcessingException {
         // given
         httpBidderRequester = new HttpBidderRequester(httpClient, new DealsBidderRequestCompletionTrackerFactory(),
-                bidderErrorNotifier, requestEnricher, jacksonMapper);
+                bidderErrorNotifier, requestEnricher, null, null, jacksonMapper);
 
         final BidRequest bidRequest = bidRequestWithDeals("deal1", "deal2");
         final BidderRequest bidderRequest = BidderRequest.of("bidder", null, null, bidRequest);
@@ -710,6 +720,140 @@ public class HttpBidderRequesterTest extends VertxTest {
         verify(bidderErrorNotifier).processTimeout(any(), same(bidder));
     }
 
+    @Test
+    public void shouldReleaseConcurrencyLimitPermitWhenRequestCompletes() {
+        // given
+        httpBidderRequester = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, concurrencyLimiter, null, jacksonMapper);
+
+        given(concurrencyLimiter.acquire(anyString(), anyString(), any())).willReturn(Future.succeededFuture(permit));
+        givenHttpClientResponse(200, "responseBody");
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        HttpRequest.<BidRequest>builder()
+                                .method(HttpMethod.POST)
+                                .uri("uri")
+                                .body(EMPTY_BYTE_BODY)
+                                .headers(MultiMap.caseInsensitiveMultiMap())
+                                .build()),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, null, BidRequest.builder().build());
+
+        // when
+        httpBidderRequester.requestBids(bidder, bidderRequest, timeout, CaseInsensitiveMultiMap.empty(), false);
+
+        // then
+        verify(concurrencyLimiter).acquire(eq("bidder"), eq("uri"), same(timeout));
+        verify(httpClient).request(any(), anyString(), any(), any(byte[].class), anyLong());
+        verify(permit).release(true);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenConcurrencyLimitPermitIsNotAcquired() {
+        // given
+        httpBidderRequester = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, concurrencyLimiter, null, jacksonMapper);
+
+        given(concurrencyLimiter.acquire(anyString(), anyString(), any()))
+                .willReturn(Future.failedFuture(new PreBidException("Timeout exception")));
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        HttpRequest.<BidRequest>builder()
+                                .method(HttpMethod.POST)
+                                .uri("uri")
+                                .body(EMPTY_BYTE_BODY)
+                                .headers(MultiMap.caseInsensitiveMultiMap())
+                                .build()),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, null, BidRequest.builder().build());
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, bidderRequest, timeout, CaseInsensitiveMultiMap.empty(), false)
+                        .result();
+
+        // then
+        verifyNoInteractions(httpClient);
+        assertThat(bidderSeatBid.getErrors())
+                .containsOnly(BidderError.generic("Timeout exception"));
+    }
+
+    @Test
+    public void shouldCancelConcurrencyLimitPermitWhenTimeoutExpiresWhileAcquiringIt() {
+        // given
+        httpBidderRequester = new HttpBidderRequester(
+                httpClient, null, bidderErrorNotifier, requestEnricher, concurrencyLimiter, null, jacksonMapper);
+
+        final Timeout acquireTimeout = mock(Timeout.class);
+        given(acquireTimeout.remaining()).willReturn(100L, 0L);
+        given(concurrencyLimiter.acquire(anyString(), anyString(), any())).willReturn(Future.succeededFuture(permit));
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        HttpRequest.<BidRequest>builder()
+                                .method(HttpMethod.POST)
+                                .uri("uri")
+                                .body(EMPTY_BYTE_BODY)
+                                .headers(MultiMap.caseInsensitiveMultiMap())
+                                .build()),
+                emptyList()));
+
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, null, BidRequest.builder().build());
+
+        // when
+        final BidderSeatBid bidderSeatBid = httpBidderRequester
+                .requestBids(bidder, bidderRequest, acquireTimeout, CaseInsensitiveMultiMap.empty(), false)
+                .result();
+
+        // then
+        verifyNoInteractions(httpClient);
+        verify(permit).cancel();
+        verify(permit, never()).release(anyBoolean());
+        assertThat(bidderSeatBid.getErrors()).containsOnly(
+                BidderError.generic("Timeout has been exceeded while waiting for bidder concurrency limit"));
+    }
+
+    @Test
+    public void shouldPassResponseThroughResponseFilterAndReturnErrorsForDroppedBids() {
+        // given
+        httpBidderRequester = new HttpBidderRequester(httpClient, null, bidderErrorNotifier, requestEnricher, null,
+                new BidderResponseFilter(1000L, 100, Set.of("bidder"), jacksonMapper), jacksonMapper);
+
+        given(httpClient.request(any(), anyString(), any(), any(byte[].class), anyLong(), eq(1000L), any()))
+                .willAnswer(invocation -> {
+                    final HttpResponseBodyProcessor bodyProcessor = invocation.getArgument(6);
+                    bodyProcessor.handle(Buffer.buffer("""
+                            {"seatbid":[{"bid":[{"id":"bid1","impid":"impId","price":1},\
+                            {"id":"bid2","impid":"unknown","price":1}]}]}"""));
+                    return Future.succeededFuture(HttpClientResponse.of(200, null, bodyProcessor.end()));
+                });
+        given(bidder.makeHttpRequests(any())).willReturn(Result.of(singletonList(
+                        HttpRequest.<BidRequest>builder()
+                                .method(HttpMethod.POST)
+                                .uri("uri")
+                                .body(EMPTY_BYTE_BODY)
+                                .headers(MultiMap.caseInsensitiveMultiMap())
+                                .payload(givenBidRequest(identity()))
+                                .build()),
+                emptyList()));
+        given(bidder.makeBids(any(), any())).willReturn(Result.empty());
+
+        final BidderRequest bidderRequest = BidderRequest.of("bidder", null, null, BidRequest.builder().build());
+
+        // when
+        final BidderSeatBid bidderSeatBid =
+                httpBidderRequester.requestBids(bidder, bidderRequest, timeout, CaseInsensitiveMultiMap.empty(), false)
+                        .result();
+
+        // then
+        final ArgumentCaptor<BidderCall<BidRequest>> httpCallArgumentCaptor =
+                ArgumentCaptor.forClass(BidderCall.class);
+        verify(bidder).makeBids(httpCallArgumentCaptor.capture(), any());
+        assertThat(httpCallArgumentCaptor.getValue().getResponse())
+                .extracting(HttpResponse::getBody)
+                .isEqualTo("{\"seatbid\":[{\"bid\":[{\"id\":\"bid1\",\"impid\":\"impId\",\"price\":1}]}]}");
+        assertThat(bidderSeatBid.getErrors()).containsOnly(
+                BidderError.invalidBid("Dropped bid 'bid2'. Imp 'unknown' is absent in the request"));
+    }
+
     @Test
     public void shouldTolerateMultipleErrors() {
         // given
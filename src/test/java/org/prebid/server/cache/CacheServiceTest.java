@@ -114,6 +114,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                false,
                 vastModifier,
                 eventsService,
                 metrics,
@@ -560,6 +561,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                false,
                 vastModifier,
                 eventsService,
                 metrics,
@@ -601,6 +603,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                false,
                 vastModifier,
                 eventsService,
                 metrics,
@@ -638,6 +641,7 @@ public class CacheServiceTest extends VertxTest {
                 new URL("http://cache-service/cache"),
                 "http://cache-service-host/cache?uuid=",
                 100L,
+                false,
                 vastModifier,
                 eventsService,
                 metrics,
@@ -708,6 +712,46 @@ public class CacheServiceTest extends VertxTest {
                 .containsEntry(bidInfo.getBid(), CacheInfo.of("uuid1", null, null, null));
     }
 
+    @Test
+    public void cacheBidsOpenrtbShouldSendGeneratedKeysAndReturnThemIfWritesShouldBeRepeatable() throws IOException {
+        // given
+        cacheService = new CacheService(
+                mediaTypeCacheTtl,
+                httpClient,
+                new URL("http://cache-service/cache"),
+                "http://cache-service-host/cache?uuid=",
+                100L,
+                true,
+                vastModifier,
+                eventsService,
+                metrics,
+                clock,
+                idGenerator,
+                jacksonMapper);
+
+        given(idGenerator.generateId()).willReturn("generatedKey");
+        givenHttpClientReturnsResponse(200, mapper.writeValueAsString(
+                BidCacheResponse.of(singletonList(CacheObject.of("")))));
+
+        final BidInfo bidInfo = givenBidInfo(bidBuilder -> bidBuilder.id("bidId1"));
+
+        // when
+        final Future<CacheServiceResult> future = cacheService.cacheBidsOpenrtb(
+                singletonList(bidInfo),
+                givenAuctionContext(),
+                CacheContext.builder()
+                        .shouldCacheBids(true)
+                        .build(),
+                eventsContext);
+
+        // then
+        assertThat(captureBidCacheRequest().getPuts())
+                .extracting(PutObject::getKey)
+                .containsExactly("generatedKey");
+        assertThat(future.result().getCacheBids()).hasSize(1)
+                .containsEntry(bidInfo.getBid(), CacheInfo.of("generatedKey", null, null, null));
+    }
+
     @Test
     public void cacheBidsOpenrtbShouldReturnExpectedResultForVideoBids() {
         // given
@@ -89,9 +89,9 @@ public class DeliveryProgressTest extends VertxTest {
         given(lineItemService.getLineItemById(eq("lineItemId1"))).willReturn(lineItem1);
 
         // when and then
-        deliveryProgress.recordTransactionLog(txnLog1, singletonMap("lineItemId1Plan", 1), "1001");
-        deliveryProgress.recordTransactionLog(txnLog2, singletonMap("lineItemId2Plan", 1), "1001");
-        deliveryProgress.recordTransactionLog(txnLog3, singletonMap("lineItemId3Plan", 1), "1001");
+        recordTransactionLog(deliveryProgress, txnLog1, singletonMap("lineItemId1Plan", 1), "1001");
+        recordTransactionLog(deliveryProgress, txnLog2, singletonMap("lineItemId2Plan", 1), "1001");
+        recordTransactionLog(deliveryProgress, txnLog3, singletonMap("lineItemId3Plan", 1), "1001");
 
         // check that 3 lineItemStatuses
         assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId1").getDeliveryPlans())
@@ -127,7 +127,7 @@ public class DeliveryProgressTest extends VertxTest {
         given(lineItemService.getLineItemById(eq("lineItemId2"))).willReturn(lineItem2);
 
         // when and then
-        deliveryProgress.recordTransactionLog(txnLog, planIdToTokenPriority, "1001");
+        recordTransactionLog(deliveryProgress, txnLog, planIdToTokenPriority, "1001");
 
         // check that 2 lineItemStatuses
         assertThat(deliveryProgress.getLineItemStatuses().keySet()).hasSize(2)
@@ -163,7 +163,7 @@ public class DeliveryProgressTest extends VertxTest {
         given(lineItem.getLineItemId()).willReturn("lineItemId1");
         given(lineItem.getActiveDeliveryPlan()).willReturn(DeliveryPlan.of(givenDeliverySchedule(now, "planId1")));
 
-        deliveryProgress.recordTransactionLog(txnLog, singletonMap("planId1", 1), "1001");
+        recordTransactionLog(deliveryProgress, txnLog, singletonMap("planId1", 1), "1001");
 
         // when
         final DeliveryProgress copiedDeliveryProgress = deliveryProgress.copyWithOriginalPlans();
@@ -362,4 +362,15 @@ public class DeliveryProgressTest extends VertxTest {
                 .tokens(singleton(Token.of(1, 100)))
                 .build();
     }
+
+    private static void recordTransactionLog(DeliveryProgress deliveryProgress,
+                                             TxnLog txnLog,
+                                             Map<String, Integer> planIdToTokenPriority,
+                                             String accountId) {
+
+        final TxnLogAccumulator txnLogAccumulator = new TxnLogAccumulator(1);
+        txnLogAccumulator.record(txnLog, accountId);
+        txnLogAccumulator.drainTo(deliveryProgress);
+        deliveryProgress.recordTokens(txnLog, planIdToTokenPriority);
+    }
 }
@@ -0,0 +1,150 @@
+package org.prebid.server.deals.lineitem;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.deals.LineItemService;
+import org.prebid.server.deals.model.TxnLog;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TxnLogAccumulatorTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private LineItemService lineItemService;
+
+    private TxnLogAccumulator txnLogAccumulator;
+
+    private DeliveryProgress deliveryProgress;
+
+    @Before
+    public void setUp() {
+        final ZonedDateTime now = ZonedDateTime.now(Clock.fixed(Instant.parse("2019-07-26T10:00:00Z"), ZoneOffset.UTC));
+
+        txnLogAccumulator = new TxnLogAccumulator(4);
+        deliveryProgress = DeliveryProgress.of(now, lineItemService);
+    }
+
+    @Test
+    public void drainToShouldMoveAccumulatedCountersToDeliveryProgress() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient().addAll(asList("lineItemId1", "lineItemId2"));
+        txnLog.lineItemsMatchedDomainTargeting().add("lineItemId1");
+        txnLog.lineItemsSentToBidder().put("rubicon", new HashSet<>(asList("lineItemId1", "lineItemId2")));
+        txnLog.lineItemsSentToBidder().put("appnexus", singleton("lineItemId1"));
+        txnLog.lostAuctionToLineItems().put("lineItemId2", singleton("lineItemId1"));
+
+        // when
+        txnLogAccumulator.record(txnLog, "1001");
+        txnLogAccumulator.record(txnLog, "1002");
+        txnLogAccumulator.drainTo(deliveryProgress);
+
+        // then
+        assertThat(deliveryProgress.getRequests().sum()).isEqualTo(2L);
+        assertThat(deliveryProgress.getRequestsPerAccount())
+                .containsOnlyKeys("1001", "1002");
+
+        final LineItemStatus lineItemStatus1 = deliveryProgress.getLineItemStatuses().get("lineItemId1");
+        assertThat(lineItemStatus1.getSentToClient().sum()).isEqualTo(2L);
+        assertThat(lineItemStatus1.getDomainMatched().sum()).isEqualTo(2L);
+        assertThat(lineItemStatus1.getSentToBidder().sum()).isEqualTo(4L);
+
+        final LineItemStatus lineItemStatus2 = deliveryProgress.getLineItemStatuses().get("lineItemId2");
+        assertThat(lineItemStatus2.getSentToClient().sum()).isEqualTo(2L);
+        assertThat(lineItemStatus2.getDomainMatched().sum()).isZero();
+        assertThat(lineItemStatus2.getSentToBidder().sum()).isEqualTo(2L);
+
+        assertThat(deliveryProgress.getLineItemIdToLost().get("lineItemId2").get("lineItemId1").getCount().sum())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    public void drainToShouldResetAccumulatedCounters() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient().add("lineItemId1");
+        txnLogAccumulator.record(txnLog, "1001");
+        txnLogAccumulator.drainTo(deliveryProgress);
+
+        // when
+        txnLogAccumulator.drainTo(deliveryProgress);
+
+        // then
+        assertThat(deliveryProgress.getRequests().sum()).isEqualTo(1L);
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId1").getSentToClient().sum())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    public void releaseShouldKeepCountersOfReleasedLineItemAndNotMixThemWithLineItemReusingIndex() {
+        // given
+        final TxnLog txnLog1 = TxnLog.create();
+        txnLog1.lineItemsSentToClient().add("lineItemId1");
+        final TxnLog txnLog2 = TxnLog.create();
+        txnLog2.lineItemsSentToClient().add("lineItemId2");
+
+        // when
+        txnLogAccumulator.record(txnLog1, "1001");
+        txnLogAccumulator.release("lineItemId1"::equals);
+        txnLogAccumulator.drainTo(deliveryProgress);
+        txnLogAccumulator.drainTo(deliveryProgress);
+        txnLogAccumulator.record(txnLog2, "1001");
+        txnLogAccumulator.drainTo(deliveryProgress);
+
+        // then
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId1").getSentToClient().sum())
+                .isEqualTo(1L);
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId2").getSentToClient().sum())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    public void drainToShouldKeepCountingLostToLineItemAfterUnusedCounterWasRemoved() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lostMatchingToLineItems().put("lineItemId1", singleton("lineItemId2"));
+
+        // when
+        txnLogAccumulator.record(txnLog, "1001");
+        txnLogAccumulator.drainTo(deliveryProgress);
+        txnLogAccumulator.drainTo(deliveryProgress);
+        txnLogAccumulator.record(txnLog, "1001");
+        txnLogAccumulator.drainTo(deliveryProgress);
+
+        // then
+        assertThat(deliveryProgress.getLineItemIdToLost().get("lineItemId1").get("lineItemId2").getCount().sum())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    public void recordShouldNotLoseCountersWhenCalledFromDifferentThreads() {
+        // given
+        final TxnLog txnLog = TxnLog.create();
+        txnLog.lineItemsSentToClient().add("lineItemId1");
+
+        // when
+        IntStream.range(0, 1000).parallel().forEach(i -> txnLogAccumulator.record(txnLog, "1001"));
+        txnLogAccumulator.drainTo(deliveryProgress);
+
+        // then
+        assertThat(deliveryProgress.getRequests().sum()).isEqualTo(1000L);
+        assertThat(deliveryProgress.getLineItemStatuses().get("lineItemId1").getSentToClient().sum())
+                .isEqualTo(1000L);
+    }
+}
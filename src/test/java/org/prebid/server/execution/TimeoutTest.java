@@ -21,6 +21,28 @@ public class TimeoutTest {
         assertThat(timeout.minus(500L).remaining()).isEqualTo(500L);
     }
 
+    @Test
+    public void atMostShouldReturnTimeoutLimitedBySpecifiedAmount() {
+        // given
+        final Instant now = Instant.now();
+        final Timeout timeout =
+                new Timeout(Clock.fixed(now, ZoneId.systemDefault()), now.plusMillis(1000L).toEpochMilli());
+
+        // when and then
+        assertThat(timeout.atMost(300L).remaining()).isEqualTo(300L);
+    }
+
+    @Test
+    public void atMostShouldReturnSameTimeoutIfItExpiresSooner() {
+        // given
+        final Instant now = Instant.now();
+        final Timeout timeout =
+                new Timeout(Clock.fixed(now, ZoneId.systemDefault()), now.plusMillis(1000L).toEpochMilli());
+
+        // when and then
+        assertThat(timeout.atMost(1500L)).isSameAs(timeout);
+    }
+
     @Test
     public void remainingShouldReturnZeroIfTimeoutAlreadyExpired() {
         // given
@@ -487,7 +487,7 @@ public class BasicPriceFloorProcessorTest extends VertxTest {
 
         // then
         final ArgumentCaptor<PriceFloorRules> captor = ArgumentCaptor.forClass(PriceFloorRules.class);
-        verify(floorResolver).resolve(any(), captor.capture(), any(), any());
+        verify(floorResolver).resolve(any(), any(), captor.capture(), any(), any());
         assertThat(captor.getValue())
                 .extracting(PriceFloorRules::getData)
                 .extracting(PriceFloorData::getModelGroups)
@@ -534,7 +534,7 @@ public class BasicPriceFloorProcessorTest extends VertxTest {
                         request -> request.imp(imps),
                         requestFloors));
 
-        given(floorResolver.resolve(any(), any(), any(), any())).willReturn(null);
+        given(floorResolver.resolve(any(), any(), any(), any(), any())).willReturn(null);
 
         // when
         final AuctionContext result = priceFloorProcessor.enrichWithPriceFloors(auctionContext);
@@ -564,7 +564,7 @@ public class BasicPriceFloorProcessorTest extends VertxTest {
                                 impBuilder -> impBuilder.ext(givenImpExt)))),
                         requestFloors));
 
-        given(floorResolver.resolve(any(), any(), any(), any()))
+        given(floorResolver.resolve(any(), any(), any(), any(), any()))
                 .willReturn(PriceFloorResult.of("rule", BigDecimal.ONE, BigDecimal.TEN, "USD"));
 
         // when
@@ -598,7 +598,7 @@ public class BasicPriceFloorProcessorTest extends VertxTest {
                         request -> request.imp(imps),
                         requestFloors));
 
-        given(floorResolver.resolve(any(), any(), any(), any()))
+        given(floorResolver.resolve(any(), any(), any(), any(), any()))
                 .willThrow(new IllegalStateException("error"));
 
         // when
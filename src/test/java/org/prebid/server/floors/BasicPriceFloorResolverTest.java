@@ -73,7 +73,8 @@ public class BasicPriceFloorResolverTest extends VertxTest {
                 currencyConversionService,
                 countryCodeMapper,
                 metrics,
-                jacksonMapper);
+                jacksonMapper,
+                new DeviceTypeClassifier(10));
     }
 
     @Test
@@ -0,0 +1,49 @@
+package org.prebid.server.floors;
+
+import org.junit.Test;
+import org.prebid.server.floors.model.DeviceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeviceTypeClassifierTest {
+
+    private final DeviceTypeClassifier deviceTypeClassifier = new DeviceTypeClassifier(10);
+
+    @Test
+    public void classifyShouldReturnNullForBlankUserAgent() {
+        assertThat(deviceTypeClassifier.classify(" ")).isNull();
+    }
+
+    @Test
+    public void classifyShouldDetectPhone() {
+        assertThat(deviceTypeClassifier.classify("iPhone")).isEqualTo(DeviceType.phone);
+        assertThat(deviceTypeClassifier.classify("Android. SomeMobile")).isEqualTo(DeviceType.phone);
+        assertThat(deviceTypeClassifier.classify("Mobile. Some Android")).isEqualTo(DeviceType.phone);
+    }
+
+    @Test
+    public void classifyShouldDetectTablet() {
+        assertThat(deviceTypeClassifier.classify("iPad")).isEqualTo(DeviceType.tablet);
+        assertThat(deviceTypeClassifier.classify("Windows NT. some touch")).isEqualTo(DeviceType.tablet);
+        assertThat(deviceTypeClassifier.classify("Android")).isEqualTo(DeviceType.tablet);
+    }
+
+    @Test
+    public void classifyShouldPreferPhoneWhenUserAgentMatchesPhoneAndTabletPatterns() {
+        assertThat(deviceTypeClassifier.classify("Android Mobile")).isEqualTo(DeviceType.phone);
+    }
+
+    @Test
+    public void classifyShouldRequireWholeUserAgentToMatch() {
+        assertThat(deviceTypeClassifier.classify("Mozilla iPad")).isEqualTo(DeviceType.desktop);
+    }
+
+    @Test
+    public void classifyShouldReturnSameResultForCachedUserAgent() {
+        // given
+        deviceTypeClassifier.classify("iPad");
+
+        // when and then
+        assertThat(deviceTypeClassifier.classify("iPad")).isEqualTo(DeviceType.tablet);
+    }
+}
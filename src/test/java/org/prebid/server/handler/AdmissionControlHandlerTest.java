@@ -0,0 +1,190 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AdmissionControlHandlerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private Context context;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+    @Mock
+    private RoutingContext routingContext;
+    @Mock
+    private HttpServerRequest httpRequest;
+    @Mock
+    private HttpServerResponse httpResponse;
+
+    private AdmissionControlHandler admissionControlHandler;
+
+    @Before
+    public void setUp() {
+        given(vertx.getOrCreateContext()).willReturn(context);
+        given(clock.millis()).willReturn(0L);
+
+        given(routingContext.request()).willReturn(httpRequest);
+        given(routingContext.response()).willReturn(httpResponse);
+        given(httpRequest.path()).willReturn("/openrtb2/auction");
+        given(httpResponse.setStatusCode(anyInt())).willReturn(httpResponse);
+
+        admissionControlHandler = new AdmissionControlHandler(vertx, 100L, 200L, 1, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnNonPositiveLimits() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new AdmissionControlHandler(vertx, 100L, 200L, 0, metrics, clock));
+    }
+
+    @Test
+    public void handleShouldPassRequestWhenEventLoopIsNotOverloaded() {
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(routingContext).next();
+        verify(httpResponse, never()).setStatusCode(anyInt());
+    }
+
+    @Test
+    public void handleShouldRejectRequestWhenInFlightRequestsLimitIsReached() {
+        // given
+        admissionControlHandler.handle(routingContext);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(routingContext).next();
+        verify(httpResponse).setStatusCode(503);
+        verify(httpResponse).end(anyString());
+        verify(metrics).updateAdmissionControlShedMetric(MetricName.shed_by_in_flight);
+        assertThat(admissionControlHandler.isOverloaded()).isTrue();
+    }
+
+    @Test
+    public void handleShouldPassRequestWhenPreviousRequestIsCompleted() {
+        // given
+        admissionControlHandler.handle(routingContext);
+
+        final ArgumentCaptor<Handler<Void>> bodyEndHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(routingContext).addBodyEndHandler(bodyEndHandlerCaptor.capture());
+        bodyEndHandlerCaptor.getValue().handle(null);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(routingContext, times(2)).next();
+    }
+
+    @Test
+    public void isOverloadedShouldUseTheSameInFlightLimitAsHandle() {
+        // given
+        admissionControlHandler = new AdmissionControlHandler(vertx, 100L, 200L, 2, metrics, clock);
+        admissionControlHandler.handle(routingContext);
+
+        // when and then
+        assertThat(admissionControlHandler.isOverloaded()).isFalse();
+        admissionControlHandler.handle(routingContext);
+        verify(httpResponse, never()).setStatusCode(anyInt());
+
+        assertThat(admissionControlHandler.isOverloaded()).isTrue();
+        admissionControlHandler.handle(routingContext);
+        verify(httpResponse).setStatusCode(503);
+    }
+
+    @Test
+    public void handleShouldReleaseRequestOnlyOnceWhenResponseIsEndedAndConnectionIsClosed() {
+        // given
+        admissionControlHandler = new AdmissionControlHandler(vertx, 100L, 200L, 2, metrics, clock);
+        admissionControlHandler.handle(routingContext);
+        admissionControlHandler.handle(routingContext);
+
+        final ArgumentCaptor<Handler<Void>> bodyEndHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(routingContext, times(2)).addBodyEndHandler(bodyEndHandlerCaptor.capture());
+        final ArgumentCaptor<Handler<Void>> closeHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(httpResponse, times(2)).closeHandler(closeHandlerCaptor.capture());
+
+        bodyEndHandlerCaptor.getAllValues().get(0).handle(null);
+        closeHandlerCaptor.getAllValues().get(0).handle(null);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(routingContext, times(3)).next();
+        verify(httpResponse).setStatusCode(503);
+    }
+
+    @Test
+    public void handleShouldRejectRequestWhenEventLoopLagExceedsMaximum() {
+        // given
+        admissionControlHandler = new AdmissionControlHandler(vertx, 100L, 200L, 10, metrics, clock);
+        admissionControlHandler.handle(routingContext);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setPeriodic(eq(100L), timerHandlerCaptor.capture());
+
+        given(clock.millis()).willReturn(500L);
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(metrics).updateEventLoopLagMetric(400L);
+        verify(metrics).updateAdmissionControlShedMetric(MetricName.shed_by_event_loop_lag);
+        verify(routingContext).next();
+        verify(httpResponse).setStatusCode(503);
+        assertThat(admissionControlHandler.isOverloaded()).isTrue();
+    }
+
+    @Test
+    public void handleShouldStartLagMeasuringOncePerEventLoop() {
+        // given
+        admissionControlHandler = new AdmissionControlHandler(vertx, 100L, 200L, 10, metrics, clock);
+
+        // when
+        admissionControlHandler.handle(routingContext);
+        admissionControlHandler.handle(routingContext);
+
+        // then
+        verify(vertx).setPeriodic(eq(100L), any());
+    }
+}
@@ -0,0 +1,130 @@
+package org.prebid.server.handler;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.StreamResetException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.Metrics;
+
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class Http2StreamsMetricsHandlerTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Handler<HttpServerRequest> delegate;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private HttpServerRequest request;
+    @Mock
+    private HttpServerResponse response;
+
+    private Http2StreamsMetricsHandler handler;
+
+    private LongSupplier activeStreams;
+
+    @Before
+    public void setUp() {
+        given(request.response()).willReturn(response);
+
+        handler = new Http2StreamsMetricsHandler(delegate, metrics);
+
+        final ArgumentCaptor<LongSupplier> gaugeCaptor = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(metrics).createHttp2ActiveStreamsGauge(gaugeCaptor.capture());
+        activeStreams = gaugeCaptor.getValue();
+    }
+
+    @Test
+    public void handleShouldTrackActiveHttp2StreamUntilResponseIsDisposed() {
+        // given
+        given(request.version()).willReturn(HttpVersion.HTTP_2);
+
+        // when
+        handler.handle(request);
+
+        // then
+        verify(delegate).handle(request);
+        verify(metrics).updateHttp2RequestsMetric();
+        assertThat(activeStreams.getAsLong()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Void>> endHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(response).endHandler(endHandlerCaptor.capture());
+        endHandlerCaptor.getValue().handle(null);
+
+        assertThat(activeStreams.getAsLong()).isZero();
+    }
+
+    @Test
+    public void handleShouldReleaseHttp2StreamOnceWhenStreamIsReset() {
+        // given
+        given(request.version()).willReturn(HttpVersion.HTTP_2);
+
+        // when
+        handler.handle(request);
+
+        // then
+        assertThat(activeStreams.getAsLong()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Throwable>> exceptionHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(response).exceptionHandler(exceptionHandlerCaptor.capture());
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Void>> closeHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(response).closeHandler(closeHandlerCaptor.capture());
+
+        exceptionHandlerCaptor.getValue().handle(new StreamResetException(8));
+        closeHandlerCaptor.getValue().handle(null);
+
+        assertThat(activeStreams.getAsLong()).isZero();
+    }
+
+    @Test
+    public void handleShouldReleaseHttp2StreamWhenConnectionIsClosed() {
+        // given
+        given(request.version()).willReturn(HttpVersion.HTTP_2);
+
+        // when
+        handler.handle(request);
+
+        // then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Handler<Void>> closeHandlerCaptor =
+                ArgumentCaptor.forClass(Handler.class);
+        verify(response).closeHandler(closeHandlerCaptor.capture());
+        closeHandlerCaptor.getValue().handle(null);
+
+        assertThat(activeStreams.getAsLong()).isZero();
+    }
+
+    @Test
+    public void handleShouldNotTrackHttp1Requests() {
+        // given
+        given(request.version()).willReturn(HttpVersion.HTTP_1_1);
+
+        // when
+        handler.handle(request);
+
+        // then
+        verify(delegate).handle(request);
+        verify(metrics, never()).updateHttp2RequestsMetric();
+        verifyNoInteractions(response);
+        assertThat(activeStreams.getAsLong()).isZero();
+    }
+}
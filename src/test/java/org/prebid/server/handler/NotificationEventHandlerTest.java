@@ -40,6 +40,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -467,6 +468,44 @@ public class NotificationEventHandlerTest extends VertxTest {
         verify(httpResponse).end();
     }
 
+    @Test
+    public void shouldNotFetchAccountWhenAnalyticsValueIsZero() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("t", "win")
+                .add("b", "bidId")
+                .add("a", "accountId")
+                .add("x", "0"));
+
+        // when
+        notificationHandler.handle(routingContext);
+
+        // then
+        verifyNoInteractions(applicationSettings);
+        verify(httpResponse).end();
+    }
+
+    @Test
+    public void shouldRespondWithOkWhenAnalyticsValueIsZeroAndAccountFetchingFails() {
+        // given
+        given(httpRequest.params()).willReturn(MultiMap.caseInsensitiveMultiMap()
+                .add("t", "win")
+                .add("b", "bidId")
+                .add("a", "accountId")
+                .add("x", "0"));
+
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.failedFuture(new RuntimeException("Fetching failed")));
+
+        // when
+        notificationHandler.handle(routingContext);
+
+        // then
+        verifyNoInteractions(applicationSettings);
+        verify(httpResponse, never()).setStatusCode(500);
+        verify(httpResponse).end();
+    }
+
     @Test
     public void shouldRespondWithPixelAndContentTypeWhenRequestFormatIsImp() throws IOException {
         // given
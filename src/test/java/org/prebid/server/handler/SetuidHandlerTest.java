@@ -2,6 +2,7 @@ package org.prebid.server.handler;
 
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
@@ -37,6 +38,7 @@ import org.prebid.server.settings.model.Account;
 import org.prebid.server.settings.model.AccountGdprConfig;
 import org.prebid.server.settings.model.AccountPrivacyConfig;
 import org.prebid.server.settings.model.EnabledForRequestType;
+import org.prebid.server.util.ResourceUtil;
 
 import java.io.IOException;
 import java.time.Clock;
@@ -299,7 +301,7 @@ public class SetuidHandlerTest extends VertxTest {
         setuidHandler.handle(routingContext);
 
         // then
-        verify(httpResponse, never()).sendFile(any());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verify(routingContext, never()).addCookie(any(Cookie.class));
         verify(httpResponse).setStatusCode(eq(500));
         verify(httpResponse).end(eq("Unexpected setuid processing error: unexpected error TCF"));
@@ -371,7 +373,7 @@ public class SetuidHandlerTest extends VertxTest {
 
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse).sendFile(any());
+        verify(httpResponse).end(any(Buffer.class));
 
         final String uidsCookie = getUidsCookie();
         final Uids decodedUids = decodeUids(uidsCookie);
@@ -415,7 +417,7 @@ public class SetuidHandlerTest extends VertxTest {
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
         verify(httpResponse).end();
-        verify(httpResponse, never()).sendFile(any());
+        verify(httpResponse, never()).end(any(Buffer.class));
 
         final String uidsCookie = getUidsCookie();
         final Uids decodedUids = decodeUids(uidsCookie);
@@ -465,7 +467,7 @@ public class SetuidHandlerTest extends VertxTest {
 
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse).sendFile(any());
+        verify(httpResponse).end(any(Buffer.class));
     }
 
     @Test
@@ -502,7 +504,7 @@ public class SetuidHandlerTest extends VertxTest {
 
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse, never()).sendFile(any());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verify(httpResponse).putHeader(eq(HttpHeaders.CONTENT_LENGTH), eq("0"));
         verify(httpResponse).putHeader(eq(HttpHeaders.CONTENT_TYPE), eq(HttpHeaders.TEXT_HTML));
     }
@@ -540,7 +542,7 @@ public class SetuidHandlerTest extends VertxTest {
 
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse, never()).sendFile(any());
+        verify(httpResponse, never()).end(any(Buffer.class));
         verify(httpResponse).putHeader(eq(HttpHeaders.CONTENT_LENGTH), eq("0"));
         verify(httpResponse).putHeader(eq(HttpHeaders.CONTENT_TYPE), eq(HttpHeaders.TEXT_HTML));
     }
@@ -577,7 +579,25 @@ public class SetuidHandlerTest extends VertxTest {
 
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse).sendFile(any());
+        verify(httpResponse).end(any(Buffer.class));
+    }
+
+    @Test
+    public void shouldRespondWithTrackingPixelImageWhenFormatIsImage() throws IOException {
+        // given
+        given(uidsCookieService.parseFromRequest(any(RoutingContext.class)))
+                .willReturn(new UidsCookie(Uids.builder().uids(emptyMap()).build(), jacksonMapper));
+        given(uidsCookieService.toCookie(any())).willReturn(Cookie.cookie("uids", "value"));
+        given(httpRequest.getParam("bidder")).willReturn(RUBICON);
+        given(httpRequest.getParam("f")).willReturn("i");
+
+        // when
+        setuidHandler.handle(routingContext);
+
+        // then
+        verify(httpResponse).putHeader(eq(HttpHeaders.CONTENT_TYPE), eq("image/png"));
+        verify(httpResponse)
+                .end(eq(Buffer.buffer(ResourceUtil.readByteArrayFromClassPath("static/tracking-pixel.png"))));
     }
 
     @Test
@@ -602,7 +622,7 @@ public class SetuidHandlerTest extends VertxTest {
         setuidHandler.handle(routingContext);
 
         // then
-        verify(httpResponse).sendFile(any());
+        verify(httpResponse).end(any(Buffer.class));
         verify(routingContext, never()).addCookie(any(Cookie.class));
 
         final String uidsCookie = getUidsCookie();
@@ -633,7 +653,7 @@ public class SetuidHandlerTest extends VertxTest {
 
         // then
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse).sendFile(any());
+        verify(httpResponse).end(any(Buffer.class));
 
         final String uidsCookie = getUidsCookie();
         final Uids decodedUids = decodeUids(uidsCookie);
@@ -665,7 +685,7 @@ public class SetuidHandlerTest extends VertxTest {
         // then
         verify(tcfDefinerService, never()).resultForVendorIds(anySet(), any());
         verify(routingContext, never()).addCookie(any(Cookie.class));
-        verify(httpResponse).sendFile(any());
+        verify(httpResponse).end(any(Buffer.class));
 
         final String uidsCookie = getUidsCookie();
         final Uids decodedUids = decodeUids(uidsCookie);
@@ -0,0 +1,48 @@
+package org.prebid.server.json;
+
+import com.iab.openrtb.response.Bid;
+import com.iab.openrtb.response.BidResponse;
+import com.iab.openrtb.response.SeatBid;
+import io.vertx.core.buffer.Buffer;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonBufferEncoderTest extends VertxTest {
+
+    private final JsonBufferEncoder encoder = new JsonBufferEncoder(jacksonMapper);
+
+    @Test
+    public void encodeShouldProduceSameJsonAsEncodeToString() {
+        // given
+        final BidResponse bidResponse = BidResponse.builder()
+                .id("id")
+                .seatbid(List.of(SeatBid.builder()
+                        .bid(List.of(Bid.builder().id("bidId").adm("<div>é</div>").build()))
+                        .build()))
+                .build();
+
+        // when
+        final Buffer result = encoder.encode(bidResponse);
+
+        // then
+        assertThat(result.toString()).isEqualTo(jacksonMapper.encodeToString(bidResponse));
+    }
+
+    @Test
+    public void encodeShouldGrowBufferForValuesLargerThanEstimate() {
+        // given
+        encoder.encode(BidResponse.builder().id("id").build());
+        final BidResponse bidResponse = BidResponse.builder().id(StringUtils.repeat('a', 100_000)).build();
+
+        // when
+        final Buffer result = encoder.encode(bidResponse);
+
+        // then
+        assertThat(result.length()).isEqualTo(jacksonMapper.encodeToBytes(bidResponse).length);
+    }
+}
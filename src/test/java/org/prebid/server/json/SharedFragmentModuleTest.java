@@ -0,0 +1,101 @@
+package org.prebid.server.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.iab.openrtb.request.BidRequest;
+import com.iab.openrtb.request.Device;
+import com.iab.openrtb.request.Geo;
+import com.iab.openrtb.request.Site;
+import org.junit.Test;
+import org.prebid.server.VertxTest;
+import org.prebid.server.proto.openrtb.ext.request.ExtDevice;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedFragmentModuleTest extends VertxTest {
+
+    @Test
+    public void shouldProduceSameOutputForSharedObjectsAsWithoutSharedFragments() {
+        // given
+        final Device device = Device.builder()
+                .ua("userAgent")
+                .geo(Geo.builder().lat(1.5f).country("USA").build())
+                .build();
+        final Site site = Site.builder().domain("domain").build();
+
+        final BidRequest firstBidderRequest = BidRequest.builder().id("1").device(device).site(site).build();
+        final BidRequest secondBidderRequest = BidRequest.builder().id("2").device(device).site(site)
+                .tmax(500L)
+                .build();
+
+        final SharedFragments sharedFragments = new SharedFragments();
+
+        // when
+        final String firstResult = sharedFragments.encodeWithin(
+                () -> jacksonMapper.encodeToString(firstBidderRequest));
+        final String secondResult = sharedFragments.encodeWithin(
+                () -> jacksonMapper.encodeToString(secondBidderRequest));
+
+        // then
+        assertThat(firstResult).isEqualTo(jacksonMapper.encodeToString(firstBidderRequest));
+        assertThat(secondResult).isEqualTo(jacksonMapper.encodeToString(secondBidderRequest));
+    }
+
+    @Test
+    public void shouldNotReuseFragmentForDifferentInstances() {
+        // given
+        final Device device = Device.builder().ua("userAgent").build();
+        final SharedFragments sharedFragments = new SharedFragments();
+        sharedFragments.encodeWithin(() -> jacksonMapper.encodeToString(BidRequest.builder().device(device).build()));
+
+        final BidRequest bidRequest = BidRequest.builder()
+                .device(device.toBuilder().ua("maskedUserAgent").build())
+                .build();
+
+        // when
+        final String result = sharedFragments.encodeWithin(() -> jacksonMapper.encodeToString(bidRequest));
+
+        // then
+        assertThat(result).isEqualTo("{\"device\":{\"ua\":\"maskedUserAgent\"}}");
+    }
+
+    @Test
+    public void shouldNotReuseFragmentOutsideOfSharedFragmentsScope() {
+        // given
+        final ExtDevice extDevice = ExtDevice.empty();
+        final BidRequest bidRequest = BidRequest.builder()
+                .device(Device.builder().ua("userAgent").ext(extDevice).build())
+                .build();
+        new SharedFragments().encodeWithin(() -> jacksonMapper.encodeToString(bidRequest));
+
+        extDevice.addProperty("field", TextNode.valueOf("value"));
+
+        // when
+        final String resultWithoutScope = jacksonMapper.encodeToString(bidRequest);
+        final String resultWithinNewScope =
+                new SharedFragments().encodeWithin(() -> jacksonMapper.encodeToString(bidRequest));
+
+        // then
+        final String expectedResult = "{\"device\":{\"ua\":\"userAgent\",\"ext\":{\"field\":\"value\"}}}";
+        assertThat(resultWithoutScope).isEqualTo(expectedResult);
+        assertThat(resultWithinNewScope).isEqualTo(expectedResult);
+    }
+
+    @Test
+    public void shouldConvertSharedObjectsToTree() {
+        // given
+        final Device device = Device.builder().ua("userAgent").pxratio(BigDecimal.ONE).build();
+        final SharedFragments sharedFragments = new SharedFragments();
+        sharedFragments.encodeWithin(() -> jacksonMapper.encodeToString(BidRequest.builder().device(device).build()));
+
+        // when
+        final JsonNode result = sharedFragments.encodeWithin(
+                () -> mapper.valueToTree(BidRequest.builder().device(device).build()));
+
+        // then
+        assertThat(result.path("device").path("ua").asText()).isEqualTo("userAgent");
+        assertThat(result.path("device").path("pxratio").decimalValue()).isEqualTo(BigDecimal.ONE);
+    }
+}
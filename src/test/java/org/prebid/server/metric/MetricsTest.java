@@ -598,6 +598,69 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("adapter.conversant.requests.badinput").getCount()).isEqualTo(2);
     }
 
+    @Test
+    public void updateAdapterLateResponseMetricsShouldIncrementMetrics() {
+        // when
+        metrics.updateAdapterLateResponseMetrics(RUBICON, 2);
+        metrics.updateAdapterLateResponseMetrics(RUBICON, 0);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.late").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("adapter.rubicon.late_bids_received").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateAdapterTrafficShapingMetricShouldIncrementMetrics() {
+        // when
+        metrics.updateAdapterTrafficShapingMetric(RUBICON, MetricName.shaping_skipped);
+        metrics.updateAdapterTrafficShapingMetric(RUBICON, MetricName.shaping_explored);
+        metrics.updateAdapterTrafficShapingMetric(RUBICON, MetricName.shaping_skipped);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.shaping_skipped").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.shaping_explored").getCount()).isOne();
+    }
+
+    @Test
+    public void updateBidValidationTimeShouldUpdateMetrics() {
+        // when
+        metrics.updateBidValidationTime(3L);
+
+        // then
+        assertThat(metricRegistry.timer("bid_validation_time").getCount()).isOne();
+    }
+
+    @Test
+    public void updateAdapterPreparationTimeShouldUpdateMetrics() {
+        // when
+        metrics.updateAdapterPreparationTime(RUBICON, 5L);
+        metrics.updateAdapterPreparationTime(RUBICON, 7L);
+
+        // then
+        assertThat(metricRegistry.timer("adapter.rubicon.prepare_time").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void updateAdapterConcurrencyLimitMetricShouldIncrementMetrics() {
+        // when
+        metrics.updateAdapterConcurrencyLimitMetric(RUBICON, MetricName.queued);
+        metrics.updateAdapterConcurrencyLimitMetric(RUBICON, MetricName.rejected);
+        metrics.updateAdapterConcurrencyLimitMetric(RUBICON, MetricName.queued);
+
+        // then
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.queued").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.counter("adapter.rubicon.requests.rejected").getCount()).isOne();
+    }
+
+    @Test
+    public void createAdapterInFlightRequestsGaugeShouldCreateGauge() {
+        // when
+        metrics.createAdapterInFlightRequestsGauge(RUBICON, () -> 5L);
+
+        // then
+        assertThat(metricRegistry.gauge("adapter.rubicon.requests.in_flight", () -> null).getValue()).isEqualTo(5L);
+    }
+
     @Test
     public void updateSizeValidationMetricsShouldIncrementMetrics() {
         // when
@@ -1027,6 +1090,24 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("connection_accept_errors").getCount()).isOne();
     }
 
+    @Test
+    public void shouldIncrementHttp2RequestsMetric() {
+        // when
+        metrics.updateHttp2RequestsMetric();
+
+        // then
+        assertThat(metricRegistry.counter("http2.requests").getCount()).isOne();
+    }
+
+    @Test
+    public void createHttp2ActiveStreamsGaugeShouldCreateGauge() {
+        // when
+        metrics.createHttp2ActiveStreamsGauge(() -> 3L);
+
+        // then
+        assertThat(metricRegistry.gauge("http2.active_streams", () -> null).getValue()).isEqualTo(3L);
+    }
+
     @Test
     public void shouldUpdateDatabaseQueryTimeMetric() {
         // when
@@ -1221,6 +1302,53 @@ public class MetricsTest {
         assertThat(metricRegistry.counter("settings.cache.account.hit").getCount()).isEqualTo(1);
     }
 
+    @Test
+    public void updateBidderParamsValidationCacheMetricShouldIncrementMetric() {
+        // when
+        metrics.updateBidderParamsValidationCacheMetric(MetricName.bypass);
+
+        // then
+        assertThat(metricRegistry.counter("bidder-params.validation.cache.bypass").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateEventLoopLagMetricShouldUpdateTimer() {
+        // when
+        metrics.updateEventLoopLagMetric(10L);
+
+        // then
+        assertThat(metricRegistry.timer("admission-control.event_loop_lag").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateAdmissionControlShedMetricShouldIncrementMetric() {
+        // when
+        metrics.updateAdmissionControlShedMetric(MetricName.shed_by_in_flight);
+
+        // then
+        assertThat(metricRegistry.counter("admission-control.shed.in_flight").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateHedgingMetricShouldIncrementMetric() {
+        // when
+        metrics.updateHedgingMetric("settings", MetricName.hedged);
+        metrics.updateHedgingMetric("settings", MetricName.hedge_won);
+
+        // then
+        assertThat(metricRegistry.counter("hedging.settings.hedged").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter("hedging.settings.hedge_won").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void updateStartupPhaseMetricShouldUpdateTimer() {
+        // when
+        metrics.updateStartupPhaseMetric(MetricName.context_refresh, 123L);
+
+        // then
+        assertThat(metricRegistry.timer("startup.context_refresh").getCount()).isEqualTo(1);
+    }
+
     @Test
     public void updateHooksMetricsShouldIncrementMetrics() {
         // when
@@ -22,6 +22,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Collections.emptyList;
@@ -31,12 +32,14 @@ import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -92,6 +95,28 @@ public class CachingApplicationSettingsTest {
         verifyNoMoreInteractions(applicationSettings);
     }
 
+    @Test
+    public void invalidateAccountCacheShouldRemoveAccountFromDistributedCache() {
+        // given
+        final DistributedCachingApplicationSettings distributedSettings =
+                mock(DistributedCachingApplicationSettings.class);
+        cachingApplicationSettings = new CachingApplicationSettings(
+                applicationSettings,
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                new SettingsCache(360, 100),
+                metrics,
+                360,
+                100,
+                distributedSettings);
+
+        // when
+        cachingApplicationSettings.invalidateAccountCache("accountId");
+
+        // then
+        verify(distributedSettings).invalidateAccountCache("accountId");
+    }
+
     @Test
     public void getAccountByIdShouldPropagateFailure() {
         // given
@@ -344,4 +369,75 @@ public class CachingApplicationSettingsTest {
                 .isInstanceOf(InvalidRequestException.class)
                 .hasMessage("error");
     }
+
+    @Test
+    public void getStoredResponsesShouldReturnResultFromCacheOnSuccessiveCalls() {
+        // given
+        given(applicationSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "value"), emptyList())));
+
+        // when
+        cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id", "value"));
+        verify(applicationSettings).getStoredResponses(eq(singleton("id")), same(timeout));
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.miss);
+        verify(metrics).updateSettingsCacheEventMetric(MetricName.stored_response, MetricName.hit);
+    }
+
+    @Test
+    public void getStoredResponsesShouldDelegateOnlyMissedIdsAndMergeResult() {
+        // given
+        given(applicationSettings.getStoredResponses(eq(singleton("id1")), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(singletonMap("id1", "value1"),
+                        emptyList())));
+        given(applicationSettings.getStoredResponses(eq(singleton("id2")), any()))
+                .willReturn(Future.succeededFuture(StoredResponseDataResult.of(emptyMap(),
+                        singletonList("No stored response found for id: id2"))));
+
+        cachingApplicationSettings.getStoredResponses(singleton("id1"), timeout);
+
+        // when
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(Set.of("id1", "id2"), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id1", "value1"));
+        assertThat(future.result().getErrors()).containsOnly("No stored response found for id: id2");
+        verify(applicationSettings).getStoredResponses(eq(singleton("id2")), same(timeout));
+    }
+
+    @Test
+    public void storedResponseCacheInvalidatorShouldRemoveCachedStoredResponses() {
+        // given
+        given(applicationSettings.getStoredResponses(anySet(), any()))
+                .willReturn(Future.succeededFuture(
+                        StoredResponseDataResult.of(singletonMap("id", "value"), emptyList())));
+        cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // when
+        cachingApplicationSettings.storedResponseCacheInvalidator().invalidate(singletonList("id"), emptyList());
+        cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        verify(applicationSettings, times(2)).getStoredResponses(eq(singleton("id")), same(timeout));
+    }
+
+    @Test
+    public void storedResponseCacheInvalidatorShouldSaveStoredResponsesToCache() {
+        // when
+        cachingApplicationSettings.storedResponseCacheInvalidator().save(singletonMap("id", "value"), emptyMap());
+        final Future<StoredResponseDataResult> future =
+                cachingApplicationSettings.getStoredResponses(singleton("id"), timeout);
+
+        // then
+        assertThat(future.result().getIdToStoredResponses()).containsOnly(entry("id", "value"));
+        verifyNoMoreInteractions(applicationSettings);
+    }
 }
@@ -0,0 +1,193 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.VertxTest;
+import org.prebid.server.execution.Timeout;
+import org.prebid.server.execution.TimeoutFactory;
+import org.prebid.server.settings.distributed.DistributedCache;
+import org.prebid.server.settings.distributed.InMemoryDistributedCache;
+import org.prebid.server.settings.model.Account;
+import org.prebid.server.settings.model.StoredDataResult;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DistributedCachingApplicationSettingsTest extends VertxTest {
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private ApplicationSettings applicationSettings;
+
+    private DistributedCachingApplicationSettings distributedCachingApplicationSettings;
+
+    private Timeout timeout;
+
+    @Before
+    public void setUp() {
+        timeout = new TimeoutFactory(Clock.fixed(Instant.now(), ZoneId.systemDefault())).create(500L);
+
+        distributedCachingApplicationSettings = new DistributedCachingApplicationSettings(
+                applicationSettings, new InMemoryDistributedCache(360, 100), jacksonMapper);
+    }
+
+    @Test
+    public void getAccountByIdShouldReturnResultFromDistributedCacheOnSuccessiveCalls() {
+        // given
+        final Account account = Account.builder().id("accountId").build();
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.succeededFuture(account));
+
+        // when
+        distributedCachingApplicationSettings.getAccountById("accountId", timeout);
+        final Future<Account> future = distributedCachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(account);
+        verify(applicationSettings).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateAgainAfterInvalidation() {
+        // given
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.succeededFuture(Account.builder().id("accountId").build()));
+        distributedCachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // when
+        distributedCachingApplicationSettings.invalidateAccountCache("accountId");
+        distributedCachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        verify(applicationSettings, times(2)).getAccountById(eq("accountId"), same(timeout));
+    }
+
+    @Test
+    public void getAccountByIdShouldCallDelegateIfDistributedCacheFailed() {
+        // given
+        final DistributedCache distributedCache = mock(DistributedCache.class);
+        given(distributedCache.get(anyString(), anyString())).willReturn(Future.failedFuture("Connection refused"));
+        given(distributedCache.put(anyString(), anyString(), anyString()))
+                .willReturn(Future.failedFuture("Connection refused"));
+
+        distributedCachingApplicationSettings = new DistributedCachingApplicationSettings(
+                applicationSettings, distributedCache, jacksonMapper);
+
+        final Account account = Account.builder().id("accountId").build();
+        given(applicationSettings.getAccountById(anyString(), any()))
+                .willReturn(Future.succeededFuture(account));
+
+        // when
+        final Future<Account> future = distributedCachingApplicationSettings.getAccountById("accountId", timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result()).isEqualTo(account);
+    }
+
+    @Test
+    public void getStoredDataShouldCallDelegateOnlyForIdsMissedInDistributedCache() {
+        // given
+        given(applicationSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid1", "json1"), singletonMap("impid1", "json2"), emptyList())))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid2", "json3"), emptyMap(), emptyList())));
+
+        distributedCachingApplicationSettings.getStoredData(
+                "1001", singleton("reqid1"), singleton("impid1"), timeout);
+
+        // when
+        final Future<StoredDataResult> future = distributedCachingApplicationSettings.getStoredData(
+                "1001", new HashSet<>(asList("reqid1", "reqid2")), singleton("impid1"), timeout);
+
+        // then
+        assertThat(future.succeeded()).isTrue();
+        assertThat(future.result().getStoredIdToRequest())
+                .containsOnly(entry("reqid1", "json1"), entry("reqid2", "json3"));
+        assertThat(future.result().getStoredIdToImp()).containsOnly(entry("impid1", "json2"));
+        verify(applicationSettings).getStoredData(eq("1001"), eq(singleton("reqid2")), eq(emptySet()), same(timeout));
+    }
+
+    @Test
+    public void getStoredDataShouldNotShareCachedEntriesBetweenAccounts() {
+        // given
+        given(applicationSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid1", "json1"), emptyMap(), emptyList())));
+
+        distributedCachingApplicationSettings.getStoredData("1001", singleton("reqid1"), emptySet(), timeout);
+
+        // when
+        distributedCachingApplicationSettings.getStoredData("1002", singleton("reqid1"), emptySet(), timeout);
+
+        // then
+        verify(applicationSettings).getStoredData(eq("1002"), eq(singleton("reqid1")), eq(emptySet()), any());
+    }
+
+    @Test
+    public void storedDataInvalidatorShouldRemoveEntriesFromDistributedCache() {
+        // given
+        given(applicationSettings.getAmpStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid1", "json1"), emptyMap(), emptyList())));
+
+        distributedCachingApplicationSettings.getAmpStoredData(null, singleton("reqid1"), emptySet(), timeout);
+
+        // when
+        distributedCachingApplicationSettings.ampStoredDataInvalidator()
+                .invalidate(singletonList("reqid1"), emptyList());
+        distributedCachingApplicationSettings.getAmpStoredData(null, singleton("reqid1"), emptySet(), timeout);
+
+        // then
+        verify(applicationSettings, times(2)).getAmpStoredData(any(), eq(singleton("reqid1")), any(), any());
+    }
+
+    @Test
+    public void storedDataInvalidatorShouldKeepEntriesInDistributedCacheOnInitialLoad() {
+        // given
+        given(applicationSettings.getStoredData(any(), any(), any(), any()))
+                .willReturn(Future.succeededFuture(StoredDataResult.of(
+                        singletonMap("reqid1", "json1"), emptyMap(), emptyList())));
+
+        distributedCachingApplicationSettings.getStoredData(null, singleton("reqid1"), emptySet(), timeout);
+
+        final SettingsCache settingsCache =
+                new SettingsCache(10, 10, distributedCachingApplicationSettings.storedDataInvalidator());
+
+        // when
+        settingsCache.load(singletonMap("reqid1", "json1"), emptyMap());
+        distributedCachingApplicationSettings.getStoredData(null, singleton("reqid1"), emptySet(), timeout);
+
+        // then
+        verify(applicationSettings).getStoredData(any(), eq(singleton("reqid1")), any(), any());
+    }
+}
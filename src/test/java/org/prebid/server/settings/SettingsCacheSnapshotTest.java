@@ -0,0 +1,127 @@
+package org.prebid.server.settings;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.prebid.server.settings.model.StoredItem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class SettingsCacheSnapshotTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Clock clock = Clock.fixed(Instant.parse("2022-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private Vertx vertx;
+
+    private String path;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        path = temporaryFolder.getRoot().toPath().resolve("settings-cache.snapshot").toString();
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void loadShouldRestoreCacheSavedBySave(TestContext context) {
+        // given
+        final SettingsCache sourceCache = new SettingsCache(100, 100);
+        sourceCache.save(singletonMap("request1", "requestValue1"), singletonMap("imp1", "impValue1"));
+        sourceCache.saveRequestCache("accountId", "request2", "requestValue2");
+
+        final SettingsCache targetCache = new SettingsCache(100, 100);
+        final Instant lastUpdate = Instant.parse("2021-12-31T23:59:00Z");
+
+        // when
+        new SettingsCacheSnapshot(path, 0L, sourceCache, vertx, clock).save(lastUpdate)
+                .compose(ignored -> new SettingsCacheSnapshot(path, 0L, targetCache, vertx, clock)
+                        .load())
+                .onComplete(context.asyncAssertSuccess(restoredLastUpdate -> {
+                    // then
+                    assertThat(restoredLastUpdate).isEqualTo(lastUpdate);
+                    assertThat(targetCache.getRequestCache()).containsOnly(
+                            entry("request1", StoredItem.of(null, "requestValue1")),
+                            entry("request2", StoredItem.of("accountId", "requestValue2")));
+                    assertThat(targetCache.getImpCache())
+                            .containsOnly(entry("imp1", StoredItem.of(null, "impValue1")));
+                }));
+    }
+
+    @Test
+    public void loadShouldFailIfSnapshotDoesNotExist(TestContext context) {
+        // given
+        final SettingsCache settingsCache = new SettingsCache(100, 100);
+
+        // when
+        new SettingsCacheSnapshot(path, 0L, settingsCache, vertx, clock).load()
+                .onComplete(context.asyncAssertFailure(exception ->
+                        // then
+                        assertThat(settingsCache.getRequestCache()).isEmpty()));
+    }
+
+    @Test
+    public void loadShouldFailIfSnapshotIsCorrupted(TestContext context) throws IOException {
+        // given
+        Files.write(Path.of(path), new byte[]{1, 2, 3});
+        final SettingsCache settingsCache = new SettingsCache(100, 100);
+
+        // when
+        new SettingsCacheSnapshot(path, 0L, settingsCache, vertx, clock).load()
+                .onComplete(context.asyncAssertFailure(exception ->
+                        // then
+                        assertThat(exception).hasMessage("Settings cache snapshot is truncated")));
+    }
+
+    @Test
+    public void saveShouldNotWriteSnapshotMoreOftenThanSavePeriod(TestContext context) {
+        // given
+        final SettingsCache settingsCache = new SettingsCache(100, 100);
+        settingsCache.save(singletonMap("request1", "requestValue1"), null);
+        final SettingsCacheSnapshot snapshot = new SettingsCacheSnapshot(
+                path, 1000L, settingsCache, vertx, clock);
+
+        // when
+        snapshot.save(Instant.now(clock))
+                .compose(ignored -> deleteSnapshot())
+                .compose(ignored -> snapshot.save(Instant.now(clock)))
+                .onComplete(context.asyncAssertSuccess(ignored ->
+                        // then
+                        assertThat(Files.exists(Path.of(path))).isFalse()));
+    }
+
+    private Future<Void> deleteSnapshot() {
+        final Promise<Void> promise = Promise.promise();
+        vertx.fileSystem().delete(path, promise);
+        return promise.future();
+    }
+
+    private static Map.Entry<String, Set<StoredItem>> entry(String id, StoredItem storedItem) {
+        return Map.entry(id, Set.of(storedItem));
+    }
+}
@@ -4,10 +4,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.prebid.server.settings.model.StoredItem;
 
+import java.util.Set;
+
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 public class SettingsCacheTest {
 
@@ -48,6 +53,21 @@ public class SettingsCacheTest {
                 .containsEntry("impId1", singleton(StoredItem.of("1001", "impValue1")));
     }
 
+    @Test
+    public void saveRequestCacheShouldReplaceCachedItemsInsteadOfModifyingThem() {
+        // given
+        settingsCache.saveRequestCache("1001", "reqId1", "reqValue1");
+        final Set<StoredItem> previousItems = settingsCache.getRequestCache().get("reqId1");
+
+        // when
+        settingsCache.saveRequestCache("1002", "reqId1", "reqValue2");
+
+        // then
+        assertThat(previousItems).containsOnly(StoredItem.of("1001", "reqValue1"));
+        assertThat(settingsCache.getRequestCache().get("reqId1"))
+                .containsOnly(StoredItem.of("1001", "reqValue1"), StoredItem.of("1002", "reqValue2"));
+    }
+
     @Test
     public void saveShouldAddNewItemsToCache() {
         // when
@@ -75,4 +95,36 @@ public class SettingsCacheTest {
         assertThat(settingsCache.getImpCache()).hasSize(1)
                 .containsEntry("impId2", singleton(StoredItem.of(null, "impValue2")));
     }
+
+    @Test
+    public void saveAndInvalidateShouldPropagateNotificationsToGivenListener() {
+        // given
+        final CacheNotificationListener notificationPropagator = mock(CacheNotificationListener.class);
+        settingsCache = new SettingsCache(10, 10, notificationPropagator);
+
+        // when
+        settingsCache.save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        settingsCache.invalidate(singletonList("reqId1"), singletonList("impId1"));
+
+        // then
+        verify(notificationPropagator).save(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+        verify(notificationPropagator).invalidate(singletonList("reqId1"), singletonList("impId1"));
+    }
+
+    @Test
+    public void loadShouldAddNewItemsToCacheWithoutPropagatingThem() {
+        // given
+        final CacheNotificationListener notificationPropagator = mock(CacheNotificationListener.class);
+        settingsCache = new SettingsCache(10, 10, notificationPropagator);
+
+        // when
+        settingsCache.load(singletonMap("reqId1", "reqValue1"), singletonMap("impId1", "impValue1"));
+
+        // then
+        assertThat(settingsCache.getRequestCache()).hasSize(1)
+                .containsEntry("reqId1", singleton(StoredItem.of(null, "reqValue1")));
+        assertThat(settingsCache.getImpCache()).hasSize(1)
+                .containsEntry("impId1", singleton(StoredItem.of(null, "impValue1")));
+        verifyNoInteractions(notificationPropagator);
+    }
 }
@@ -0,0 +1,149 @@
+package org.prebid.server.settings.distributed;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetServer;
+import io.vertx.core.net.NetSocket;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.prebid.server.exception.PreBidException;
+
+import java.util.function.BiConsumer;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class RedisClientTest {
+
+    private Vertx vertx;
+
+    private NetServer server;
+
+    private BiConsumer<NetSocket, Buffer> replier;
+
+    @Before
+    public void setUp(TestContext context) {
+        vertx = Vertx.vertx();
+
+        final Promise<NetServer> listenPromise = Promise.promise();
+        server = vertx.createNetServer()
+                .connectHandler(socket -> socket.handler(data -> replier.accept(socket, data)))
+                .listen(0, "localhost", listenPromise);
+        listenPromise.future().onComplete(context.asyncAssertSuccess());
+    }
+
+    @After
+    public void tearDown(TestContext context) {
+        vertx.close(context.asyncAssertSuccess());
+    }
+
+    @Test
+    public void sendShouldReturnParsedBulkStringReply(TestContext context) {
+        // given
+        replier = (socket, data) -> socket.write("$5\r\nvalue\r\n");
+
+        // when
+        createClient().send("HGET", "key", "field")
+                .onComplete(context.asyncAssertSuccess(reply ->
+                        // then
+                        assertThat(reply).isEqualTo("value")));
+    }
+
+    @Test
+    public void sendShouldReturnNullForNullBulkStringReply(TestContext context) {
+        // given
+        replier = (socket, data) -> socket.write("$-1\r\n");
+
+        // when
+        createClient().send("HGET", "key", "field")
+                .onComplete(context.asyncAssertSuccess(reply ->
+                        // then
+                        assertThat(reply).isNull()));
+    }
+
+    @Test
+    public void sendShouldReturnParsedArrayReplyReceivedInChunks(TestContext context) {
+        // given
+        replier = (socket, data) -> {
+            socket.write("*2\r\n:1\r\n$3\r");
+            vertx.setTimer(50L, ignored -> socket.write("\nabc\r\n"));
+        };
+
+        // when
+        createClient().send("COMMAND")
+                .onComplete(context.asyncAssertSuccess(reply ->
+                        // then
+                        assertThat(reply).isEqualTo(asList(1L, "abc"))));
+    }
+
+    @Test
+    public void sendShouldReturnReplyWhichLineIsReceivedInChunks(TestContext context) {
+        // given
+        replier = (socket, data) -> {
+            socket.write("+lo");
+            vertx.setTimer(50L, ignored -> {
+                socket.write("ng\r");
+                vertx.setTimer(50L, ignoredAgain -> socket.write("\n"));
+            });
+        };
+
+        // when
+        createClient().send("PING")
+                .onComplete(context.asyncAssertSuccess(reply ->
+                        // then
+                        assertThat(reply).isEqualTo("long")));
+    }
+
+    @Test
+    public void sendShouldFailOnErrorReply(TestContext context) {
+        // given
+        replier = (socket, data) -> socket.write("-ERR unknown command\r\n");
+
+        // when
+        createClient().send("UNKNOWN")
+                .onComplete(context.asyncAssertFailure(exception ->
+                        // then
+                        assertThat(exception).isInstanceOf(PreBidException.class)
+                                .hasMessage("Redis error: ERR unknown command")));
+    }
+
+    @Test
+    public void sendShouldMatchPipelinedRepliesInOrder(TestContext context) {
+        // given
+        replier = (socket, data) -> {
+            // every command starts with array header
+            final int commandsNumber = data.toString().split("\\*3\r\n", -1).length - 1;
+            socket.write("+OK\r\n".repeat(commandsNumber));
+        };
+        final RedisClient redisClient = createClient();
+
+        // when and then
+        redisClient.send("SET", "key1", "value1")
+                .onComplete(context.asyncAssertSuccess(reply -> assertThat(reply).isEqualTo("OK")));
+        redisClient.send("HGET", "key2", "field")
+                .onComplete(context.asyncAssertSuccess(reply -> assertThat(reply).isEqualTo("OK")));
+    }
+
+    @Test
+    public void sendShouldFailIfReplyWasNotReceivedInTime(TestContext context) {
+        // given
+        replier = (socket, data) -> {
+        };
+
+        // when
+        createClient().send("HGET", "key", "field")
+                .onComplete(context.asyncAssertFailure(exception ->
+                        // then
+                        assertThat(exception).hasMessage("Timed out while waiting for redis reply")));
+    }
+
+    private RedisClient createClient() {
+        return new RedisClient(vertx, vertx.createNetClient(), "localhost", server.actualPort(), 500L);
+    }
+}
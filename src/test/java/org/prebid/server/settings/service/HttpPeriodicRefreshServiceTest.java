@@ -78,13 +78,14 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
     }
 
     @Test
-    public void shouldCallSaveWithExpectedParameters() {
+    public void shouldCallLoadWithExpectedParameters() {
         // when
         createAndInitService(cacheNotificationListener, ENDPOINT_URL,
                 1000, 2000, vertx, httpClient);
 
         // then
-        verify(cacheNotificationListener).save(expectedRequests, expectedImps);
+        verify(cacheNotificationListener).load(expectedRequests, expectedImps);
+        verify(cacheNotificationListener, never()).save(any(), any());
     }
 
     @Test
@@ -98,7 +99,7 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
                 1000, 2000, vertx, httpClient);
 
         // then
-        verify(cacheNotificationListener).save(expectedRequests, expectedImps);
+        verify(cacheNotificationListener).load(expectedRequests, expectedImps);
         verify(cacheNotificationListener).invalidate(singletonList("id1"), emptyList());
         verify(cacheNotificationListener).save(emptyMap(), expectedImps);
     }
@@ -121,7 +122,7 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
                 1000, 2000, vertx, httpClient);
 
         // then
-        verify(cacheNotificationListener).save(expectedRequests, expectedImps);
+        verify(cacheNotificationListener).load(expectedRequests, expectedImps);
         verify(cacheNotificationListener).save(singletonMap("id1", "{\"changed1\":\"value-changed2\"}"), expectedImps);
     }
 
@@ -170,7 +171,7 @@ public class HttpPeriodicRefreshServiceTest extends VertxTest {
                                              String url, long refreshPeriod, long timeout,
                                              Vertx vertx, HttpClient httpClient) {
         final HttpPeriodicRefreshService httpPeriodicRefreshService = new HttpPeriodicRefreshService(
-                url, refreshPeriod, timeout, notificationListener, vertx, httpClient, jacksonMapper);
+                url, refreshPeriod, timeout, notificationListener, null, vertx, httpClient, jacksonMapper);
         httpPeriodicRefreshService.initialize();
     }
 
@@ -14,12 +14,14 @@ import org.prebid.server.execution.TimeoutFactory;
 import org.prebid.server.metric.MetricName;
 import org.prebid.server.metric.Metrics;
 import org.prebid.server.settings.CacheNotificationListener;
+import org.prebid.server.settings.SettingsCacheSnapshot;
 import org.prebid.server.settings.model.StoredDataResult;
 import org.prebid.server.vertx.jdbc.JdbcClient;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Date;
 import java.util.Map;
 
 import static java.util.Collections.emptyList;
@@ -44,6 +46,8 @@ public class JdbcPeriodicRefreshServiceTest {
     @Mock
     private CacheNotificationListener cacheNotificationListener;
     @Mock
+    private SettingsCacheSnapshot settingsCacheSnapshot;
+    @Mock
     private Vertx vertx;
     @Mock
     private JdbcClient jdbcClient;
@@ -69,12 +73,13 @@ public class JdbcPeriodicRefreshServiceTest {
     }
 
     @Test
-    public void shouldCallSaveWithExpectedParameters() {
+    public void shouldCallLoadWithExpectedParameters() {
         // when
         createAndInitService(1000);
 
         // then
-        verify(cacheNotificationListener).save(expectedRequests, expectedImps);
+        verify(cacheNotificationListener).load(expectedRequests, expectedImps);
+        verify(cacheNotificationListener, never()).save(any(), any());
     }
 
     @Test
@@ -87,7 +92,7 @@ public class JdbcPeriodicRefreshServiceTest {
         createAndInitService(1000);
 
         // then
-        verify(cacheNotificationListener).save(expectedRequests, expectedImps);
+        verify(cacheNotificationListener).load(expectedRequests, expectedImps);
         verify(cacheNotificationListener).invalidate(singletonList("id1"), emptyList());
         verify(cacheNotificationListener).save(emptyMap(), singletonMap("id2", "changed_value"));
     }
@@ -142,7 +147,41 @@ public class JdbcPeriodicRefreshServiceTest {
                 eq(MetricName.stored_request), eq(MetricName.initialize));
     }
 
+    @Test
+    public void initializeShouldRunUpdateQueryInsteadOfInitQueryIfSnapshotWasRestored() {
+        // given
+        given(settingsCacheSnapshot.load()).willReturn(Future.succeededFuture(Instant.ofEpochMilli(1000L)));
+        given(settingsCacheSnapshot.save(any())).willReturn(Future.succeededFuture());
+
+        // when
+        createAndInitService(1000, settingsCacheSnapshot);
+
+        // then
+        verify(jdbcClient, never()).executeQuery(eq("init_query"), anyList(), any(), any());
+        verify(jdbcClient).executeQuery(eq("update_query"), eq(singletonList(Date.from(Instant.ofEpochMilli(1000L)))),
+                any(), any());
+    }
+
+    @Test
+    public void initializeShouldRunInitQueryIfSnapshotWasNotRestored() {
+        // given
+        given(settingsCacheSnapshot.load()).willReturn(Future.failedFuture("Snapshot not found"));
+        given(settingsCacheSnapshot.save(any())).willReturn(Future.succeededFuture());
+
+        // when
+        createAndInitService(1000, settingsCacheSnapshot);
+
+        // then
+        verify(jdbcClient).executeQuery(eq("init_query"), eq(emptyList()), any(), any());
+        verify(cacheNotificationListener).load(expectedRequests, expectedImps);
+        verify(settingsCacheSnapshot).save(clock.instant());
+    }
+
     private void createAndInitService(long refresh) {
+        createAndInitService(refresh, null);
+    }
+
+    private void createAndInitService(long refresh, SettingsCacheSnapshot snapshot) {
 
         final JdbcPeriodicRefreshService jdbcPeriodicRefreshService = new JdbcPeriodicRefreshService(
                 "init_query",
@@ -151,6 +190,7 @@ public class JdbcPeriodicRefreshServiceTest {
                 2000,
                 MetricName.stored_request,
                 cacheNotificationListener,
+                snapshot,
                 vertx,
                 jdbcClient,
                 timeoutFactory,
@@ -10,6 +10,8 @@ import org.mockito.junit.MockitoRule;
 import org.prebid.server.VertxTest;
 import org.prebid.server.bidder.BidderCatalog;
 import org.prebid.server.bidder.BidderInfo;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
 import org.prebid.server.proto.openrtb.ext.request.adtelligent.ExtImpAdtelligent;
 import org.prebid.server.proto.openrtb.ext.request.appnexus.ExtImpAppnexus;
 import org.prebid.server.proto.openrtb.ext.request.beachfront.ExtImpBeachfront;
@@ -34,6 +36,8 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class BidderParamValidatorTest extends VertxTest {
 
@@ -53,6 +57,8 @@ public class BidderParamValidatorTest extends VertxTest {
 
     @Mock
     private BidderCatalog bidderCatalog;
+    @Mock
+    private Metrics metrics;
 
     private BidderParamValidator bidderParamValidator;
 
@@ -108,6 +114,61 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages).isEmpty();
     }
 
+    @Test
+    public void validateShouldReturnCachedResultForStructurallyEqualParams() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, 10, 100, metrics);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+
+        // when
+        final Set<String> firstMessages = bidderParamValidator.validate(
+                RUBICON, mapper.convertValue(ext, JsonNode.class));
+        final Set<String> secondMessages = bidderParamValidator.validate(
+                RUBICON, mapper.convertValue(ext, JsonNode.class));
+
+        // then
+        assertThat(firstMessages).hasSize(1);
+        assertThat(secondMessages).isEqualTo(firstMessages);
+        verify(metrics).updateBidderParamsValidationCacheMetric(MetricName.miss);
+        verify(metrics).updateBidderParamsValidationCacheMetric(MetricName.hit);
+    }
+
+    @Test
+    public void validateShouldNotShareCachedResultBetweenBidders() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, 10, 100, metrics);
+
+        final JsonNode node = mapper.convertValue(
+                ExtImpRubicon.builder().accountId(1).siteId(2).zoneId(3).build(), JsonNode.class);
+
+        // when
+        bidderParamValidator.validate(RUBICON, node);
+        bidderParamValidator.validate(APPNEXUS, node);
+
+        // then
+        verify(metrics, times(2)).updateBidderParamsValidationCacheMetric(MetricName.miss);
+    }
+
+    @Test
+    public void validateShouldBypassCacheForParamsExceedingMaxNodeSize() {
+        // given
+        bidderParamValidator = BidderParamValidator.create(
+                bidderCatalog, "static/bidder-params", jacksonMapper, 10, 2, metrics);
+
+        final JsonNode node = mapper.convertValue(
+                ExtImpRubicon.builder().accountId(1).siteId(2).zoneId(3).build(), JsonNode.class);
+
+        // when
+        final Set<String> messages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(messages).isEmpty();
+        verify(metrics).updateBidderParamsValidationCacheMetric(MetricName.bypass);
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenRubiconImpExtNotValid() {
         // given
@@ -121,6 +182,25 @@ public class BidderParamValidatorTest extends VertxTest {
         assertThat(messages.size()).isEqualTo(1);
     }
 
+    @Test
+    public void validateShouldReturnSameValidationMessagesForActiveAndInactiveBidders() {
+        // given
+        given(bidderCatalog.isActive(RUBICON)).willReturn(true);
+        final BidderParamValidator activeBidderParamValidator =
+                BidderParamValidator.create(bidderCatalog, "static/bidder-params", jacksonMapper);
+        given(bidderCatalog.isActive(RUBICON)).willReturn(false);
+
+        final ExtImpRubicon ext = ExtImpRubicon.builder().siteId(2).zoneId(3).build();
+        final JsonNode node = mapper.convertValue(ext, JsonNode.class);
+
+        // when
+        final Set<String> eagerlyCompiledMessages = activeBidderParamValidator.validate(RUBICON, node);
+        final Set<String> lazilyCompiledMessages = bidderParamValidator.validate(RUBICON, node);
+
+        // then
+        assertThat(eagerlyCompiledMessages).hasSize(1).isEqualTo(lazilyCompiledMessages);
+    }
+
     @Test
     public void validateShouldReturnValidationMessagesWhenAppnexusImpExtNotValid() {
         // given
@@ -289,6 +289,32 @@ public class ResponseBidValidatorTest extends VertxTest {
                         adm=<tag>//site.com/creative.jpg</tag>""");
     }
 
+    @Test
+    public void validateShouldFailIfBidHasInsecureMarkerAfterSecureOneInCreativeInSecureContext() {
+        // when
+        final ValidationResult result = responseBidValidator.validate(
+                givenBid(builder -> builder.adm("<a href=\"https://site.com\"><img src=\"http://site.com\"></a>")),
+                BIDDER_NAME,
+                givenAuctionContext(givenBidRequest(builder -> builder.secure(1))),
+                bidderAliases);
+
+        // then
+        assertThat(result.hasErrors()).isTrue();
+    }
+
+    @Test
+    public void validateShouldReturnSuccessIfBidHasOnlySecureEncodedMarkersInCreativeInSecureContext() {
+        // when
+        final ValidationResult result = responseBidValidator.validate(
+                givenBid(builder -> builder.adm("<tag>httpshttps%3A//site.com/creative.jpg</tag>")),
+                BIDDER_NAME,
+                givenAuctionContext(givenBidRequest(builder -> builder.secure(1))),
+                bidderAliases);
+
+        // then
+        assertThat(result.hasErrors()).isFalse();
+    }
+
     @Test
     public void validateShouldReturnSuccessIfBidHasInsecureCreativeInInsecureContext() {
         // when
@@ -583,6 +609,48 @@ public class ResponseBidValidatorTest extends VertxTest {
                         + "dimensions: '300x400', formats in imp: '400x500'");
     }
 
+    @Test
+    public void validateShouldReuseValidationContextForBidsOfDifferentImps() {
+        // given
+        responseBidValidator = new ResponseBidValidator(enforce, enforce, metrics, jacksonMapper, false);
+
+        final BidRequest bidRequest = BidRequest.builder()
+                .imp(asList(
+                        Imp.builder().id("impId1").secure(1).banner(Banner.builder()
+                                .format(singletonList(Format.builder().w(100).h(200).build()))
+                                .build()).build(),
+                        Imp.builder().id("impId2").banner(Banner.builder()
+                                .format(singletonList(Format.builder().w(300).h(250).build()))
+                                .build()).build()))
+                .build();
+        final BidValidationContext validationContext =
+                responseBidValidator.createContext(givenAuctionContext(bidRequest));
+
+        // when
+        final ValidationResult firstResult = responseBidValidator.validate(
+                givenBid(bid -> bid.impid("impId1").w(100).h(200).adm("http://site.com")),
+                BIDDER_NAME,
+                validationContext,
+                bidderAliases);
+        final ValidationResult secondResult = responseBidValidator.validate(
+                givenBid(bid -> bid.impid("impId2").w(300).h(250).adm("http://site.com")),
+                BIDDER_NAME,
+                validationContext,
+                bidderAliases);
+        final ValidationResult thirdResult = responseBidValidator.validate(
+                givenBid(bid -> bid.impid("impId2").w(300).h(260)),
+                BIDDER_NAME,
+                validationContext,
+                bidderAliases);
+
+        // then
+        assertThat(firstResult.getErrors()).hasSize(1)
+                .allSatisfy(error -> assertThat(error).contains("secure creative validation"));
+        assertThat(secondResult.hasErrors()).isFalse();
+        assertThat(thirdResult.getErrors()).hasSize(1)
+                .allSatisfy(error -> assertThat(error).contains("max imp size='300x250'"));
+    }
+
     @Test
     public void validateShouldFailIfBidIsBannerAndSizeHasNoMatchInLineItem() {
         final ValidationResult result = responseBidValidator.validate(
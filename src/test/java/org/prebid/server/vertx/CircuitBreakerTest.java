@@ -20,6 +20,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @RunWith(VertxUnitRunner.class)
 public class CircuitBreakerTest {
@@ -118,6 +120,29 @@ public class CircuitBreakerTest {
         assertThat(future3.result()).isEqualTo("value after half-open");
     }
 
+    @Test
+    public void executeShouldReopenCircuitIfHalfOpenProbeIsNotCompletedWithinClosingInterval(TestContext context) {
+        // given
+        executeWithFail(context, "exception1");
+        waitForClosingInterval(context);
+        circuitBreaker.execute(operationPromise -> {
+        });
+
+        // when
+        waitForClosingInterval(context);
+        final Future<?> future1 = executeWithSuccess(context, "value while open");
+        waitForClosingInterval(context);
+        final Future<?> future2 = executeWithSuccess(context, "value after half-open");
+
+        // then
+        assertThat(future1.failed()).isTrue();
+        assertThat(future1.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+
+        assertThat(future2.succeeded()).isTrue();
+        assertThat(future2.result()).isEqualTo("value after half-open");
+        assertThat(circuitBreaker.isOpen()).isFalse();
+    }
+
     @Test
     public void executeShouldFailsWithOriginalExceptionIfOpeningIntervalExceeds(TestContext context) {
         // given
@@ -136,6 +161,39 @@ public class CircuitBreakerTest {
         assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
     }
 
+    @Test
+    public void executeShouldOpenCircuitOnlyIfThresholdIsReachedWithinOpeningInterval(TestContext context) {
+        // given
+        final Clock advancingClock = mock(Clock.class);
+        given(advancingClock.millis()).willReturn(0L, 200L, 250L);
+        circuitBreaker = new CircuitBreaker("name", vertx, 2, 100L, 200L, advancingClock);
+
+        // when
+        final Future<?> future1 = executeWithFail(context, "exception1");
+        final Future<?> future2 = executeWithFail(context, "exception2");
+        final Future<?> future3 = executeWithFail(context, "exception3");
+        final Future<?> future4 = executeWithFail(context, "exception4");
+
+        // then
+        assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception2");
+        assertThat(future3.cause()).isInstanceOf(RuntimeException.class).hasMessage("exception3");
+        assertThat(future4.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+        assertThat(circuitBreaker.isOpen()).isTrue();
+    }
+
+    @Test
+    public void executeShouldCountExceptionThrownByOperationAsFailure(TestContext context) {
+        // when
+        final Future<?> future1 = execute(context, operationPromise -> {
+            throw new IllegalStateException("exception");
+        });
+        final Future<?> future2 = executeWithSuccess(context, "value");
+
+        // then
+        assertThat(future1.cause()).isInstanceOf(IllegalStateException.class).hasMessage("exception");
+        assertThat(future2.cause()).isInstanceOf(RuntimeException.class).hasMessage("open circuit");
+    }
+
     private Future<String> executeWithSuccess(TestContext context, String result) {
         return execute(context, operationPromise -> operationPromise.complete(result));
     }
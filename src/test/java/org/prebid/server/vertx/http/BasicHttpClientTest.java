@@ -63,7 +63,8 @@ public class BasicHttpClientTest {
         given(httpClientRequest.exceptionHandler(any())).willReturn(httpClientRequest);
         given(httpClientRequest.headers()).willReturn(MultiMap.caseInsensitiveMultiMap());
 
-        given(httpClientResponse.bodyHandler(any())).willReturn(httpClientResponse);
+        given(httpClientResponse.handler(any())).willReturn(httpClientResponse);
+        given(httpClientResponse.endHandler(any())).willReturn(httpClientResponse);
         given(httpClientResponse.exceptionHandler(any())).willReturn(httpClientResponse);
 
         httpClient = new BasicHttpClient(vertx, wrappedHttpClient);
@@ -90,8 +91,10 @@ public class BasicHttpClientTest {
         given(httpClientRequest.handler(any()))
                 .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
 
-        given(httpClientResponse.bodyHandler(any()))
+        given(httpClientResponse.handler(any()))
                 .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("response")));
+        given(httpClientResponse.endHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(null));
 
         // when
         final Future<?> future = httpClient.request(HttpMethod.GET, null, null, (String) null, 1L);
@@ -100,6 +103,59 @@ public class BasicHttpClientTest {
         assertThat(future.succeeded()).isTrue();
     }
 
+    @Test
+    public void requestShouldFailAndResetRequestIfChunkedResponseExceedsMaxSize() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+
+        given(httpClientResponse.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("response")));
+        given(httpClientResponse.endHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(null));
+
+        // when
+        final Future<?> future = httpClient.request(HttpMethod.GET, null, null, (String) null, 1L, 5L);
+
+        // then
+        assertThat(future.failed()).isTrue();
+        assertThat(future.cause()).hasMessage("Response size exceeded 5 bytes limit");
+        verify(httpClientRequest).reset();
+    }
+
+    @Test
+    public void requestShouldPassResponseBodyThroughBodyProcessor() {
+        // given
+        given(httpClientRequest.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(httpClientResponse));
+
+        given(httpClientResponse.handler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(Buffer.buffer("response")));
+        given(httpClientResponse.endHandler(any()))
+                .willAnswer(withSelfAndPassObjectToHandler(null));
+
+        final StringBuilder receivedBody = new StringBuilder();
+        final HttpResponseBodyProcessor bodyProcessor = new HttpResponseBodyProcessor() {
+
+            @Override
+            public void handle(Buffer chunk) {
+                receivedBody.append(chunk.toString());
+            }
+
+            @Override
+            public String end() {
+                return "processed " + receivedBody;
+            }
+        };
+
+        // when
+        final Future<org.prebid.server.vertx.http.model.HttpClientResponse> future =
+                httpClient.request(HttpMethod.POST, null, null, new byte[0], 1L, 100L, bodyProcessor);
+
+        // then
+        assertThat(future.result().getBody()).isEqualTo("processed response");
+    }
+
     @Test
     public void requestShouldAllowFollowingRedirections() {
         // when
@@ -0,0 +1,272 @@
+package org.prebid.server.vertx.http;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.prebid.server.metric.MetricName;
+import org.prebid.server.metric.Metrics;
+import org.prebid.server.vertx.http.model.HttpClientResponse;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class HedgingHttpClientTest {
+
+    private static final String URL = "http://settings.com/stored-requests";
+
+    @Rule
+    public final MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Vertx vertx;
+    @Mock
+    private HttpClient wrappedHttpClient;
+    @Mock
+    private Metrics metrics;
+    @Mock
+    private Clock clock;
+
+    private HedgingHttpClient httpClient;
+
+    @Before
+    public void setUp() {
+        given(clock.millis()).willReturn(0L);
+
+        httpClient = new HedgingHttpClient(vertx, wrappedHttpClient, "settings", false, 95, 50L, 1, metrics, clock);
+    }
+
+    @Test
+    public void creationShouldFailOnInvalidPercentileOrRate() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new HedgingHttpClient(vertx, wrappedHttpClient, "settings", false, 0, 50L, 1, metrics, clock));
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new HedgingHttpClient(vertx, wrappedHttpClient, "settings", false, 95, 50L, 2, metrics, clock));
+    }
+
+    @Test
+    public void requestShouldReturnResponseWithoutHedgeWhenItIsReceivedInTime() {
+        // given
+        final HttpClientResponse response = HttpClientResponse.of(200, null, "body");
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(response));
+
+        // when
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        // then
+        assertThat(result.result()).isSameAs(response);
+        verify(vertx).cancelTimer(anyLong());
+        verifyNoInteractions(metrics);
+    }
+
+    @Test
+    public void requestShouldSendHedgeAfterDelayAndReturnFirstSuccessfulResponse() {
+        // given
+        final Promise<HttpClientResponse> firstPromise = Promise.promise();
+        final HttpClientResponse hedgeResponse = HttpClientResponse.of(200, null, "hedge");
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(firstPromise.future(), Future.succeededFuture(hedgeResponse));
+
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(50L), timerHandlerCaptor.capture());
+        given(clock.millis()).willReturn(50L);
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+        firstPromise.complete(HttpClientResponse.of(200, null, "first"));
+
+        // then
+        assertThat(result.result()).isSameAs(hedgeResponse);
+        verify(wrappedHttpClient).request(eq(HttpMethod.GET), eq(URL), any(), (String) isNull(), eq(200L), anyLong());
+        verify(wrappedHttpClient).request(eq(HttpMethod.GET), eq(URL), any(), (String) isNull(), eq(150L), anyLong());
+        verify(metrics).updateHedgingMetric("settings", MetricName.hedged);
+        verify(metrics).updateHedgingMetric("settings", MetricName.hedge_won);
+    }
+
+    @Test
+    public void requestShouldNotSendHedgeWhenHedgeRateIsExceeded() {
+        // given
+        httpClient = new HedgingHttpClient(vertx, wrappedHttpClient, "settings", false, 95, 50L, 0, metrics, clock);
+
+        final Promise<HttpClientResponse> firstPromise = Promise.promise();
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(firstPromise.future());
+
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(50L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+        firstPromise.fail("failure");
+
+        // then
+        assertThat(result.failed()).isTrue();
+        verify(wrappedHttpClient).request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong());
+        verify(metrics).updateHedgingMetric("settings", MetricName.hedge_capped);
+        verify(metrics, never()).updateHedgingMetric("settings", MetricName.hedged);
+    }
+
+    @Test
+    public void requestShouldFailWithoutHedgeWhenFirstRequestFailsBeforeDelay() {
+        // given
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(Future.failedFuture("failure"));
+
+        // when
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        // then
+        assertThat(result.failed()).isTrue();
+        assertThat(result.cause()).hasMessage("failure");
+        verify(vertx).cancelTimer(anyLong());
+    }
+
+    @Test
+    public void requestShouldFailWhenBothRequestsFail() {
+        // given
+        final Promise<HttpClientResponse> firstPromise = Promise.promise();
+        final Promise<HttpClientResponse> hedgePromise = Promise.promise();
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(firstPromise.future(), hedgePromise.future());
+
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(50L), timerHandlerCaptor.capture());
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // when
+        firstPromise.fail("first failure");
+
+        // then
+        assertThat(result.isComplete()).isFalse();
+
+        hedgePromise.fail("hedge failure");
+        assertThat(result.cause()).hasMessage("hedge failure");
+        verify(wrappedHttpClient, times(2)).request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong());
+    }
+
+    @Test
+    public void requestShouldNotHedgeNonIdempotentRequest() {
+        // given
+        final HttpClientResponse response = HttpClientResponse.of(200, null, "body");
+        given(wrappedHttpClient.request(any(), anyString(), any(), anyString(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(response));
+
+        // when
+        final Future<HttpClientResponse> result = httpClient.post(URL, "body", 200L);
+
+        // then
+        assertThat(result.result()).isSameAs(response);
+        verify(wrappedHttpClient).request(eq(HttpMethod.POST), eq(URL), any(), eq("body"), eq(200L), anyLong());
+        verifyNoInteractions(vertx, metrics);
+    }
+
+    @Test
+    public void requestShouldHedgeNonIdempotentRequestIfWritesAreRepeatable() {
+        // given
+        httpClient = new HedgingHttpClient(vertx, wrappedHttpClient, "prebid_cache", true, 95, 50L, 1, metrics, clock);
+
+        final Promise<HttpClientResponse> firstPromise = Promise.promise();
+        final HttpClientResponse hedgeResponse = HttpClientResponse.of(200, null, "hedge");
+        given(wrappedHttpClient.request(any(), anyString(), any(), anyString(), anyLong(), anyLong()))
+                .willReturn(firstPromise.future(), Future.succeededFuture(hedgeResponse));
+
+        final Future<HttpClientResponse> result = httpClient.post(URL, "body", 200L);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(50L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+
+        // then
+        assertThat(result.result()).isSameAs(hedgeResponse);
+        verify(wrappedHttpClient, times(2))
+                .request(eq(HttpMethod.POST), eq(URL), any(), eq("body"), anyLong(), anyLong());
+        verify(metrics).updateHedgingMetric("prebid_cache", MetricName.hedge_won);
+    }
+
+    @Test
+    public void requestShouldNotTakeServerErrorResponseAsWinner() {
+        // given
+        final Promise<HttpClientResponse> firstPromise = Promise.promise();
+        final HttpClientResponse firstResponse = HttpClientResponse.of(200, null, "first");
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(firstPromise.future(), Future.succeededFuture(HttpClientResponse.of(503, null, null)));
+
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(50L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+        final boolean completedByServerError = result.isComplete();
+        firstPromise.complete(firstResponse);
+
+        // then
+        assertThat(completedByServerError).isFalse();
+        assertThat(result.result()).isSameAs(firstResponse);
+        verify(metrics, never()).updateHedgingMetric("settings", MetricName.hedge_won);
+    }
+
+    @Test
+    public void requestShouldReturnServerErrorResponseWhenNoAttemptSucceeded() {
+        // given
+        final Promise<HttpClientResponse> firstPromise = Promise.promise();
+        final HttpClientResponse hedgeResponse = HttpClientResponse.of(503, null, null);
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(firstPromise.future(), Future.succeededFuture(hedgeResponse));
+
+        final Future<HttpClientResponse> result = httpClient.get(URL, 200L);
+
+        final ArgumentCaptor<Handler<Long>> timerHandlerCaptor = ArgumentCaptor.forClass(Handler.class);
+        verify(vertx).setTimer(eq(50L), timerHandlerCaptor.capture());
+
+        // when
+        timerHandlerCaptor.getValue().handle(1L);
+        firstPromise.fail("failure");
+
+        // then
+        assertThat(result.result()).isSameAs(hedgeResponse);
+    }
+
+    @Test
+    public void requestShouldNotScheduleHedgeWhenDelayIsNotLessThanTimeout() {
+        // given
+        given(wrappedHttpClient.request(any(), anyString(), any(), (String) isNull(), anyLong(), anyLong()))
+                .willReturn(Future.succeededFuture(HttpClientResponse.of(200, null, "body")));
+
+        // when
+        httpClient.get(URL, 50L);
+
+        // then
+        verify(vertx, never()).setTimer(anyLong(), any());
+    }
+}